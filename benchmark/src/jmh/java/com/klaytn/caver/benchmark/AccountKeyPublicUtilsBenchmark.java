@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.tx.account.AccountKeyPublic;
+import com.klaytn.caver.utils.AccountKeyPublicUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.utils.Numeric;
+
+/**
+ * Compression and decompression of secp256k1 public keys with AccountKeyPublicUtils.
+ */
+@State(Scope.Benchmark)
+public class AccountKeyPublicUtilsBenchmark {
+
+    private String publicKey;
+    private String compressedPublicKey;
+
+    @Setup
+    public void setUp() {
+        ECKeyPair ecKeyPair = ECKeyPair.create(Numeric.toBigInt(BenchmarkValues.privateKey(0)));
+        publicKey = Numeric.toHexStringWithPrefixZeroPadded(ecKeyPair.getPublicKey(), 128);
+        compressedPublicKey = AccountKeyPublicUtils.compressPublicKey(publicKey);
+    }
+
+    @Benchmark
+    public String compressPublicKey() {
+        return AccountKeyPublicUtils.compressPublicKey(publicKey);
+    }
+
+    @Benchmark
+    public String decompressPublicKey() {
+        return AccountKeyPublicUtils.decompressPublicKey(compressedPublicKey);
+    }
+
+    @Benchmark
+    public AccountKeyPublic decompressKey() {
+        return AccountKeyPublicUtils.decompressKey(compressedPublicKey);
+    }
+}
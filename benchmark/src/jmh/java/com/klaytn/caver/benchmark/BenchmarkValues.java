@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.tx.account.AccountKey;
+import com.klaytn.caver.tx.account.AccountKeyPublic;
+import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.tx.type.TxType;
+import com.klaytn.caver.tx.type.TxTypeAccountUpdate;
+import com.klaytn.caver.tx.type.TxTypeCancel;
+import com.klaytn.caver.tx.type.TxTypeChainDataAnchoringTransaction;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedAccountUpdate;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedAccountUpdateWithRatio;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedCancel;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedCancelWithRatio;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedSmartContractDeploy;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedSmartContractDeployWithRatio;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedSmartContractExecution;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedSmartContractExecutionWithRatio;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedValueTransfer;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedValueTransferMemo;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedValueTransferMemoWithRatio;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedValueTransferWithRatio;
+import com.klaytn.caver.tx.type.TxTypeLegacyTransaction;
+import com.klaytn.caver.tx.type.TxTypeSmartContractDeploy;
+import com.klaytn.caver.tx.type.TxTypeSmartContractExecution;
+import com.klaytn.caver.tx.type.TxTypeValueTransfer;
+import com.klaytn.caver.tx.type.TxTypeValueTransferMemo;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed keys and transactions shared by the benchmarks, so that runs before and after a change
+ * measure the same work.
+ */
+final class BenchmarkValues {
+
+    static final int CHAIN_ID = 2019;
+    static final String FROM = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String TO = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+    static final BigInteger NONCE = BigInteger.valueOf(1234);
+    static final BigInteger GAS_PRICE = BigInteger.valueOf(25_000_000_000L);
+    static final BigInteger GAS_LIMIT = BigInteger.valueOf(300_000);
+    static final BigInteger VALUE = BigInteger.TEN.pow(18);
+    static final BigInteger FEE_RATIO = BigInteger.valueOf(30);
+    static final byte[] PAYLOAD = Numeric.hexStringToByteArray(
+            "0xa9059cbb0000000000000000000000007b65b75d204abed71587c9e519a89277766ee1d0"
+                    + "0000000000000000000000000000000000000000000000000de0b6b3a7640000");
+
+    private BenchmarkValues() {
+    }
+
+    /**
+     * Returns the i-th fixed private key as a 0x-prefixed hex string.
+     */
+    static String privateKey(int index) {
+        return Hash.sha3String("caver-java benchmark key " + index);
+    }
+
+    static String[] privateKeys(int offset, int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = privateKey(offset + i);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns credentials of {@link #FROM} signing transactions with the given number of keys.
+     */
+    static KlayCredentials credentials(int keyCount) {
+        List<ECKeyPair> ecKeyPairs = new ArrayList<>(keyCount);
+        for (String key : privateKeys(0, keyCount)) {
+            ecKeyPairs.add(ECKeyPair.create(Numeric.toBigInt(key)));
+        }
+        return KlayCredentials.create(ecKeyPairs, FROM);
+    }
+
+    /**
+     * Returns the public key of the fixed key after the signing keys, set by the account update transactions.
+     */
+    static AccountKey accountKey() {
+        return AccountKeyPublic.create(ECKeyPair.create(Numeric.toBigInt(privateKey(5))).getPublicKey());
+    }
+
+    static AbstractTxType createTransaction(TxType.Type type) {
+        switch (type) {
+            case LEGACY:
+                return TxTypeLegacyTransaction.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, Numeric.toHexString(PAYLOAD));
+            case ACCOUNT_UPDATE:
+                return TxTypeAccountUpdate.createTransaction(NONCE, GAS_PRICE, GAS_LIMIT, FROM, accountKey());
+            case FEE_DELEGATED_ACCOUNT_UPDATE:
+                return TxTypeFeeDelegatedAccountUpdate.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, FROM, accountKey());
+            case FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO:
+                return TxTypeFeeDelegatedAccountUpdateWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, FROM, accountKey(), FEE_RATIO);
+            case VALUE_TRANSFER:
+                return TxTypeValueTransfer.createTransaction(NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM);
+            case VALUE_TRANSFER_MEMO:
+                return TxTypeValueTransferMemo.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM, PAYLOAD);
+            case FEE_DELEGATED_VALUE_TRANSFER:
+                return TxTypeFeeDelegatedValueTransfer.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM);
+            case FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO:
+                return TxTypeFeeDelegatedValueTransferWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM, FEE_RATIO);
+            case FEE_DELEGATED_VALUE_TRANSFER_MEMO:
+                return TxTypeFeeDelegatedValueTransferMemo.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM, PAYLOAD);
+            case FEE_DELEGATED_VALUE_TRANSFER_MEMO_WITH_RATIO:
+                return TxTypeFeeDelegatedValueTransferMemoWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, VALUE, FROM, PAYLOAD, FEE_RATIO);
+            case SMART_CONTRACT_DEPLOY:
+                return TxTypeSmartContractDeploy.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, BigInteger.ZERO, FROM, PAYLOAD, BigInteger.ZERO);
+            case FEE_DELEGATED_SMART_CONTRACT_DEPLOY:
+                return TxTypeFeeDelegatedSmartContractDeploy.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, BigInteger.ZERO, FROM, PAYLOAD, BigInteger.ZERO);
+            case FEE_DELEGATED_SMART_CONTRACT_DEPLOY_WITH_RATIO:
+                return TxTypeFeeDelegatedSmartContractDeployWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, BigInteger.ZERO, FROM, PAYLOAD, FEE_RATIO, BigInteger.ZERO);
+            case SMART_CONTRACT_EXECUTION:
+                return TxTypeSmartContractExecution.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, BigInteger.ZERO, FROM, PAYLOAD);
+            case FEE_DELEGATED_SMART_CONTRACT_EXECUTION:
+                return TxTypeFeeDelegatedSmartContractExecution.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, BigInteger.ZERO, FROM, PAYLOAD);
+            case FEE_DELEGATED_SMART_CONTRACT_EXECUTION_WITH_RATIO:
+                return TxTypeFeeDelegatedSmartContractExecutionWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, TO, BigInteger.ZERO, FROM, PAYLOAD, FEE_RATIO);
+            case CANCEL:
+                return TxTypeCancel.createTransaction(NONCE, GAS_PRICE, GAS_LIMIT, FROM);
+            case FEE_DELEGATED_CANCEL:
+                return TxTypeFeeDelegatedCancel.createTransaction(NONCE, GAS_PRICE, GAS_LIMIT, FROM);
+            case FEE_DELEGATED_CANCEL_WITH_RATIO:
+                return TxTypeFeeDelegatedCancelWithRatio.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, FROM, FEE_RATIO);
+            case CHAIN_DATA_ANCHORING:
+                return TxTypeChainDataAnchoringTransaction.createTransaction(
+                        NONCE, GAS_PRICE, GAS_LIMIT, FROM, PAYLOAD);
+            default:
+                throw new IllegalArgumentException("No benchmark transaction of type " + type);
+        }
+    }
+}
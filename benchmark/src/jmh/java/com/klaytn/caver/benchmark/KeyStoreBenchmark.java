@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.wallet.keyring.KeyStore;
+import com.klaytn.caver.wallet.keyring.KeyStoreOption;
+import com.klaytn.caver.wallet.keyring.Keyring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.CipherException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeyStore v4 encryption and decryption of a single-key keyring with the default parameters of each KDF.
+ * Both are dominated by the key derivation, so they are reported in milliseconds.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyStoreBenchmark {
+
+    private static final String PASSWORD = "password";
+
+    @Param({"scrypt", "pbkdf2"})
+    public String kdf;
+
+    private Keyring keyring;
+    private KeyStoreOption option;
+    private KeyStore keyStore;
+
+    @Setup
+    public void setUp() throws CipherException {
+        keyring = Keyring.createWithSingleKey(BenchmarkValues.FROM, BenchmarkValues.privateKey(0));
+        option = KeyStoreOption.getDefaultOptionWithKDF(kdf);
+        keyStore = keyring.encrypt(PASSWORD, option);
+    }
+
+    @Benchmark
+    public KeyStore encrypt() throws CipherException {
+        return keyring.encrypt(PASSWORD, option);
+    }
+
+    @Benchmark
+    public Keyring decrypt() throws CipherException {
+        return Keyring.decrypt(keyStore, PASSWORD);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.wallet.keyring.Keyring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.Hash;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Keyring.signWithKeys with the transaction role keys of multiple-key and role-based keyrings,
+ * one key after another and in parallel on the common fork-join pool.
+ */
+@State(Scope.Benchmark)
+public class KeyringSignBenchmark {
+
+    @Param({"multiple", "roleBased"})
+    public String keyType;
+
+    @Param({"3", "10"})
+    public int keyCount;
+
+    private Keyring keyring;
+    private String sigHash;
+
+    @Setup
+    public void setUp() {
+        if (keyType.equals("multiple")) {
+            keyring = Keyring.createWithMultipleKey(BenchmarkValues.FROM, BenchmarkValues.privateKeys(0, keyCount));
+        } else {
+            keyring = Keyring.createWithRoleBasedKey(BenchmarkValues.FROM, Arrays.asList(
+                    BenchmarkValues.privateKeys(0, keyCount),
+                    BenchmarkValues.privateKeys(keyCount, keyCount),
+                    BenchmarkValues.privateKeys(keyCount * 2, keyCount)));
+        }
+        sigHash = Hash.sha3String("caver-java benchmark transaction");
+    }
+
+    @Benchmark
+    public List<KlaySignatureData> signWithKeys() {
+        return keyring.signWithKeys(sigHash, BenchmarkValues.CHAIN_ID, 0);
+    }
+
+    @Benchmark
+    public List<KlaySignatureData> signWithKeysInParallel() {
+        return keyring.signWithKeys(sigHash, BenchmarkValues.CHAIN_ID, 0, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.compact.CompactBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deserialization of klay_getBlockByNumber responses with full transaction objects, into KlayBlock and
+ * into CompactBlock. The fixtures are generated in the shape returned by a Klaytn node.
+ */
+@State(Scope.Benchmark)
+public class KlayBlockDeserializationBenchmark {
+
+    private static final long BLOCK_NUMBER = 0x2e4a5d;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    @Param({"100", "1000"})
+    public int transactionCount;
+
+    private byte[] response;
+    private byte[] block;
+
+    @Setup
+    public void setUp() throws IOException {
+        Map<String, Object> result = block(transactionCount);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jsonrpc", "2.0");
+        payload.put("id", 1);
+        payload.put("result", result);
+
+        response = objectMapper.writeValueAsBytes(payload);
+        block = objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public KlayBlock klayBlock() throws IOException {
+        return objectMapper.readValue(response, KlayBlock.class);
+    }
+
+    @Benchmark
+    public CompactBlock compactBlock() throws IOException {
+        return objectMapper.readValue(block, CompactBlock.class);
+    }
+
+    private static Map<String, Object> block(int transactionCount) {
+        String blockHash = hash("block");
+        List<Map<String, Object>> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(transaction(blockHash, i));
+        }
+
+        Map<String, Object> block = new LinkedHashMap<>();
+        block.put("blockscore", "0x1");
+        block.put("extraData", "0x");
+        block.put("gasUsed", quantity(21000L * transactionCount));
+        block.put("governanceData", "0x");
+        block.put("hash", blockHash);
+        block.put("logsBloom", "0x" + String.format("%0512d", 0));
+        block.put("number", quantity(BLOCK_NUMBER));
+        block.put("parentHash", hash("parent"));
+        block.put("receiptsRoot", hash("receipts"));
+        block.put("reward", BenchmarkValues.TO);
+        block.put("size", quantity(600L * transactionCount));
+        block.put("stateRoot", hash("state"));
+        block.put("timestamp", quantity(1_600_000_000L));
+        block.put("timestampFoS", "0x0");
+        block.put("totalBlockScore", quantity(BLOCK_NUMBER));
+        block.put("transactions", transactions);
+        block.put("transactionsRoot", hash("transactions"));
+        block.put("voteData", "0x");
+        return block;
+    }
+
+    private static Map<String, Object> transaction(String blockHash, int index) {
+        String transactionHash = hash("transaction " + index);
+        Map<String, Object> signature = new LinkedHashMap<>();
+        signature.put("V", "0x0fea");
+        signature.put("R", hash("r " + index));
+        signature.put("S", hash("s " + index));
+
+        Map<String, Object> transaction = new LinkedHashMap<>();
+        transaction.put("blockHash", blockHash);
+        transaction.put("blockNumber", quantity(BLOCK_NUMBER));
+        transaction.put("from", BenchmarkValues.FROM);
+        transaction.put("gas", quantity(BenchmarkValues.GAS_LIMIT.longValue()));
+        transaction.put("gasPrice", quantity(BenchmarkValues.GAS_PRICE.longValue()));
+        transaction.put("hash", transactionHash);
+        transaction.put("input", Numeric.toHexString(BenchmarkValues.PAYLOAD));
+        transaction.put("nonce", quantity(index));
+        transaction.put("senderTxHash", transactionHash);
+        transaction.put("signatures", Collections.singletonList(signature));
+        transaction.put("to", BenchmarkValues.TO);
+        transaction.put("transactionIndex", quantity(index));
+        transaction.put("type", "TxTypeSmartContractExecution");
+        transaction.put("typeInt", 48);
+        transaction.put("value", "0x0");
+        return transaction;
+    }
+
+    private static String hash(String seed) {
+        return Hash.sha3String(seed);
+    }
+
+    private static String quantity(long value) {
+        return Numeric.toHexStringWithPrefix(BigInteger.valueOf(value));
+    }
+}
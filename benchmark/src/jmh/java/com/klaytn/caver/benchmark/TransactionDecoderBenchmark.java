@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.tx.type.TxType;
+import com.klaytn.caver.utils.TransactionDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TransactionDecoder.decode of signed raw transactions per transaction type.
+ */
+@State(Scope.Benchmark)
+public class TransactionDecoderBenchmark {
+
+    @Param({"LEGACY", "ACCOUNT_UPDATE", "FEE_DELEGATED_ACCOUNT_UPDATE", "FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO",
+            "VALUE_TRANSFER", "FEE_DELEGATED_VALUE_TRANSFER", "FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO",
+            "VALUE_TRANSFER_MEMO", "FEE_DELEGATED_VALUE_TRANSFER_MEMO", "FEE_DELEGATED_VALUE_TRANSFER_MEMO_WITH_RATIO",
+            "SMART_CONTRACT_DEPLOY", "FEE_DELEGATED_SMART_CONTRACT_DEPLOY",
+            "FEE_DELEGATED_SMART_CONTRACT_DEPLOY_WITH_RATIO",
+            "SMART_CONTRACT_EXECUTION", "FEE_DELEGATED_SMART_CONTRACT_EXECUTION",
+            "FEE_DELEGATED_SMART_CONTRACT_EXECUTION_WITH_RATIO",
+            "CANCEL", "FEE_DELEGATED_CANCEL", "FEE_DELEGATED_CANCEL_WITH_RATIO", "CHAIN_DATA_ANCHORING"})
+    public TxType.Type type;
+
+    private String rawTransaction;
+
+    @Setup
+    public void setUp() {
+        rawTransaction = BenchmarkValues.createTransaction(type)
+                .sign(BenchmarkValues.credentials(1), BenchmarkValues.CHAIN_ID)
+                .getValueAsString();
+    }
+
+    @Benchmark
+    public AbstractTxType decode() {
+        return TransactionDecoder.decode(rawTransaction);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.tx.model.KlayRawTransaction;
+import com.klaytn.caver.tx.type.TxType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AbstractTxType.sign per transaction type, with a single key and with a multiple-key account.
+ * A new transaction is created for every invocation, since signing adds the signatures to the transaction.
+ */
+@State(Scope.Benchmark)
+public class TxTypeSignBenchmark {
+
+    @Param({"LEGACY", "ACCOUNT_UPDATE", "FEE_DELEGATED_ACCOUNT_UPDATE", "FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO",
+            "VALUE_TRANSFER", "FEE_DELEGATED_VALUE_TRANSFER", "FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO",
+            "VALUE_TRANSFER_MEMO", "FEE_DELEGATED_VALUE_TRANSFER_MEMO", "FEE_DELEGATED_VALUE_TRANSFER_MEMO_WITH_RATIO",
+            "SMART_CONTRACT_DEPLOY", "FEE_DELEGATED_SMART_CONTRACT_DEPLOY",
+            "FEE_DELEGATED_SMART_CONTRACT_DEPLOY_WITH_RATIO",
+            "SMART_CONTRACT_EXECUTION", "FEE_DELEGATED_SMART_CONTRACT_EXECUTION",
+            "FEE_DELEGATED_SMART_CONTRACT_EXECUTION_WITH_RATIO",
+            "CANCEL", "FEE_DELEGATED_CANCEL", "FEE_DELEGATED_CANCEL_WITH_RATIO", "CHAIN_DATA_ANCHORING"})
+    public TxType.Type type;
+
+    @Param({"1", "5"})
+    public int keyCount;
+
+    private KlayCredentials credentials;
+
+    @Setup
+    public void setUp() {
+        credentials = BenchmarkValues.credentials(keyCount);
+    }
+
+    @Benchmark
+    public KlayRawTransaction sign() {
+        return BenchmarkValues.createTransaction(type).sign(credentials, BenchmarkValues.CHAIN_ID);
+    }
+}
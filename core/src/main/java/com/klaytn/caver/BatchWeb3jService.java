@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver;
+
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import org.web3j.protocol.Web3jService;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Web3jService which can send several JSON-RPC requests as one JSON-RPC batch.
+ */
+public interface BatchWeb3jService extends Web3jService {
+
+    /**
+     * Sends all requests of the batch in a single round-trip.
+     *
+     * @param batchRequest requests to send
+     * @return responses in the order the requests were added
+     * @throws IOException if the batch could not be sent or its response could not be read
+     */
+    BatchResponse sendBatch(BatchRequest batchRequest) throws IOException;
+
+    /**
+     * Asynchronously sends all requests of the batch in a single round-trip.
+     *
+     * @param batchRequest requests to send
+     * @return future of the responses in the order the requests were added
+     */
+    CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest);
+}
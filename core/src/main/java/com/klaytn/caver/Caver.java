@@ -16,8 +16,17 @@
 
 package com.klaytn.caver;
 
+import com.klaytn.caver.http.HttpServiceBuilder;
+import com.klaytn.caver.http.ResponseSizeInterceptor;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.metrics.MetricsWeb3jService;
+import com.klaytn.caver.metrics.RpcMetrics;
+import com.klaytn.caver.metrics.SimpleRpcMetrics;
+import com.klaytn.caver.websocket.KlayWebSocketService;
 import org.web3j.protocol.Web3jService;
 
+import java.net.ConnectException;
+
 /**
  * Core Caverj JSON-RPC API.
  */
@@ -39,6 +48,7 @@ public interface Caver {
 
     /**
      * Construct a new Caverj instance which is connected to {@code url} node.
+     * The HTTP connection pool and timeouts can be tuned with {@link com.klaytn.caver.http.HttpServiceBuilder}.
      *
      * @param url Klaytn url
      * @return new Caverj instance
@@ -47,6 +57,34 @@ public interface Caver {
         return new CaverImpl(url);
     }
 
+    /**
+     * Construct a new Caverj instance which is connected to {@code url} node and records the latency,
+     * payload sizes and errors of every JSON-RPC request into {@code rpcMetrics}.
+     *
+     * @param url        Klaytn url
+     * @param rpcMetrics metrics of the requests, e.g. {@link SimpleRpcMetrics}
+     * @return new Caverj instance
+     */
+    static Caver build(String url, RpcMetrics rpcMetrics) {
+        ResponseSizeInterceptor responseSizes = new ResponseSizeInterceptor();
+        Web3jService service = new HttpServiceBuilder(url).addNetworkInterceptor(responseSizes).build();
+        return new CaverImpl(new MetricsWeb3jService(service, rpcMetrics, responseSizes));
+    }
+
+    /**
+     * Construct a new Caverj instance which is connected to {@code url} node over WebSocket.
+     * Push subscriptions such as {@link Klay#newHeadsNotifications()} are available on the returned instance.
+     *
+     * @param url Klaytn WebSocket url, e.g. ws://localhost:8552
+     * @return new Caverj instance
+     * @throws ConnectException if the node could not be reached
+     */
+    static Caver buildWebSocket(String url) throws ConnectException {
+        KlayWebSocketService service = new KlayWebSocketService(url);
+        service.connect();
+        return new CaverImpl(service);
+    }
+
     /**
      * Construct a new Caverj instance which is connected to local node.
      *
@@ -59,4 +97,18 @@ public interface Caver {
     Klay klay();
 
     Net net();
+
+    /**
+     * Creates a batch of requests which is sent in a single round-trip if the underlying service
+     * supports JSON-RPC batches.
+     * <pre>
+     * BatchResponse response = caver.batch()
+     *         .add(caver.klay().getBalance(address, DefaultBlockParameterName.LATEST))
+     *         .add(caver.klay().getTransactionCount(address, DefaultBlockParameterName.LATEST))
+     *         .send();
+     * </pre>
+     *
+     * @return new empty BatchRequest
+     */
+    BatchRequest batch();
 }
@@ -16,10 +16,11 @@
 
 package com.klaytn.caver;
 
+import com.klaytn.caver.http.BatchHttpService;
+import com.klaytn.caver.methods.request.BatchRequest;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.admin.Admin;
 import org.web3j.protocol.admin.JsonRpc2_0Admin;
-import org.web3j.protocol.http.HttpService;
 
 /**
  * JSON-RPC 2.0 factory implementation.
@@ -36,7 +37,7 @@ public class CaverImpl implements Caver {
     }
 
     CaverImpl(String url) {
-        this(new HttpService(url));
+        this(new BatchHttpService(url));
     }
 
     CaverImpl(Web3jService web3jService) {
@@ -55,4 +56,9 @@ public class CaverImpl implements Caver {
     public Net net() {
         return net;
     }
+
+    @Override
+    public BatchRequest batch() {
+        return new BatchRequest(service);
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver;
+
+import com.klaytn.caver.methods.response.Quantity;
+import org.web3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Caches the chain id and the gas price of the network a {@link Klay} instance is connected to,
+ * so that filling a transaction does not request them for every transaction.
+ * The chain id is requested once for the lifetime of the cache. The gas price is kept for a number of blocks,
+ * measured with the block time of the network so that checking it does not need another request.
+ * Concurrent callers share a request in flight, and a failed request is not cached.
+ */
+public class ChainInfoCache {
+
+    public static final int DEFAULT_GAS_PRICE_TTL_BLOCKS = 10;
+
+    private final Klay klay;
+    private final long gasPriceTtlNanos;
+
+    private final AtomicReference<CompletableFuture<String>> chainId = new AtomicReference<>();
+    private final AtomicReference<CachedValue> gasPrice = new AtomicReference<>();
+
+    public ChainInfoCache(Klay klay, long blockTime) {
+        this(klay, blockTime, DEFAULT_GAS_PRICE_TTL_BLOCKS);
+    }
+
+    /**
+     * @param klay              Klay instance used to request the values
+     * @param blockTime         block time of the network in milliseconds
+     * @param gasPriceTtlBlocks number of blocks a gas price is reused for
+     */
+    public ChainInfoCache(Klay klay, long blockTime, int gasPriceTtlBlocks) {
+        this.klay = klay;
+        this.gasPriceTtlNanos = TimeUnit.MILLISECONDS.toNanos(blockTime * gasPriceTtlBlocks);
+    }
+
+    /**
+     * Returns the chain id of the network as a hex string.
+     *
+     * @return future of the chain id
+     */
+    public CompletableFuture<String> getChainId() {
+        CompletableFuture<String> cached = chainId.get();
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> request = new CompletableFuture<>();
+        if (!chainId.compareAndSet(null, request)) {
+            return chainId.get();
+        }
+        send(klay.getChainID(), request, () -> chainId.compareAndSet(request, null));
+        return request;
+    }
+
+    /**
+     * Returns the gas price of the network as a hex string. A gas price older than the configured
+     * number of blocks is requested again.
+     *
+     * @return future of the gas price
+     */
+    public CompletableFuture<String> getGasPrice() {
+        while (true) {
+            CachedValue cached = gasPrice.get();
+            long now = System.nanoTime();
+            if (cached != null && now - cached.requestedAt < gasPriceTtlNanos) {
+                return cached.value;
+            }
+
+            CachedValue request = new CachedValue(new CompletableFuture<>(), now);
+            if (gasPrice.compareAndSet(cached, request)) {
+                send(klay.getGasPrice(), request.value, () -> gasPrice.compareAndSet(request, null));
+                return request.value;
+            }
+        }
+    }
+
+    /**
+     * Drops the cached values, e.g. after the gas price of the network was changed.
+     */
+    public void invalidate() {
+        chainId.set(null);
+        gasPrice.set(null);
+    }
+
+    private static void send(Request<?, Quantity> request, CompletableFuture<String> result, Runnable onFailure) {
+        request.sendAsync().whenComplete((quantity, throwable) -> {
+            if (throwable == null && quantity.hasError()) {
+                throwable = new IOException(quantity.getError().getMessage());
+            }
+
+            if (throwable != null) {
+                onFailure.run();
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(quantity.getResult());
+            }
+        });
+    }
+
+    private static class CachedValue {
+        private final CompletableFuture<String> value;
+        private final long requestedAt;
+
+        CachedValue(CompletableFuture<String> value, long requestedAt) {
+            this.value = value;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
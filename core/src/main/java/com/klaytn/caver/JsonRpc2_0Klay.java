@@ -21,6 +21,7 @@ import com.klaytn.caver.methods.request.KlayFilter;
 import com.klaytn.caver.methods.request.KlayLogFilter;
 import com.klaytn.caver.methods.response.Boolean;
 import com.klaytn.caver.methods.response.*;
+import io.reactivex.Flowable;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.admin.Admin;
 import org.web3j.protocol.admin.methods.response.NewAccountIdentifier;
@@ -28,12 +29,18 @@ import org.web3j.protocol.admin.methods.response.PersonalUnlockAccount;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
 import org.web3j.utils.Async;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 
 public class JsonRpc2_0Klay implements Klay {
@@ -41,9 +48,10 @@ public class JsonRpc2_0Klay implements Klay {
     public static final int DEFAULT_BLOCK_TIME = 1 * 1000;
 
     protected final Web3jService web3jService;
-    //private final JsonRpc2_0Rx web3jRx;
+    private final JsonRpc2_0Rx klayRx;
     private final long blockTime;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final ChainInfoCache chainInfoCache;
     private Admin web3j;
 
     public JsonRpc2_0Klay(Web3jService web3jService, Admin web3j) {
@@ -55,9 +63,10 @@ public class JsonRpc2_0Klay implements Klay {
             ScheduledExecutorService scheduledExecutorService,
             Admin web3j) {
         this.web3jService = web3jService;
-        //this.web3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
+        this.klayRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
         this.blockTime = pollingInterval;
         this.scheduledExecutorService = scheduledExecutorService;
+        this.chainInfoCache = new ChainInfoCache(this, pollingInterval);
         this.web3j = web3j;
     }
 
@@ -438,6 +447,11 @@ public class JsonRpc2_0Klay implements Klay {
                 Quantity.class);
     }
 
+    @Override
+    public ChainInfoCache getChainInfoCache() {
+        return chainInfoCache;
+    }
+
     @Override
     public Request<?, Bytes> getClientVersion() {
         return new Request<>(
@@ -583,6 +597,71 @@ public class JsonRpc2_0Klay implements Klay {
                 Bytes.class);
     }
 
+    @Override
+    public Flowable<KlayBlock> blockFlowable(boolean fullTransactionObjects) {
+        return klayRx.blockFlowable(fullTransactionObjects, blockTime);
+    }
+
+    @Override
+    public Flowable<KlayBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock, DefaultBlockParameter endBlock, boolean fullTransactionObjects) {
+        return klayRx.replayPastBlocksFlowable(startBlock, endBlock, fullTransactionObjects);
+    }
+
+    @Override
+    public Flowable<KlayTransaction.Transaction> transactionFlowable() {
+        return klayRx.transactionFlowable(blockTime);
+    }
+
+    @Override
+    public Flowable<KlayLogs.Log> logFlowable(KlayLogFilter filter) {
+        return klayRx.logFlowable(filter, blockTime);
+    }
+
+    @Override
+    public Flowable<KlayNewHeadsNotification> newHeadsNotifications() {
+        return web3jService.subscribe(
+                new Request<>(
+                        "klay_subscribe",
+                        Collections.singletonList("newHeads"),
+                        web3jService,
+                        EthSubscribe.class),
+                "klay_unsubscribe",
+                KlayNewHeadsNotification.class);
+    }
+
+    @Override
+    public Flowable<LogNotification> logsNotifications(List<String> addresses, List<String> topics) {
+        Map<String, Object> params = new HashMap<>();
+        if (!addresses.isEmpty()) {
+            params.put("address", addresses);
+        }
+        if (!topics.isEmpty()) {
+            params.put("topics", topics);
+        }
+
+        return web3jService.subscribe(
+                new Request<>(
+                        "klay_subscribe",
+                        Arrays.asList("logs", params),
+                        web3jService,
+                        EthSubscribe.class),
+                "klay_unsubscribe",
+                LogNotification.class);
+    }
+
+    @Override
+    public Flowable<PendingTransactionNotification> newPendingTransactionsNotifications() {
+        return web3jService.subscribe(
+                new Request<>(
+                        "klay_subscribe",
+                        Collections.singletonList("newPendingTransactions"),
+                        web3jService,
+                        EthSubscribe.class),
+                "klay_unsubscribe",
+                PendingTransactionNotification.class);
+    }
+
     //===========================================================
 
     @Override
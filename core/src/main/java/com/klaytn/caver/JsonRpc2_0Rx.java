@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver;
+
+import com.klaytn.caver.methods.request.KlayLogFilter;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.KlayTransaction;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Polling based block, transaction and log streams of {@link Klay}.
+ * <p>
+ * The streams honour backpressure without buffering: a block is requested only when the subscriber requested
+ * an item, and a poll that fires while the subscriber is still busy is dropped instead of queued.
+ * The next poll continues from the last emitted block, so no block is skipped and memory stays bounded
+ * however slow the subscriber is.
+ */
+public class JsonRpc2_0Rx {
+
+    private final Klay klay;
+    private final Scheduler scheduler;
+
+    public JsonRpc2_0Rx(Klay klay, ScheduledExecutorService scheduledExecutorService) {
+        this.klay = klay;
+        this.scheduler = Schedulers.from(scheduledExecutorService);
+    }
+
+    /**
+     * Emits every block appended to the chain, starting from the latest block at the time of subscription.
+     *
+     * @param fullTransactionObjects if true, the blocks contain full transaction objects, otherwise only hashes
+     * @param pollingInterval        interval in milliseconds between the checks for a new block
+     * @return Flowable of new blocks
+     */
+    public Flowable<KlayBlock> blockFlowable(boolean fullTransactionObjects, long pollingInterval) {
+        return Flowable.defer(() -> {
+            AtomicReference<BigInteger> next = new AtomicReference<>();
+            return Flowable.interval(0, pollingInterval, TimeUnit.MILLISECONDS, scheduler)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> {
+                        BigInteger latest = getBlockNumber();
+                        BigInteger start = next.get() != null ? next.get() : latest;
+                        if (start.compareTo(latest) > 0) {
+                            return Flowable.<KlayBlock>empty();
+                        }
+                        next.set(latest.add(BigInteger.ONE));
+                        return replayPastBlocksFlowable(start, latest, fullTransactionObjects);
+                    }, 1);
+        });
+    }
+
+    /**
+     * Emits the blocks between {@code startBlock} and {@code endBlock} in ascending order, then completes.
+     * A block is requested only when the subscriber requested it.
+     *
+     * @param startBlock             number of the first block, inclusive
+     * @param endBlock               number of the last block, inclusive
+     * @param fullTransactionObjects if true, the blocks contain full transaction objects, otherwise only hashes
+     * @return Flowable of the blocks in the range
+     */
+    public Flowable<KlayBlock> replayPastBlocksFlowable(
+            BigInteger startBlock, BigInteger endBlock, boolean fullTransactionObjects) {
+        return Flowable.generate(() -> startBlock, (current, emitter) -> {
+            if (current.compareTo(endBlock) > 0) {
+                emitter.onComplete();
+                return current;
+            }
+            emitter.onNext(getBlock(current, fullTransactionObjects));
+            return current.add(BigInteger.ONE);
+        });
+    }
+
+    /**
+     * Emits the blocks between {@code startBlock} and {@code endBlock} in ascending order, then completes.
+     * "latest" and "pending" are resolved to the latest block number when subscribed, and "earliest" to the genesis block.
+     *
+     * @param startBlock             the first block, inclusive
+     * @param endBlock               the last block, inclusive
+     * @param fullTransactionObjects if true, the blocks contain full transaction objects, otherwise only hashes
+     * @return Flowable of the blocks in the range
+     */
+    public Flowable<KlayBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock, DefaultBlockParameter endBlock, boolean fullTransactionObjects) {
+        return Flowable.defer(() -> replayPastBlocksFlowable(
+                getBlockNumber(startBlock), getBlockNumber(endBlock), fullTransactionObjects));
+    }
+
+    /**
+     * Emits every transaction included in a new block, in the order of the blocks and of the transactions in a block.
+     *
+     * @param pollingInterval interval in milliseconds between the checks for a new block
+     * @return Flowable of new transactions
+     */
+    public Flowable<KlayTransaction.Transaction> transactionFlowable(long pollingInterval) {
+        return blockFlowable(true, pollingInterval)
+                .concatMapIterable(JsonRpc2_0Rx::getTransactions, 1);
+    }
+
+    /**
+     * Emits the logs matching the given filter. Logs already matching the filter when it is installed are
+     * emitted first, followed by the logs of new blocks. The filter is uninstalled when the subscription ends.
+     *
+     * @param filter          filter the logs must match
+     * @param pollingInterval interval in milliseconds between the checks for new logs
+     * @return Flowable of the matching logs
+     */
+    public Flowable<KlayLogs.Log> logFlowable(KlayLogFilter filter, long pollingInterval) {
+        return Flowable.using(
+                () -> send(klay.newFilter(filter)).getValue(),
+                filterId -> Flowable.concat(
+                        Flowable.fromCallable(() -> getLogs(klay.getFilterLogs(filterId))),
+                        Flowable.interval(pollingInterval, pollingInterval, TimeUnit.MILLISECONDS, scheduler)
+                                .onBackpressureDrop()
+                                .concatMap(tick -> Flowable.fromCallable(
+                                        () -> getLogs(klay.getFilterChanges(filterId))), 1))
+                        .concatMapIterable(logs -> logs, 1),
+                this::uninstallFilter);
+    }
+
+    private BigInteger getBlockNumber() throws IOException {
+        return send(klay.getBlockNumber()).getValue();
+    }
+
+    private BigInteger getBlockNumber(DefaultBlockParameter blockParameter) throws IOException {
+        if (blockParameter instanceof DefaultBlockParameterNumber) {
+            return ((DefaultBlockParameterNumber) blockParameter).getBlockNumber();
+        }
+        if (blockParameter == DefaultBlockParameterName.EARLIEST) {
+            return BigInteger.ZERO;
+        }
+        return getBlockNumber();
+    }
+
+    private KlayBlock getBlock(BigInteger blockNumber, boolean fullTransactionObjects) throws IOException {
+        KlayBlock block = send(klay.getBlockByNumber(new DefaultBlockParameterNumber(blockNumber), fullTransactionObjects));
+        if (block.getResult() == null) {
+            throw new IOException("Block " + blockNumber + " is not found");
+        }
+        return block;
+    }
+
+    private void uninstallFilter(BigInteger filterId) {
+        try {
+            klay.uninstallFilter(filterId).send();
+        } catch (IOException ignored) {
+            // The node drops filters which are not polled for a while.
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<KlayTransaction.Transaction> getTransactions(KlayBlock block) {
+        return block.getResult().getTransactions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<KlayLogs.Log> getLogs(Request<?, KlayLogs> request) throws IOException {
+        List<KlayLogs.LogResult> logs = send(request).getLogs();
+        if (logs == null) {
+            return Collections.emptyList();
+        }
+        // Log filters always return log objects, which extend KlayLogs.Log.
+        return (List<KlayLogs.Log>) (List<?>) logs;
+    }
+
+    private static <T extends Response<?>> T send(Request<?, T> request) throws IOException {
+        T response = request.send();
+        if (response.hasError()) {
+            throw new IOException(response.getError().getMessage());
+        }
+        return response;
+    }
+}
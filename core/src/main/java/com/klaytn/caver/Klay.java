@@ -22,13 +22,17 @@ import com.klaytn.caver.methods.request.KlayLogFilter;
 import com.klaytn.caver.methods.response.Boolean;
 import com.klaytn.caver.methods.response.*;
 import com.klaytn.caver.tx.account.AccountKey;
+import io.reactivex.Flowable;
 import org.web3j.protocol.admin.methods.response.NewAccountIdentifier;
 import org.web3j.protocol.admin.methods.response.PersonalUnlockAccount;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
 
 import java.math.BigInteger;
+import java.util.List;
 
 public interface Klay {
 
@@ -379,6 +383,17 @@ public interface Klay {
      */
     Request<?, Quantity> getChainID();
 
+    /**
+     * Returns the cache of the chain ID and the gas price of the connected network,
+     * used to fill transactions without requesting them for every transaction.
+     * The default implementation returns a new cache which keeps nothing, so both values are requested every time.
+     *
+     * @return ChainInfoCache of this instance
+     */
+    default ChainInfoCache getChainInfoCache() {
+        return new ChainInfoCache(this, 0);
+    }
+
     /**
      * Returns the current client version of a Klaytn node.
      *
@@ -515,6 +530,90 @@ public interface Klay {
      */
     Request<?, Bytes> getSha3(String data);
 
+    /**
+     * Emits every block appended to the chain, starting from the latest block at the time of subscription.
+     * The node is polled once per block time, and blocks are requested only as fast as the subscriber consumes them.
+     *
+     * @param fullTransactionObjects If true it returns the full transaction objects, if false only the hashes of the transactions.
+     * @return Flowable of new blocks
+     */
+    default Flowable<KlayBlock> blockFlowable(boolean fullTransactionObjects) {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support blockFlowable"));
+    }
+
+    /**
+     * Emits the blocks between {@code startBlock} and {@code endBlock} in ascending order, then completes.
+     * Blocks are requested only as fast as the subscriber consumes them.
+     *
+     * @param startBlock The first block, inclusive.
+     * @param endBlock The last block, inclusive.
+     * @param fullTransactionObjects If true it returns the full transaction objects, if false only the hashes of the transactions.
+     * @return Flowable of the blocks in the range
+     */
+    default Flowable<KlayBlock> replayPastBlocksFlowable(DefaultBlockParameter startBlock, DefaultBlockParameter endBlock,
+                                                         boolean fullTransactionObjects) {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support replayPastBlocksFlowable"));
+    }
+
+    /**
+     * Emits every transaction included in a new block, starting from the latest block at the time of subscription.
+     *
+     * @return Flowable of new transactions
+     */
+    default Flowable<KlayTransaction.Transaction> transactionFlowable() {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support transactionFlowable"));
+    }
+
+    /**
+     * Emits the logs matching the given filter, polling the node once per block time.
+     * The filter is installed on subscription and uninstalled when the subscription ends.
+     *
+     * @param filter The filter options.
+     * @return Flowable of the matching logs
+     */
+    default Flowable<KlayLogs.Log> logFlowable(KlayLogFilter filter) {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support logFlowable"));
+    }
+
+    /**
+     * Subscribes to the headers of new blocks. A notification is pushed every time a block is appended to the chain.
+     * It requires a service supporting push notifications such as {@link com.klaytn.caver.websocket.KlayWebSocketService}.
+     *
+     * @return Flowable of the new block headers
+     */
+    default Flowable<KlayNewHeadsNotification> newHeadsNotifications() {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support newHeadsNotifications"));
+    }
+
+    /**
+     * Subscribes to the logs of new blocks matching the given addresses and topics.
+     * It requires a service supporting push notifications such as {@link com.klaytn.caver.websocket.KlayWebSocketService}.
+     *
+     * @param addresses Contract addresses the logs should originate from. Every address is matched if empty.
+     * @param topics Topics the logs should contain. Every topic is matched if empty.
+     * @return Flowable of the matching logs
+     */
+    default Flowable<LogNotification> logsNotifications(List<String> addresses, List<String> topics) {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support logsNotifications"));
+    }
+
+    /**
+     * Subscribes to the hashes of transactions added to the pending state of the node.
+     * It requires a service supporting push notifications such as {@link com.klaytn.caver.websocket.KlayWebSocketService}.
+     *
+     * @return Flowable of the pending transaction hashes
+     */
+    default Flowable<PendingTransactionNotification> newPendingTransactionsNotifications() {
+        return Flowable.error(new UnsupportedOperationException(
+                getClass().getName() + " does not support newPendingTransactionsNotifications"));
+    }
+
     //===========================================================
 
     /*Personal*/
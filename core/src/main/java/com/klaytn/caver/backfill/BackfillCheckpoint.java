@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.backfill;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Stores the progress of a {@link BlockBackfill}, so that a restarted backfill resumes after
+ * the last block that was handled.
+ */
+public interface BackfillCheckpoint {
+
+    /**
+     * Returns the number of the last block that was handled.
+     *
+     * @return the last handled block number, or null if no block was handled yet
+     * @throws IOException if the checkpoint could not be read
+     */
+    BigInteger load() throws IOException;
+
+    /**
+     * Records that every block up to the given block number was handled.
+     *
+     * @param blockNumber the last handled block number
+     * @throws IOException if the checkpoint could not be written
+     */
+    void save(BigInteger blockNumber) throws IOException;
+}
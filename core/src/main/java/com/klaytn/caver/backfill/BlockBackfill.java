@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.backfill;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.BlockReceipts;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Fetches a range of historical blocks with the receipts of their transactions, and hands them to a
+ * {@link BlockHandler} strictly in ascending order.
+ * <p>
+ * Blocks are requested in batches of {@link Builder#setBatchSize(int)} blocks. Every batch costs two round-trips,
+ * one for the blocks and one for the receipts of the blocks containing transactions, and is sent as a single
+ * JSON-RPC batch if the service of {@link Caver} is a {@link com.klaytn.caver.BatchWeb3jService}.
+ * Up to {@link Builder#setConcurrency(int)} batches are in flight while the handler is busy with earlier blocks.
+ * <p>
+ * When a {@link BackfillCheckpoint} is set, it is saved after every handled batch, and a restarted backfill
+ * resumes after the last saved block.
+ * <pre>
+ * BlockBackfill backfill = new BlockBackfill.Builder(caver)
+ *         .setCheckpoint(new FileBackfillCheckpoint(Paths.get("backfill.checkpoint")))
+ *         .build();
+ * backfill.run(BigInteger.ZERO, latestBlockNumber, block -&gt; store(block));
+ * </pre>
+ */
+public class BlockBackfill {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private final Caver caver;
+    private final int batchSize;
+    private final int concurrency;
+    private final BackfillCheckpoint checkpoint;
+
+    private BlockBackfill(Builder builder) {
+        this.caver = builder.caver;
+        this.batchSize = builder.batchSize;
+        this.concurrency = builder.concurrency;
+        this.checkpoint = builder.checkpoint;
+    }
+
+    /**
+     * Delivers the blocks between {@code fromBlock} and {@code toBlock} to the handler, skipping the blocks
+     * recorded in the checkpoint. It returns when every block was handled or stops with the first failure.
+     *
+     * @param fromBlock number of the first block, inclusive
+     * @param toBlock   number of the last block, inclusive
+     * @param handler   handler called for every block in ascending order
+     * @throws IOException if a request failed, a block was not found, or the handler or the checkpoint failed
+     */
+    public void run(BigInteger fromBlock, BigInteger toBlock, BlockHandler handler) throws IOException {
+        BigInteger next = fromBlock;
+        if (checkpoint != null) {
+            BigInteger lastHandled = checkpoint.load();
+            if (lastHandled != null && lastHandled.compareTo(next) >= 0) {
+                next = lastHandled.add(BigInteger.ONE);
+            }
+        }
+
+        Deque<CompletableFuture<List<BlockWithReceipts>>> window = new ArrayDeque<>(concurrency);
+        while (next.compareTo(toBlock) <= 0 || !window.isEmpty()) {
+            while (window.size() < concurrency && next.compareTo(toBlock) <= 0) {
+                int count = toBlock.subtract(next).min(BigInteger.valueOf(batchSize - 1)).intValueExact() + 1;
+                window.add(fetch(next, count));
+                next = next.add(BigInteger.valueOf(count));
+            }
+
+            List<BlockWithReceipts> blocks = await(window.poll());
+            for (BlockWithReceipts block : blocks) {
+                handler.handle(block);
+            }
+            if (checkpoint != null) {
+                checkpoint.save(blocks.get(blocks.size() - 1).getNumber());
+            }
+        }
+    }
+
+    private CompletableFuture<List<BlockWithReceipts>> fetch(BigInteger fromBlock, int count) {
+        BatchRequest request = caver.batch();
+        for (int i = 0; i < count; i++) {
+            BigInteger number = fromBlock.add(BigInteger.valueOf(i));
+            request.add(caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(number), true));
+        }
+        return request.sendAsync().thenCompose(response -> fetchReceipts(fromBlock, response));
+    }
+
+    private CompletableFuture<List<BlockWithReceipts>> fetchReceipts(BigInteger fromBlock, BatchResponse response) {
+        List<KlayBlock.Block> blocks = new ArrayList<>(response.size());
+        BatchRequest request = caver.batch();
+        for (int i = 0; i < response.size(); i++) {
+            KlayBlock.Block block = getResult(response.get(i, KlayBlock.class));
+            if (block == null) {
+                throw new CompletionException(
+                        new IOException("Block " + fromBlock.add(BigInteger.valueOf(i)) + " is not found"));
+            }
+            blocks.add(block);
+            // Most blocks contain no transaction, so their empty receipts are not requested.
+            if (hasTransactions(block)) {
+                request.add(caver.klay().getBlockReceipts(block.getHash()));
+            }
+        }
+
+        if (request.getRequests().isEmpty()) {
+            return CompletableFuture.completedFuture(combine(blocks, null));
+        }
+        return request.sendAsync().thenApply(receipts -> combine(blocks, receipts));
+    }
+
+    private static List<BlockWithReceipts> combine(List<KlayBlock.Block> blocks, BatchResponse receipts) {
+        List<BlockWithReceipts> result = new ArrayList<>(blocks.size());
+        int index = 0;
+        for (KlayBlock.Block block : blocks) {
+            List<KlayTransactionReceipt.TransactionReceipt> blockReceipts = Collections.emptyList();
+            if (hasTransactions(block)) {
+                blockReceipts = getResult(receipts.get(index++, BlockReceipts.class));
+            }
+            result.add(new BlockWithReceipts(block, blockReceipts));
+        }
+        return result;
+    }
+
+    private static boolean hasTransactions(KlayBlock.Block block) {
+        return block.getTransactions() != null && !block.getTransactions().isEmpty();
+    }
+
+    private static <T> T getResult(Response<T> response) {
+        if (response.hasError()) {
+            throw new CompletionException(new IOException(response.getError().getMessage()));
+        }
+        return response.getResult();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static class Builder {
+        private final Caver caver;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private BackfillCheckpoint checkpoint;
+
+        public Builder(Caver caver) {
+            this.caver = caver;
+        }
+
+        /**
+         * @param batchSize number of blocks requested in one batch
+         * @return this Builder
+         */
+        public Builder setBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param concurrency maximum number of batches in flight
+         * @return this Builder
+         */
+        public Builder setConcurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder setCheckpoint(BackfillCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        public BlockBackfill build() {
+            return new BlockBackfill(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.backfill;
+
+import java.io.IOException;
+
+/**
+ * Handles the blocks delivered by {@link BlockBackfill}, in ascending block number order.
+ */
+@FunctionalInterface
+public interface BlockHandler {
+
+    /**
+     * @param block the block and its receipts
+     * @throws IOException to stop the backfill. The block is delivered again when the backfill is restarted.
+     */
+    void handle(BlockWithReceipts block) throws IOException;
+}
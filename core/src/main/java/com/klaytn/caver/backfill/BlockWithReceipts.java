@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.backfill;
+
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * A block fetched by {@link BlockBackfill}, together with the receipts of its transactions.
+ */
+public class BlockWithReceipts {
+
+    private final KlayBlock.Block block;
+    private final List<KlayTransactionReceipt.TransactionReceipt> receipts;
+
+    public BlockWithReceipts(KlayBlock.Block block, List<KlayTransactionReceipt.TransactionReceipt> receipts) {
+        this.block = block;
+        this.receipts = receipts;
+    }
+
+    public BigInteger getNumber() {
+        return Numeric.toBigInt(block.getNumber());
+    }
+
+    /**
+     * Returns the block, including full transaction objects.
+     *
+     * @return the block
+     */
+    public KlayBlock.Block getBlock() {
+        return block;
+    }
+
+    /**
+     * Returns the receipts of the transactions of the block, in the order of the transactions.
+     * The list is empty if the block contains no transaction.
+     *
+     * @return the receipts of the block
+     */
+    public List<KlayTransactionReceipt.TransactionReceipt> getReceipts() {
+        return receipts;
+    }
+}
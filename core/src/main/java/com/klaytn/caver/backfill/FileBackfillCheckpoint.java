@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.backfill;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Checkpoint stored as a decimal block number in a file. The file is replaced atomically,
+ * so a crash while saving leaves the previous checkpoint intact.
+ */
+public class FileBackfillCheckpoint implements BackfillCheckpoint {
+
+    private final Path path;
+
+    public FileBackfillCheckpoint(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public BigInteger load() throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).trim();
+        if (content.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigInteger(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint in " + path + ": " + content, e);
+        }
+    }
+
+    @Override
+    public void save(BigInteger blockNumber) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, blockNumber.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
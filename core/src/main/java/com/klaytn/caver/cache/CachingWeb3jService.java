@@ -0,0 +1,297 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.KlayTransaction;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Web3jService caching the responses which can never change, in front of another service.
+ * <pre>
+ * Caver caver = Caver.build(new CachingWeb3jService(new BatchHttpService(url), 10000));
+ * </pre>
+ * Blocks in Klaytn are final as soon as they are added to the chain, so the following responses are cached:
+ * <ul>
+ *     <li>blocks, block receipts and transactions requested by block hash</li>
+ *     <li>blocks, transactions, balances, code, storage and accounts requested at a block number,
+ *     but not at "latest", "pending" or "earliest"</li>
+ *     <li>transactions requested by hash once they are included in a block, and their receipts</li>
+ * </ul>
+ * Error responses and empty results, e.g. the receipt of a pending transaction, are never cached.
+ * The cache keeps the most recently used {@code maxEntries} responses. Cached responses are shared
+ * between callers and must not be modified.
+ */
+public class CachingWeb3jService implements BatchWeb3jService {
+
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    /**
+     * Cacheable methods, mapped to the position of their block number parameter,
+     * or to -1 if their result never changes.
+     */
+    private static final Map<String, Integer> CACHEABLE_METHODS = new HashMap<>();
+
+    static {
+        CACHEABLE_METHODS.put("klay_getBlockByHash", -1);
+        CACHEABLE_METHODS.put("klay_getBlockWithConsensusInfoByHash", -1);
+        CACHEABLE_METHODS.put("klay_getBlockReceipts", -1);
+        CACHEABLE_METHODS.put("klay_getBlockTransactionCountByHash", -1);
+        CACHEABLE_METHODS.put("klay_getTransactionByBlockHashAndIndex", -1);
+        CACHEABLE_METHODS.put("klay_getTransactionByHash", -1);
+        CACHEABLE_METHODS.put("klay_getTransactionBySenderTxHash", -1);
+        CACHEABLE_METHODS.put("klay_getTransactionReceipt", -1);
+        CACHEABLE_METHODS.put("klay_getTransactionReceiptBySenderTxHash", -1);
+        CACHEABLE_METHODS.put("klay_getBlockByNumber", 0);
+        CACHEABLE_METHODS.put("klay_getBlockWithConsensusInfoByNumber", 0);
+        CACHEABLE_METHODS.put("klay_getBlockTransactionCountByNumber", 0);
+        CACHEABLE_METHODS.put("klay_getTransactionByBlockNumberAndIndex", 0);
+        CACHEABLE_METHODS.put("klay_getBalance", 1);
+        CACHEABLE_METHODS.put("klay_getCode", 1);
+        CACHEABLE_METHODS.put("klay_getAccount", 1);
+        CACHEABLE_METHODS.put("klay_getAccountKey", 1);
+        CACHEABLE_METHODS.put("klay_getStorageAt", 2);
+    }
+
+    private final Web3jService web3jService;
+    private final Map<String, Response<?>> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param web3jService service the requests are sent to
+     * @param maxEntries   maximum number of cached responses
+     */
+    public CachingWeb3jService(Web3jService web3jService, int maxEntries) {
+        this.web3jService = web3jService;
+        this.cache = new LruCache(maxEntries);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return web3jService.send(request, responseType);
+        }
+
+        T cached = get(key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+        return put(key, web3jService.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        T cached = get(key, responseType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return web3jService.sendAsync(request, responseType).thenApply(response -> put(key, response));
+    }
+
+    /**
+     * Answers the cached requests from the cache and sends the others as one batch.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        Response<?>[] responses = new Response<?>[requests.size()];
+        List<Integer> missing = new ArrayList<>();
+        BatchRequest missingRequests = new BatchRequest(web3jService);
+
+        for (int i = 0; i < requests.size(); i++) {
+            Request<?, ? extends Response<?>> request = requests.get(i);
+            Class<? extends Response<?>> responseType = BatchRequest.getResponseType(request);
+            String key = getKey(request, responseType);
+            Response<?> cached = key != null ? get(key, responseType) : null;
+            if (cached != null) {
+                responses[i] = cached;
+            } else {
+                missing.add(i);
+                missingRequests.add(request);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            BatchResponse missingResponses = web3jService instanceof BatchWeb3jService
+                    ? ((BatchWeb3jService) web3jService).sendBatch(missingRequests)
+                    : BatchRequest.sendSequentially(web3jService, missingRequests);
+            for (int i = 0; i < missing.size(); i++) {
+                Request<?, ? extends Response<?>> request = requests.get(missing.get(i));
+                String key = getKey(request, BatchRequest.getResponseType(request));
+                Response<?> response = missingResponses.getResponses().get(i);
+                responses[missing.get(i)] = key != null ? put(key, response) : response;
+            }
+        }
+        return new BatchResponse(new ArrayList<>(requests), Arrays.asList(responses));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        web3jService.close();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return ratio of cacheable requests answered from the cache, or 0 if there was none
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private <T extends Response> T get(String key, Class<T> responseType) {
+        Response<?> cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return responseType.cast(cached);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    private <T extends Response> T put(String key, T response) {
+        if (isFinal(response)) {
+            synchronized (cache) {
+                cache.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the cache key of the request, or null if its response may change.
+     */
+    private static String getKey(Request<?, ?> request, Class<?> responseType) {
+        Integer blockParameterIndex = CACHEABLE_METHODS.get(request.getMethod());
+        if (blockParameterIndex == null) {
+            return null;
+        }
+
+        List<?> params = request.getParams();
+        if (blockParameterIndex >= 0
+                && (params.size() <= blockParameterIndex || !isBlockNumber(params.get(blockParameterIndex)))) {
+            return null;
+        }
+
+        try {
+            return request.getMethod() + objectMapper.writeValueAsString(params) + responseType.getName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlockNumber(Object blockParameter) {
+        if (blockParameter instanceof DefaultBlockParameter) {
+            return blockParameter instanceof DefaultBlockParameterNumber;
+        }
+        return blockParameter instanceof String && ((String) blockParameter).startsWith("0x");
+    }
+
+    private static boolean isFinal(Response<?> response) {
+        if (response == null || response.hasError() || response.getResult() == null) {
+            return false;
+        }
+        // A pending transaction has no block yet.
+        if (response.getResult() instanceof KlayTransaction.Transaction) {
+            return ((KlayTransaction.Transaction) response.getResult()).getBlockHash() != null;
+        }
+        return true;
+    }
+
+    /**
+     * Access-ordered map evicting the least recently used response once it holds more than maxEntries.
+     */
+    private static class LruCache extends LinkedHashMap<String, Response<?>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Response<?>> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
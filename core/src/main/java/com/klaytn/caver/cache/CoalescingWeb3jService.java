@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Web3jService sharing one in-flight call among identical concurrent requests, in front of another service.
+ * <pre>
+ * Caver caver = Caver.build(new CoalescingWeb3jService(new BatchHttpService(url)));
+ * </pre>
+ * A request with the same method, params and response type as a request still in flight does not reach the node,
+ * and receives the response of the request in flight instead. Once the response arrives, the next request is
+ * sent again, so no response is reused after it was received; see {@link CachingWeb3jService} for that.
+ * Requests with side effects, such as sending transactions or installing filters, are never coalesced.
+ * Coalesced responses are shared between callers and must not be modified.
+ */
+public class CoalescingWeb3jService implements BatchWeb3jService {
+
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private static final String[] NOT_COALESCED_PREFIXES = {
+            "klay_send",
+            "klay_sign",
+            "klay_new",
+            "klay_uninstallFilter",
+            "klay_getFilterChanges",
+            "klay_subscribe",
+            "klay_unsubscribe",
+            "personal_"
+    };
+
+    private final Web3jService web3jService;
+    private final ConcurrentMap<String, CompletableFuture<Response<?>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public CoalescingWeb3jService(Web3jService web3jService) {
+        this.web3jService = web3jService;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return web3jService.send(request, responseType);
+        }
+
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return responseType.cast(await(existing));
+        }
+
+        try {
+            T response = web3jService.send(request, responseType);
+            inFlight.remove(key, call);
+            call.complete(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return existing.thenApply(responseType::cast);
+        }
+
+        try {
+            web3jService.sendAsync(request, responseType).whenComplete((response, throwable) -> {
+                inFlight.remove(key, call);
+                if (throwable != null) {
+                    call.completeExceptionally(throwable);
+                } else {
+                    call.complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Otherwise the call would stay in flight, and every identical request would wait for it forever.
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+        }
+        return call.thenApply(responseType::cast);
+    }
+
+    /**
+     * Sends the batch as is. Requests of a batch are not coalesced.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (web3jService instanceof BatchWeb3jService) {
+            return ((BatchWeb3jService) web3jService).sendBatch(batchRequest);
+        }
+
+        return BatchRequest.sendSequentially(web3jService, batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (web3jService instanceof BatchWeb3jService) {
+            return ((BatchWeb3jService) web3jService).sendBatchAsync(batchRequest);
+        }
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        web3jService.close();
+    }
+
+    /**
+     * @return number of requests answered with the response of an identical request in flight
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private static Response<?> await(CompletableFuture<Response<?>> call) throws IOException {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the key identifying identical requests, or null if the request must not be coalesced.
+     */
+    private static String getKey(Request<?, ?> request, Class<?> responseType) {
+        String method = request.getMethod();
+        for (String prefix : NOT_COALESCED_PREFIXES) {
+            if (method.startsWith(prefix)) {
+                return null;
+            }
+        }
+
+        try {
+            return method + objectMapper.writeValueAsString(request.getParams()) + responseType.getName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -19,10 +19,9 @@ import com.klaytn.caver.crypto.KlayCredentials;
 import com.klaytn.caver.crypto.KlaySignatureData;
 import com.klaytn.caver.tx.type.TxTypeFeeDelegate;
 import com.klaytn.caver.utils.KlaySignatureDataUtils;
+import com.klaytn.caver.rlp.RlpWriter;
 import com.klaytn.caver.tx.model.KlayRawTransaction;
 import com.klaytn.caver.tx.type.AbstractTxType;
-import com.klaytn.caver.utils.BytesUtils;
-import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.Sign;
 import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
@@ -34,16 +33,28 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 public class FeePayer {
 
     final static String EMPTY_FEE_PAYER_ADDRESS = "0x";
     private KlayCredentials credentials;
     private int chainId;
+    private Executor executor;
 
     public FeePayer(KlayCredentials credentials, int chainId) {
+        this(credentials, chainId, null);
+    }
+
+    /**
+     * @param credentials credentials of the fee payer
+     * @param chainId     chain ID
+     * @param executor    executor signing with each fee payer key, or null to sign on the calling thread
+     */
+    public FeePayer(KlayCredentials credentials, int chainId, Executor executor) {
         this.credentials = credentials;
         this.chainId = chainId;
+        this.executor = executor;
     }
 
     public KlayRawTransaction sign(TxTypeFeeDelegate txType) {
@@ -72,9 +83,7 @@ public class FeePayer {
         }
         rlpTypeList.add(new RlpList(feePayerSignatureList));
 
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = {txType.getType().get()};
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
+        byte[] rawTx = RlpWriter.encode(txType.getType().get(), new RlpList(rlpTypeList));
         return new KlayRawTransaction(rawTx, feePayerSignatureDataSet);
     }
 
@@ -102,18 +111,18 @@ public class FeePayer {
     private Set<KlaySignatureData> getFeePayerSignatureData(AbstractTxType txType) {
         KlaySignatureData signatureData = KlaySignatureData.createKlaySignatureDataFromChainId(chainId);
         Set<KlaySignatureData> feePayerSignatureDataSet = new HashSet<>();
-        byte[] encodedTransactionNoSig = txType.getEncodedTransactionNoSig();
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(encodedTransactionNoSig));
+        rlpTypeList.add(RlpWriter.nested(txType.getRlpTransactionNoSig()));
         rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(credentials.getAddress())));
         rlpTypeList.addAll(signatureData.toRlpList().getValues());
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
+        byte[] encodedTransaction = RlpWriter.encode(new RlpList(rlpTypeList));
 
-        for (ECKeyPair ecKeyPair : credentials.getEcKeyPairsForFeePayerList()) {
-            Sign.SignatureData signedSignatureData = Sign.signMessage(encodedTransaction, ecKeyPair);
-            feePayerSignatureDataSet.add(KlaySignatureDataUtils.createEip155KlaySignatureData(signedSignatureData, chainId));
-        }
+        feePayerSignatureDataSet.addAll(KlaySignatureDataUtils.signWithKeys(
+                credentials.getEcKeyPairsForFeePayerList(),
+                ecKeyPair -> KlaySignatureDataUtils.createEip155KlaySignatureData(
+                        Sign.signMessage(encodedTransaction, ecKeyPair), chainId),
+                executor));
 
         return feePayerSignatureDataSet;
     }
@@ -36,6 +36,7 @@ import com.klaytn.caver.utils.ChainId;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 public class FeePayerManager {
 
@@ -46,7 +47,7 @@ public class FeePayerManager {
 
     private FeePayerManager(Builder builder) {
         this.caver = builder.caver;
-        this.signer = new FeePayer(builder.credentials, builder.chainId);
+        this.signer = new FeePayer(builder.credentials, builder.chainId, builder.signingExecutor);
         this.transactionReceiptProcessor = builder.transactionReceiptProcessor;
         this.errorHandler = builder.errorHandler;
     }
@@ -110,6 +111,7 @@ public class FeePayerManager {
         private int chainId = -1;
         private TransactionReceiptProcessor transactionReceiptProcessor;
         private ErrorHandler errorHandler;
+        private Executor signingExecutor;
 
         public Builder(Caver caver, KlayCredentials credentials) {
             this.credentials = credentials;
@@ -131,6 +133,18 @@ public class FeePayerManager {
             return this;
         }
 
+        /**
+         * Sets the executor used to sign with the fee payer keys of a multiple-key or role-based account in parallel.
+         * The keys are used one after another on the calling thread if not set.
+         *
+         * @param signingExecutor executor signing with each key
+         * @return Builder
+         */
+        public Builder setSigningExecutor(Executor signingExecutor) {
+            this.signingExecutor = signingExecutor;
+            return this;
+        }
+
         public FeePayerManager build() {
             if (this.chainId == -1) this.chainId = ChainId.BAOBAB_TESTNET;
             if (this.transactionReceiptProcessor == null)
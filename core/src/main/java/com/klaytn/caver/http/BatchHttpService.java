@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.ResultStreamHandler;
+import com.klaytn.caver.methods.response.ResultStreamReader;
+import okhttp3.OkHttpClient;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP service which additionally sends {@link BatchRequest}s as a single JSON-RPC batch.
+ * Responses are matched to their requests by id, so the node may answer in any order.
+ */
+public class BatchHttpService extends HttpService implements BatchWeb3jService {
+
+    public BatchHttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
+        super(url, httpClient, includeRawResponses);
+    }
+
+    public BatchHttpService(String url, OkHttpClient httpClient) {
+        super(url, httpClient);
+    }
+
+    public BatchHttpService(String url) {
+        super(url);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(requests, Collections.emptyList());
+        }
+
+        String payload = objectMapper.writeValueAsString(requests);
+        JsonNode result;
+        try (InputStream inputStream = performIO(payload)) {
+            result = objectMapper.readTree(inputStream);
+        }
+
+        if (result == null || !result.isArray()) {
+            JsonNode error = result != null ? result.get("error") : null;
+            throw new IOException("Invalid JSON-RPC batch response"
+                    + (error != null ? ": " + error.toString() : ""));
+        }
+
+        Map<Long, JsonNode> responsesById = new HashMap<>();
+        for (JsonNode response : result) {
+            responsesById.put(response.get("id").asLong(), response);
+        }
+
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            JsonNode response = responsesById.get(request.getId());
+            if (response == null) {
+                throw new IOException("No response for request id " + request.getId() + " (" + request.getMethod() + ")");
+            }
+            responses.add(objectMapper.readValue(
+                    objectMapper.treeAsTokens(response), BatchRequest.getResponseType(request)));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    /**
+     * Sends the request and hands the elements of an array in its result to the handler while the response
+     * body is read, instead of deserializing the whole response first.
+     * <pre>
+     * service.sendStreaming(caver.klay().getBlockByNumber(blockNumber, true), "transactions",
+     *         KlayTransaction.Transaction.class, transaction -&gt; store(transaction));
+     * service.sendStreaming(caver.klay().getBlockReceipts(blockHash), null,
+     *         KlayTransactionReceipt.TransactionReceipt.class, receipt -&gt; store(receipt));
+     * </pre>
+     *
+     * @param request     request to send
+     * @param arrayField  field of the result object holding the streamed array, or null if the result is the array
+     * @param elementType type the elements are deserialized into
+     * @param handler     handler receiving the elements
+     * @param <T>         type of the elements
+     * @throws IOException if the request failed, the node answered with an error or the handler failed
+     */
+    public <T> void sendStreaming(Request<?, ?> request, String arrayField, Class<T> elementType,
+                                  ResultStreamHandler<T> handler) throws IOException {
+        String payload = objectMapper.writeValueAsString(request);
+        Response.Error error;
+        try (InputStream inputStream = performIO(payload)) {
+            error = new ResultStreamReader(objectMapper).read(inputStream, arrayField, elementType, handler);
+        }
+        if (error != null) {
+            throw new IOException(error.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+}
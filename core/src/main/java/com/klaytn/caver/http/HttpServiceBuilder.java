@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.logging.HttpLoggingInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a {@link BatchHttpService} with a tuned OkHttp client.
+ * <pre>
+ * Caver caver = Caver.build(new HttpServiceBuilder(url)
+ *         .setMaxIdleConnections(32)
+ *         .setMaxRequestsPerHost(64)
+ *         .build());
+ * </pre>
+ * Requests sent with {@code sendAsync()} run concurrently, and every concurrent request holds a connection.
+ * Connections above {@link #setMaxIdleConnections(int)} are closed as soon as they are released,
+ * so a fan-out wider than the pool pays a new TCP and TLS handshake for most of its requests.
+ * The pool should be at least as large as the expected number of concurrent requests.
+ */
+public class HttpServiceBuilder {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION = TimeUnit.MINUTES.toMillis(5);
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+    public static final long DEFAULT_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private static final Logger log = LoggerFactory.getLogger(HttpServiceBuilder.class);
+
+    private final String url;
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private long keepAliveDuration = DEFAULT_KEEP_ALIVE_DURATION;
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+    private long connectTimeout = DEFAULT_TIMEOUT;
+    private long readTimeout = DEFAULT_TIMEOUT;
+    private long writeTimeout = DEFAULT_TIMEOUT;
+    private boolean http2 = true;
+    private boolean gzip = true;
+    private boolean includeRawResponses;
+    private final List<Interceptor> networkInterceptors = new ArrayList<>();
+
+    /**
+     * @param url Klaytn url, e.g. http://localhost:8551
+     */
+    public HttpServiceBuilder(String url) {
+        this.url = url;
+    }
+
+    /**
+     * @param maxIdleConnections maximum number of idle connections kept open for reuse
+     * @return this Builder
+     */
+    public HttpServiceBuilder setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    /**
+     * @param keepAliveDuration how long an idle connection is kept open
+     * @param unit              unit of keepAliveDuration
+     * @return this Builder
+     */
+    public HttpServiceBuilder setKeepAliveDuration(long keepAliveDuration, TimeUnit unit) {
+        this.keepAliveDuration = unit.toMillis(keepAliveDuration);
+        return this;
+    }
+
+    /**
+     * Limits the calls enqueued on the OkHttp dispatcher, e.g. by an interceptor or another user of the client.
+     *
+     * @param maxRequests maximum number of concurrent asynchronous calls
+     * @return this Builder
+     */
+    public HttpServiceBuilder setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Limits the calls enqueued on the OkHttp dispatcher for a single host.
+     *
+     * @param maxRequestsPerHost maximum number of concurrent asynchronous calls to a host
+     * @return this Builder
+     */
+    public HttpServiceBuilder setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    public HttpServiceBuilder setConnectTimeout(long timeout, TimeUnit unit) {
+        this.connectTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    public HttpServiceBuilder setReadTimeout(long timeout, TimeUnit unit) {
+        this.readTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    public HttpServiceBuilder setWriteTimeout(long timeout, TimeUnit unit) {
+        this.writeTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Allows HTTP/2, which multiplexes concurrent requests over a single connection.
+     * It is negotiated with the node over TLS (https) and falls back to HTTP/1.1 if the node does not support it.
+     *
+     * @param http2 whether HTTP/2 may be used. If false, only HTTP/1.1 is used.
+     * @return this Builder
+     */
+    public HttpServiceBuilder setHttp2(boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    /**
+     * Asks the node to compress responses with gzip. They are decompressed transparently.
+     * Large responses such as blocks with full transactions shrink by several times.
+     *
+     * @param gzip whether gzip compressed responses are accepted
+     * @return this Builder
+     */
+    public HttpServiceBuilder setGzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    public HttpServiceBuilder setIncludeRawResponses(boolean includeRawResponses) {
+        this.includeRawResponses = includeRawResponses;
+        return this;
+    }
+
+    /**
+     * Adds an interceptor observing the requests and responses as they go over the network,
+     * e.g. a {@link ResponseSizeInterceptor}.
+     *
+     * @param interceptor OkHttp network interceptor
+     * @return this Builder
+     */
+    public HttpServiceBuilder addNetworkInterceptor(Interceptor interceptor) {
+        this.networkInterceptors.add(interceptor);
+        return this;
+    }
+
+    public OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration, TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeout, TimeUnit.MILLISECONDS)
+                .protocols(http2
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1));
+
+        // OkHttp asks for gzip unless the request already has an Accept-Encoding header.
+        if (!gzip) {
+            builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                    .header("Accept-Encoding", "identity")
+                    .build()));
+        }
+
+        for (Interceptor interceptor : networkInterceptors) {
+            builder.addNetworkInterceptor(interceptor);
+        }
+
+        if (log.isDebugEnabled()) {
+            HttpLoggingInterceptor logging = new HttpLoggingInterceptor(log::debug);
+            logging.setLevel(HttpLoggingInterceptor.Level.BODY);
+            builder.addInterceptor(logging);
+        }
+        return builder.build();
+    }
+
+    public BatchHttpService build() {
+        return new BatchHttpService(url, buildHttpClient(), includeRawResponses);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * OkHttp network interceptor counting the bytes of the response bodies as they are read, before they are
+ * decompressed. Web3j reads a response on the thread sending its request, so the size of the last response
+ * is kept per thread.
+ * <pre>
+ * ResponseSizeInterceptor responseSizes = new ResponseSizeInterceptor();
+ * BatchHttpService service = new HttpServiceBuilder(url).addNetworkInterceptor(responseSizes).build();
+ * </pre>
+ */
+public class ResponseSizeInterceptor implements Interceptor {
+
+    private final ThreadLocal<long[]> lastResponseSize = new ThreadLocal<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+
+        long[] size = new long[1];
+        lastResponseSize.set(size);
+        ForwardingSource countingSource = new ForwardingSource(body.source()) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read > 0) {
+                    size[0] += read;
+                }
+                return read;
+            }
+        };
+        return response.newBuilder()
+                .body(ResponseBody.create(body.contentType(), body.contentLength(), Okio.buffer(countingSource)))
+                .build();
+    }
+
+    /**
+     * Returns the number of bytes read from the last response received on the calling thread, and forgets it.
+     *
+     * @return size of the response in bytes, or -1 if no response was received since the last call
+     */
+    public long takeLastResponseSize() {
+        long[] size = lastResponseSize.get();
+        lastResponseSize.remove();
+        return size != null ? size[0] : -1;
+    }
+}
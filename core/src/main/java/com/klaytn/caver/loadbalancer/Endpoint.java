@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.loadbalancer;
+
+import org.web3j.protocol.Web3jService;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A node behind a {@link LoadBalancedWeb3jService}, with the statistics used to select and eject it.
+ * Latency and error rate are exponentially weighted moving averages, so recent requests weigh the most.
+ */
+public class Endpoint {
+
+    static final double SMOOTHING_FACTOR = 0.2;
+
+    private final String name;
+    private final Web3jService service;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double latency = -1;
+    private volatile double errorRate;
+    private volatile int samples;
+    private volatile BigInteger blockNumber;
+    private volatile boolean lagging;
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+
+    Endpoint(String name, Web3jService service) {
+        this.name = name;
+        this.service = service;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Web3jService getService() {
+        return service;
+    }
+
+    /**
+     * @return number of requests sent to the endpoint and not answered yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return average latency in milliseconds, or -1 if no request was answered yet
+     */
+    public double getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return average ratio of requests failing with an I/O error, between 0 and 1
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @return block number reported by the last health check, or null if it was not checked yet
+     */
+    public BigInteger getBlockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * Returns false while the endpoint is ejected for its error rate or lags behind the other endpoints.
+     *
+     * @return whether requests are sent to the endpoint
+     */
+    public boolean isHealthy() {
+        if (ejected && System.nanoTime() - ejectedUntil >= 0) {
+            ejected = false;
+        }
+        return !lagging && !ejected;
+    }
+
+    long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    synchronized void finish(long startedAt, boolean failed, double maxErrorRate, int minSamples, long ejectionNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        if (!failed) {
+            double elapsed = TimeUnit.NANOSECONDS.toMicros(now - startedAt) / 1000.0;
+            latency = latency < 0 ? elapsed : latency + SMOOTHING_FACTOR * (elapsed - latency);
+        }
+        errorRate += SMOOTHING_FACTOR * ((failed ? 1 : 0) - errorRate);
+        samples++;
+
+        if (samples >= minSamples && errorRate > maxErrorRate) {
+            // Ejected endpoints are readmitted with a clean record after the ejection time.
+            ejectedUntil = now + ejectionNanos;
+            ejected = true;
+            errorRate = 0;
+            samples = 0;
+        }
+    }
+
+    void setBlockNumber(BigInteger blockNumber) {
+        this.blockNumber = blockNumber;
+    }
+
+    void setLagging(boolean lagging) {
+        this.lagging = lagging;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.loadbalancer;
+
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.http.BatchHttpService;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.Quantity;
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Web3jService distributing requests across several Klaytn nodes.
+ * <p>
+ * Read requests are sent to a healthy endpoint chosen by the {@link LoadBalancingStrategy}, and are retried on
+ * another endpoint if the request fails with an I/O error. Requests depending on the state of a single node,
+ * listed in {@link #PINNED_METHODS}, are always sent to the first healthy endpoint in the order the endpoints were
+ * added and are not retried, so that transactions and the nonces they depend on stay on the same node.
+ * <p>
+ * An endpoint is ejected for {@link Builder#setEjectionTime(long, TimeUnit)} when its error rate exceeds
+ * {@link Builder#setMaxErrorRate(double)}, and while its block number lags more than
+ * {@link Builder#setMaxBlockLag(long)} blocks behind the highest endpoint. JSON-RPC errors are answers of a healthy
+ * node and do not count as errors. If every endpoint is ejected, requests are sent to all of them anyway.
+ */
+public class LoadBalancedWeb3jService implements BatchWeb3jService {
+
+    public static final Set<String> PINNED_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "klay_sendRawTransaction",
+            "klay_sendTransaction",
+            "klay_sendTransactionAsFeePayer",
+            "klay_signTransaction",
+            "klay_signTransactionAsFeePayer",
+            "klay_sign",
+            "klay_getTransactionCount"
+    )));
+
+    public static final double DEFAULT_MAX_ERROR_RATE = 0.5;
+    public static final int DEFAULT_MIN_SAMPLES = 10;
+    public static final long DEFAULT_EJECTION_TIME = TimeUnit.SECONDS.toMillis(30);
+    public static final long DEFAULT_MAX_BLOCK_LAG = 5;
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = TimeUnit.SECONDS.toMillis(5);
+
+    private final List<Endpoint> endpoints;
+    private final LoadBalancingStrategy strategy;
+    private final double maxErrorRate;
+    private final int minSamples;
+    private final long ejectionNanos;
+    private final BigInteger maxBlockLag;
+    private final ScheduledFuture<?> healthCheck;
+
+    private LoadBalancedWeb3jService(Builder builder) {
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(builder.endpoints));
+        this.strategy = builder.strategy;
+        this.maxErrorRate = builder.maxErrorRate;
+        this.minSamples = builder.minSamples;
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(builder.ejectionTime);
+        this.maxBlockLag = BigInteger.valueOf(builder.maxBlockLag);
+        this.healthCheck = builder.healthCheckInterval > 0
+                ? builder.scheduledExecutorService.scheduleWithFixedDelay(
+                        this::runHealthCheck, 0, builder.healthCheckInterval, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return call(isPinned(request.getMethod()), endpoint -> endpoint.getService().send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return callAsync(isPinned(request.getMethod()), new ArrayList<>(),
+                endpoint -> endpoint.getService().sendAsync(request, responseType));
+    }
+
+    /**
+     * Sends the batch to a single endpoint. A batch containing a pinned request is sent to the pinned endpoint.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        boolean pinned = false;
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            pinned |= isPinned(request.getMethod());
+        }
+        return call(pinned, endpoint -> sendBatch(endpoint, batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    /**
+     * Subscribes through the pinned endpoint, which must support subscriptions.
+     */
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return select(true, Collections.emptyList()).getService().subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+
+        IOException error = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.getService().close();
+            } catch (IOException e) {
+                error = error == null ? e : error;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Requests the block number of every endpoint and marks the endpoints lagging behind the highest one
+     * as unhealthy. It runs periodically unless the health check interval is 0.
+     */
+    public void checkHealth() {
+        List<CompletableFuture<Quantity>> results = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            long startedAt = endpoint.start();
+            results.add(sendAsync(endpoint, e -> new Request<>("klay_blockNumber", Collections.<String>emptyList(),
+                    e.getService(), Quantity.class).sendAsync())
+                    .whenComplete((quantity, throwable) -> {
+                        finish(endpoint, startedAt, throwable != null);
+                        if (throwable == null && !quantity.hasError()) {
+                            endpoint.setBlockNumber(quantity.getValue());
+                        }
+                    }));
+        }
+        for (CompletableFuture<Quantity> result : results) {
+            try {
+                result.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // Counted in the error rate of the endpoint.
+            }
+        }
+
+        BigInteger highest = null;
+        for (Endpoint endpoint : endpoints) {
+            BigInteger blockNumber = endpoint.getBlockNumber();
+            if (blockNumber != null && (highest == null || blockNumber.compareTo(highest) > 0)) {
+                highest = blockNumber;
+            }
+        }
+        for (Endpoint endpoint : endpoints) {
+            BigInteger blockNumber = endpoint.getBlockNumber();
+            endpoint.setLagging(highest != null && blockNumber != null
+                    && highest.subtract(blockNumber).compareTo(maxBlockLag) > 0);
+        }
+    }
+
+    private void runHealthCheck() {
+        try {
+            checkHealth();
+        } catch (RuntimeException ignored) {
+            // An exception would cancel the periodic health check. The next run starts over.
+        }
+    }
+
+    private <T> T call(boolean pinned, EndpointCall<T> endpointCall) throws IOException {
+        List<Endpoint> failed = new ArrayList<>();
+        while (true) {
+            Endpoint endpoint = select(pinned, failed);
+            long startedAt = endpoint.start();
+            try {
+                T result = endpointCall.call(endpoint);
+                finish(endpoint, startedAt, false);
+                return result;
+            } catch (IOException | RuntimeException e) {
+                finish(endpoint, startedAt, true);
+                failed.add(endpoint);
+                if (pinned || failed.size() == endpoints.size()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> callAsync(
+            boolean pinned, List<Endpoint> failed, Function<Endpoint, CompletableFuture<T>> endpointCall) {
+        Endpoint endpoint = select(pinned, failed);
+        long startedAt = endpoint.start();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sendAsync(endpoint, endpointCall).whenComplete((response, throwable) -> {
+            finish(endpoint, startedAt, throwable != null);
+            if (throwable == null) {
+                result.complete(response);
+                return;
+            }
+
+            failed.add(endpoint);
+            if (pinned || failed.size() == endpoints.size()) {
+                result.completeExceptionally(throwable);
+            } else {
+                callAsync(pinned, failed, endpointCall).whenComplete((retried, error) -> {
+                    if (error == null) {
+                        result.complete(retried);
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future failed with the exception the endpoint throws instead of returning a future,
+     * so that the request is finished and retried like any other failure.
+     */
+    private static <T> CompletableFuture<T> sendAsync(
+            Endpoint endpoint, Function<Endpoint, CompletableFuture<T>> endpointCall) {
+        try {
+            return endpointCall.apply(endpoint);
+        } catch (RuntimeException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+
+    private Endpoint select(boolean pinned, List<Endpoint> excluded) {
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy() && !excluded.contains(endpoint)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            for (Endpoint endpoint : endpoints) {
+                if (!excluded.contains(endpoint)) {
+                    candidates.add(endpoint);
+                }
+            }
+        }
+        return pinned ? candidates.get(0) : strategy.select(candidates);
+    }
+
+    private void finish(Endpoint endpoint, long startedAt, boolean failed) {
+        endpoint.finish(startedAt, failed, maxErrorRate, minSamples, ejectionNanos);
+    }
+
+    private static boolean isPinned(String method) {
+        return PINNED_METHODS.contains(method) || method.startsWith("personal_");
+    }
+
+    private static BatchResponse sendBatch(Endpoint endpoint, BatchRequest batchRequest) throws IOException {
+        if (endpoint.getService() instanceof BatchWeb3jService) {
+            return ((BatchWeb3jService) endpoint.getService()).sendBatch(batchRequest);
+        }
+
+        return BatchRequest.sendSequentially(endpoint.getService(), batchRequest);
+    }
+
+    @FunctionalInterface
+    private interface EndpointCall<T> {
+        T call(Endpoint endpoint) throws IOException;
+    }
+
+    public static class Builder {
+        private final List<Endpoint> endpoints = new ArrayList<>();
+        private LoadBalancingStrategy strategy = LoadBalancingStrategy.leastInFlight();
+        private double maxErrorRate = DEFAULT_MAX_ERROR_RATE;
+        private int minSamples = DEFAULT_MIN_SAMPLES;
+        private long ejectionTime = DEFAULT_EJECTION_TIME;
+        private long maxBlockLag = DEFAULT_MAX_BLOCK_LAG;
+        private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+        private ScheduledExecutorService scheduledExecutorService = Async.defaultExecutorService();
+
+        /**
+         * Adds an endpoint reached over HTTP.
+         *
+         * @param url Klaytn url
+         * @return this Builder
+         */
+        public Builder addEndpoint(String url) {
+            return addEndpoint(url, new BatchHttpService(url));
+        }
+
+        /**
+         * @param name    name of the endpoint, used in {@link Endpoint#toString()}
+         * @param service service connected to the node
+         * @return this Builder
+         */
+        public Builder addEndpoint(String name, Web3jService service) {
+            endpoints.add(new Endpoint(name, service));
+            return this;
+        }
+
+        /**
+         * @param strategy strategy selecting the endpoint of read requests. Least-in-flight by default.
+         * @return this Builder
+         */
+        public Builder setStrategy(LoadBalancingStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * @param maxErrorRate error rate, between 0 and 1, above which an endpoint is ejected
+         * @return this Builder
+         */
+        public Builder setMaxErrorRate(double maxErrorRate) {
+            this.maxErrorRate = maxErrorRate;
+            return this;
+        }
+
+        /**
+         * @param minSamples number of requests an endpoint must have answered before it can be ejected
+         * @return this Builder
+         */
+        public Builder setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        public Builder setEjectionTime(long ejectionTime, TimeUnit unit) {
+            this.ejectionTime = unit.toMillis(ejectionTime);
+            return this;
+        }
+
+        /**
+         * @param maxBlockLag number of blocks an endpoint may lag behind the highest endpoint
+         * @return this Builder
+         */
+        public Builder setMaxBlockLag(long maxBlockLag) {
+            this.maxBlockLag = maxBlockLag;
+            return this;
+        }
+
+        /**
+         * @param healthCheckInterval      interval in milliseconds between health checks, or 0 to disable them
+         * @param scheduledExecutorService executor running the health checks
+         * @return this Builder
+         */
+        public Builder setHealthCheckInterval(long healthCheckInterval, ScheduledExecutorService scheduledExecutorService) {
+            this.healthCheckInterval = healthCheckInterval;
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public LoadBalancedWeb3jService build() {
+            if (endpoints.isEmpty()) {
+                throw new IllegalArgumentException("At least one endpoint is required.");
+            }
+            return new LoadBalancedWeb3jService(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the endpoint a read request is sent to.
+ */
+@FunctionalInterface
+public interface LoadBalancingStrategy {
+
+    /**
+     * @param endpoints healthy endpoints, never empty
+     * @return the selected endpoint
+     */
+    Endpoint select(List<Endpoint> endpoints);
+
+    /**
+     * Sends the requests to every endpoint in turn.
+     *
+     * @return new round-robin strategy
+     */
+    static LoadBalancingStrategy roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return endpoints -> endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * Sends a request to the endpoint with the fewest requests in flight, which favours faster endpoints under load.
+     *
+     * @return new least-in-flight strategy
+     */
+    static LoadBalancingStrategy leastInFlight() {
+        return endpoints -> {
+            Endpoint selected = endpoints.get(0);
+            for (int i = 1; i < endpoints.size(); i++) {
+                if (endpoints.get(i).getInFlight() < selected.getInFlight()) {
+                    selected = endpoints.get(i);
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Selects an endpoint randomly, weighted by the inverse of its average latency.
+     * Endpoints without a measured latency get the weight of the fastest endpoint, so that they are measured.
+     *
+     * @return new latency-weighted strategy
+     */
+    static LoadBalancingStrategy latencyWeighted() {
+        return endpoints -> {
+            double fastest = Double.MAX_VALUE;
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.getLatency() >= 0) {
+                    fastest = Math.min(fastest, endpoint.getLatency());
+                }
+            }
+
+            double[] weights = new double[endpoints.size()];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                double latency = endpoints.get(i).getLatency();
+                if (latency < 0) {
+                    latency = fastest == Double.MAX_VALUE ? 1 : fastest;
+                }
+                weights[i] = 1 / Math.max(latency, 0.001);
+                total += weights[i];
+            }
+
+            double random = ThreadLocalRandom.current().nextDouble(total);
+            for (int i = 0; i < weights.length; i++) {
+                random -= weights[i];
+                if (random < 0) {
+                    return endpoints.get(i);
+                }
+            }
+            return endpoints.get(endpoints.size() - 1);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.methods.request;
+
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.methods.response.BatchResponse;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A list of JSON-RPC requests sent together. If the underlying service is a {@link BatchWeb3jService}
+ * the requests are sent as one JSON-RPC batch, otherwise every request is sent on its own concurrently.
+ */
+public class BatchRequest {
+
+    private final Web3jService web3jService;
+    private final List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+
+    public BatchRequest(Web3jService web3jService) {
+        this.web3jService = web3jService;
+    }
+
+    /**
+     * Adds a request to the batch.
+     *
+     * @param request request created by {@link com.klaytn.caver.Klay} or {@link com.klaytn.caver.Net}
+     * @return this BatchRequest
+     */
+    public BatchRequest add(Request<?, ? extends Response<?>> request) {
+        requests.add(request);
+        return this;
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public BatchResponse send() throws IOException {
+        if (web3jService instanceof BatchWeb3jService) {
+            return ((BatchWeb3jService) web3jService).sendBatch(this);
+        }
+
+        try {
+            return sendEach().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync() {
+        if (web3jService instanceof BatchWeb3jService) {
+            return ((BatchWeb3jService) web3jService).sendBatchAsync(this);
+        }
+        return sendEach();
+    }
+
+    private CompletableFuture<BatchResponse> sendEach() {
+        List<CompletableFuture<? extends Response<?>>> futures = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            futures.add(request.sendAsync());
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<Response<?>> responses = new ArrayList<>(futures.size());
+                    for (CompletableFuture<? extends Response<?>> future : futures) {
+                        responses.add(future.join());
+                    }
+                    return new BatchResponse(new ArrayList<>(requests), responses);
+                });
+    }
+
+    /**
+     * Sends the requests of a batch one after another through the given service. Services wrapping a
+     * Web3jService which cannot send JSON-RPC batches use it to answer {@link BatchWeb3jService#sendBatch}.
+     *
+     * @param web3jService service sending every request
+     * @param batchRequest requests to send
+     * @return responses in the order of the requests
+     * @throws IOException if a request could not be sent
+     */
+    public static BatchResponse sendSequentially(Web3jService web3jService, BatchRequest batchRequest)
+            throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            responses.add(web3jService.send(request, getResponseType(request)));
+        }
+        return new BatchResponse(new ArrayList<>(requests), responses);
+    }
+
+    /**
+     * Returns the class the response of the given request is deserialized into.
+     * web3j 4.2.0 does not expose it, so it is read from the request.
+     *
+     * @param request request created by {@link com.klaytn.caver.Klay} or {@link com.klaytn.caver.Net}
+     * @return response type of the request
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends Response<?>> getResponseType(Request<?, ?> request) {
+        try {
+            Field field = Request.class.getDeclaredField("responseType");
+            field.setAccessible(true);
+            return (Class<? extends Response<?>>) field.get(request);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unable to read the response type of " + request.getMethod(), e);
+        }
+    }
+}
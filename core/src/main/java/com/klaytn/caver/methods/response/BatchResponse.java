@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.methods.response;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Responses of a {@link com.klaytn.caver.methods.request.BatchRequest}, in the order the requests were added.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ? extends Response<?>>> requests;
+    private final List<Response<?>> responses;
+
+    public BatchResponse(List<Request<?, ? extends Response<?>>> requests, List<Response<?>> responses) {
+        this.requests = Collections.unmodifiableList(requests);
+        this.responses = Collections.unmodifiableList(responses);
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return requests;
+    }
+
+    public List<Response<?>> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Returns the response of the request added at the given position.
+     *
+     * @param index        position of the request in the batch
+     * @param responseType type of the response, e.g. {@link Quantity}
+     * @param <T>          type of the response
+     * @return response of the request
+     */
+    public <T extends Response<?>> T get(int index, Class<T> responseType) {
+        return responseType.cast(responses.get(index));
+    }
+
+    public int size() {
+        return responses.size();
+    }
+}
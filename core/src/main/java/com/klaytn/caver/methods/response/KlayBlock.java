@@ -23,18 +23,16 @@ package com.klaytn.caver.methods.response;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.klaytn.caver.wallet.WalletFile;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -401,6 +399,9 @@ public class KlayBlock extends Response<KlayBlock.Block> {
         }
     }
 
+    /**
+     * Reads the transactions one by one from the parser, without building a tree of the whole list first.
+     */
     static class TransactionsDeserializer extends JsonDeserializer<List> {
 
         @Override
@@ -408,18 +409,20 @@ public class KlayBlock extends Response<KlayBlock.Block> {
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
 
-            ObjectMapper objectMapper = (ObjectMapper) jsonParser.getCodec();
-            ArrayNode root = objectMapper.readTree(jsonParser);
+            if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+                return (List) deserializationContext.handleUnexpectedToken(List.class, jsonParser);
+            }
 
-            if (root.size() == 0) {
-              return Collections.emptyList();
-            } else if (root.get(0).isTextual()) {
-                return objectMapper.convertValue(root, new TypeReference<List<String>>() {
-                });
-            } else {
-                return objectMapper.convertValue(root, new TypeReference<List<KlayTransaction.Transaction>>() {
-                });
+            List<Object> transactions = new ArrayList<>();
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_STRING) {
+                    transactions.add(jsonParser.getText());
+                } else {
+                    transactions.add(jsonParser.readValueAs(KlayTransaction.Transaction.class));
+                }
             }
+            return transactions.isEmpty() ? Collections.emptyList() : transactions;
         }
     }
 }
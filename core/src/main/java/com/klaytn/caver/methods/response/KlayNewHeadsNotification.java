@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.methods.response;
+
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Notification of the newHeads subscription, pushed whenever a new block is added to the chain.
+ */
+public class KlayNewHeadsNotification extends Notification<KlayNewHeadsNotification.NewHead> {
+
+    /**
+     * Header of a Klaytn block.
+     */
+    public static class NewHead {
+
+        /**
+         * Hash of the parent block.
+         */
+        private String parentHash;
+
+        /**
+         * The address of the beneficiary to whom the block rewards were given.
+         */
+        private String reward;
+
+        /**
+         * The root of the final state trie of the block.
+         */
+        private String stateRoot;
+
+        /**
+         * The root of the transaction trie of the block.
+         */
+        private String transactionsRoot;
+
+        /**
+         * The root of the receipts trie of the block.
+         */
+        private String receiptsRoot;
+
+        /**
+         * The bloom filter for the logs of the block.
+         */
+        private String logsBloom;
+
+        /**
+         * Former difficulty. Always 1 in the BFT consensus engine.
+         */
+        private String blockScore;
+
+        /**
+         * The block number.
+         */
+        private String number;
+
+        /**
+         * The total used gas by all transactions in this block.
+         */
+        private String gasUsed;
+
+        /**
+         * The unix timestamp for when the block was collated.
+         */
+        private String timestamp;
+
+        /**
+         * The fraction of a second of the timestamp for when the block was collated.
+         */
+        private String timestampFoS;
+
+        /**
+         * The "extra data" field of this block.
+         */
+        private String extraData;
+
+        /**
+         * RLP encoded governance configuration.
+         */
+        private String governanceData;
+
+        /**
+         * RLP encoded governance vote of the proposer.
+         */
+        private String voteData;
+
+        /**
+         * Hash of the block.
+         */
+        private String hash;
+
+        public String getParentHash() {
+            return parentHash;
+        }
+
+        public String getReward() {
+            return reward;
+        }
+
+        public String getStateRoot() {
+            return stateRoot;
+        }
+
+        public String getTransactionsRoot() {
+            return transactionsRoot;
+        }
+
+        public String getReceiptsRoot() {
+            return receiptsRoot;
+        }
+
+        public String getLogsBloom() {
+            return logsBloom;
+        }
+
+        public String getBlockScore() {
+            return blockScore;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public String getGasUsed() {
+            return gasUsed;
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        public String getTimestampFoS() {
+            return timestampFoS;
+        }
+
+        public String getExtraData() {
+            return extraData;
+        }
+
+        public String getGovernanceData() {
+            return governanceData;
+        }
+
+        public String getVoteData() {
+            return voteData;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+    }
+}
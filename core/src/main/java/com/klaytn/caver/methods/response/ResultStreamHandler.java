@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * Receives the result of a JSON-RPC response read by {@link ResultStreamReader}, one element at a time.
+ *
+ * @param <T> type of the elements
+ */
+@FunctionalInterface
+public interface ResultStreamHandler<T> {
+
+    /**
+     * Called for every element of the streamed array, in order, while the response is read.
+     *
+     * @param element the element
+     * @throws IOException to stop reading the response
+     */
+    void onElement(T element) throws IOException;
+
+    /**
+     * Called once the response is read, with the other fields of the result object, e.g. the header of a block
+     * whose transactions were streamed. It is not called if the result is an array or null.
+     *
+     * @param fields the fields of the result object except the streamed array
+     * @throws IOException to report an error
+     */
+    default void onFields(JsonNode fields) throws IOException {
+    }
+}
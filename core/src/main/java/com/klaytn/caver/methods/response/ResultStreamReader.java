@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a JSON-RPC response incrementally, handing the elements of an array in its result to a
+ * {@link ResultStreamHandler} as soon as each one is parsed. Only one element is held in memory at a time,
+ * so neither the response body nor the whole list of e.g. receipts or transactions of a block is materialized.
+ */
+public class ResultStreamReader {
+
+    private final ObjectMapper objectMapper;
+
+    public ResultStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads a JSON-RPC response.
+     *
+     * @param inputStream response body. It is not closed.
+     * @param arrayField  field of the result object holding the streamed array, e.g. "transactions" for a block,
+     *                    or null if the result itself is the array, e.g. for klay_getBlockReceipts
+     * @param elementType type the elements are deserialized into
+     * @param handler     handler receiving the elements
+     * @param <T>         type of the elements
+     * @return the JSON-RPC error of the response, or null if there was none
+     * @throws IOException if the response could not be read or the handler failed
+     */
+    public <T> Response.Error read(InputStream inputStream, String arrayField, Class<T> elementType,
+                                   ResultStreamHandler<T> handler) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid JSON-RPC response");
+            }
+
+            Response.Error error = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (name.equals("result") && token != JsonToken.VALUE_NULL) {
+                    readResult(parser, arrayField, elementType, handler);
+                } else if (name.equals("error") && token != JsonToken.VALUE_NULL) {
+                    error = objectMapper.readValue(parser, Response.Error.class);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return error;
+        }
+    }
+
+    private <T> void readResult(JsonParser parser, String arrayField, Class<T> elementType,
+                                ResultStreamHandler<T> handler) throws IOException {
+        if (arrayField == null) {
+            readArray(parser, elementType, handler);
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an object result, but got " + parser.getCurrentToken());
+        }
+
+        ObjectNode fields = objectMapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (name.equals(arrayField)) {
+                readArray(parser, elementType, handler);
+            } else {
+                fields.set(name, objectMapper.<JsonNode>readTree(parser));
+            }
+        }
+        handler.onFields(fields);
+    }
+
+    private <T> void readArray(JsonParser parser, Class<T> elementType, ResultStreamHandler<T> handler)
+            throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected an array, but got " + parser.getCurrentToken());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.onElement(objectMapper.readValue(parser, elementType));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response.compact;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransaction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact form of {@link KlayBlock.Block}. Quantities are parsed once into primitives, and hashes and
+ * addresses are kept as byte arrays. The returned arrays are not copied and must not be modified.
+ * <p>
+ * Only the fields identifying the block and its transactions are kept. The roots, logs bloom, extra data,
+ * governance and vote data are not; use the full block when they are needed.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class CompactBlock {
+
+    private static final CompactTransaction[] NO_TRANSACTIONS = new CompactTransaction[0];
+
+    private final long number;
+    private final byte[] hash;
+    private final byte[] parentHash;
+    private final long gasUsed;
+    private final long size;
+    private final long timestamp;
+    private final int timestampFoS;
+    private final byte[] reward;
+    private final byte[][] transactionHashes;
+    private final CompactTransaction[] transactions;
+
+    /**
+     * @param transactions hashes as byte arrays, or {@link CompactTransaction}s when the block
+     *                     was requested with full transaction objects
+     */
+    @JsonCreator
+    public CompactBlock(
+            @JsonProperty("number") String number,
+            @JsonProperty("hash") String hash,
+            @JsonProperty("parentHash") String parentHash,
+            @JsonProperty("gasUsed") String gasUsed,
+            @JsonProperty("size") String size,
+            @JsonProperty("timestamp") String timestamp,
+            @JsonProperty("timestampFoS") String timestampFoS,
+            @JsonProperty("reward") String reward,
+            @JsonProperty("transactions") @JsonDeserialize(using = TransactionsDeserializer.class)
+                    List<Object> transactions) {
+        this.number = CompactValues.toLong(number);
+        this.hash = CompactValues.toBytes(hash);
+        this.parentHash = CompactValues.toBytes(parentHash);
+        this.gasUsed = CompactValues.toLong(gasUsed);
+        this.size = CompactValues.toLong(size);
+        this.timestamp = CompactValues.toLong(timestamp);
+        this.timestampFoS = CompactValues.toInt(timestampFoS);
+        this.reward = CompactValues.toBytes(reward);
+
+        int count = transactions != null ? transactions.size() : 0;
+        boolean full = count > 0 && transactions.get(0) instanceof CompactTransaction;
+        this.transactionHashes = count > 0 ? new byte[count][] : CompactValues.EMPTY_BYTES_ARRAY;
+        this.transactions = full ? new CompactTransaction[count] : NO_TRANSACTIONS;
+        for (int i = 0; i < count; i++) {
+            Object transaction = transactions.get(i);
+            if (full) {
+                this.transactions[i] = (CompactTransaction) transaction;
+                this.transactionHashes[i] = this.transactions[i].getHash();
+            } else {
+                this.transactionHashes[i] = (byte[]) transaction;
+            }
+        }
+    }
+
+    public static CompactBlock from(KlayBlock.Block<?> block) {
+        List<?> transactions = block.getTransactions();
+        List<Object> compactTransactions = null;
+        if (transactions != null) {
+            compactTransactions = new ArrayList<>(transactions.size());
+            for (Object transaction : transactions) {
+                if (transaction instanceof KlayTransaction.Transaction) {
+                    compactTransactions.add(CompactTransaction.from((KlayTransaction.Transaction) transaction));
+                } else {
+                    compactTransactions.add(CompactValues.toBytes((String) transaction));
+                }
+            }
+        }
+        return new CompactBlock(block.getNumber(), block.getHash(), block.getParentHash(), block.getGasUsed(),
+                block.getSize(), block.getTimestamp(), block.getTimestampFoS(), block.getReward(),
+                compactTransactions);
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public byte[] getHash() {
+        return hash;
+    }
+
+    public byte[] getParentHash() {
+        return parentHash;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the unix timestamp in seconds for when the block was created
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the fraction of a second of the timestamp
+     */
+    public int getTimestampFoS() {
+        return timestampFoS;
+    }
+
+    /**
+     * @return address of the beneficiary of the block reward
+     */
+    public byte[] getReward() {
+        return reward;
+    }
+
+    public List<byte[]> getTransactionHashes() {
+        return Collections.unmodifiableList(Arrays.asList(transactionHashes));
+    }
+
+    /**
+     * @return the transactions of the block, or an empty list if the block was requested with hashes only
+     */
+    public List<CompactTransaction> getTransactions() {
+        return Collections.unmodifiableList(Arrays.asList(transactions));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactBlock)) {
+            return false;
+        }
+
+        CompactBlock that = (CompactBlock) o;
+
+        return number == that.number
+                && gasUsed == that.gasUsed
+                && size == that.size
+                && timestamp == that.timestamp
+                && timestampFoS == that.timestampFoS
+                && Arrays.equals(hash, that.hash)
+                && Arrays.equals(parentHash, that.parentHash)
+                && Arrays.equals(reward, that.reward)
+                && Arrays.deepEquals(transactionHashes, that.transactionHashes)
+                && Arrays.equals(transactions, that.transactions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(hash);
+    }
+
+    /**
+     * Reads the transactions one by one, as hash byte arrays or {@link CompactTransaction}s.
+     */
+    static class TransactionsDeserializer extends JsonDeserializer<List<Object>> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<Object> deserialize(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+
+            if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+                return (List<Object>) deserializationContext.handleUnexpectedToken(List.class, jsonParser);
+            }
+
+            List<Object> transactions = new ArrayList<>();
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_STRING) {
+                    transactions.add(CompactValues.toBytes(jsonParser.getText()));
+                } else {
+                    transactions.add(jsonParser.readValueAs(CompactTransaction.class));
+                }
+            }
+            return transactions;
+        }
+    }
+}
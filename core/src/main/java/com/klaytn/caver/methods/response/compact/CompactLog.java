@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response.compact;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.klaytn.caver.methods.response.KlayLogs;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact form of {@link KlayLogs.Log}. Quantities are parsed once into primitives and hashes, addresses
+ * and data are kept as byte arrays. The returned arrays are not copied and must not be modified.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class CompactLog {
+
+    private final int logIndex;
+    private final int transactionIndex;
+    private final byte[] transactionHash;
+    private final byte[] blockHash;
+    private final long blockNumber;
+    private final byte[] address;
+    private final byte[] data;
+    private final byte[][] topics;
+
+    @JsonCreator
+    public CompactLog(
+            @JsonProperty("logIndex") String logIndex,
+            @JsonProperty("transactionIndex") String transactionIndex,
+            @JsonProperty("transactionHash") String transactionHash,
+            @JsonProperty("blockHash") String blockHash,
+            @JsonProperty("blockNumber") String blockNumber,
+            @JsonProperty("address") String address,
+            @JsonProperty("data") String data,
+            @JsonProperty("topics") List<String> topics) {
+        this(CompactValues.toInt(logIndex),
+                CompactValues.toInt(transactionIndex),
+                CompactValues.toBytes(transactionHash),
+                CompactValues.toBytes(blockHash),
+                CompactValues.toLong(blockNumber),
+                CompactValues.toBytes(address),
+                CompactValues.toBytes(data),
+                CompactValues.toBytes(topics));
+    }
+
+    private CompactLog(int logIndex, int transactionIndex, byte[] transactionHash, byte[] blockHash,
+                       long blockNumber, byte[] address, byte[] data, byte[][] topics) {
+        this.logIndex = logIndex;
+        this.transactionIndex = transactionIndex;
+        this.transactionHash = transactionHash;
+        this.blockHash = blockHash;
+        this.blockNumber = blockNumber;
+        this.address = address;
+        this.data = data;
+        this.topics = topics;
+    }
+
+    public static CompactLog from(KlayLogs.Log log) {
+        return new CompactLog(log.getLogIndexRaw(), log.getTransactionIndexRaw(), log.getTransactionHash(),
+                log.getBlockHash(), log.getBlockNumberRaw(), log.getAddress(), log.getData(), log.getTopics());
+    }
+
+    /**
+     * Returns this log referring to the given hash arrays instead of its own copies when they are equal,
+     * so that the logs of a receipt do not each hold the hashes of the receipt.
+     */
+    CompactLog share(byte[] transactionHash, byte[] blockHash) {
+        byte[] sharedTransactionHash =
+                Arrays.equals(this.transactionHash, transactionHash) ? transactionHash : this.transactionHash;
+        byte[] sharedBlockHash = Arrays.equals(this.blockHash, blockHash) ? blockHash : this.blockHash;
+        if (sharedTransactionHash == this.transactionHash && sharedBlockHash == this.blockHash) {
+            return this;
+        }
+        return new CompactLog(logIndex, transactionIndex, sharedTransactionHash, sharedBlockHash,
+                blockNumber, address, data, topics);
+    }
+
+    /**
+     * @return the log index position in the block, or -1 for a pending log
+     */
+    public int getLogIndex() {
+        return logIndex;
+    }
+
+    /**
+     * @return the index position of the transaction in the block, or -1 for a pending log
+     */
+    public int getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getTransactionHash() {
+        return transactionHash;
+    }
+
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    /**
+     * @return the number of the block where this log was in, or -1 for a pending log
+     */
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public byte[] getAddress() {
+        return address;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public List<byte[]> getTopics() {
+        return Arrays.asList(topics);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactLog)) {
+            return false;
+        }
+
+        CompactLog that = (CompactLog) o;
+
+        return logIndex == that.logIndex
+                && transactionIndex == that.transactionIndex
+                && blockNumber == that.blockNumber
+                && Arrays.equals(transactionHash, that.transactionHash)
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(address, that.address)
+                && Arrays.equals(data, that.data)
+                && Arrays.deepEquals(topics, that.topics);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = logIndex;
+        result = 31 * result + transactionIndex;
+        result = 31 * result + Arrays.hashCode(transactionHash);
+        result = 31 * result + Arrays.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Arrays.hashCode(address);
+        result = 31 * result + Arrays.hashCode(data);
+        result = 31 * result + Arrays.deepHashCode(topics);
+        return result;
+    }
+}
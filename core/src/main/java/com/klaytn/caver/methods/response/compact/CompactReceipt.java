@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response.compact;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact form of {@link KlayTransactionReceipt.TransactionReceipt}, for holding a large number of receipts
+ * in memory. Quantities are parsed once into primitives, and hashes and addresses are kept as byte arrays.
+ * The returned arrays are not copied and must not be modified.
+ * <p>
+ * The input, signatures, logs bloom and type name are not kept; use the full receipt when they are needed.
+ * The logs share the transaction and block hash arrays of the receipt.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class CompactReceipt {
+
+    private static final CompactLog[] NO_LOGS = new CompactLog[0];
+
+    private final byte[] blockHash;
+    private final long blockNumber;
+    private final byte[] contractAddress;
+    private final byte[] feePayer;
+    private final int feeRatio;
+    private final byte[] from;
+    private final long gas;
+    private final long gasPrice;
+    private final long gasUsed;
+    private final CompactLog[] logs;
+    private final long nonce;
+    private final byte[] senderTxHash;
+    private final int status;
+    private final byte[] to;
+    private final int transactionIndex;
+    private final byte[] transactionHash;
+    private final int txError;
+    private final int typeInt;
+    private final BigInteger value;
+
+    @JsonCreator
+    public CompactReceipt(
+            @JsonProperty("blockHash") String blockHash,
+            @JsonProperty("blockNumber") String blockNumber,
+            @JsonProperty("contractAddress") String contractAddress,
+            @JsonProperty("feePayer") String feePayer,
+            @JsonProperty("feeRatio") String feeRatio,
+            @JsonProperty("from") String from,
+            @JsonProperty("gas") String gas,
+            @JsonProperty("gasPrice") String gasPrice,
+            @JsonProperty("gasUsed") String gasUsed,
+            @JsonProperty("logs") List<CompactLog> logs,
+            @JsonProperty("nonce") String nonce,
+            @JsonProperty("senderTxHash") String senderTxHash,
+            @JsonProperty("status") String status,
+            @JsonProperty("to") String to,
+            @JsonProperty("transactionIndex") String transactionIndex,
+            @JsonProperty("transactionHash") String transactionHash,
+            @JsonProperty("txError") String txError,
+            @JsonProperty("typeInt") String typeInt,
+            @JsonProperty("value") String value) {
+        this.blockHash = CompactValues.toBytes(blockHash);
+        this.blockNumber = CompactValues.toLong(blockNumber);
+        this.contractAddress = CompactValues.toBytes(contractAddress);
+        this.feePayer = CompactValues.toBytes(feePayer);
+        this.feeRatio = feeRatio != null ? CompactValues.toInt(feeRatio) : 0;
+        this.from = CompactValues.toBytes(from);
+        this.gas = CompactValues.toLong(gas);
+        this.gasPrice = CompactValues.toLong(gasPrice);
+        this.gasUsed = CompactValues.toLong(gasUsed);
+        this.nonce = CompactValues.toLong(nonce);
+        this.senderTxHash = CompactValues.toBytes(senderTxHash);
+        this.status = CompactValues.toInt(status);
+        this.to = CompactValues.toBytes(to);
+        this.transactionIndex = CompactValues.toInt(transactionIndex);
+        this.transactionHash = CompactValues.toBytes(transactionHash);
+        this.txError = txError != null ? CompactValues.toInt(txError) : 0;
+        this.typeInt = CompactValues.toInt(typeInt);
+        this.value = CompactValues.toBigInteger(value);
+        this.logs = shareHashes(logs, this.transactionHash, this.blockHash);
+    }
+
+    public static CompactReceipt from(KlayTransactionReceipt.TransactionReceipt receipt) {
+        List<CompactLog> logs = null;
+        if (receipt.getLogs() != null) {
+            logs = new ArrayList<>(receipt.getLogs().size());
+            for (KlayLogs.Log log : receipt.getLogs()) {
+                logs.add(CompactLog.from(log));
+            }
+        }
+        return new CompactReceipt(receipt.getBlockHash(), receipt.getBlockNumber(),
+                receipt.getContractAddress(), receipt.getFeePayer(), receipt.getFeeRatio(), receipt.getFrom(),
+                receipt.getGas(), receipt.getGasPrice(), receipt.getGasUsed(), logs, receipt.getNonce(),
+                receipt.getSenderTxHash(), receipt.getStatus(), receipt.getTo(), receipt.getTransactionIndex(),
+                receipt.getTransactionHash(), receipt.getTxError(), receipt.getTypeInt(), receipt.getValue());
+    }
+
+    private static CompactLog[] shareHashes(List<CompactLog> logs, byte[] transactionHash, byte[] blockHash) {
+        if (logs == null || logs.isEmpty()) {
+            return NO_LOGS;
+        }
+        CompactLog[] result = new CompactLog[logs.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = logs.get(i).share(transactionHash, blockHash);
+        }
+        return result;
+    }
+
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * @return address of the deployed contract, or null if the transaction did not deploy a contract
+     */
+    public byte[] getContractAddress() {
+        return contractAddress;
+    }
+
+    /**
+     * @return address of the fee payer, or null if the transaction is not fee delegated
+     */
+    public byte[] getFeePayer() {
+        return feePayer;
+    }
+
+    /**
+     * @return the ratio of the fee paid by the fee payer, or 0 if the transaction is not partially fee delegated
+     */
+    public int getFeeRatio() {
+        return feeRatio;
+    }
+
+    public byte[] getFrom() {
+        return from;
+    }
+
+    public long getGas() {
+        return gas;
+    }
+
+    public long getGasPrice() {
+        return gasPrice;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public List<CompactLog> getLogs() {
+        return logs.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(logs));
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    public byte[] getSenderTxHash() {
+        return senderTxHash;
+    }
+
+    /**
+     * @return 1 if the transaction succeeded, 0 if it failed
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isStatusOK() {
+        return status == 1;
+    }
+
+    /**
+     * @return address of the receiver, or null for a contract deployment
+     */
+    public byte[] getTo() {
+        return to;
+    }
+
+    public int getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getTransactionHash() {
+        return transactionHash;
+    }
+
+    /**
+     * @return the error code of a failed transaction, or 0 if it succeeded
+     */
+    public int getTxError() {
+        return txError;
+    }
+
+    public int getTypeInt() {
+        return typeInt;
+    }
+
+    /**
+     * @return the value transferred in peb, or null if the transaction type has no value
+     */
+    public BigInteger getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactReceipt)) {
+            return false;
+        }
+
+        CompactReceipt that = (CompactReceipt) o;
+
+        return blockNumber == that.blockNumber
+                && feeRatio == that.feeRatio
+                && gas == that.gas
+                && gasPrice == that.gasPrice
+                && gasUsed == that.gasUsed
+                && nonce == that.nonce
+                && status == that.status
+                && transactionIndex == that.transactionIndex
+                && txError == that.txError
+                && typeInt == that.typeInt
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(contractAddress, that.contractAddress)
+                && Arrays.equals(feePayer, that.feePayer)
+                && Arrays.equals(from, that.from)
+                && Arrays.equals(logs, that.logs)
+                && Arrays.equals(senderTxHash, that.senderTxHash)
+                && Arrays.equals(to, that.to)
+                && Arrays.equals(transactionHash, that.transactionHash)
+                && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(transactionHash);
+    }
+}
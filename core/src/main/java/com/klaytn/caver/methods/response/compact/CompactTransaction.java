@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response.compact;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.klaytn.caver.methods.response.KlayTransaction;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact form of {@link KlayTransaction.Transaction}. Quantities are parsed once into primitives, and hashes,
+ * addresses and input are kept as byte arrays. The returned arrays are not copied and must not be modified.
+ * <p>
+ * Signatures and the type name are not kept; the type is identified by {@link #getTypeInt()}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class CompactTransaction {
+
+    private final byte[] blockHash;
+    private final long blockNumber;
+    private final byte[] from;
+    private final long gas;
+    private final long gasPrice;
+    private final byte[] hash;
+    private final byte[] input;
+    private final long nonce;
+    private final byte[] senderTxHash;
+    private final byte[] to;
+    private final int transactionIndex;
+    private final int typeInt;
+    private final BigInteger value;
+
+    @JsonCreator
+    public CompactTransaction(
+            @JsonProperty("blockHash") String blockHash,
+            @JsonProperty("blockNumber") String blockNumber,
+            @JsonProperty("from") String from,
+            @JsonProperty("gas") String gas,
+            @JsonProperty("gasPrice") String gasPrice,
+            @JsonProperty("hash") String hash,
+            @JsonProperty("input") String input,
+            @JsonProperty("nonce") String nonce,
+            @JsonProperty("senderTxHash") String senderTxHash,
+            @JsonProperty("to") String to,
+            @JsonProperty("transactionIndex") String transactionIndex,
+            @JsonProperty("typeInt") String typeInt,
+            @JsonProperty("value") String value) {
+        this.blockHash = CompactValues.toBytes(blockHash);
+        this.blockNumber = CompactValues.toLong(blockNumber);
+        this.from = CompactValues.toBytes(from);
+        this.gas = CompactValues.toLong(gas);
+        this.gasPrice = CompactValues.toLong(gasPrice);
+        this.hash = CompactValues.toBytes(hash);
+        this.input = CompactValues.toBytes(input);
+        this.nonce = CompactValues.toLong(nonce);
+        this.senderTxHash = CompactValues.toBytes(senderTxHash);
+        this.to = CompactValues.toBytes(to);
+        this.transactionIndex = CompactValues.toInt(transactionIndex);
+        this.typeInt = CompactValues.toInt(typeInt);
+        this.value = CompactValues.toBigInteger(value);
+    }
+
+    public static CompactTransaction from(KlayTransaction.Transaction transaction) {
+        return new CompactTransaction(transaction.getBlockHash(), transaction.getBlockNumber(),
+                transaction.getFrom(), transaction.getGas(), transaction.getGasPrice(), transaction.getHash(),
+                transaction.getInput(), transaction.getNonce(), transaction.getSenderTxHash(), transaction.getTo(),
+                transaction.getTransactionIndex(), transaction.getTypeInt(), transaction.getValue());
+    }
+
+    /**
+     * @return hash of the block where this transaction was in, or null when it is pending
+     */
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    /**
+     * @return the number of the block where this transaction was in, or -1 when it is pending
+     */
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public byte[] getFrom() {
+        return from;
+    }
+
+    public long getGas() {
+        return gas;
+    }
+
+    public long getGasPrice() {
+        return gasPrice;
+    }
+
+    public byte[] getHash() {
+        return hash;
+    }
+
+    public byte[] getInput() {
+        return input;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    public byte[] getSenderTxHash() {
+        return senderTxHash;
+    }
+
+    /**
+     * @return address of the receiver, or null for a contract deployment
+     */
+    public byte[] getTo() {
+        return to;
+    }
+
+    /**
+     * @return the index position of this transaction in the block, or -1 when it is pending
+     */
+    public int getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public int getTypeInt() {
+        return typeInt;
+    }
+
+    /**
+     * @return the value transferred in peb, or null if the transaction type has no value
+     */
+    public BigInteger getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactTransaction)) {
+            return false;
+        }
+
+        CompactTransaction that = (CompactTransaction) o;
+
+        return blockNumber == that.blockNumber
+                && gas == that.gas
+                && gasPrice == that.gasPrice
+                && nonce == that.nonce
+                && transactionIndex == that.transactionIndex
+                && typeInt == that.typeInt
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(from, that.from)
+                && Arrays.equals(hash, that.hash)
+                && Arrays.equals(input, that.input)
+                && Arrays.equals(senderTxHash, that.senderTxHash)
+                && Arrays.equals(to, that.to)
+                && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(hash);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.methods.response.compact;
+
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Conversions from the hex strings returned by a node to the primitive and byte array fields of the compact model.
+ */
+final class CompactValues {
+
+    static final byte[][] EMPTY_BYTES_ARRAY = new byte[0][];
+
+    /**
+     * Quantities up to 15 hex digits are parsed directly, as they can never overflow a long.
+     */
+    private static final int MAX_DIRECT_HEX_LENGTH = 2 + 15;
+
+    private CompactValues() {
+    }
+
+    /**
+     * @param quantity hex quantity, or a decimal number for fields a node returns as JSON numbers
+     * @return the parsed value, or -1 if the quantity is null
+     * @throws ArithmeticException if the value does not fit in a long
+     */
+    static long toLong(String quantity) {
+        if (quantity == null) {
+            return -1;
+        }
+        if (!quantity.startsWith("0x")) {
+            return Long.parseLong(quantity);
+        }
+        if (quantity.length() > 2 && quantity.length() <= MAX_DIRECT_HEX_LENGTH) {
+            return Long.parseLong(quantity.substring(2), 16);
+        }
+        return Numeric.decodeQuantity(quantity).longValueExact();
+    }
+
+    static int toInt(String quantity) {
+        return Math.toIntExact(toLong(quantity));
+    }
+
+    static BigInteger toBigInteger(String quantity) {
+        if (quantity == null) {
+            return null;
+        }
+        if (quantity.length() > 2 && quantity.length() <= MAX_DIRECT_HEX_LENGTH) {
+            return BigInteger.valueOf(toLong(quantity));
+        }
+        return Numeric.decodeQuantity(quantity);
+    }
+
+    static byte[] toBytes(String data) {
+        return data != null ? Numeric.hexStringToByteArray(data) : null;
+    }
+
+    static byte[][] toBytes(List<String> data) {
+        if (data == null || data.isEmpty()) {
+            return EMPTY_BYTES_ARRAY;
+        }
+        byte[][] result = new byte[data.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toBytes(data.get(i));
+        }
+        return result;
+    }
+}
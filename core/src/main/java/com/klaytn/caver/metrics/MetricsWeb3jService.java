@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.http.ResponseSizeInterceptor;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Web3jService recording the latency, payload sizes and errors of every JSON-RPC request sent through it
+ * into an {@link RpcMetrics}, in front of another service.
+ * <pre>
+ * SimpleRpcMetrics metrics = new SimpleRpcMetrics();
+ * Caver caver = Caver.build(new MetricsWeb3jService(new HttpServiceBuilder(url).build(), metrics));
+ * </pre>
+ * {@link com.klaytn.caver.Caver#build(String, RpcMetrics)} builds the same over HTTP.
+ * The request size is measured by serializing the request once more into a byte counter.
+ * The response size is the number of bytes received, counted by a {@link ResponseSizeInterceptor} of the wrapped
+ * HTTP service. Without one, it is only known when the wrapped service keeps the raw responses,
+ * see {@link com.klaytn.caver.http.HttpServiceBuilder#setIncludeRawResponses(boolean)}.
+ * Every request of a batch is recorded on its own, with the round-trip time of the whole batch and an unknown
+ * response size.
+ * Subscriptions are passed through without being recorded.
+ */
+public class MetricsWeb3jService implements BatchWeb3jService {
+
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final Web3jService web3jService;
+    private final RpcMetrics rpcMetrics;
+    private final ResponseSizeInterceptor responseSizes;
+
+    public MetricsWeb3jService(Web3jService web3jService, RpcMetrics rpcMetrics) {
+        this(web3jService, rpcMetrics, null);
+    }
+
+    /**
+     * @param web3jService  HTTP service whose client runs {@code responseSizes} as a network interceptor
+     * @param rpcMetrics    metrics of the requests
+     * @param responseSizes interceptor counting the bytes of the responses, or null
+     */
+    public MetricsWeb3jService(Web3jService web3jService, RpcMetrics rpcMetrics, ResponseSizeInterceptor responseSizes) {
+        this.web3jService = web3jService;
+        this.rpcMetrics = rpcMetrics;
+        this.responseSizes = responseSizes;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        long requestSize = getSize(request);
+        takeResponseSize();
+        long startTime = System.nanoTime();
+        try {
+            T response = web3jService.send(request, responseType);
+            onResponse(request, response, System.nanoTime() - startTime, requestSize, takeResponseSize());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            rpcMetrics.onFailure(request.getMethod(), System.nanoTime() - startTime, requestSize, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        if (responseSizes != null) {
+            // The response is read on the thread sending the request, which must be the one taking its size.
+            return Async.run(() -> send(request, responseType));
+        }
+
+        long requestSize = getSize(request);
+        long startTime = System.nanoTime();
+        CompletableFuture<T> result = web3jService.sendAsync(request, responseType);
+        result.whenComplete((response, throwable) -> {
+            long duration = System.nanoTime() - startTime;
+            if (throwable != null) {
+                rpcMetrics.onFailure(request.getMethod(), duration, requestSize, unwrap(throwable));
+            } else {
+                onResponse(request, response, duration, requestSize, -1);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (!(web3jService instanceof BatchWeb3jService)) {
+            // Sent through this service, so that every request is measured on its own.
+            return BatchRequest.sendSequentially(this, batchRequest);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            BatchResponse batchResponse = ((BatchWeb3jService) web3jService).sendBatch(batchRequest);
+            onBatchResponse(batchResponse, System.nanoTime() - startTime);
+            return batchResponse;
+        } catch (IOException | RuntimeException e) {
+            onBatchFailure(batchRequest, System.nanoTime() - startTime, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (!(web3jService instanceof BatchWeb3jService)) {
+            return Async.run(() -> sendBatch(batchRequest));
+        }
+
+        long startTime = System.nanoTime();
+        CompletableFuture<BatchResponse> result = ((BatchWeb3jService) web3jService).sendBatchAsync(batchRequest);
+        result.whenComplete((batchResponse, throwable) -> {
+            long duration = System.nanoTime() - startTime;
+            if (throwable != null) {
+                onBatchFailure(batchRequest, duration, unwrap(throwable));
+            } else {
+                onBatchResponse(batchResponse, duration);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        web3jService.close();
+    }
+
+    public RpcMetrics getRpcMetrics() {
+        return rpcMetrics;
+    }
+
+    private void onResponse(Request<?, ?> request, Response<?> response, long duration, long requestSize,
+                            long responseSize) {
+        String rawResponse = response.getRawResponse();
+        if (responseSize < 0 && rawResponse != null) {
+            responseSize = getUtf8Size(rawResponse);
+        }
+        rpcMetrics.onResponse(request.getMethod(), duration, requestSize, responseSize, response.getError());
+    }
+
+    private void onBatchResponse(BatchResponse batchResponse, long duration) {
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<Response<?>> responses = batchResponse.getResponses();
+        for (int i = 0; i < requests.size(); i++) {
+            onResponse(requests.get(i), responses.get(i), duration, getSize(requests.get(i)), -1);
+        }
+    }
+
+    private void onBatchFailure(BatchRequest batchRequest, long duration, Throwable cause) {
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            rpcMetrics.onFailure(request.getMethod(), duration, getSize(request), cause);
+        }
+    }
+
+    private static long getSize(Request<?, ?> request) {
+        ByteCounter counter = new ByteCounter();
+        try {
+            objectMapper.writeValue(counter, request);
+            return counter.count;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private long takeResponseSize() {
+        return responseSizes != null ? responseSizes.takeLastResponseSize() : -1;
+    }
+
+    private static long getUtf8Size(String value) {
+        long size = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+    }
+
+    private static class ByteCounter extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.metrics;
+
+import org.web3j.protocol.core.Response;
+
+/**
+ * Receives the outcome of every JSON-RPC request sent through a {@link MetricsWeb3jService},
+ * to be exported to a monitoring system.
+ * <p>
+ * Implementations are called on the threads sending the requests or completing their responses and must not block.
+ */
+public interface RpcMetrics {
+
+    /**
+     * Called when the node answered a request, successfully or with a JSON-RPC error.
+     *
+     * @param method        JSON-RPC method, e.g. klay_call
+     * @param durationNanos round-trip time in nanoseconds
+     * @param requestSize   size of the serialized request in bytes, or -1 if unknown
+     * @param responseSize  size of the response in bytes, or -1 if unknown
+     * @param error         error returned by the node, or null if the request succeeded
+     */
+    void onResponse(String method, long durationNanos, long requestSize, long responseSize, Response.Error error);
+
+    /**
+     * Called when a request could not be sent or its response could not be read.
+     *
+     * @param method        JSON-RPC method, e.g. klay_call
+     * @param durationNanos time in nanoseconds until the request failed
+     * @param requestSize   size of the serialized request in bytes, or -1 if unknown
+     * @param cause         the failure, usually an IOException
+     */
+    void onFailure(String method, long durationNanos, long requestSize, Throwable cause);
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.metrics;
+
+import org.web3j.protocol.core.Response;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RpcMetrics keeping the measurements of every JSON-RPC method in memory: request count, latency histogram,
+ * request and response sizes, and failures keyed by JSON-RPC error code (e.g. "-32000") or, for requests
+ * which got no response, by exception class name (e.g. "SocketTimeoutException").
+ * <pre>
+ * SimpleRpcMetrics metrics = new SimpleRpcMetrics();
+ * Caver caver = Caver.build(url, metrics);
+ * ...
+ * MethodSnapshot call = metrics.getSnapshot().get("klay_call");
+ * </pre>
+ */
+public class SimpleRpcMetrics implements RpcMetrics {
+
+    private final ConcurrentMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void onResponse(String method, long durationNanos, long requestSize, long responseSize,
+                           Response.Error error) {
+        MethodMetrics metrics = getMethodMetrics(method);
+        metrics.record(durationNanos, requestSize);
+        if (responseSize >= 0) {
+            metrics.responseBytes.add(responseSize);
+            metrics.sizedResponseCount.increment();
+        }
+        if (error != null) {
+            metrics.recordError(String.valueOf(error.getCode()));
+        }
+    }
+
+    @Override
+    public void onFailure(String method, long durationNanos, long requestSize, Throwable cause) {
+        MethodMetrics metrics = getMethodMetrics(method);
+        metrics.record(durationNanos, requestSize);
+        metrics.recordError(SimpleTransactionMetrics.getErrorKey(cause));
+    }
+
+    /**
+     * Returns the latencies of the requests of a method, e.g. to read percentiles not in the snapshot.
+     *
+     * @param method JSON-RPC method
+     * @return histogram of the latencies, empty if the method was never called
+     */
+    public LatencyHistogram getLatency(String method) {
+        MethodMetrics metrics = methods.get(method);
+        return metrics != null ? metrics.latency : new LatencyHistogram();
+    }
+
+    /**
+     * Returns the current values of every method called so far.
+     *
+     * @return snapshots keyed by JSON-RPC method, in alphabetical order
+     */
+    public Map<String, MethodSnapshot> getSnapshot() {
+        Map<String, MethodSnapshot> snapshot = new TreeMap<>();
+        methods.forEach((method, metrics) -> snapshot.put(method, new MethodSnapshot(method, metrics)));
+        return snapshot;
+    }
+
+    private MethodMetrics getMethodMetrics(String method) {
+        MethodMetrics metrics = methods.get(method);
+        return metrics != null ? metrics : methods.computeIfAbsent(method, key -> new MethodMetrics());
+    }
+
+    private static class MethodMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder sizedRequestCount = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder sizedResponseCount = new LongAdder();
+        private final ConcurrentMap<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+        void record(long durationNanos, long requestSize) {
+            latency.record(durationNanos);
+            if (requestSize >= 0) {
+                requestBytes.add(requestSize);
+                sizedRequestCount.increment();
+            }
+        }
+
+        void recordError(String errorKey) {
+            errorCounts.computeIfAbsent(errorKey, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Values of a JSON-RPC method at the time the snapshot was taken. Latencies are in milliseconds.
+     */
+    public static class MethodSnapshot {
+        private final String method;
+        private final long count;
+        private final long errorCount;
+        private final Map<String, Long> errorCounts;
+        private final double meanLatency;
+        private final double p50Latency;
+        private final double p99Latency;
+        private final double maxLatency;
+        private final long requestBytes;
+        private final long meanRequestSize;
+        private final long responseBytes;
+        private final long meanResponseSize;
+
+        MethodSnapshot(String method, MethodMetrics metrics) {
+            this.method = method;
+            this.count = metrics.latency.getCount();
+
+            Map<String, Long> errors = new HashMap<>();
+            metrics.errorCounts.forEach((key, value) -> errors.put(key, value.sum()));
+            this.errorCounts = Collections.unmodifiableMap(errors);
+            this.errorCount = errors.values().stream().mapToLong(Long::longValue).sum();
+
+            this.meanLatency = metrics.latency.getMean(TimeUnit.MILLISECONDS);
+            this.p50Latency = metrics.latency.getPercentile(0.5, TimeUnit.MILLISECONDS);
+            this.p99Latency = metrics.latency.getPercentile(0.99, TimeUnit.MILLISECONDS);
+            this.maxLatency = metrics.latency.getMax(TimeUnit.MILLISECONDS);
+
+            this.requestBytes = metrics.requestBytes.sum();
+            this.meanRequestSize = mean(requestBytes, metrics.sizedRequestCount.sum());
+            this.responseBytes = metrics.responseBytes.sum();
+            this.meanResponseSize = mean(responseBytes, metrics.sizedResponseCount.sum());
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * @return failures keyed by JSON-RPC error code or exception class name
+         */
+        public Map<String, Long> getErrorCounts() {
+            return errorCounts;
+        }
+
+        public double getErrorRate() {
+            return count == 0 ? 0 : (double) errorCount / count;
+        }
+
+        public double getMeanLatency() {
+            return meanLatency;
+        }
+
+        public double getP50Latency() {
+            return p50Latency;
+        }
+
+        public double getP99Latency() {
+            return p99Latency;
+        }
+
+        public double getMaxLatency() {
+            return maxLatency;
+        }
+
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        public long getMeanRequestSize() {
+            return meanRequestSize;
+        }
+
+        /**
+         * @return total size of the responses whose size is known, see {@link MetricsWeb3jService}
+         */
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        public long getMeanResponseSize() {
+            return meanResponseSize;
+        }
+
+        private static long mean(long total, long samples) {
+            return samples == 0 ? 0 : total / samples;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.metrics;
+
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.type.TxType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransactionMetrics keeping the measurements in memory, in the shape of Micrometer meters:
+ * <ul>
+ *     <li>a latency histogram per stage and transaction type, see {@link #getLatency(Stage, TxType.Type)}.
+ *     The RECEIPT stage holds the time spent waiting for receipts</li>
+ *     <li>a gauge of the transactions currently in each stage, see {@link #getInFlightCount(Stage)}</li>
+ *     <li>a counter of failures per stage and error, see {@link #getErrorCounts(Stage)}. Errors returned by
+ *     the node are keyed by their JSON-RPC error code, other errors by their exception class name</li>
+ * </ul>
+ * The values can be read periodically by a reporter to publish them to a monitoring system.
+ */
+public class SimpleTransactionMetrics implements TransactionMetrics {
+
+    private final Map<Stage, ConcurrentMap<TxType.Type, LatencyHistogram>> latencies = new EnumMap<>(Stage.class);
+    private final Map<Stage, AtomicLong> inFlightCounts = new EnumMap<>(Stage.class);
+    private final Map<Stage, ConcurrentMap<String, LongAdder>> errorCounts = new EnumMap<>(Stage.class);
+
+    public SimpleTransactionMetrics() {
+        for (Stage stage : Stage.values()) {
+            latencies.put(stage, new ConcurrentHashMap<>());
+            inFlightCounts.put(stage, new AtomicLong());
+            errorCounts.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void onStageStarted(Stage stage) {
+        inFlightCounts.get(stage).incrementAndGet();
+    }
+
+    @Override
+    public void onStageCompleted(Stage stage, TxType.Type type, long durationNanos) {
+        inFlightCounts.get(stage).decrementAndGet();
+        latencies.get(stage).computeIfAbsent(type, key -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    @Override
+    public void onStageFailed(Stage stage, TxType.Type type, long durationNanos, Exception cause) {
+        inFlightCounts.get(stage).decrementAndGet();
+        errorCounts.get(stage).computeIfAbsent(getErrorKey(cause), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the latencies of the transactions of the given type which completed the stage.
+     *
+     * @param stage stage of the transactions
+     * @param type  type of the transactions
+     * @return histogram of the latencies, empty if no such transaction completed the stage
+     */
+    public LatencyHistogram getLatency(Stage stage, TxType.Type type) {
+        LatencyHistogram histogram = latencies.get(stage).get(type);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    /**
+     * Returns the latencies of every transaction type which completed the stage.
+     *
+     * @param stage stage of the transactions
+     * @return histograms keyed by transaction type
+     */
+    public Map<TxType.Type, LatencyHistogram> getLatencies(Stage stage) {
+        return Collections.unmodifiableMap(latencies.get(stage));
+    }
+
+    public long getInFlightCount(Stage stage) {
+        return inFlightCounts.get(stage).get();
+    }
+
+    /**
+     * Returns the number of failures of the stage per error, keyed by the error code returned by the node
+     * (e.g. "-32000") or by the simple class name of the exception (e.g. "IOException").
+     *
+     * @param stage stage which failed
+     * @return snapshot of the failure counts
+     */
+    public Map<String, Long> getErrorCounts(Stage stage) {
+        Map<String, Long> snapshot = new HashMap<>();
+        errorCounts.get(stage).forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    public long getErrorCount(Stage stage, String errorKey) {
+        LongAdder count = errorCounts.get(stage).get(errorKey);
+        return count != null ? count.sum() : 0;
+    }
+
+    static String getErrorKey(Throwable cause) {
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof PlatformErrorException) {
+            return String.valueOf(((PlatformErrorException) cause).getCode());
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
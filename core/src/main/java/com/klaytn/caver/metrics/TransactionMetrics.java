@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.metrics;
+
+import com.klaytn.caver.tx.type.TxType;
+
+/**
+ * Receives the duration and outcome of every stage a transaction goes through in
+ * {@link com.klaytn.caver.tx.manager.TransactionManager}, to be exported to a monitoring system.
+ * <p>
+ * Implementations are called on the threads executing the transactions and must not block.
+ */
+public interface TransactionMetrics {
+
+    enum Stage {
+        /**
+         * Reserving the nonce if needed, building and signing the transaction.
+         */
+        SIGN,
+
+        /**
+         * Sending the signed transaction until the node returned its hash.
+         */
+        SEND,
+
+        /**
+         * Waiting for the receipt in the TransactionReceiptProcessor.
+         */
+        RECEIPT
+    }
+
+    /**
+     * Called when a transaction enters a stage.
+     *
+     * @param stage stage entered
+     */
+    void onStageStarted(Stage stage);
+
+    /**
+     * Called when a transaction completed a stage.
+     *
+     * @param stage         stage completed
+     * @param type          type of the transaction
+     * @param durationNanos time spent in the stage in nanoseconds
+     */
+    void onStageCompleted(Stage stage, TxType.Type type, long durationNanos);
+
+    /**
+     * Called when a transaction failed in a stage.
+     *
+     * @param stage         stage which failed
+     * @param type          type of the transaction, or null if it failed before its type was known
+     * @param durationNanos time spent in the stage in nanoseconds
+     * @param cause         the failure, e.g. a {@link com.klaytn.caver.tx.exception.PlatformErrorException}
+     *                      carrying the error code of the node
+     */
+    void onStageFailed(Stage stage, TxType.Type type, long durationNanos, Exception cause);
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rlp;
+
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read-only view of an RLP item inside a byte array.
+ * Only the header of the item is parsed when the view is created. The items of a list are located
+ * when they are first requested, and the content of a string is copied only when it is read,
+ * so a caller reading a few fields of a large value does not pay for the rest of it.
+ */
+public class RlpReader {
+
+    private static final int OFFSET_SHORT_STRING = 0x80;
+    private static final int OFFSET_LONG_STRING = 0xb7;
+    private static final int OFFSET_SHORT_LIST = 0xc0;
+    private static final int OFFSET_LONG_LIST = 0xf7;
+
+    private final byte[] data;
+    private final int start;
+    private final int contentOffset;
+    private final int contentLength;
+    private final boolean list;
+
+    private List<RlpReader> values;
+
+    private RlpReader(byte[] data, int start, int contentOffset, int contentLength, boolean list) {
+        this.data = data;
+        this.start = start;
+        this.contentOffset = contentOffset;
+        this.contentLength = contentLength;
+        this.list = list;
+    }
+
+    /**
+     * Reads the RLP item at the start of the array.
+     *
+     * @param data RLP encoded bytes
+     * @return RlpReader
+     */
+    public static RlpReader of(byte[] data) {
+        return of(data, 0, data.length);
+    }
+
+    /**
+     * Reads the RLP item starting at the given position. The item must end before the limit.
+     *
+     * @param data     RLP encoded bytes
+     * @param position position of the first byte of the item
+     * @param limit    position after the last byte the item may use
+     * @return RlpReader
+     */
+    public static RlpReader of(byte[] data, int position, int limit) {
+        if (position >= limit) {
+            throw new IllegalArgumentException("Invalid RLP: no item at " + position);
+        }
+
+        int prefix = data[position] & 0xff;
+        RlpReader reader;
+        if (prefix < OFFSET_SHORT_STRING) {
+            reader = new RlpReader(data, position, position, 1, false);
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            reader = new RlpReader(data, position, position + 1, prefix - OFFSET_SHORT_STRING, false);
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            int lengthOfLength = prefix - OFFSET_LONG_STRING;
+            reader = new RlpReader(data, position, position + 1 + lengthOfLength,
+                    readLength(data, position + 1, lengthOfLength, limit), false);
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            reader = new RlpReader(data, position, position + 1, prefix - OFFSET_SHORT_LIST, true);
+        } else {
+            int lengthOfLength = prefix - OFFSET_LONG_LIST;
+            reader = new RlpReader(data, position, position + 1 + lengthOfLength,
+                    readLength(data, position + 1, lengthOfLength, limit), true);
+        }
+
+        if (reader.getEnd() > limit || reader.getEnd() < reader.contentOffset) {
+            throw new IllegalArgumentException("Invalid RLP: item at " + position + " exceeds the input");
+        }
+        return reader;
+    }
+
+    private static int readLength(byte[] data, int position, int lengthOfLength, int limit) {
+        if (lengthOfLength > 4 || position + lengthOfLength > limit) {
+            throw new IllegalArgumentException("Invalid RLP: length out of range at " + position);
+        }
+        int length = 0;
+        for (int i = 0; i < lengthOfLength; i++) {
+            length = (length << 8) | (data[position + i] & 0xff);
+        }
+        return length;
+    }
+
+    public boolean isList() {
+        return list;
+    }
+
+    /**
+     * Returns the position after the last byte of this item.
+     *
+     * @return end position
+     */
+    public int getEnd() {
+        return contentOffset + contentLength;
+    }
+
+    /**
+     * Returns the items of this list.
+     *
+     * @return items of the list
+     */
+    public List<RlpReader> getValues() {
+        if (!list) {
+            throw new IllegalStateException("RLP item is not a list");
+        }
+        if (values == null) {
+            List<RlpReader> items = new ArrayList<>();
+            int position = contentOffset;
+            int end = getEnd();
+            while (position < end) {
+                RlpReader item = of(data, position, end);
+                items.add(item);
+                position = item.getEnd();
+            }
+            values = Collections.unmodifiableList(items);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the item of this list at the given index.
+     *
+     * @param index index of the item
+     * @return RlpReader
+     */
+    public RlpReader get(int index) {
+        return getValues().get(index);
+    }
+
+    /**
+     * Returns the number of items of this list.
+     *
+     * @return number of items
+     */
+    public int size() {
+        return getValues().size();
+    }
+
+    /**
+     * Returns a copy of the content of this string.
+     *
+     * @return content bytes
+     */
+    public byte[] getBytes() {
+        checkString();
+        return Arrays.copyOfRange(data, contentOffset, getEnd());
+    }
+
+    /**
+     * Returns a copy of the whole encoding of this item, including its header.
+     *
+     * @return RLP encoded bytes
+     */
+    public byte[] getEncoded() {
+        return Arrays.copyOfRange(data, start, getEnd());
+    }
+
+    /**
+     * Returns the content of this string as a non-negative integer.
+     *
+     * @return BigInteger
+     */
+    public BigInteger asPositiveBigInteger() {
+        checkString();
+        if (contentLength == 0) {
+            return BigInteger.ZERO;
+        }
+        return new BigInteger(1, getBytes());
+    }
+
+    /**
+     * Returns the content of this string as a hex string with the "0x" prefix,
+     * the same as {@link RlpString#asString()}.
+     *
+     * @return hex string
+     */
+    public String asString() {
+        checkString();
+        return Numeric.toHexString(data, contentOffset, contentLength, true);
+    }
+
+    /**
+     * Builds the web3j representation of this item.
+     *
+     * @return RlpType
+     */
+    public RlpType toRlpType() {
+        if (!list) {
+            return RlpString.create(getBytes());
+        }
+        List<RlpType> rlpTypes = new ArrayList<>();
+        for (RlpReader value : getValues()) {
+            rlpTypes.add(value.toRlpType());
+        }
+        return new RlpList(rlpTypes);
+    }
+
+    private void checkString() {
+        if (list) {
+            throw new IllegalStateException("RLP item is not a string");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rlp;
+
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+
+import java.util.List;
+
+/**
+ * RLP encoder writing a whole value into a single byte array.
+ * The encoded length is computed first, and the value is then written from the end of the array to its start,
+ * so that the length of every list is known when its header is written and no intermediate array is created.
+ * The output is the same as {@link org.web3j.rlp.RlpEncoder}.
+ * Use {@link #nested(RlpType)} for a byte string holding the RLP encoding of another value, such as
+ * the encoded transaction inside SigRLP.
+ */
+public class RlpWriter {
+
+    private static final int OFFSET_SHORT_STRING = 0x80;
+    private static final int OFFSET_SHORT_LIST = 0xc0;
+    private static final int SHORT_LENGTH_LIMIT = 55;
+
+    private final byte[] buffer;
+    private int position;
+
+    private RlpWriter(int length) {
+        this.buffer = new byte[length];
+        this.position = length;
+    }
+
+    /**
+     * Encodes the value.
+     *
+     * @param value value to encode
+     * @return RLP encoding of the value
+     */
+    public static byte[] encode(RlpType value) {
+        RlpWriter writer = new RlpWriter(getEncodedLength(value));
+        writer.write(value);
+        return writer.buffer;
+    }
+
+    /**
+     * Encodes the value after the given prefix byte, as the type byte of a Klaytn transaction.
+     *
+     * @param prefix byte written before the encoding
+     * @param value  value to encode
+     * @return the prefix followed by the RLP encoding of the value
+     */
+    public static byte[] encode(byte prefix, RlpType value) {
+        RlpWriter writer = new RlpWriter(1 + getEncodedLength(value));
+        writer.write(value);
+        writer.buffer[--writer.position] = prefix;
+        return writer.buffer;
+    }
+
+    /**
+     * Returns a byte string whose content is the RLP encoding of the given value.
+     * It can only be encoded by RlpWriter.
+     *
+     * @param value value encoded as the content of the byte string
+     * @return RlpType
+     */
+    public static RlpType nested(RlpType value) {
+        return new RlpNested(value);
+    }
+
+    /**
+     * Returns a byte string whose content is the given prefix byte followed by the RLP encoding of the given value.
+     * It can only be encoded by RlpWriter.
+     *
+     * @param prefix byte written before the encoding
+     * @param value  value encoded as the content of the byte string
+     * @return RlpType
+     */
+    public static RlpType nested(byte prefix, RlpType value) {
+        return new RlpNested(prefix, value);
+    }
+
+    /**
+     * Returns the length of the RLP encoding of the value.
+     *
+     * @param value value to encode
+     * @return length in bytes
+     */
+    public static int getEncodedLength(RlpType value) {
+        if (value instanceof RlpString) {
+            byte[] bytes = ((RlpString) value).getBytes();
+            if (bytes.length == 1 && bytes[0] >= 0) {
+                return 1;
+            }
+            return getHeaderLength(bytes.length) + bytes.length;
+        }
+        if (value instanceof RlpList) {
+            int payloadLength = getPayloadLength(((RlpList) value).getValues());
+            return getHeaderLength(payloadLength) + payloadLength;
+        }
+        if (value instanceof RlpNested) {
+            RlpNested nested = (RlpNested) value;
+            if (nested.isSingleByte()) {
+                return 1;
+            }
+            int contentLength = nested.getContentLength();
+            return getHeaderLength(contentLength) + contentLength;
+        }
+        throw new IllegalArgumentException("Unsupported RLP type: " + value.getClass().getName());
+    }
+
+    private static int getPayloadLength(List<RlpType> values) {
+        int length = 0;
+        for (RlpType value : values) {
+            length += getEncodedLength(value);
+        }
+        return length;
+    }
+
+    private static int getHeaderLength(int length) {
+        if (length <= SHORT_LENGTH_LIMIT) {
+            return 1;
+        }
+        return 1 + getLengthOfLength(length);
+    }
+
+    private static int getLengthOfLength(int length) {
+        int lengthOfLength = 0;
+        while (length != 0) {
+            lengthOfLength++;
+            length >>>= 8;
+        }
+        return lengthOfLength;
+    }
+
+    private void write(RlpType value) {
+        if (value instanceof RlpString) {
+            writeString(((RlpString) value).getBytes());
+        } else if (value instanceof RlpList) {
+            List<RlpType> values = ((RlpList) value).getValues();
+            int end = position;
+            for (int i = values.size() - 1; i >= 0; i--) {
+                write(values.get(i));
+            }
+            writeHeader(end - position, OFFSET_SHORT_LIST);
+        } else if (value instanceof RlpNested) {
+            RlpNested nested = (RlpNested) value;
+            int end = position;
+            write(nested.value);
+            if (nested.hasPrefix) {
+                buffer[--position] = nested.prefix;
+            } else if (nested.isSingleByte()) {
+                return;
+            }
+            writeHeader(end - position, OFFSET_SHORT_STRING);
+        } else {
+            throw new IllegalArgumentException("Unsupported RLP type: " + value.getClass().getName());
+        }
+    }
+
+    private void writeString(byte[] bytes) {
+        if (bytes.length == 1 && bytes[0] >= 0) {
+            buffer[--position] = bytes[0];
+            return;
+        }
+        position -= bytes.length;
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        writeHeader(bytes.length, OFFSET_SHORT_STRING);
+    }
+
+    private void writeHeader(int length, int offset) {
+        if (length <= SHORT_LENGTH_LIMIT) {
+            buffer[--position] = (byte) (offset + length);
+            return;
+        }
+        int lengthOfLength = 0;
+        for (int remaining = length; remaining != 0; remaining >>>= 8) {
+            buffer[--position] = (byte) remaining;
+            lengthOfLength++;
+        }
+        buffer[--position] = (byte) (offset + SHORT_LENGTH_LIMIT + lengthOfLength);
+    }
+
+    private static class RlpNested implements RlpType {
+        private final boolean hasPrefix;
+        private final byte prefix;
+        private final RlpType value;
+
+        RlpNested(RlpType value) {
+            this.hasPrefix = false;
+            this.prefix = 0;
+            this.value = value;
+        }
+
+        RlpNested(byte prefix, RlpType value) {
+            this.hasPrefix = true;
+            this.prefix = prefix;
+            this.value = value;
+        }
+
+        /**
+         * A byte string holding a single byte below 0x80 is encoded as the byte itself.
+         * It is the case only if the nested value is such a byte, whose encoding is the byte itself.
+         */
+        boolean isSingleByte() {
+            if (hasPrefix || !(value instanceof RlpString)) {
+                return false;
+            }
+            byte[] bytes = ((RlpString) value).getBytes();
+            return bytes.length == 1 && bytes[0] >= 0;
+        }
+
+        int getContentLength() {
+            return (hasPrefix ? 1 : 0) + getEncodedLength(value);
+        }
+    }
+}
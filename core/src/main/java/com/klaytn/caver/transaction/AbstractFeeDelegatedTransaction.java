@@ -0,0 +1,336 @@
+package com.klaytn.caver.transaction;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.account.AccountKeyRoleBased;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.keyring.Keyring;
+import org.web3j.crypto.Hash;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Base class of the fee delegated transaction types.
+ * A fee delegated transaction is signed by the sender and by the fee payer, who pays the transaction fee.
+ */
+abstract public class AbstractFeeDelegatedTransaction extends AbstractTransaction {
+
+    /**
+     * The address of fee payer.
+     */
+    private String feePayer = "0x";
+
+    /**
+     * The fee payer's signature list.
+     */
+    private List<KlaySignatureData> feePayerSignatures = new ArrayList<>();
+
+    /**
+     * Represents a AbstractFeeDelegatedTransaction class builder.
+     * @param <B> An generic extends to AbstractFeeDelegatedTransaction.Builder
+     */
+    public static class Builder<B extends AbstractFeeDelegatedTransaction.Builder<B>> extends AbstractTransaction.Builder<B> {
+        private String feePayer = "0x";
+        private List<KlaySignatureData> feePayerSignatures = new ArrayList<>();
+
+        public Builder(String type) {
+            super(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        public B setFeePayer(String feePayer) {
+            if(!feePayer.equals("0x") && !Utils.isAddress(feePayer)) {
+                throw new IllegalArgumentException("Invalid address.");
+            }
+
+            this.feePayer = feePayer;
+            return (B) this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public B setFeePayerSignatures(List<KlaySignatureData> feePayerSignatures) {
+            this.feePayerSignatures.addAll(feePayerSignatures);
+            return (B) this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public B setFeePayerSignatures(KlaySignatureData feePayerSignature) {
+            this.feePayerSignatures.add(feePayerSignature);
+            return (B) this;
+        }
+    }
+
+    /**
+     * Create AbstractFeeDelegatedTransaction instance
+     * @param builder AbstractFeeDelegatedTransaction.Builder
+     */
+    public AbstractFeeDelegatedTransaction(AbstractFeeDelegatedTransaction.Builder<?> builder) {
+        super(builder);
+        this.feePayer = builder.feePayer;
+        this.feePayerSignatures = refineSignature(builder.feePayerSignatures);
+    }
+
+    /**
+     * Create AbstractFeeDelegatedTransaction instance
+     * @param klaytnCall Klay RPC instance
+     * @param type Transaction's type string
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     */
+    public AbstractFeeDelegatedTransaction(Klay klaytnCall, String type, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures) {
+        super(klaytnCall, type, from, nonce, gas, gasPrice, chainId, signatures);
+        this.feePayer = feePayer;
+        this.feePayerSignatures = refineSignature(feePayerSignatures != null ? feePayerSignatures : new ArrayList<>());
+    }
+
+    /**
+     * Signs to the transaction as a fee payer with a single private key.
+     * It sets index 0 and signer to TransactionHasher.getHashForFeePayerSignature().
+     * @param keyString The private key string.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayer(String keyString) throws IOException {
+        Keyring keyring = Keyring.createFromPrivateKey(keyString);
+        return this.signAsFeePayer(keyring, 0, TransactionHasher::getHashForFeePayerSignature);
+    }
+
+    /**
+     * Signs to the transaction as a fee payer with a single private key in the Keyring instance.
+     * It sets index 0 and signer to TransactionHasher.getHashForFeePayerSignature().
+     * @param keyring The Keyring instance.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayer(Keyring keyring) throws IOException {
+        return this.signAsFeePayer(keyring, 0, TransactionHasher::getHashForFeePayerSignature);
+    }
+
+    /**
+     * Signs to the transaction as a fee payer with a single private key in the Keyring instance.
+     * It sets signer to TransactionHasher.getHashForFeePayerSignature().
+     * @param keyring The Keyring instance.
+     * @param index The index of private key to use in Keyring instance.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayer(Keyring keyring, int index) throws IOException {
+        return this.signAsFeePayer(keyring, index, TransactionHasher::getHashForFeePayerSignature);
+    }
+
+    /**
+     * Signs to the transaction as a fee payer with a single private key in the Keyring instance.
+     * @param keyring The Keyring instance.
+     * @param index The index of private key to use in Keyring instance.
+     * @param signer The function to get hash of transaction.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayer(Keyring keyring, int index, Function<AbstractFeeDelegatedTransaction, String> signer) throws IOException {
+        setFeePayerOf(keyring);
+        this.fillTransaction();
+
+        String hash = signer.apply(this);
+        KlaySignatureData sig = keyring.signWithKey(hash, Numeric.toBigInt(this.getChainId()).intValue(), AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex(), index);
+
+        this.appendFeePayerSignatures(sig);
+
+        return this;
+    }
+
+    /**
+     * Signs to the transaction as a fee payer using all private keys in Keyring instance.
+     * It sets signer to TransactionHasher.getHashForFeePayerSignature().
+     * @param keyring The Keyring instance.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayerWithKeys(Keyring keyring) throws IOException {
+        return this.signAsFeePayerWithKeys(keyring, TransactionHasher::getHashForFeePayerSignature, null);
+    }
+
+    /**
+     * Signs to the transaction as a fee payer using all private keys in Keyring instance, signing with each key on the given executor.
+     * @param keyring The Keyring instance.
+     * @param signer The function to get hash of transaction.
+     * @param executor The executor signing with each key. If null, keys are used one after another on the calling thread.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    public AbstractFeeDelegatedTransaction signAsFeePayerWithKeys(Keyring keyring, Function<AbstractFeeDelegatedTransaction, String> signer, Executor executor) throws IOException {
+        setFeePayerOf(keyring);
+        this.fillTransaction();
+
+        String hash = signer.apply(this);
+        List<KlaySignatureData> sigList = keyring.signWithKeys(hash, Numeric.toBigInt(this.getChainId()).intValue(), AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex(), executor);
+
+        this.appendFeePayerSignatures(sigList);
+
+        return this;
+    }
+
+    /**
+     * Appends fee payer's signatures to the transaction.
+     * @param signatureData KlaySignatureData instance contains ECDSA signature data
+     */
+    public void appendFeePayerSignatures(KlaySignatureData signatureData) {
+        List<KlaySignatureData> signList = new ArrayList<>();
+        signList.add(signatureData);
+        appendFeePayerSignatures(signList);
+    }
+
+    /**
+     * Appends fee payer's signatures to the transaction.
+     * @param signatureData List of KlaySignatureData contains ECDSA signature data
+     */
+    public void appendFeePayerSignatures(List<KlaySignatureData> signatureData) {
+        List<KlaySignatureData> signList = new ArrayList<>(this.feePayerSignatures);
+        signList.addAll(signatureData);
+        this.feePayerSignatures = refineSignature(signList);
+    }
+
+    /**
+     * Combines signatures and fee payer's signatures to the transaction from RLP-encoded transaction strings.
+     * If the fee payer of the transaction is not defined, it is filled with the fee payer of the decoded transactions.
+     * @param rlpEncoded An array of RLP-encoded transaction strings.
+     * @return String
+     */
+    @Override
+    public String combineSignatures(List<String> rlpEncoded) {
+        for(String encodedStr : rlpEncoded) {
+            AbstractTransaction txObj = TransactionDecoder.decode(encodedStr);
+            if(!(txObj instanceof AbstractFeeDelegatedTransaction)) {
+                throw new RuntimeException("Transactions containing different information cannot be combined.");
+            }
+
+            AbstractFeeDelegatedTransaction feeDelegatedTx = (AbstractFeeDelegatedTransaction)txObj;
+            if(feeDelegatedTx.getFeePayer().equals("0x")) {
+                continue;
+            }
+
+            if(this.feePayer.equals("0x")) {
+                this.feePayer = feeDelegatedTx.getFeePayer();
+            }
+            if(!this.feePayer.toLowerCase().equals(feeDelegatedTx.getFeePayer().toLowerCase())) {
+                throw new RuntimeException("Transactions containing different information cannot be combined.");
+            }
+
+            this.appendFeePayerSignatures(feeDelegatedTx.getFeePayerSignatures());
+        }
+
+        return super.combineSignatures(rlpEncoded);
+    }
+
+    /**
+     * Returns a senderTxHash of transaction.
+     * The senderTxHash is the hash of the transaction without the fee payer and the fee payer's signatures.
+     * @return String
+     */
+    @Override
+    public String getSenderTxHash() {
+        byte[] rlpEncoded = Numeric.hexStringToByteArray(this.getRLPEncoding());
+        RlpReader fields = RlpReader.of(rlpEncoded, 1, rlpEncoded.length);
+
+        List<RlpReader> values = fields.getValues();
+        List<RlpType> rlpTypeList = new ArrayList<>(values.size() - 2);
+        for(int i = 0; i < values.size() - 2; i++) {
+            rlpTypeList.add(values.get(i).toRlpType());
+        }
+
+        return Numeric.toHexString(Hash.sha3(RlpWriter.encode(rlpEncoded[0], new RlpList(rlpTypeList))));
+    }
+
+    /**
+     * Returns an RLP-encoded transaction string for making fee payer's signature.
+     * @return String
+     */
+    public String getRLPEncodingForFeePayerSignature() {
+        validateOptionalValues();
+        if(this.feePayer.equals("0x")) {
+            throw new RuntimeException("feePayer is undefined. Define feePayer in transaction or sign the transaction as a fee payer.");
+        }
+
+        byte[] txRLP = Numeric.hexStringToByteArray(getCommonRLPEncodingForSignature());
+
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(txRLP));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.feePayer)));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
+        rlpTypeList.add(RlpString.create(0));
+        rlpTypeList.add(RlpString.create(0));
+        return Numeric.toHexString(RlpWriter.encode(new RlpList(rlpTypeList)));
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * If signatures are not compared, an undefined fee payer("0x") of txObj matches any fee payer,
+     * since the transaction signed only by the sender does not define the fee payer yet.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof AbstractFeeDelegatedTransaction)) return false;
+        AbstractFeeDelegatedTransaction txObj = (AbstractFeeDelegatedTransaction)obj;
+
+        boolean isFeePayerUndefined = !checkSig && txObj.getFeePayer().equals("0x");
+        if(!isFeePayerUndefined && !this.getFeePayer().toLowerCase().equals(txObj.getFeePayer().toLowerCase())) return false;
+
+        if(checkSig) {
+            List<KlaySignatureData> dataList = this.getFeePayerSignatures();
+            if(dataList.size() != txObj.getFeePayerSignatures().size()) return false;
+
+            for(int i=0; i< dataList.size(); i++) {
+                if(!dataList.get(i).equals(txObj.getFeePayerSignatures().get(i))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void setFeePayerOf(Keyring keyring) {
+        if(this.feePayer.equals("0x")) {
+            this.feePayer = keyring.getAddress();
+        }
+
+        if(!this.feePayer.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+            throw new IllegalArgumentException("The feePayer address of the transaction is different with the address of the keyring to use.");
+        }
+    }
+
+    /**
+     * Getter function for feePayer
+     * @return String
+     */
+    public String getFeePayer() {
+        return feePayer;
+    }
+
+    /**
+     * Getter function for feePayerSignatures
+     * @return List
+     */
+    public List<KlaySignatureData> getFeePayerSignatures() {
+        return feePayerSignatures;
+    }
+}
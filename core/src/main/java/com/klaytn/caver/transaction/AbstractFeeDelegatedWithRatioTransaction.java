@@ -0,0 +1,110 @@
+package com.klaytn.caver.transaction;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Base class of the fee delegated transaction types with a fee ratio.
+ * The fee payer pays the given ratio of the transaction fee and the sender pays the rest.
+ */
+abstract public class AbstractFeeDelegatedWithRatioTransaction extends AbstractFeeDelegatedTransaction {
+
+    /**
+     * Fee ratio of the fee payer. The valid range is between 1 and 99.
+     */
+    private String feeRatio;
+
+    /**
+     * Represents a AbstractFeeDelegatedWithRatioTransaction class builder.
+     * @param <B> An generic extends to AbstractFeeDelegatedWithRatioTransaction.Builder
+     */
+    public static class Builder<B extends AbstractFeeDelegatedWithRatioTransaction.Builder<B>> extends AbstractFeeDelegatedTransaction.Builder<B> {
+        private String feeRatio;
+
+        public Builder(String type) {
+            super(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        public B setFeeRatio(String feeRatio) {
+            this.feeRatio = feeRatio;
+            return (B) this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public B setFeeRatio(BigInteger feeRatio) {
+            setFeeRatio(Numeric.toHexStringWithPrefix(feeRatio));
+            return (B) this;
+        }
+    }
+
+    /**
+     * Create AbstractFeeDelegatedWithRatioTransaction instance
+     * @param builder AbstractFeeDelegatedWithRatioTransaction.Builder
+     */
+    public AbstractFeeDelegatedWithRatioTransaction(AbstractFeeDelegatedWithRatioTransaction.Builder<?> builder) {
+        super(builder);
+        setFeeRatio(builder.feeRatio);
+    }
+
+    /**
+     * Create AbstractFeeDelegatedWithRatioTransaction instance
+     * @param klaytnCall Klay RPC instance
+     * @param type Transaction's type string
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param feeRatio Fee ratio of the fee payer.
+     */
+    public AbstractFeeDelegatedWithRatioTransaction(Klay klaytnCall, String type, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String feeRatio) {
+        super(klaytnCall, type, from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures);
+        setFeeRatio(feeRatio);
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof AbstractFeeDelegatedWithRatioTransaction)) return false;
+        AbstractFeeDelegatedWithRatioTransaction txObj = (AbstractFeeDelegatedWithRatioTransaction)obj;
+
+        if(!Numeric.toBigInt(this.getFeeRatio()).equals(Numeric.toBigInt(txObj.getFeeRatio()))) return false;
+
+        return true;
+    }
+
+    /**
+     * Getter function for feeRatio
+     * @return String
+     */
+    public String getFeeRatio() {
+        return feeRatio;
+    }
+
+    private void setFeeRatio(String feeRatio) {
+        if(feeRatio == null || feeRatio.isEmpty() || feeRatio.equals("0x")) {
+            throw new IllegalArgumentException("feeRatio is missing.");
+        }
+
+        BigInteger ratio = Numeric.toBigInt(feeRatio);
+        if(ratio.compareTo(BigInteger.ONE) < 0 || ratio.compareTo(BigInteger.valueOf(99)) > 0) {
+            throw new IllegalArgumentException("Invalid feeRatio. feeRatio is out of range. [1, 99]");
+        }
+
+        this.feeRatio = feeRatio;
+    }
+}
@@ -3,6 +3,7 @@ package com.klaytn.caver.transaction;
 import com.klaytn.caver.Klay;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
 import com.klaytn.caver.transaction.type.TransactionType;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.Keyring;
@@ -18,6 +19,9 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 abstract public class AbstractTransaction {
@@ -319,7 +323,7 @@ abstract public class AbstractTransaction {
         }
 
         this.fillTransaction();
-        int role = this.type.startsWith("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
+        int role = this.type.contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
 
         String hash = signer.apply(this);
         KlaySignatureData sig = keyring.signWithKey(hash, Numeric.toBigInt(this.chainId).intValue(), role, index);
@@ -375,6 +379,19 @@ abstract public class AbstractTransaction {
      * @throws IOException
      */
     public AbstractTransaction signWithKeys(Keyring keyring, Function<AbstractTransaction, String> signer) throws IOException {
+        return this.signWithKeys(keyring, signer, null);
+    }
+
+    /**
+     * Signs to the transaction using all private keys in Keyring, signing with each key on the given executor.
+     * The signatures are appended in the order of the keys.
+     * @param keyring The Keyring instance.
+     * @param signer The function to get hash of transaction.
+     * @param executor The executor signing with each key. If null, keys are used one after another on the calling thread.
+     * @return AbstractTransaction
+     * @throws IOException
+     */
+    public AbstractTransaction signWithKeys(Keyring keyring, Function<AbstractTransaction, String> signer, Executor executor) throws IOException {
         if(this.getType().equals(TransactionType.TxTypeLegacyTransaction.toString()) && keyring.isDecoupled()) {
             throw new IllegalArgumentException("A legacy transaction cannot be signed with a decoupled keyring.");
         }
@@ -388,10 +405,10 @@ abstract public class AbstractTransaction {
         }
 
         this.fillTransaction();
-        int role = this.type.startsWith("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
+        int role = this.type.contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
 
         String hash = signer.apply(this);
-        List<KlaySignatureData> sigList = keyring.signWithKeys(hash, Numeric.toBigInt(this.chainId).intValue(), role);
+        List<KlaySignatureData> sigList = keyring.signWithKeys(hash, Numeric.toBigInt(this.chainId).intValue(), role, executor);
 
         this.appendSignatures(sigList);
 
@@ -487,7 +504,7 @@ abstract public class AbstractTransaction {
 
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(txRLP));
-        rlpTypeList.add(RlpString.create(chainId));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(chainId)));
         rlpTypeList.add(RlpString.create(0));
         rlpTypeList.add(RlpString.create(0));
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -496,13 +513,35 @@ abstract public class AbstractTransaction {
 
     /**
      * Fills empty optional transaction field.(nonce, gasPrice, chainId)
+     * The nonce is requested together with the chain id and the gas price, which are read from the ChainInfoCache of klaytnCall,
+     * so filling a transaction needs at most one round-trip once the cache is warm.
      * @throws IOException
      */
     public void fillTransaction() throws IOException{
         if(klaytnCall != null) {
-            this.nonce = klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).send().getResult();
-            this.chainId = klaytnCall.getChainID().send().getResult();
-            this.gasPrice = klaytnCall.getGasPrice().send().getResult();
+            CompletableFuture<String> nonceFuture = null;
+            CompletableFuture<String> chainIdFuture = null;
+            CompletableFuture<String> gasPriceFuture = null;
+
+            if(this.nonce.isEmpty()) {
+                nonceFuture = klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).sendAsync()
+                        .thenApply(quantity -> {
+                            if(quantity.hasError()) {
+                                throw new CompletionException(new IOException(quantity.getError().getMessage()));
+                            }
+                            return quantity.getResult();
+                        });
+            }
+            if(this.chainId.isEmpty()) {
+                chainIdFuture = klaytnCall.getChainInfoCache().getChainId();
+            }
+            if(this.gasPrice.isEmpty()) {
+                gasPriceFuture = klaytnCall.getChainInfoCache().getGasPrice();
+            }
+
+            if(nonceFuture != null) this.nonce = await(nonceFuture);
+            if(chainIdFuture != null) this.chainId = await(chainIdFuture);
+            if(gasPriceFuture != null) this.gasPrice = await(gasPriceFuture);
         }
 
         if(this.nonce.isEmpty() || this.chainId.isEmpty() || this.gasPrice.isEmpty()) {
@@ -510,6 +549,17 @@ abstract public class AbstractTransaction {
         }
     }
 
+    private static String await(CompletableFuture<String> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException)e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Check equals txObj passed parameter and Current instance.
      * @param txObj The AbstractTransaction Object to compare
@@ -586,6 +636,65 @@ abstract public class AbstractTransaction {
         return refinedList;
     }
 
+    /**
+     * Returns the RLP list of the given signatures, i.e. [[v, r, s], ...].
+     * An empty list is encoded with the default empty signature("0x01", "0x", "0x").
+     * @param signatureDataList List of KlaySignatureData
+     * @return RlpList
+     */
+    protected static RlpList getSignatureRLPList(List<KlaySignatureData> signatureDataList) {
+        if(signatureDataList.isEmpty()) {
+            return new RlpList(KlaySignatureData.getEmptySignature().toRlpList());
+        }
+
+        List<RlpType> rlpTypeList = new ArrayList<>(signatureDataList.size());
+        for(KlaySignatureData signatureData : signatureDataList) {
+            rlpTypeList.add(signatureData.toRlpList());
+        }
+        return new RlpList(rlpTypeList);
+    }
+
+    /**
+     * Decodes a RLP list of signatures, i.e. [[v, r, s], ...].
+     * R and S are restored to 32 bytes, the same as the signatures made by a Keyring, so that decoded signatures can be compared with them.
+     * @param rlpSignatures The RLP list of signatures
+     * @return List
+     */
+    protected static List<KlaySignatureData> decodeSignatures(RlpReader rlpSignatures) {
+        List<KlaySignatureData> signatureDataList = new ArrayList<>(rlpSignatures.size());
+        for(RlpReader vrs : rlpSignatures.getValues()) {
+            signatureDataList.add(new KlaySignatureData(vrs.get(0).getBytes(), toSignatureValue(vrs.get(1)), toSignatureValue(vrs.get(2))));
+        }
+        return signatureDataList;
+    }
+
+    private static byte[] toSignatureValue(RlpReader rlpValue) {
+        byte[] value = rlpValue.getBytes();
+        if(value.length == 0 || value.length >= 32) {
+            return value;
+        }
+        return Numeric.toBytesPadded(Numeric.toBigInt(value), 32);
+    }
+
+    /**
+     * Checks the type byte of a RLP-encoded typed transaction and returns the RLP list following it.
+     * The fields are read in place, without copying the encoded transaction.
+     * @param rlpEncoded RLP-encoded typed transaction byte array.
+     * @param type The expected transaction type.
+     * @return RlpReader
+     */
+    protected static RlpReader decodeTypedRLPFields(byte[] rlpEncoded, TransactionType type) {
+        if(rlpEncoded.length == 0 || (rlpEncoded[0] & 0xff) != type.getType()) {
+            throw new IllegalArgumentException("Invalid RLP-encoded tag - " + type.toString());
+        }
+
+        RlpReader fields = RlpReader.of(rlpEncoded, 1, rlpEncoded.length);
+        if(!fields.isList() || fields.getEnd() != rlpEncoded.length) {
+            throw new IllegalArgumentException("Invalid RLP-encoded " + type.toString());
+        }
+        return fields;
+    }
+
     /**
      * Getter function for klaytnRPC
      * @return Klay
@@ -1,18 +1,66 @@
 package com.klaytn.caver.transaction;
 
-import com.klaytn.caver.transaction.type.LegacyTransaction;
-import com.klaytn.caver.transaction.type.TransactionType;
+import com.klaytn.caver.transaction.type.*;
 import org.web3j.utils.Numeric;
 
+import java.util.function.Function;
+
 public class TransactionDecoder {
 
+    /**
+     * Decoders indexed by the first byte of the RLP-encoded transaction, i.e. the transaction type.
+     * A legacy transaction starts with the RLP list prefix, so bytes without a typed decoder are decoded as a legacy transaction.
+     */
+    private static final Function<byte[], AbstractTransaction>[] DECODERS = createDecoders();
+
     public static AbstractTransaction decode(String rlpEncoded) {
-        byte[] rlpBytes = Numeric.hexStringToByteArray(rlpEncoded);
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    public static AbstractTransaction decode(byte[] rlpEncoded) {
+        if(rlpEncoded.length == 0) {
+            throw new IllegalArgumentException("Empty RLP-encoded transaction.");
+        }
 
-        if(rlpBytes[0] == TransactionType.TxTypeValueTransfer.getType()) {
-            return null;
-        } else {
-            return LegacyTransaction.decode(rlpBytes);
+        Function<byte[], AbstractTransaction> decoder = DECODERS[rlpEncoded[0] & 0xff];
+        if(decoder == null) {
+            return LegacyTransaction.decode(rlpEncoded);
         }
+        return decoder.apply(rlpEncoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<byte[], AbstractTransaction>[] createDecoders() {
+        Function<byte[], AbstractTransaction>[] decoders = new Function[256];
+
+        decoders[TransactionType.TxTypeValueTransfer.getType()] = ValueTransfer::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedValueTransfer.getType()] = FeeDelegatedValueTransfer::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType()] = FeeDelegatedValueTransferWithRatio::decode;
+
+        decoders[TransactionType.TxTypeValueTransferMemo.getType()] = ValueTransferMemo::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType()] = FeeDelegatedValueTransferMemo::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType()] = FeeDelegatedValueTransferMemoWithRatio::decode;
+
+        decoders[TransactionType.TxTypeAccountUpdate.getType()] = AccountUpdate::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()] = FeeDelegatedAccountUpdate::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()] = FeeDelegatedAccountUpdateWithRatio::decode;
+
+        decoders[TransactionType.TxTypeSmartContractDeploy.getType()] = SmartContractDeploy::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()] = FeeDelegatedSmartContractDeploy::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()] = FeeDelegatedSmartContractDeployWithRatio::decode;
+
+        decoders[TransactionType.TxTypeSmartContractExecution.getType()] = SmartContractExecution::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType()] = FeeDelegatedSmartContractExecution::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()] = FeeDelegatedSmartContractExecutionWithRatio::decode;
+
+        decoders[TransactionType.TxTypeCancel.getType()] = Cancel::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedCancel.getType()] = FeeDelegatedCancel::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()] = FeeDelegatedCancelWithRatio::decode;
+
+        decoders[TransactionType.TxTypeChainDataAnchoring.getType()] = ChainDataAnchoring::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()] = FeeDelegatedChainDataAnchoring::decode;
+        decoders[TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()] = FeeDelegatedChainDataAnchoringWithRatio::decode;
+
+        return decoders;
     }
 }
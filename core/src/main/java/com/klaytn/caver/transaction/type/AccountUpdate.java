@@ -0,0 +1,182 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.account.Account;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An AccountUpdate transaction updates the account key of the sender.
+ */
+public class AccountUpdate extends AbstractTransaction {
+    /**
+     * The account that contains the new account key of the sender.
+     */
+    Account account;
+
+    /**
+     * AccountUpdate Builder class
+     */
+    public static class Builder extends AbstractTransaction.Builder<AccountUpdate.Builder> {
+        private Account account = null;
+
+        public Builder() {
+            super(TransactionType.TxTypeAccountUpdate.toString());
+        }
+
+        public Builder setAccount(Account account) {
+            this.account = account;
+            return this;
+        }
+
+        public AccountUpdate build() {
+            return new AccountUpdate(this);
+        }
+    }
+
+    /**
+     * Creates an AccountUpdate instance.
+     * @param builder AccountUpdate.Builder instance.
+     */
+    private AccountUpdate(Builder builder) {
+        super(builder);
+
+        setAccount(builder.account);
+    }
+
+    /**
+     * Create an AccountUpdate instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param account The account that contains the new account key of the sender.
+     */
+    public AccountUpdate(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, Account account) {
+        super(klaytnCall, TransactionType.TxTypeAccountUpdate.toString(), from, nonce, gas, gasPrice, chainId, signatures);
+        setAccount(account);
+    }
+
+    /**
+     * Decodes a RLP-encoded AccountUpdate string.
+     * @param rlpEncoded RLP-encoded AccountUpdate string
+     * @return AccountUpdate
+     */
+    public static AccountUpdate decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded AccountUpdate byte array.
+     * @param rlpEncoded RLP-encoded AccountUpdate byte array.
+     * @return AccountUpdate
+     */
+    public static AccountUpdate decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeAccountUpdate);
+            String from = values.get(3).asString();
+
+            AccountUpdate accountUpdate = new AccountUpdate.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(from)
+                    .setAccount(Account.createFromRLPEncoding(from, values.get(4).asString()))
+                    .setSignList(decodeSignatures(values.get(5)))
+                    .build();
+
+            return accountUpdate;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getAccount().getRLPEncodingAccountKey())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeAccountUpdate.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, rlpEncodedKey]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeAccountUpdate.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getAccount().getRLPEncodingAccountKey())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof AccountUpdate)) return false;
+        AccountUpdate txObj = (AccountUpdate)obj;
+
+        if(!this.getAccount().getRLPEncodingAccountKey().equals(txObj.getAccount().getRLPEncodingAccountKey())) return false;
+
+        return true;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    private void setAccount(Account account) {
+        if(account == null) {
+            throw new IllegalArgumentException("account is missing.");
+        }
+        if(!getFrom().equals("0x") && !getFrom().toLowerCase().equals(account.getAddress().toLowerCase())) {
+            throw new IllegalArgumentException("The from address and the address of the account are different.");
+        }
+
+        this.account = account;
+    }
+}
@@ -0,0 +1,143 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Cancel transaction cancels the execution of the transaction with the same nonce in the transaction pool.
+ */
+public class Cancel extends AbstractTransaction {
+    /**
+     * Cancel Builder class
+     */
+    public static class Builder extends AbstractTransaction.Builder<Cancel.Builder> {
+        public Builder() {
+            super(TransactionType.TxTypeCancel.toString());
+        }
+
+        public Cancel build() {
+            return new Cancel(this);
+        }
+    }
+
+    /**
+     * Creates a Cancel instance.
+     * @param builder Cancel.Builder instance.
+     */
+    private Cancel(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Create a Cancel instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     */
+    public Cancel(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures) {
+        super(klaytnCall, TransactionType.TxTypeCancel.toString(), from, nonce, gas, gasPrice, chainId, signatures);
+    }
+
+    /**
+     * Decodes a RLP-encoded Cancel string.
+     * @param rlpEncoded RLP-encoded Cancel string
+     * @return Cancel
+     */
+    public static Cancel decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded Cancel byte array.
+     * @param rlpEncoded RLP-encoded Cancel byte array.
+     * @return Cancel
+     */
+    public static Cancel decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeCancel);
+
+            Cancel cancel = new Cancel.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setSignList(decodeSignatures(values.get(4)))
+                    .build();
+
+            return cancel;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeCancel.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeCancel.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof Cancel)) return false;
+
+        return true;
+    }
+}
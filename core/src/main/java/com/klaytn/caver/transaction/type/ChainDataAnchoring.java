@@ -0,0 +1,177 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A ChainDataAnchoring transaction anchors service chain data to Klaytn.
+ */
+public class ChainDataAnchoring extends AbstractTransaction {
+    /**
+     * Data attached to the transaction, used for transaction execution.
+     */
+    String input;
+
+    /**
+     * ChainDataAnchoring Builder class
+     */
+    public static class Builder extends AbstractTransaction.Builder<ChainDataAnchoring.Builder> {
+        private String input = "0x";
+
+        public Builder() {
+            super(TransactionType.TxTypeChainDataAnchoring.toString());
+        }
+
+        public Builder setInput(String input) {
+            this.input = input;
+            return this;
+        }
+
+        public ChainDataAnchoring build() {
+            return new ChainDataAnchoring(this);
+        }
+    }
+
+    /**
+     * Creates a ChainDataAnchoring instance.
+     * @param builder ChainDataAnchoring.Builder instance.
+     */
+    private ChainDataAnchoring(Builder builder) {
+        super(builder);
+
+        setInput(builder.input);
+    }
+
+    /**
+     * Create a ChainDataAnchoring instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param input Data attached to the transaction, used for transaction execution.
+     */
+    public ChainDataAnchoring(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String input) {
+        super(klaytnCall, TransactionType.TxTypeChainDataAnchoring.toString(), from, nonce, gas, gasPrice, chainId, signatures);
+        setInput(input);
+    }
+
+    /**
+     * Decodes a RLP-encoded ChainDataAnchoring string.
+     * @param rlpEncoded RLP-encoded ChainDataAnchoring string
+     * @return ChainDataAnchoring
+     */
+    public static ChainDataAnchoring decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded ChainDataAnchoring byte array.
+     * @param rlpEncoded RLP-encoded ChainDataAnchoring byte array.
+     * @return ChainDataAnchoring
+     */
+    public static ChainDataAnchoring decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeChainDataAnchoring);
+
+            ChainDataAnchoring chainDataAnchoring = new ChainDataAnchoring.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setInput(values.get(4).asString())
+                    .setSignList(decodeSignatures(values.get(5)))
+                    .build();
+
+            return chainDataAnchoring;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeChainDataAnchoring.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, input]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeChainDataAnchoring.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof ChainDataAnchoring)) return false;
+        ChainDataAnchoring txObj = (ChainDataAnchoring)obj;
+
+        if(!this.getInput().toLowerCase().equals(txObj.getInput().toLowerCase())) return false;
+
+        return true;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    private void setInput(String input) {
+        if(input == null || input.isEmpty() || input.equals("0x")) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.input = input;
+    }
+}
@@ -0,0 +1,194 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.account.Account;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated AccountUpdate transaction with a fee ratio. It updates the account key of the sender and the fee payer pays the given ratio of the transaction fee.
+ */
+public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWithRatioTransaction {
+    /**
+     * The account that contains the new account key of the sender.
+     */
+    Account account;
+
+    /**
+     * FeeDelegatedAccountUpdateWithRatio Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedWithRatioTransaction.Builder<FeeDelegatedAccountUpdateWithRatio.Builder> {
+        private Account account = null;
+
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.toString());
+        }
+
+        public Builder setAccount(Account account) {
+            this.account = account;
+            return this;
+        }
+
+        public FeeDelegatedAccountUpdateWithRatio build() {
+            return new FeeDelegatedAccountUpdateWithRatio(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedAccountUpdateWithRatio instance.
+     * @param builder FeeDelegatedAccountUpdateWithRatio.Builder instance.
+     */
+    private FeeDelegatedAccountUpdateWithRatio(Builder builder) {
+        super(builder);
+
+        setAccount(builder.account);
+    }
+
+    /**
+     * Create a FeeDelegatedAccountUpdateWithRatio instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param feeRatio Fee ratio of the fee payer.
+     * @param account The account that contains the new account key of the sender.
+     */
+    public FeeDelegatedAccountUpdateWithRatio(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String feeRatio, Account account) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures, feeRatio);
+        setAccount(account);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedAccountUpdateWithRatio string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedAccountUpdateWithRatio string
+     * @return FeeDelegatedAccountUpdateWithRatio
+     */
+    public static FeeDelegatedAccountUpdateWithRatio decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedAccountUpdateWithRatio byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedAccountUpdateWithRatio byte array.
+     * @return FeeDelegatedAccountUpdateWithRatio
+     */
+    public static FeeDelegatedAccountUpdateWithRatio decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio);
+            String from = values.get(3).asString();
+
+            FeeDelegatedAccountUpdateWithRatio feeDelegatedAccountUpdateWithRatio = new FeeDelegatedAccountUpdateWithRatio.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(from)
+                    .setAccount(Account.createFromRLPEncoding(from, values.get(4).asString()))
+                    .setFeeRatio(values.get(5).asPositiveBigInteger())
+                    .setSignList(decodeSignatures(values.get(6)))
+                    .setFeePayer(values.get(7).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(8)))
+                    .build();
+
+            return feeDelegatedAccountUpdateWithRatio;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getAccount().getRLPEncodingAccountKey())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getAccount().getRLPEncodingAccountKey())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedAccountUpdateWithRatio)) return false;
+        FeeDelegatedAccountUpdateWithRatio txObj = (FeeDelegatedAccountUpdateWithRatio)obj;
+
+        if(!this.getAccount().getRLPEncodingAccountKey().equals(txObj.getAccount().getRLPEncodingAccountKey())) return false;
+
+        return true;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    private void setAccount(Account account) {
+        if(account == null) {
+            throw new IllegalArgumentException("account is missing.");
+        }
+        if(!getFrom().equals("0x") && !getFrom().toLowerCase().equals(account.getAddress().toLowerCase())) {
+            throw new IllegalArgumentException("The from address and the address of the account are different.");
+        }
+
+        this.account = account;
+    }
+}
@@ -0,0 +1,150 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated Cancel transaction. It cancels the execution of the transaction with the same nonce in the transaction pool and the fee payer pays the transaction fee.
+ */
+public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction {
+    /**
+     * FeeDelegatedCancel Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedTransaction.Builder<FeeDelegatedCancel.Builder> {
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedCancel.toString());
+        }
+
+        public FeeDelegatedCancel build() {
+            return new FeeDelegatedCancel(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedCancel instance.
+     * @param builder FeeDelegatedCancel.Builder instance.
+     */
+    private FeeDelegatedCancel(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Create a FeeDelegatedCancel instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     */
+    public FeeDelegatedCancel(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedCancel.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedCancel string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedCancel string
+     * @return FeeDelegatedCancel
+     */
+    public static FeeDelegatedCancel decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedCancel byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedCancel byte array.
+     * @return FeeDelegatedCancel
+     */
+    public static FeeDelegatedCancel decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedCancel);
+
+            FeeDelegatedCancel feeDelegatedCancel = new FeeDelegatedCancel.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setSignList(decodeSignatures(values.get(4)))
+                    .setFeePayer(values.get(5).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(6)))
+                    .build();
+
+            return feeDelegatedCancel;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedCancel.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedCancel.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedCancel)) return false;
+
+        return true;
+    }
+}
@@ -0,0 +1,155 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated Cancel transaction with a fee ratio. It cancels the execution of the transaction with the same nonce in the transaction pool and the fee payer pays the given ratio of the transaction fee.
+ */
+public class FeeDelegatedCancelWithRatio extends AbstractFeeDelegatedWithRatioTransaction {
+    /**
+     * FeeDelegatedCancelWithRatio Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedWithRatioTransaction.Builder<FeeDelegatedCancelWithRatio.Builder> {
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedCancelWithRatio.toString());
+        }
+
+        public FeeDelegatedCancelWithRatio build() {
+            return new FeeDelegatedCancelWithRatio(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedCancelWithRatio instance.
+     * @param builder FeeDelegatedCancelWithRatio.Builder instance.
+     */
+    private FeeDelegatedCancelWithRatio(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Create a FeeDelegatedCancelWithRatio instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param feeRatio Fee ratio of the fee payer.
+     */
+    public FeeDelegatedCancelWithRatio(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String feeRatio) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedCancelWithRatio.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures, feeRatio);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedCancelWithRatio string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedCancelWithRatio string
+     * @return FeeDelegatedCancelWithRatio
+     */
+    public static FeeDelegatedCancelWithRatio decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedCancelWithRatio byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedCancelWithRatio byte array.
+     * @return FeeDelegatedCancelWithRatio
+     */
+    public static FeeDelegatedCancelWithRatio decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedCancelWithRatio);
+
+            FeeDelegatedCancelWithRatio feeDelegatedCancelWithRatio = new FeeDelegatedCancelWithRatio.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setFeeRatio(values.get(4).asPositiveBigInteger())
+                    .setSignList(decodeSignatures(values.get(5)))
+                    .setFeePayer(values.get(6).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(7)))
+                    .build();
+
+            return feeDelegatedCancelWithRatio;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, feeRatio]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedCancelWithRatio)) return false;
+
+        return true;
+    }
+}
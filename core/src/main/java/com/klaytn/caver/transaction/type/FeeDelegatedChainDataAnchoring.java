@@ -0,0 +1,184 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated ChainDataAnchoring transaction. It anchors service chain data to Klaytn and the fee payer pays the transaction fee.
+ */
+public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransaction {
+    /**
+     * Data attached to the transaction, used for transaction execution.
+     */
+    String input;
+
+    /**
+     * FeeDelegatedChainDataAnchoring Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedTransaction.Builder<FeeDelegatedChainDataAnchoring.Builder> {
+        private String input = "0x";
+
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedChainDataAnchoring.toString());
+        }
+
+        public Builder setInput(String input) {
+            this.input = input;
+            return this;
+        }
+
+        public FeeDelegatedChainDataAnchoring build() {
+            return new FeeDelegatedChainDataAnchoring(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedChainDataAnchoring instance.
+     * @param builder FeeDelegatedChainDataAnchoring.Builder instance.
+     */
+    private FeeDelegatedChainDataAnchoring(Builder builder) {
+        super(builder);
+
+        setInput(builder.input);
+    }
+
+    /**
+     * Create a FeeDelegatedChainDataAnchoring instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param input Data attached to the transaction, used for transaction execution.
+     */
+    public FeeDelegatedChainDataAnchoring(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String input) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedChainDataAnchoring.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures);
+        setInput(input);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoring string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedChainDataAnchoring string
+     * @return FeeDelegatedChainDataAnchoring
+     */
+    public static FeeDelegatedChainDataAnchoring decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoring byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedChainDataAnchoring byte array.
+     * @return FeeDelegatedChainDataAnchoring
+     */
+    public static FeeDelegatedChainDataAnchoring decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedChainDataAnchoring);
+
+            FeeDelegatedChainDataAnchoring feeDelegatedChainDataAnchoring = new FeeDelegatedChainDataAnchoring.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setInput(values.get(4).asString())
+                    .setSignList(decodeSignatures(values.get(5)))
+                    .setFeePayer(values.get(6).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(7)))
+                    .build();
+
+            return feeDelegatedChainDataAnchoring;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, input]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedChainDataAnchoring)) return false;
+        FeeDelegatedChainDataAnchoring txObj = (FeeDelegatedChainDataAnchoring)obj;
+
+        if(!this.getInput().toLowerCase().equals(txObj.getInput().toLowerCase())) return false;
+
+        return true;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    private void setInput(String input) {
+        if(input == null || input.isEmpty() || input.equals("0x")) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.input = input;
+    }
+}
@@ -0,0 +1,189 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated ChainDataAnchoring transaction with a fee ratio. It anchors service chain data to Klaytn and the fee payer pays the given ratio of the transaction fee.
+ */
+public class FeeDelegatedChainDataAnchoringWithRatio extends AbstractFeeDelegatedWithRatioTransaction {
+    /**
+     * Data attached to the transaction, used for transaction execution.
+     */
+    String input;
+
+    /**
+     * FeeDelegatedChainDataAnchoringWithRatio Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedWithRatioTransaction.Builder<FeeDelegatedChainDataAnchoringWithRatio.Builder> {
+        private String input = "0x";
+
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.toString());
+        }
+
+        public Builder setInput(String input) {
+            this.input = input;
+            return this;
+        }
+
+        public FeeDelegatedChainDataAnchoringWithRatio build() {
+            return new FeeDelegatedChainDataAnchoringWithRatio(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedChainDataAnchoringWithRatio instance.
+     * @param builder FeeDelegatedChainDataAnchoringWithRatio.Builder instance.
+     */
+    private FeeDelegatedChainDataAnchoringWithRatio(Builder builder) {
+        super(builder);
+
+        setInput(builder.input);
+    }
+
+    /**
+     * Create a FeeDelegatedChainDataAnchoringWithRatio instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param feeRatio Fee ratio of the fee payer.
+     * @param input Data attached to the transaction, used for transaction execution.
+     */
+    public FeeDelegatedChainDataAnchoringWithRatio(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String feeRatio, String input) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures, feeRatio);
+        setInput(input);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoringWithRatio string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedChainDataAnchoringWithRatio string
+     * @return FeeDelegatedChainDataAnchoringWithRatio
+     */
+    public static FeeDelegatedChainDataAnchoringWithRatio decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoringWithRatio byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedChainDataAnchoringWithRatio byte array.
+     * @return FeeDelegatedChainDataAnchoringWithRatio
+     */
+    public static FeeDelegatedChainDataAnchoringWithRatio decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio);
+
+            FeeDelegatedChainDataAnchoringWithRatio feeDelegatedChainDataAnchoringWithRatio = new FeeDelegatedChainDataAnchoringWithRatio.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setFrom(values.get(3).asString())
+                    .setInput(values.get(4).asString())
+                    .setFeeRatio(values.get(5).asPositiveBigInteger())
+                    .setSignList(decodeSignatures(values.get(6)))
+                    .setFeePayer(values.get(7).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(8)))
+                    .build();
+
+            return feeDelegatedChainDataAnchoringWithRatio;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, feeRatio, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, from, input, feeRatio]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedChainDataAnchoringWithRatio)) return false;
+        FeeDelegatedChainDataAnchoringWithRatio txObj = (FeeDelegatedChainDataAnchoringWithRatio)obj;
+
+        if(!this.getInput().toLowerCase().equals(txObj.getInput().toLowerCase())) return false;
+
+        return true;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    private void setInput(String input) {
+        if(input == null || input.isEmpty() || input.equals("0x")) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.input = input;
+    }
+}
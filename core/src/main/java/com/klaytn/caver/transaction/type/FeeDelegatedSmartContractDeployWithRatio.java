@@ -0,0 +1,303 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated SmartContractDeploy transaction with a fee ratio. It deploys a smart contract and the fee payer pays the given ratio of the transaction fee.
+ */
+public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegatedWithRatioTransaction {
+    /**
+     * The address of the deployed contract is decided by Klaytn, so this is always "0x".
+     */
+    String to = "0x";
+
+    /**
+     * The amount of KLAY in peb to be transferred.
+     */
+    String value;
+
+    /**
+     * Data attached to the transaction, used for transaction execution.
+     */
+    String input;
+
+    /**
+     * Whether the address of the deployed contract is human-readable. Klaytn only supports false.
+     */
+    boolean humanReadable;
+
+    /**
+     * The code format of the smart contract code. Klaytn only supports EVM(0x0).
+     */
+    String codeFormat;
+
+    /**
+     * FeeDelegatedSmartContractDeployWithRatio Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedWithRatioTransaction.Builder<FeeDelegatedSmartContractDeployWithRatio.Builder> {
+        private String value = "0x0";
+        private String input = "0x";
+        private boolean humanReadable = false;
+        private String codeFormat = "0x0";
+
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.toString());
+        }
+
+        public Builder setValue(String value) {
+            this.value = value;
+            return this;
+        }
+
+        public Builder setValue(BigInteger value) {
+            setValue(Numeric.toHexStringWithPrefix(value));
+            return this;
+        }
+
+        public Builder setInput(String input) {
+            this.input = input;
+            return this;
+        }
+
+        public Builder setHumanReadable(boolean humanReadable) {
+            this.humanReadable = humanReadable;
+            return this;
+        }
+
+        public Builder setCodeFormat(String codeFormat) {
+            this.codeFormat = codeFormat;
+            return this;
+        }
+
+        public Builder setCodeFormat(BigInteger codeFormat) {
+            setCodeFormat(Numeric.toHexStringWithPrefix(codeFormat));
+            return this;
+        }
+
+        public FeeDelegatedSmartContractDeployWithRatio build() {
+            return new FeeDelegatedSmartContractDeployWithRatio(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedSmartContractDeployWithRatio instance.
+     * @param builder FeeDelegatedSmartContractDeployWithRatio.Builder instance.
+     */
+    private FeeDelegatedSmartContractDeployWithRatio(Builder builder) {
+        super(builder);
+
+        setValue(builder.value);
+        setInput(builder.input);
+        setHumanReadable(builder.humanReadable);
+        setCodeFormat(builder.codeFormat);
+    }
+
+    /**
+     * Create a FeeDelegatedSmartContractDeployWithRatio instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param feeRatio Fee ratio of the fee payer.
+     * @param value The amount of KLAY in peb to be transferred.
+     * @param input Data attached to the transaction, used for transaction execution.
+     * @param humanReadable Whether the address of the deployed contract is human-readable.
+     * @param codeFormat The code format of the smart contract code.
+     */
+    public FeeDelegatedSmartContractDeployWithRatio(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String feeRatio, String value, String input, boolean humanReadable, String codeFormat) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures, feeRatio);
+        setValue(value);
+        setInput(input);
+        setHumanReadable(humanReadable);
+        setCodeFormat(codeFormat);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractDeployWithRatio string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedSmartContractDeployWithRatio string
+     * @return FeeDelegatedSmartContractDeployWithRatio
+     */
+    public static FeeDelegatedSmartContractDeployWithRatio decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractDeployWithRatio byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedSmartContractDeployWithRatio byte array.
+     * @return FeeDelegatedSmartContractDeployWithRatio
+     */
+    public static FeeDelegatedSmartContractDeployWithRatio decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio);
+
+            FeeDelegatedSmartContractDeployWithRatio feeDelegatedSmartContractDeployWithRatio = new FeeDelegatedSmartContractDeployWithRatio.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setValue(values.get(4).asPositiveBigInteger())
+                    .setFrom(values.get(5).asString())
+                    .setInput(values.get(6).asString())
+                    .setHumanReadable(values.get(7).asPositiveBigInteger().signum() != 0)
+                    .setFeeRatio(values.get(8).asPositiveBigInteger())
+                    .setCodeFormat(values.get(9).asPositiveBigInteger())
+                    .setSignList(decodeSignatures(values.get(10)))
+                    .setFeePayer(values.get(11).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(12)))
+                    .build();
+
+            return feeDelegatedSmartContractDeployWithRatio;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getHumanReadable() ? 1 : 0));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getHumanReadable() ? 1 : 0));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedSmartContractDeployWithRatio)) return false;
+        FeeDelegatedSmartContractDeployWithRatio txObj = (FeeDelegatedSmartContractDeployWithRatio)obj;
+
+        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if(!this.getInput().toLowerCase().equals(txObj.getInput().toLowerCase())) return false;
+        if(this.getHumanReadable() != txObj.getHumanReadable()) return false;
+        if(!Numeric.toBigInt(this.getCodeFormat()).equals(Numeric.toBigInt(txObj.getCodeFormat()))) return false;
+
+        return true;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public boolean getHumanReadable() {
+        return humanReadable;
+    }
+
+    public String getCodeFormat() {
+        return codeFormat;
+    }
+
+    private void setValue(String value) {
+        if(value == null || value.isEmpty() || value.equals("0x")) {
+            throw new IllegalArgumentException("value is missing.");
+        }
+
+        this.value = value;
+    }
+
+    private void setInput(String input) {
+        if(input == null || input.isEmpty() || input.equals("0x")) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.input = input;
+    }
+
+    private void setHumanReadable(boolean humanReadable) {
+        if(humanReadable) {
+            throw new IllegalArgumentException("HumanReadable attribute must be false.");
+        }
+
+        this.humanReadable = humanReadable;
+    }
+
+    private void setCodeFormat(String codeFormat) {
+        if(codeFormat == null || codeFormat.isEmpty() || codeFormat.equals("0x")) {
+            throw new IllegalArgumentException("codeFormat is missing.");
+        }
+        if(Numeric.toBigInt(codeFormat).signum() != 0) {
+            throw new IllegalArgumentException("CodeFormat attribute only supports EVM(0x0).");
+        }
+
+        this.codeFormat = codeFormat;
+    }
+}
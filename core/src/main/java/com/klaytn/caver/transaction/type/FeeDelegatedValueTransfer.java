@@ -0,0 +1,224 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.utils.Utils;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fee delegated ValueTransfer transaction. It transfers KLAY to the given address and the fee payer pays the transaction fee.
+ */
+public class FeeDelegatedValueTransfer extends AbstractFeeDelegatedTransaction {
+    /**
+     * The account address that will receive the transferred value.
+     */
+    String to;
+
+    /**
+     * The amount of KLAY in peb to be transferred.
+     */
+    String value;
+
+    /**
+     * FeeDelegatedValueTransfer Builder class
+     */
+    public static class Builder extends AbstractFeeDelegatedTransaction.Builder<FeeDelegatedValueTransfer.Builder> {
+        private String to = "0x";
+        private String value = "0x0";
+
+        public Builder() {
+            super(TransactionType.TxTypeFeeDelegatedValueTransfer.toString());
+        }
+
+        public Builder setTo(String to) {
+            if(!to.equals("0x") && !Utils.isAddress(to)) {
+                throw new IllegalArgumentException("Invalid address.");
+            }
+            this.to = to;
+            return this;
+        }
+
+        public Builder setValue(String value) {
+            this.value = value;
+            return this;
+        }
+
+        public Builder setValue(BigInteger value) {
+            setValue(Numeric.toHexStringWithPrefix(value));
+            return this;
+        }
+
+        public FeeDelegatedValueTransfer build() {
+            return new FeeDelegatedValueTransfer(this);
+        }
+    }
+
+    /**
+     * Creates a FeeDelegatedValueTransfer instance.
+     * @param builder FeeDelegatedValueTransfer.Builder instance.
+     */
+    private FeeDelegatedValueTransfer(Builder builder) {
+        super(builder);
+
+        setTo(builder.to);
+        setValue(builder.value);
+    }
+
+    /**
+     * Create a FeeDelegatedValueTransfer instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param feePayer The address of fee payer.
+     * @param feePayerSignatures The fee payer's signature list.
+     * @param to The account address that will receive the transferred value.
+     * @param value The amount of KLAY in peb to be transferred.
+     */
+    public FeeDelegatedValueTransfer(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String feePayer, List<KlaySignatureData> feePayerSignatures, String to, String value) {
+        super(klaytnCall, TransactionType.TxTypeFeeDelegatedValueTransfer.toString(), from, nonce, gas, gasPrice, chainId, signatures, feePayer, feePayerSignatures);
+        setTo(to);
+        setValue(value);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedValueTransfer string.
+     * @param rlpEncoded RLP-encoded FeeDelegatedValueTransfer string
+     * @return FeeDelegatedValueTransfer
+     */
+    public static FeeDelegatedValueTransfer decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedValueTransfer byte array.
+     * @param rlpEncoded RLP-encoded FeeDelegatedValueTransfer byte array.
+     * @return FeeDelegatedValueTransfer
+     */
+    public static FeeDelegatedValueTransfer decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, txSignatures, feePayer, feePayerSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeFeeDelegatedValueTransfer);
+
+            FeeDelegatedValueTransfer feeDelegatedValueTransfer = new FeeDelegatedValueTransfer.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setTo(values.get(3).asString())
+                    .setValue(values.get(4).asPositiveBigInteger())
+                    .setFrom(values.get(5).asString())
+                    .setSignList(decodeSignatures(values.get(6)))
+                    .setFeePayer(values.get(7).asString())
+                    .setFeePayerSignatures(decodeSignatures(values.get(8)))
+                    .build();
+
+            return feeDelegatedValueTransfer;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, txSignatures, feePayer, feePayerSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(getSignatureRLPList(this.getFeePayerSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeFeeDelegatedValueTransfer.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, to, value, from]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeFeeDelegatedValueTransfer.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof FeeDelegatedValueTransfer)) return false;
+        FeeDelegatedValueTransfer txObj = (FeeDelegatedValueTransfer)obj;
+
+        if(!this.getTo().toLowerCase().equals(txObj.getTo().toLowerCase())) return false;
+        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+
+        return true;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    private void setTo(String to) {
+        if(to == null || to.equals("0x")) {
+            throw new IllegalArgumentException("to is missing.");
+        }
+
+        this.to = to;
+    }
+
+    private void setValue(String value) {
+        if(value == null || value.isEmpty() || value.equals("0x")) {
+            throw new IllegalArgumentException("value is missing.");
+        }
+
+        this.value = value;
+    }
+}
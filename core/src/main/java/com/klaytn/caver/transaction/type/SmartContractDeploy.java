@@ -0,0 +1,292 @@
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.Klay;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A SmartContractDeploy transaction deploys a smart contract.
+ */
+public class SmartContractDeploy extends AbstractTransaction {
+    /**
+     * The address of the deployed contract is decided by Klaytn, so this is always "0x".
+     */
+    String to = "0x";
+
+    /**
+     * The amount of KLAY in peb to be transferred.
+     */
+    String value;
+
+    /**
+     * Data attached to the transaction, used for transaction execution.
+     */
+    String input;
+
+    /**
+     * Whether the address of the deployed contract is human-readable. Klaytn only supports false.
+     */
+    boolean humanReadable;
+
+    /**
+     * The code format of the smart contract code. Klaytn only supports EVM(0x0).
+     */
+    String codeFormat;
+
+    /**
+     * SmartContractDeploy Builder class
+     */
+    public static class Builder extends AbstractTransaction.Builder<SmartContractDeploy.Builder> {
+        private String value = "0x0";
+        private String input = "0x";
+        private boolean humanReadable = false;
+        private String codeFormat = "0x0";
+
+        public Builder() {
+            super(TransactionType.TxTypeSmartContractDeploy.toString());
+        }
+
+        public Builder setValue(String value) {
+            this.value = value;
+            return this;
+        }
+
+        public Builder setValue(BigInteger value) {
+            setValue(Numeric.toHexStringWithPrefix(value));
+            return this;
+        }
+
+        public Builder setInput(String input) {
+            this.input = input;
+            return this;
+        }
+
+        public Builder setHumanReadable(boolean humanReadable) {
+            this.humanReadable = humanReadable;
+            return this;
+        }
+
+        public Builder setCodeFormat(String codeFormat) {
+            this.codeFormat = codeFormat;
+            return this;
+        }
+
+        public Builder setCodeFormat(BigInteger codeFormat) {
+            setCodeFormat(Numeric.toHexStringWithPrefix(codeFormat));
+            return this;
+        }
+
+        public SmartContractDeploy build() {
+            return new SmartContractDeploy(this);
+        }
+    }
+
+    /**
+     * Creates a SmartContractDeploy instance.
+     * @param builder SmartContractDeploy.Builder instance.
+     */
+    private SmartContractDeploy(Builder builder) {
+        super(builder);
+
+        setValue(builder.value);
+        setInput(builder.input);
+        setHumanReadable(builder.humanReadable);
+        setCodeFormat(builder.codeFormat);
+    }
+
+    /**
+     * Create a SmartContractDeploy instance.
+     * @param klaytnCall Klay RPC instance
+     * @param from The address of the sender.
+     * @param nonce A value used to uniquely identify a sender’s transaction.
+     * @param gas The maximum amount of gas the transaction is allowed to use.
+     * @param gasPrice A unit price of gas in peb the sender will pay for a transaction fee.
+     * @param chainId Network ID
+     * @param signatures A Signature list
+     * @param value The amount of KLAY in peb to be transferred.
+     * @param input Data attached to the transaction, used for transaction execution.
+     * @param humanReadable Whether the address of the deployed contract is human-readable.
+     * @param codeFormat The code format of the smart contract code.
+     */
+    public SmartContractDeploy(Klay klaytnCall, String from, String nonce, String gas, String gasPrice, String chainId, List<KlaySignatureData> signatures, String value, String input, boolean humanReadable, String codeFormat) {
+        super(klaytnCall, TransactionType.TxTypeSmartContractDeploy.toString(), from, nonce, gas, gasPrice, chainId, signatures);
+        setValue(value);
+        setInput(input);
+        setHumanReadable(humanReadable);
+        setCodeFormat(codeFormat);
+    }
+
+    /**
+     * Decodes a RLP-encoded SmartContractDeploy string.
+     * @param rlpEncoded RLP-encoded SmartContractDeploy string
+     * @return SmartContractDeploy
+     */
+    public static SmartContractDeploy decode(String rlpEncoded) {
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded SmartContractDeploy byte array.
+     * @param rlpEncoded RLP-encoded SmartContractDeploy byte array.
+     * @return SmartContractDeploy
+     */
+    public static SmartContractDeploy decode(byte[] rlpEncoded) {
+        // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat, txSignatures])
+        try {
+            RlpReader values = decodeTypedRLPFields(rlpEncoded, TransactionType.TxTypeSmartContractDeploy);
+
+            SmartContractDeploy smartContractDeploy = new SmartContractDeploy.Builder()
+                    .setNonce(values.get(0).asPositiveBigInteger())
+                    .setGasPrice(values.get(1).asPositiveBigInteger())
+                    .setGas(values.get(2).asPositiveBigInteger())
+                    .setValue(values.get(4).asPositiveBigInteger())
+                    .setFrom(values.get(5).asString())
+                    .setInput(values.get(6).asString())
+                    .setHumanReadable(values.get(7).asPositiveBigInteger().signum() != 0)
+                    .setCodeFormat(values.get(8).asPositiveBigInteger())
+                    .setSignList(decodeSignatures(values.get(9)))
+                    .build();
+
+            return smartContractDeploy;
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.", e);
+        }
+    }
+
+    /**
+     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
+     * @return String
+     */
+    @Override
+    public String getRLPEncoding() {
+        this.validateOptionalValues();
+        //TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat, txSignatures])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getHumanReadable() ? 1 : 0));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(getSignatureRLPList(this.getSignatures()));
+
+        byte[] encoded = RlpWriter.encode((byte)TransactionType.TxTypeSmartContractDeploy.getType(), new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Returns the RLP-encoded string of the transaction fields without signatures, used to make the signatures of this transaction.
+     * @return String
+     */
+    @Override
+    public String getCommonRLPEncodingForSignature() {
+        this.validateOptionalValues();
+        //SigRLP = encode([encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat]), chainId, 0, 0])
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpString.create(TransactionType.TxTypeSmartContractDeploy.getType()));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getHumanReadable() ? 1 : 0));
+        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+
+        byte[] encoded = RlpWriter.encode(new RlpList(rlpTypeList));
+        String encodedStr = Numeric.toHexString(encoded);
+
+        return encodedStr;
+    }
+
+    /**
+     * Check equals txObj passed parameter and Current instance.
+     * @param obj The AbstractTransaction Object to compare
+     * @param checkSig Check whether signatures field is equal.
+     * @return boolean
+     */
+    @Override
+    public boolean compareTxField(AbstractTransaction obj, boolean checkSig) {
+        if(!super.compareTxField(obj, checkSig)) return false;
+        if(!(obj instanceof SmartContractDeploy)) return false;
+        SmartContractDeploy txObj = (SmartContractDeploy)obj;
+
+        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if(!this.getInput().toLowerCase().equals(txObj.getInput().toLowerCase())) return false;
+        if(this.getHumanReadable() != txObj.getHumanReadable()) return false;
+        if(!Numeric.toBigInt(this.getCodeFormat()).equals(Numeric.toBigInt(txObj.getCodeFormat()))) return false;
+
+        return true;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public boolean getHumanReadable() {
+        return humanReadable;
+    }
+
+    public String getCodeFormat() {
+        return codeFormat;
+    }
+
+    private void setValue(String value) {
+        if(value == null || value.isEmpty() || value.equals("0x")) {
+            throw new IllegalArgumentException("value is missing.");
+        }
+
+        this.value = value;
+    }
+
+    private void setInput(String input) {
+        if(input == null || input.isEmpty() || input.equals("0x")) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.input = input;
+    }
+
+    private void setHumanReadable(boolean humanReadable) {
+        if(humanReadable) {
+            throw new IllegalArgumentException("HumanReadable attribute must be false.");
+        }
+
+        this.humanReadable = humanReadable;
+    }
+
+    private void setCodeFormat(String codeFormat) {
+        if(codeFormat == null || codeFormat.isEmpty() || codeFormat.equals("0x")) {
+            throw new IllegalArgumentException("codeFormat is missing.");
+        }
+        if(Numeric.toBigInt(codeFormat).signum() != 0) {
+            throw new IllegalArgumentException("CodeFormat attribute only supports EVM(0x0).");
+        }
+
+        this.codeFormat = codeFormat;
+    }
+}
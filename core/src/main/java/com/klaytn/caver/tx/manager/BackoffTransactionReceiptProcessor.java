@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.tx.manager;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionReceiptProcessor which waits for receipts without occupying a thread per transaction.
+ * <p>
+ * Every attempt is scheduled on a {@link TimerWheel} shared by default across all processors, and the
+ * klay_getTransactionReceipt request is sent asynchronously, so thousands of waiting transactions cost the
+ * single thread of the wheel plus the threads of the transport.
+ * <p>
+ * The first attempt is made one block interval after the transaction is sent, as a transaction is included
+ * in the next block at the earliest. The delay between attempts then grows by {@link Builder#setMultiplier(double)}
+ * up to {@link Builder#setMaxDelay(long)}, and is randomly spread by {@link Builder#setJitter(double)} so that
+ * transactions sent together do not poll together.
+ * Network errors are retried; a receipt not found within {@link Builder#setTimeout(long)} fails the future
+ * with a {@link TransactionException}.
+ *
+ * <pre>
+ * TransactionReceiptProcessor processor = new BackoffTransactionReceiptProcessor.Builder(caver)
+ *         .setMaxDelay(4000)
+ *         .build();
+ * </pre>
+ */
+public class BackoffTransactionReceiptProcessor extends TransactionReceiptProcessor {
+
+    public static final long BLOCK_INTERVAL = 1000;
+    public static final long DEFAULT_INITIAL_DELAY = BLOCK_INTERVAL;
+    public static final double DEFAULT_MULTIPLIER = 1.5;
+    public static final long DEFAULT_MAX_DELAY = 5 * BLOCK_INTERVAL;
+    public static final double DEFAULT_JITTER = 0.2;
+    public static final long DEFAULT_TIMEOUT = 60 * BLOCK_INTERVAL;
+
+    private final long initialDelay;
+    private final double multiplier;
+    private final long maxDelay;
+    private final double jitter;
+    private final long timeout;
+    private final TimerWheel timerWheel;
+
+    private BackoffTransactionReceiptProcessor(Builder builder) {
+        super(builder.caver);
+        this.initialDelay = builder.initialDelay;
+        this.multiplier = builder.multiplier;
+        this.maxDelay = builder.maxDelay;
+        this.jitter = builder.jitter;
+        this.timeout = builder.timeout;
+        this.timerWheel = builder.timerWheel != null ? builder.timerWheel : TimerWheel.getShared();
+    }
+
+    public BackoffTransactionReceiptProcessor(Caver caver) {
+        this(new Builder(caver));
+    }
+
+    @Override
+    public KlayTransactionReceipt.TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof TransactionException) {
+                throw (TransactionException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns a future completed with the receipt of the given transaction.
+     * Cancelling the future stops the attempts.
+     *
+     * @param transactionHash Hash of a transaction
+     * @return future of the transaction receipt
+     */
+    @Override
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        timerWheel.schedule(() -> poll(transactionHash, initialDelay, deadline, result), jitter(initialDelay));
+        return result;
+    }
+
+    private void poll(String transactionHash, long delay, long deadline,
+                      CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result) {
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<Optional<KlayTransactionReceipt.TransactionReceipt>> request;
+        try {
+            request = sendTransactionReceiptRequestAsync(transactionHash);
+        } catch (RuntimeException e) {
+            // The timer wheel swallows exceptions of its tasks, so a synchronous failure must fail the future here.
+            result.completeExceptionally(e);
+            return;
+        }
+
+        request.whenComplete((receiptOptional, throwable) -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            if (cause != null && !(cause instanceof IOException)) {
+                result.completeExceptionally(cause);
+            } else if (cause == null && receiptOptional.isPresent()) {
+                result.complete(receiptOptional.get());
+            } else {
+                long nextDelay = Math.min((long) (delay * multiplier), maxDelay);
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    result.completeExceptionally(new TransactionException("Transaction receipt was not generated after "
+                            + timeout / 1000 + " seconds for transaction: " + transactionHash, transactionHash));
+                    return;
+                }
+                // The last attempt is made at the deadline instead of after it.
+                timerWheel.schedule(() -> poll(transactionHash, nextDelay, deadline, result),
+                        Math.min(jitter(nextDelay), remaining));
+            }
+        });
+    }
+
+    private long jitter(long delay) {
+        if (jitter == 0) {
+            return delay;
+        }
+        double spread = delay * jitter;
+        return Math.max(0, (long) (delay - spread + ThreadLocalRandom.current().nextDouble() * 2 * spread));
+    }
+
+    public static class Builder {
+        private final Caver caver;
+        private long initialDelay = DEFAULT_INITIAL_DELAY;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+        private double jitter = DEFAULT_JITTER;
+        private long timeout = DEFAULT_TIMEOUT;
+        private TimerWheel timerWheel;
+
+        public Builder(Caver caver) {
+            this.caver = caver;
+        }
+
+        /**
+         * @param initialDelay delay in milliseconds before the first attempt, one block interval by default
+         * @return this Builder
+         */
+        public Builder setInitialDelay(long initialDelay) {
+            if (initialDelay < 0) {
+                throw new IllegalArgumentException("Initial delay must not be negative: " + initialDelay);
+            }
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        /**
+         * @param multiplier factor applied to the delay after every attempt. 1 polls at a fixed interval
+         * @return this Builder
+         */
+        public Builder setMultiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("Multiplier must be at least 1: " + multiplier);
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * @param maxDelay upper bound of the delay between two attempts in milliseconds
+         * @return this Builder
+         */
+        public Builder setMaxDelay(long maxDelay) {
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("Max delay must not be negative: " + maxDelay);
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * @param jitter fraction of the delay by which it is randomly shortened or lengthened, between 0 and 1
+         * @return this Builder
+         */
+        public Builder setJitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("Jitter must be between 0 and 1: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param timeout time in milliseconds after which a missing receipt fails the future
+         * @return this Builder
+         */
+        public Builder setTimeout(long timeout) {
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param timerWheel wheel scheduling the attempts, {@link TimerWheel#getShared()} by default
+         * @return this Builder
+         */
+        public Builder setTimerWheel(TimerWheel timerWheel) {
+            this.timerWheel = timerWheel;
+            return this;
+        }
+
+        public BackoffTransactionReceiptProcessor build() {
+            return new BackoffTransactionReceiptProcessor(this);
+        }
+    }
+}
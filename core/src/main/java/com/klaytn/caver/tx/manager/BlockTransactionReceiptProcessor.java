@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.tx.manager;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.BlockReceipts;
+import com.klaytn.caver.methods.response.Callback;
+import com.klaytn.caver.methods.response.EmptyTransactionReceipt;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionReceiptProcessor that follows new blocks and fetches their receipts with
+ * klay_getBlockReceipts, instead of polling every pending transaction hash.
+ * The number of requests depends on the block rate and not on the number of pending transactions.
+ * A pending transaction whose receipt was not found within the given number of blocks is checked once
+ * with klay_getTransactionReceipt before it is reported as failed.
+ * <p>
+ * Blocks are scanned from the last block processed when the transaction was registered, so a
+ * transaction included in a block before the next polling is still found in that block. While no
+ * transaction is pending, the polling only reads the latest block number, so that registering a
+ * transaction never sends a request.
+ */
+public class BlockTransactionReceiptProcessor extends TransactionReceiptProcessor {
+
+    public static final int DEFAULT_BLOCKS_TO_WAIT = 15;
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+
+    private final Callback<KlayTransactionReceipt.TransactionReceipt> callback;
+    private final int blocksToWait;
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> scheduledFuture;
+
+    private volatile BigInteger lastProcessedBlock;
+
+    public BlockTransactionReceiptProcessor(
+            Caver caver, Callback<KlayTransactionReceipt.TransactionReceipt> callback,
+            int blocksToWait, long pollingFrequency, ScheduledExecutorService scheduledExecutorService) {
+        super(caver);
+        this.callback = callback;
+        this.blocksToWait = blocksToWait;
+
+        this.scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(
+                this::processNewBlocks,
+                pollingFrequency, pollingFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    public BlockTransactionReceiptProcessor(
+            Caver caver, Callback<KlayTransactionReceipt.TransactionReceipt> callback,
+            int blocksToWait, long pollingFrequency) {
+        this(caver, callback, blocksToWait, pollingFrequency, Async.defaultExecutorService());
+    }
+
+    public BlockTransactionReceiptProcessor(
+            Caver caver, Callback<KlayTransactionReceipt.TransactionReceipt> callback) {
+        this(caver, callback, DEFAULT_BLOCKS_TO_WAIT, DEFAULT_POLLING_FREQUENCY);
+    }
+
+    @Override
+    public KlayTransactionReceipt.TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        watch(transactionHash);
+
+        return new EmptyTransactionReceipt(transactionHash);
+    }
+
+    @Override
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        return watch(transactionHash);
+    }
+
+    /**
+     * Registers a transaction hash and returns a future completed with its receipt once the receipt
+     * appears in a block.
+     *
+     * @param transactionHash Hash of a transaction
+     * @return future of the transaction receipt
+     */
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> watch(String transactionHash) {
+        BigInteger registrationBlock = lastProcessedBlock;
+        PendingTransaction pendingTransaction = pendingTransactions.computeIfAbsent(
+                transactionHash.toLowerCase(), hash -> new PendingTransaction(hash, registrationBlock));
+        return pendingTransaction.future;
+    }
+
+    /**
+     * Returns the number of transactions whose receipts are not found yet.
+     *
+     * @return number of pending transactions
+     */
+    public int getPendingTransactionCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Stops following new blocks. Transactions still pending are not completed.
+     */
+    public void shutdown() {
+        scheduledFuture.cancel(false);
+    }
+
+    private void processNewBlocks() {
+        try {
+            BigInteger latestBlock = caver.klay().getBlockNumber().send().getValue();
+            if (pendingTransactions.isEmpty()) {
+                // Nothing to look for in the blocks, which only serve as the registration block of the next transactions.
+                lastProcessedBlock = latestBlock;
+                return;
+            }
+
+            BigInteger firstBlock = lastProcessedBlock != null ? lastProcessedBlock.add(BigInteger.ONE) : latestBlock;
+            for (PendingTransaction pendingTransaction : pendingTransactions.values()) {
+                BigInteger pendingFirstBlock = pendingTransaction.activate(latestBlock);
+                if (pendingFirstBlock != null && pendingFirstBlock.compareTo(firstBlock) < 0) {
+                    firstBlock = pendingFirstBlock;
+                }
+            }
+
+            for (BigInteger blockNumber = firstBlock; blockNumber.compareTo(latestBlock) <= 0;
+                 blockNumber = blockNumber.add(BigInteger.ONE)) {
+                processBlock(blockNumber);
+                if (lastProcessedBlock == null || blockNumber.compareTo(lastProcessedBlock) > 0) {
+                    lastProcessedBlock = blockNumber;
+                }
+                expirePendingTransactions(blockNumber);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The blocks not processed yet are fetched at the next polling.
+        }
+    }
+
+    private void processBlock(BigInteger blockNumber) throws IOException {
+        KlayBlock block = caver.klay().getBlockByNumber(DefaultBlockParameter.valueOf(blockNumber), false).send();
+        if (block.hasError() || block.getBlock() == null) {
+            throw new IOException("Unable to get block " + blockNumber);
+        }
+
+        BlockReceipts blockReceipts = caver.klay().getBlockReceipts(block.getBlock().getHash()).send();
+        if (blockReceipts.hasError()) {
+            throw new IOException(blockReceipts.getError().getMessage());
+        }
+
+        List<KlayTransactionReceipt.TransactionReceipt> receipts = blockReceipts.getResult();
+        if (receipts != null) {
+            for (KlayTransactionReceipt.TransactionReceipt receipt : receipts) {
+                PendingTransaction pendingTransaction =
+                        pendingTransactions.remove(receipt.getTransactionHash().toLowerCase());
+                if (pendingTransaction != null) {
+                    complete(pendingTransaction, receipt);
+                }
+            }
+        }
+    }
+
+    private void expirePendingTransactions(BigInteger blockNumber) {
+        Iterator<PendingTransaction> iterator = pendingTransactions.values().iterator();
+        while (iterator.hasNext()) {
+            PendingTransaction pendingTransaction = iterator.next();
+            if (pendingTransaction.scan(blockNumber) < blocksToWait) {
+                continue;
+            }
+
+            iterator.remove();
+            try {
+                Optional<KlayTransactionReceipt.TransactionReceipt> receipt =
+                        sendTransactionReceiptRequest(pendingTransaction.transactionHash);
+                if (receipt.isPresent()) {
+                    complete(pendingTransaction, receipt.get());
+                } else {
+                    fail(pendingTransaction, new TransactionException(
+                            "No transaction receipt for txHash: " + pendingTransaction.transactionHash
+                                    + " received after " + blocksToWait + " blocks",
+                            pendingTransaction.transactionHash));
+                }
+            } catch (IOException | TransactionException e) {
+                fail(pendingTransaction, e);
+            }
+        }
+    }
+
+    private void complete(PendingTransaction pendingTransaction,
+                          KlayTransactionReceipt.TransactionReceipt receipt) {
+        pendingTransaction.future.complete(receipt);
+        if (callback != null) {
+            callback.accept(receipt);
+        }
+    }
+
+    private void fail(PendingTransaction pendingTransaction, Exception exception) {
+        pendingTransaction.future.completeExceptionally(exception);
+        if (callback != null) {
+            callback.exception(exception);
+        }
+    }
+
+    /**
+     * A registered transaction. Its first block is set by the polling thread, at the first polling after the
+     * registration, and the blocks scanned for it are counted by height so that a block scanned again is
+     * not counted twice.
+     */
+    private static class PendingTransaction {
+        private final String transactionHash;
+        private final BigInteger registrationBlock;
+        private final CompletableFuture<KlayTransactionReceipt.TransactionReceipt> future =
+                new CompletableFuture<>();
+        private BigInteger firstBlock;
+        private BigInteger lastScannedBlock;
+
+        PendingTransaction(String transactionHash, BigInteger registrationBlock) {
+            this.transactionHash = transactionHash;
+            this.registrationBlock = registrationBlock;
+        }
+
+        /**
+         * Returns the block the scan must start from for this transaction, or null if the blocks
+         * from its first block were already scanned.
+         */
+        BigInteger activate(BigInteger latestBlock) {
+            if (firstBlock == null) {
+                firstBlock = registrationBlock != null ? registrationBlock : latestBlock;
+            }
+            return lastScannedBlock == null ? firstBlock : null;
+        }
+
+        /**
+         * Returns the number of blocks scanned for this transaction once the given block is scanned.
+         */
+        long scan(BigInteger blockNumber) {
+            if (firstBlock == null || blockNumber.compareTo(firstBlock) < 0) {
+                return 0;
+            }
+            if (lastScannedBlock == null || blockNumber.compareTo(lastScannedBlock) > 0) {
+                lastScannedBlock = blockNumber;
+            }
+            return lastScannedBlock.subtract(firstBlock).longValueExact() + 1;
+        }
+    }
+}
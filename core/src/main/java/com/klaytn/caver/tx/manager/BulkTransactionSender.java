@@ -0,0 +1,470 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.tx.manager;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.model.KlayRawTransaction;
+import com.klaytn.caver.tx.model.TransactionTransformer;
+import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.utils.ChainId;
+import com.klaytn.caver.wallet.WalletManager;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Sends a large number of transactions through a pipeline instead of one sign-send-wait cycle at a time.
+ * <p>
+ * For every transaction, the nonce of a {@link TransactionTransformer} without nonce is reserved in submission
+ * order on the calling thread, the transaction is signed on the signing executor and sent with
+ * klay_sendRawTransaction, optionally grouped with other signed transactions into JSON-RPC batches of
+ * {@link Builder#setBatchSize(int)}. If a TransactionReceiptProcessor is set, the outcome is reported once
+ * the receipt is available, otherwise once the node accepted the transaction.
+ * <p>
+ * At most {@link Builder#setMaxInFlight(int)} transactions are between submission and outcome. Submitting
+ * blocks while the window is full, so a stream of transactions is consumed no faster than the node accepts it.
+ * Every transaction gets a {@link Result}, which carries the failure instead of failing the future.
+ *
+ * <pre>
+ * BulkTransactionSender sender = new BulkTransactionSender.Builder(caver, walletManager)
+ *         .setChainId(ChainId.MAINNET)
+ *         .setBatchSize(50)
+ *         .build();
+ * sender.sendAll(transfers, result -&gt; {
+ *     if (!result.isSuccess()) {
+ *         failed.add(result.getIndex());
+ *     }
+ * });
+ * </pre>
+ */
+public class BulkTransactionSender {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    public static final int DEFAULT_BATCH_SIZE = 1;
+
+    private final Caver caver;
+    private final WalletManager walletManager;
+    private final int chainId;
+    private final GetNonceProcessor getNonceProcessor;
+    private final TransactionReceiptProcessor transactionReceiptProcessor;
+    private final Executor signingExecutor;
+    private final int maxInFlight;
+    private final int batchSize;
+    private final int maxConcurrentBatches;
+
+    private final Semaphore window;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<PendingSend> sendQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeBatches = new AtomicInteger();
+
+    private BulkTransactionSender(Builder builder) {
+        this.caver = builder.caver;
+        this.walletManager = builder.walletManager;
+        this.chainId = builder.chainId;
+        this.getNonceProcessor = builder.getNonceProcessor;
+        this.transactionReceiptProcessor = builder.transactionReceiptProcessor;
+        this.signingExecutor = builder.signingExecutor;
+        this.maxInFlight = builder.maxInFlight;
+        this.batchSize = builder.batchSize;
+        this.maxConcurrentBatches = Math.max(1, builder.maxInFlight / builder.batchSize);
+        this.window = new Semaphore(builder.maxInFlight);
+    }
+
+    /**
+     * Submits a transaction, waiting while {@link Builder#setMaxInFlight(int)} transactions are in flight.
+     * The nonce is reserved before this method returns if the transaction has none.
+     *
+     * @param transactionTransformer transaction to send
+     * @return future of the outcome, which is never completed exceptionally
+     * @throws InterruptedException if interrupted while waiting for the window
+     */
+    public CompletableFuture<Result> submit(TransactionTransformer transactionTransformer)
+            throws InterruptedException {
+        window.acquire();
+        long index = sequence.getAndIncrement();
+        String from = transactionTransformer.getFrom();
+
+        KlayCredentials credentials;
+        BigInteger reservedNonce = null;
+        try {
+            credentials = walletManager.findByAddress(from);
+            if (transactionTransformer.getNonce() == null) {
+                reservedNonce = getNonceProcessor.getNonce(credentials);
+                transactionTransformer.nonce(reservedNonce);
+            }
+        } catch (Exception e) {
+            window.release();
+            return CompletableFuture.completedFuture(new Result(index, null, null, e));
+        }
+
+        BigInteger nonce = reservedNonce;
+        return process(index, from, nonce, CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return transactionTransformer.build().sign(credentials, chainId);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, signingExecutor));
+    }
+
+    /**
+     * Submits a transaction which already has its nonce, waiting while {@link Builder#setMaxInFlight(int)}
+     * transactions are in flight.
+     *
+     * @param txType transaction to send
+     * @return future of the outcome, which is never completed exceptionally
+     * @throws InterruptedException if interrupted while waiting for the window
+     */
+    public CompletableFuture<Result> submit(AbstractTxType txType) throws InterruptedException {
+        window.acquire();
+        long index = sequence.getAndIncrement();
+        return process(index, txType.getFrom(), null, CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return txType.sign(walletManager.findByAddress(txType.getFrom()), chainId);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, signingExecutor));
+    }
+
+    /**
+     * Submits every transaction and waits until the outcome of each of them has been reported.
+     * Indexes of the results start from the number of transactions submitted before by this sender.
+     *
+     * @param transactions  transactions to send, consumed as the window allows
+     * @param resultHandler receives the outcome of every transaction, possibly on different threads
+     * @throws InterruptedException if interrupted while submitting or waiting
+     */
+    public void sendAll(Iterable<? extends TransactionTransformer> transactions, Consumer<Result> resultHandler)
+            throws InterruptedException {
+        for (TransactionTransformer transaction : transactions) {
+            submit(transaction).thenAccept(resultHandler);
+        }
+        awaitIdle();
+    }
+
+    /**
+     * Waits until no transaction is in flight.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitIdle() throws InterruptedException {
+        window.acquire(maxInFlight);
+        window.release(maxInFlight);
+    }
+
+    /**
+     * Returns the number of transactions between submission and outcome.
+     *
+     * @return number of transactions in flight
+     */
+    public int getInFlightCount() {
+        return maxInFlight - window.availablePermits();
+    }
+
+    private CompletableFuture<Result> process(
+            long index, String from, BigInteger nonce, CompletableFuture<KlayRawTransaction> signed) {
+        CompletableFuture<String> sent = signed.thenCompose(this::send);
+        if (nonce != null) {
+            sent = sent.whenComplete((transactionHash, throwable) -> {
+                if (throwable == null) {
+                    getNonceProcessor.commit(from, nonce);
+                } else {
+                    getNonceProcessor.release(from, nonce, unwrap(throwable));
+                }
+            });
+        }
+
+        CompletableFuture<Result> result = new CompletableFuture<>();
+        sent.whenComplete((transactionHash, throwable) -> {
+            if (throwable != null) {
+                complete(result, new Result(index, null, null, unwrap(throwable)));
+            } else if (transactionReceiptProcessor == null) {
+                complete(result, new Result(index, transactionHash, null, null));
+            } else {
+                transactionReceiptProcessor.waitForTransactionReceiptAsync(transactionHash).whenComplete(
+                        (receipt, receiptThrowable) -> complete(result, new Result(index, transactionHash, receipt,
+                                receiptThrowable != null ? unwrap(receiptThrowable) : null)));
+            }
+        });
+        return result;
+    }
+
+    private void complete(CompletableFuture<Result> future, Result result) {
+        // The slot is released after the handlers ran, so awaitIdle returns once every outcome was handled.
+        future.complete(result);
+        window.release();
+    }
+
+    private CompletableFuture<String> send(KlayRawTransaction rawTransaction) {
+        if (batchSize == 1) {
+            return caver.klay().sendSignedTransaction(rawTransaction.getValueAsString()).sendAsync()
+                    .thenApply(BulkTransactionSender::getTransactionHash);
+        }
+
+        PendingSend pendingSend = new PendingSend(rawTransaction);
+        sendQueue.add(pendingSend);
+        drainSendQueue();
+        return pendingSend.transactionHash;
+    }
+
+    /**
+     * Sends the queued transactions in batches, with at most maxConcurrentBatches batches in flight.
+     * Transactions signed while the batches are busy accumulate and leave together with the next batch,
+     * so batches fill up under load and a single transaction is not held back when idle.
+     */
+    private void drainSendQueue() {
+        while (!sendQueue.isEmpty()) {
+            if (activeBatches.incrementAndGet() > maxConcurrentBatches) {
+                activeBatches.decrementAndGet();
+                return;
+            }
+
+            List<PendingSend> batch = new ArrayList<>(batchSize);
+            PendingSend pendingSend;
+            while (batch.size() < batchSize && (pendingSend = sendQueue.poll()) != null) {
+                batch.add(pendingSend);
+            }
+            if (batch.isEmpty()) {
+                activeBatches.decrementAndGet();
+                continue;
+            }
+
+            sendBatch(batch).whenComplete((ignored, throwable) -> {
+                activeBatches.decrementAndGet();
+                drainSendQueue();
+            });
+        }
+    }
+
+    private CompletableFuture<BatchResponse> sendBatch(List<PendingSend> batch) {
+        BatchRequest batchRequest = caver.batch();
+        for (PendingSend pendingSend : batch) {
+            batchRequest.add(caver.klay().sendSignedTransaction(pendingSend.rawTransaction.getValueAsString()));
+        }
+
+        return batchRequest.sendAsync().whenComplete((batchResponse, throwable) -> {
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<String> transactionHash = batch.get(i).transactionHash;
+                if (throwable != null) {
+                    transactionHash.completeExceptionally(unwrap(throwable));
+                    continue;
+                }
+                try {
+                    transactionHash.complete(getTransactionHash(batchResponse.get(i, Bytes32.class)));
+                } catch (RuntimeException e) {
+                    // A missing or malformed response fails its own transaction only.
+                    transactionHash.completeExceptionally(unwrap(e));
+                }
+            }
+        });
+    }
+
+    private static String getTransactionHash(Bytes32 response) {
+        if (response.hasError()) {
+            throw new CompletionException(new PlatformErrorException(response.getError()));
+        }
+        return response.getResult();
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+    }
+
+    private static class PendingSend {
+        private final KlayRawTransaction rawTransaction;
+        private final CompletableFuture<String> transactionHash = new CompletableFuture<>();
+
+        PendingSend(KlayRawTransaction rawTransaction) {
+            this.rawTransaction = rawTransaction;
+        }
+    }
+
+    /**
+     * Outcome of a submitted transaction.
+     */
+    public static class Result {
+        private final long index;
+        private final String transactionHash;
+        private final KlayTransactionReceipt.TransactionReceipt receipt;
+        private final Exception exception;
+
+        Result(long index, String transactionHash, KlayTransactionReceipt.TransactionReceipt receipt,
+               Exception exception) {
+            this.index = index;
+            this.transactionHash = transactionHash;
+            this.receipt = receipt;
+            this.exception = exception;
+        }
+
+        /**
+         * @return position of the transaction in the submission order of this sender, starting from 0
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * @return hash of the transaction, or null if it was not accepted by the node
+         */
+        public String getTransactionHash() {
+            return transactionHash;
+        }
+
+        /**
+         * @return receipt of the transaction, or null if no TransactionReceiptProcessor is set or it failed
+         */
+        public KlayTransactionReceipt.TransactionReceipt getReceipt() {
+            return receipt;
+        }
+
+        /**
+         * @return the reason the transaction failed, or null
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        /**
+         * @return true if the transaction was accepted and, when receipts are awaited, its receipt was found
+         */
+        public boolean isSuccess() {
+            return exception == null;
+        }
+    }
+
+    public static class Builder {
+        private final Caver caver;
+        private final WalletManager walletManager;
+        private int chainId = -1;
+        private GetNonceProcessor getNonceProcessor;
+        private TransactionReceiptProcessor transactionReceiptProcessor;
+        private Executor signingExecutor;
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        public Builder(Caver caver, WalletManager walletManager) {
+            this.caver = caver;
+            this.walletManager = walletManager;
+        }
+
+        public Builder(Caver caver, KlayCredentials credentials) {
+            this.caver = caver;
+            WalletManager walletManager = new WalletManager();
+            walletManager.add(credentials);
+            this.walletManager = walletManager;
+        }
+
+        public Builder setChainId(int chainId) {
+            this.chainId = chainId;
+            return this;
+        }
+
+        /**
+         * Sets the processor reserving nonces. It must hand out consecutive nonces without waiting for
+         * the previous transactions to be mined; a {@link ConcurrentGetNonceProcessor} is used if not set.
+         *
+         * @param getNonceProcessor nonce processor
+         * @return this Builder
+         */
+        public Builder setGetNonceProcessor(GetNonceProcessor getNonceProcessor) {
+            this.getNonceProcessor = getNonceProcessor;
+            return this;
+        }
+
+        /**
+         * Sets the processor waiting for receipts. The outcome of a transaction is reported as soon as the node
+         * accepted it if not set.
+         *
+         * @param transactionReceiptProcessor receipt processor, e.g. a {@link BackoffTransactionReceiptProcessor}
+         * @return this Builder
+         */
+        public Builder setTransactionReceiptProcessor(TransactionReceiptProcessor transactionReceiptProcessor) {
+            this.transactionReceiptProcessor = transactionReceiptProcessor;
+            return this;
+        }
+
+        /**
+         * Sets the executor signing the transactions. The common fork-join pool is used if not set.
+         *
+         * @param signingExecutor executor for signing
+         * @return this Builder
+         */
+        public Builder setSigningExecutor(Executor signingExecutor) {
+            this.signingExecutor = signingExecutor;
+            return this;
+        }
+
+        /**
+         * @param maxInFlight maximum number of transactions between submission and outcome
+         * @return this Builder
+         */
+        public Builder setMaxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("Max in-flight must be at least 1: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * @param batchSize maximum number of transactions sent in one JSON-RPC batch. 1 sends every transaction
+         *                  in its own request
+         * @return this Builder
+         */
+        public Builder setBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BulkTransactionSender build() {
+            if (this.chainId == -1)
+                this.chainId = ChainId.BAOBAB_TESTNET;
+            if (this.getNonceProcessor == null)
+                this.getNonceProcessor = new ConcurrentGetNonceProcessor(this.caver);
+            if (this.signingExecutor == null)
+                this.signingExecutor = ForkJoinPool.commonPool();
+
+            return new BulkTransactionSender(this);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.tx.manager;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GetNonceProcessor that keeps a separate nonce counter for every sender address.
+ * The counter of an address is seeded once from the pending transaction count of the node, with
+ * concurrent first callers sharing that request, and afterwards nonces are reserved locally without
+ * locking, so a single TransactionManager can be shared by many threads and many accounts.
+ */
+public class ConcurrentGetNonceProcessor extends GetNonceProcessor {
+
+    private static final String[] NONCE_ERROR_MESSAGES = {
+            "nonce too low",
+            "known transaction",
+            "there is another tx which has the same nonce in the tx pool"
+    };
+
+    private final ConcurrentMap<String, CompletableFuture<NonceState>> nonceStates = new ConcurrentHashMap<>();
+
+    public ConcurrentGetNonceProcessor(Caver caver) {
+        super(caver);
+    }
+
+    /**
+     * Reserves the next nonce of the given account. Nonces released by {@link #release} are handed
+     * out again before the counter advances.
+     *
+     * @param credentials credentials of the sender
+     * @return reserved nonce
+     * @throws IOException if the nonce of a new account could not be read from the node
+     */
+    @Override
+    public BigInteger getNonce(KlayCredentials credentials) throws IOException {
+        String key = toKey(credentials.getAddress());
+        CompletableFuture<NonceState> state = nonceStates.get(key);
+        if (state == null) {
+            CompletableFuture<NonceState> seeding = new CompletableFuture<>();
+            state = nonceStates.putIfAbsent(key, seeding);
+            if (state == null) {
+                state = seeding;
+                try {
+                    seeding.complete(new NonceState(super.getNonce(credentials).longValueExact()));
+                } catch (IOException | RuntimeException e) {
+                    nonceStates.remove(key, seeding);
+                    seeding.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        return BigInteger.valueOf(await(state).reserve());
+    }
+
+    @Override
+    public void commit(String address, BigInteger nonce) {
+        NonceState state = getSeededState(toKey(address));
+        if (state != null) {
+            state.reserved.remove(nonce.longValue());
+        }
+    }
+
+    /**
+     * Gives back a nonce whose transaction was not accepted. If the node reported that the nonce
+     * was already used, the counter of the account is resynchronized from the node instead.
+     *
+     * @param address address of the sender
+     * @param nonce   nonce used by the rejected transaction
+     * @param cause   the reason the transaction was not sent
+     */
+    @Override
+    public void release(String address, BigInteger nonce, Exception cause) {
+        String key = toKey(address);
+        CompletableFuture<NonceState> seeded = nonceStates.get(key);
+        NonceState state = getSeededState(seeded);
+        if (state == null) {
+            return;
+        }
+
+        state.reserved.remove(nonce.longValue());
+        if (isNonceError(cause)) {
+            try {
+                resync(address);
+            } catch (IOException e) {
+                nonceStates.remove(key, seeded);
+            }
+        } else {
+            state.release(nonce.longValue());
+        }
+    }
+
+    /**
+     * Reads the pending transaction count of the account from the node and moves the local counter
+     * forward if the node is ahead of it.
+     *
+     * @param address address of the account
+     * @throws IOException if the node could not be reached
+     */
+    public void resync(String address) throws IOException {
+        String key = toKey(address);
+        long pending = caver.klay().getTransactionCount(key, DefaultBlockParameterName.PENDING).send()
+                .getValue().longValueExact();
+
+        CompletableFuture<NonceState> state = nonceStates.putIfAbsent(
+                key, CompletableFuture.completedFuture(new NonceState(pending)));
+        if (state != null) {
+            await(state).advanceTo(pending);
+        }
+    }
+
+    /**
+     * Returns the nonces of the given account that were handed out but neither committed nor released.
+     *
+     * @param address address of the account
+     * @return reserved nonces
+     */
+    public Set<Long> getReservedNonces(String address) {
+        NonceState state = getSeededState(toKey(address));
+        return state != null ? Collections.unmodifiableSet(state.reserved) : Collections.emptySet();
+    }
+
+    private NonceState getSeededState(String key) {
+        return getSeededState(nonceStates.get(key));
+    }
+
+    private static NonceState getSeededState(CompletableFuture<NonceState> state) {
+        if (state == null || !state.isDone() || state.isCompletedExceptionally()) {
+            return null;
+        }
+        return state.join();
+    }
+
+    private NonceState await(CompletableFuture<NonceState> state) throws IOException {
+        try {
+            return state.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isNonceError(Exception cause) {
+        if (!(cause instanceof PlatformErrorException) || cause.getMessage() == null) {
+            return false;
+        }
+        String message = cause.getMessage().toLowerCase();
+        for (String nonceErrorMessage : NONCE_ERROR_MESSAGES) {
+            if (message.contains(nonceErrorMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toKey(String address) {
+        return Numeric.prependHexPrefix(address).toLowerCase();
+    }
+
+    private static class NonceState {
+        private final AtomicLong next;
+        private final ConcurrentSkipListSet<Long> released = new ConcurrentSkipListSet<>();
+        private final Set<Long> reserved = ConcurrentHashMap.newKeySet();
+
+        NonceState(long next) {
+            this.next = new AtomicLong(next);
+        }
+
+        long reserve() {
+            Long nonce = released.pollFirst();
+            if (nonce == null) {
+                nonce = next.getAndIncrement();
+            }
+            reserved.add(nonce);
+            return nonce;
+        }
+
+        void release(long nonce) {
+            if (!next.compareAndSet(nonce + 1, nonce)) {
+                released.add(nonce);
+            }
+        }
+
+        void advanceTo(long pending) {
+            next.accumulateAndGet(pending, Math::max);
+            released.headSet(pending).clear();
+        }
+    }
+}
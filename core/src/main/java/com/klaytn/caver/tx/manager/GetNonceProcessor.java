@@ -37,4 +37,25 @@ public class GetNonceProcessor {
 
         return quantity.getValue();
     }
+
+    /**
+     * Called by {@link TransactionManager} after a transaction signed with a nonce from this processor
+     * has been accepted by the node.
+     *
+     * @param address address of the sender
+     * @param nonce   nonce used by the accepted transaction
+     */
+    public void commit(String address, BigInteger nonce) {
+    }
+
+    /**
+     * Called by {@link TransactionManager} when a transaction signed with a nonce from this processor
+     * could not be sent, so that the nonce can be handed out again.
+     *
+     * @param address address of the sender
+     * @param nonce   nonce used by the rejected transaction
+     * @param cause   the reason the transaction was not sent
+     */
+    public void release(String address, BigInteger nonce, Exception cause) {
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.tx.manager;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.model.CancelTransaction;
+import com.klaytn.caver.tx.model.KlayRawTransaction;
+import com.klaytn.caver.utils.ChainId;
+import com.klaytn.caver.wallet.WalletManager;
+import com.klaytn.caver.wallet.exception.CredentialNotFoundException;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the nonces of the transactions sent by each account and fills the gaps which stall them.
+ * <p>
+ * A transaction is executable only when every lower nonce of its sender has been used, so a single nonce which
+ * never reaches the node, e.g. because its transaction was rejected and no later transaction reused it, holds back
+ * every later transaction of the account. Such a gap is the pending transaction count of the node whenever a
+ * recorded nonce is at or above it, plus every unrecorded nonce below the highest recorded one.
+ * <p>
+ * A gap is repaired by sending the recorded transaction again if its nonce was recorded, otherwise by a
+ * {@link com.klaytn.caver.tx.type.TxTypeCancel} using the nonce. Klaytn has a fixed gas unit price and does not
+ * replace a pending transaction by a higher gas price, so a cancel transaction is the only replacement.
+ * <p>
+ * With {@link Builder#setCheckInterval(long, ScheduledExecutorService)}, the accounts are checked periodically and
+ * a gap is repaired once it has been seen by two consecutive checks, which leaves the TransactionManager time to
+ * send a nonce it has just reserved or released.
+ */
+public class NonceGapTracker {
+
+    public static final BigInteger DEFAULT_CANCEL_GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private final Caver caver;
+    private final WalletManager walletManager;
+    private final int chainId;
+    private final GetNonceProcessor getNonceProcessor;
+    private final ErrorHandler errorHandler;
+    private final BigInteger cancelGasLimit;
+    private final ScheduledFuture<?> scheduledCheck;
+
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Long, KlayRawTransaction>> sentTransactions =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Long>> suspectedGaps = new ConcurrentHashMap<>();
+
+    private NonceGapTracker(Builder builder) {
+        this.caver = builder.caver;
+        this.walletManager = builder.walletManager;
+        this.chainId = builder.chainId;
+        this.getNonceProcessor = builder.getNonceProcessor;
+        this.errorHandler = builder.errorHandler;
+        this.cancelGasLimit = builder.cancelGasLimit;
+        this.scheduledCheck = builder.checkInterval > 0
+                ? builder.scheduledExecutorService.scheduleWithFixedDelay(
+                        this::check, builder.checkInterval, builder.checkInterval, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * Records a transaction accepted by the node.
+     *
+     * @param address        address of the sender
+     * @param nonce          nonce of the transaction
+     * @param rawTransaction signed transaction, sent again if its nonce turns out to be missing
+     */
+    public void record(String address, BigInteger nonce, KlayRawTransaction rawTransaction) {
+        // Adds the nonce under the lock of the entry, so check() never drops an entry that is being filled.
+        sentTransactions.compute(toKey(address), (key, sent) -> {
+            if (sent == null) {
+                sent = new ConcurrentSkipListMap<>();
+            }
+            sent.put(nonce.longValueExact(), rawTransaction);
+            return sent;
+        });
+    }
+
+    /**
+     * Returns the nonces of the given account which are recorded and not yet included in a block.
+     *
+     * @param address address of the account
+     * @return recorded nonces in ascending order
+     */
+    public Set<Long> getRecordedNonces(String address) {
+        ConcurrentNavigableMap<Long, KlayRawTransaction> sent = sentTransactions.get(toKey(address));
+        return sent != null ? Collections.unmodifiableSet(sent.keySet()) : Collections.emptySet();
+    }
+
+    /**
+     * Compares the recorded nonces of the account with its transaction counts on the node. Recorded transactions
+     * included in a block are forgotten.
+     *
+     * @param address address of the account
+     * @return the gaps in ascending order of nonce
+     * @throws IOException if the node could not be reached
+     */
+    public List<NonceGap> findGaps(String address) throws IOException {
+        String key = toKey(address);
+        ConcurrentNavigableMap<Long, KlayRawTransaction> sent = sentTransactions.get(key);
+        if (sent == null) {
+            return Collections.emptyList();
+        }
+
+        long latest = getTransactionCount(key, DefaultBlockParameterName.LATEST);
+        sent.headMap(latest).clear();
+        if (sent.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long pending = getTransactionCount(key, DefaultBlockParameterName.PENDING);
+        long highest = sent.lastKey();
+        List<NonceGap> gaps = new ArrayList<>();
+        for (long nonce = pending; nonce <= highest; nonce++) {
+            KlayRawTransaction rawTransaction = sent.get(nonce);
+            if (nonce == pending || rawTransaction == null) {
+                gaps.add(new NonceGap(key, nonce, rawTransaction));
+            }
+        }
+        return gaps;
+    }
+
+    /**
+     * Finds the gaps of the account and repairs them right away.
+     *
+     * @param address address of the account
+     * @return the repaired gaps
+     * @throws IOException if the node could not be reached
+     * @throws CredentialNotFoundException if the account is not in the WalletManager
+     * @throws PlatformErrorException if the node rejected a cancel transaction
+     */
+    public List<NonceGap> repair(String address)
+            throws IOException, CredentialNotFoundException, PlatformErrorException {
+        List<NonceGap> gaps = findGaps(address);
+        for (NonceGap gap : gaps) {
+            repair(gap);
+        }
+        if (!gaps.isEmpty() && getNonceProcessor instanceof ConcurrentGetNonceProcessor) {
+            ((ConcurrentGetNonceProcessor) getNonceProcessor).resync(address);
+        }
+        return gaps;
+    }
+
+    /**
+     * Checks every account with recorded transactions, and repairs the gaps which were already found by the
+     * previous check. Errors are reported to the ErrorHandler.
+     */
+    public void check() {
+        for (String address : sentTransactions.keySet()) {
+            try {
+                List<NonceGap> gaps = findGaps(address);
+                Set<Long> previous = suspectedGaps.getOrDefault(address, Collections.emptySet());
+                Set<Long> current = new HashSet<>();
+                boolean repaired = false;
+                for (NonceGap gap : gaps) {
+                    if (previous.contains(gap.getNonce())) {
+                        repair(gap);
+                        repaired = true;
+                    } else {
+                        current.add(gap.getNonce());
+                    }
+                }
+                suspectedGaps.put(address, current);
+
+                if (repaired && getNonceProcessor instanceof ConcurrentGetNonceProcessor) {
+                    ((ConcurrentGetNonceProcessor) getNonceProcessor).resync(address);
+                }
+                if (gaps.isEmpty()) {
+                    suspectedGaps.remove(address);
+                    sentTransactions.computeIfPresent(address, (key, sent) -> sent.isEmpty() ? null : sent);
+                }
+            } catch (IOException | CredentialNotFoundException | PlatformErrorException | RuntimeException e) {
+                if (errorHandler != null) {
+                    errorHandler.exception(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic checks.
+     */
+    public void shutdown() {
+        if (scheduledCheck != null) {
+            scheduledCheck.cancel(false);
+        }
+    }
+
+    private void repair(NonceGap gap) throws IOException, CredentialNotFoundException, PlatformErrorException {
+        if (gap.getRawTransaction() != null) {
+            Bytes32 result = caver.klay().sendSignedTransaction(gap.getRawTransaction().getValueAsString()).send();
+            if (!result.hasError()) {
+                return;
+            }
+        }
+
+        KlayCredentials credentials = walletManager.findByAddress(gap.getAddress());
+        KlayRawTransaction cancel = CancelTransaction.create(gap.getAddress(), cancelGasLimit)
+                .nonce(BigInteger.valueOf(gap.getNonce()))
+                .build()
+                .sign(credentials, chainId);
+        Bytes32 result = caver.klay().sendSignedTransaction(cancel.getValueAsString()).send();
+        if (result.hasError()) {
+            throw new PlatformErrorException(result.getError());
+        }
+        record(gap.getAddress(), BigInteger.valueOf(gap.getNonce()), cancel);
+    }
+
+    private long getTransactionCount(String address, DefaultBlockParameterName blockParameter) throws IOException {
+        return caver.klay().getTransactionCount(address, blockParameter).send().getValue().longValueExact();
+    }
+
+    private static String toKey(String address) {
+        return Numeric.prependHexPrefix(address).toLowerCase();
+    }
+
+    /**
+     * A nonce missing from the transactions of an account in the pool of the node.
+     */
+    public static class NonceGap {
+        private final String address;
+        private final long nonce;
+        private final KlayRawTransaction rawTransaction;
+
+        NonceGap(String address, long nonce, KlayRawTransaction rawTransaction) {
+            this.address = address;
+            this.nonce = nonce;
+            this.rawTransaction = rawTransaction;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public long getNonce() {
+            return nonce;
+        }
+
+        /**
+         * @return the recorded transaction using the nonce, which the node dropped, or null if none was recorded
+         */
+        public KlayRawTransaction getRawTransaction() {
+            return rawTransaction;
+        }
+
+        @Override
+        public String toString() {
+            return "NonceGap{address=" + address + ", nonce=" + nonce + ", recorded=" + (rawTransaction != null) + "}";
+        }
+    }
+
+    public static class Builder {
+        private final Caver caver;
+        private final WalletManager walletManager;
+        private int chainId = -1;
+        private GetNonceProcessor getNonceProcessor;
+        private ErrorHandler errorHandler;
+        private BigInteger cancelGasLimit = DEFAULT_CANCEL_GAS_LIMIT;
+        private long checkInterval;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        public Builder(Caver caver, WalletManager walletManager) {
+            this.caver = caver;
+            this.walletManager = walletManager;
+        }
+
+        public Builder setChainId(int chainId) {
+            this.chainId = chainId;
+            return this;
+        }
+
+        /**
+         * Sets the nonce processor of the TransactionManager. A {@link ConcurrentGetNonceProcessor} is
+         * resynchronized after a repair, so that it does not hand out the nonces which were filled.
+         *
+         * @param getNonceProcessor nonce processor
+         * @return this Builder
+         */
+        public Builder setGetNonceProcessor(GetNonceProcessor getNonceProcessor) {
+            this.getNonceProcessor = getNonceProcessor;
+            return this;
+        }
+
+        public Builder setErrorHandler(ErrorHandler errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        public Builder setCancelGasLimit(BigInteger cancelGasLimit) {
+            this.cancelGasLimit = cancelGasLimit;
+            return this;
+        }
+
+        /**
+         * @param checkInterval            interval in milliseconds between checks, or 0 to disable them
+         * @param scheduledExecutorService executor running the checks
+         * @return this Builder
+         */
+        public Builder setCheckInterval(long checkInterval, ScheduledExecutorService scheduledExecutorService) {
+            this.checkInterval = checkInterval;
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public NonceGapTracker build() {
+            if (this.chainId == -1)
+                this.chainId = ChainId.BAOBAB_TESTNET;
+
+            return new NonceGapTracker(this);
+        }
+    }
+}
@@ -23,19 +23,31 @@ package com.klaytn.caver.tx.manager;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.methods.response.KlayTransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class PollingTransactionReceiptProcessor extends TransactionReceiptProcessor {
 
     private final long sleepDuration;
     private final int attempts;
+    private final ScheduledExecutorService scheduledExecutorService;
 
     public PollingTransactionReceiptProcessor(Caver caver, long sleepDuration, int attempts) {
+        this(caver, sleepDuration, attempts, Async.defaultExecutorService());
+    }
+
+    public PollingTransactionReceiptProcessor(Caver caver, long sleepDuration, int attempts,
+                                              ScheduledExecutorService scheduledExecutorService) {
         super(caver);
         this.sleepDuration = sleepDuration;
         this.attempts = attempts;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     @Override
@@ -45,23 +57,57 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
         return getTransactionReceipt(transactionHash, sleepDuration, attempts);
     }
 
+    /**
+     * Polls for the receipt on a shared scheduler instead of sleeping, so no thread is occupied
+     * between two attempts. Like {@link #waitForTransactionReceipt}, it sends at most {@code attempts} requests.
+     *
+     * @param transactionHash Hash of a transaction
+     * @return future of the transaction receipt
+     */
+    @Override
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result = new CompletableFuture<>();
+        pollTransactionReceipt(transactionHash, 0, result);
+        return result;
+    }
+
+    private void pollTransactionReceipt(String transactionHash, int attempt,
+                                        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result) {
+        sendTransactionReceiptRequestAsync(transactionHash).whenComplete((receiptOptional, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+            } else if (receiptOptional.isPresent()) {
+                result.complete(receiptOptional.get());
+            } else if (attempt + 1 >= attempts) {
+                result.completeExceptionally(new TransactionException("Transaction receipt was not generated after "
+                        + ((sleepDuration * attempts) / 1000
+                        + " seconds for transaction: " + transactionHash), transactionHash));
+            } else {
+                scheduledExecutorService.schedule(
+                        () -> pollTransactionReceipt(transactionHash, attempt + 1, result),
+                        sleepDuration, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
     private KlayTransactionReceipt.TransactionReceipt getTransactionReceipt(
             String transactionHash, long sleepDuration, int attempts)
             throws IOException, TransactionException {
 
         Optional<KlayTransactionReceipt.TransactionReceipt> receiptOptional =
                 sendTransactionReceiptRequest(transactionHash);
-        for (int i = 0; i < attempts; i++) {
-            if (!receiptOptional.isPresent()) {
-                try {
-                    Thread.sleep(sleepDuration);
-                } catch (InterruptedException e) {
-                    throw new TransactionException(e);
-                }
-                receiptOptional = sendTransactionReceiptRequest(transactionHash);
-            } else {
-                return receiptOptional.get();
+        for (int i = 1; i < attempts && !receiptOptional.isPresent(); i++) {
+            try {
+                Thread.sleep(sleepDuration);
+            } catch (InterruptedException e) {
+                throw new TransactionException(e);
             }
+            receiptOptional = sendTransactionReceiptRequest(transactionHash);
+        }
+        if (receiptOptional.isPresent()) {
+            return receiptOptional.get();
         }
 
         throw new TransactionException("Transaction receipt was not generated after "
@@ -69,6 +69,14 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
         return new EmptyTransactionReceipt(transactionHash);
     }
 
+    @Override
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        pendingTransactions.add(new QueuingTransactionReceiptProcessor.RequestWrapper(transactionHash));
+
+        return CompletableFuture.completedFuture(new EmptyTransactionReceipt(transactionHash));
+    }
+
     private void sendTransactionReceiptRequests() {
         for (QueuingTransactionReceiptProcessor.RequestWrapper requestWrapper : pendingTransactions) {
             try {
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.tx.manager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timer wheel running delayed tasks on a single thread.
+ * <p>
+ * Scheduling a task only appends it to a queue, and every tick looks at a single bucket of the wheel,
+ * so the cost does not grow with the number of scheduled tasks. The precision is one tick.
+ * Tasks run on the thread of the wheel and must not block; they are expected to only send
+ * asynchronous requests or hand work over to another executor.
+ */
+public class TimerWheel {
+
+    public static final long DEFAULT_TICK_DURATION = 100;
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static TimerWheel shared;
+
+    private final long tickDuration;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final long startTime;
+    private final Thread worker;
+
+    private volatile boolean stopped;
+    private long tick;
+
+    public TimerWheel() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * @param tickDuration  duration of a tick in milliseconds
+     * @param ticksPerWheel number of buckets of the wheel, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickDuration, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Ticks per wheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        wheelSize = Math.max(wheelSize, 1);
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, "caver-timer-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Returns the wheel shared by the receipt processors of the application, created on first use.
+     * Its thread is a daemon thread, so it does not keep the JVM running.
+     *
+     * @return the shared TimerWheel
+     */
+    public static synchronized TimerWheel getShared() {
+        if (shared == null) {
+            shared = new TimerWheel();
+        }
+        return shared;
+    }
+
+    /**
+     * Runs the task once after the given delay.
+     *
+     * @param task  task to run
+     * @param delay delay in milliseconds
+     */
+    public void schedule(Runnable task, long delay) {
+        if (stopped) {
+            throw new IllegalStateException("TimerWheel is stopped");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0)) - startTime;
+        pendingCount.incrementAndGet();
+        scheduledTimeouts.add(new Timeout(task, deadline));
+    }
+
+    /**
+     * Returns the number of tasks which have not run yet.
+     *
+     * @return number of pending tasks
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stops the thread of the wheel. Pending tasks are dropped.
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!stopped) {
+            long deadline = waitForNextTick();
+            if (stopped) {
+                return;
+            }
+            transferScheduledTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickDuration * (tick + 1);
+        while (!stopped) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTime = deadline - currentTime;
+            if (sleepTime <= 0) {
+                return currentTime;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                if (stopped) {
+                    return currentTime;
+                }
+            }
+        }
+        return deadline;
+    }
+
+    private void transferScheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            long calculatedTick = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // A timeout whose deadline has already passed goes into the current bucket.
+            long targetTick = Math.max(calculatedTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(List<Timeout> bucket, long deadline) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        List<Timeout> expired = null;
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                iterator.remove();
+                if (expired == null) {
+                    expired = new ArrayList<>();
+                }
+                expired.add(timeout);
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            }
+        }
+
+        // Tasks run after the bucket is updated, as they may schedule new tasks.
+        if (expired != null) {
+            for (Timeout timeout : expired) {
+                pendingCount.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException ignored) {
+                    // A failing task must not stop the tasks of other callers.
+                }
+            }
+        }
+    }
+
+    private static class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -25,12 +25,15 @@ import com.klaytn.caver.crypto.KlayCredentials;
 import com.klaytn.caver.crypto.KlaySignatureData;
 import com.klaytn.caver.methods.response.Bytes32;
 import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.metrics.NoOpTransactionMetrics;
+import com.klaytn.caver.metrics.TransactionMetrics;
 import com.klaytn.caver.tx.model.TransactionTransformer;
 import com.klaytn.caver.tx.exception.EmptyNonceException;
 import com.klaytn.caver.tx.exception.PlatformErrorException;
 import com.klaytn.caver.tx.exception.UnsupportedTxTypeException;
 import com.klaytn.caver.tx.model.KlayRawTransaction;
 import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.tx.type.TxType;
 import com.klaytn.caver.utils.ChainId;
 import com.klaytn.caver.utils.TransactionDecoder;
 import com.klaytn.caver.wallet.WalletManager;
@@ -38,7 +41,14 @@ import com.klaytn.caver.wallet.exception.CredentialNotFoundException;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class TransactionManager {
 
@@ -48,6 +58,11 @@ public class TransactionManager {
     private TransactionReceiptProcessor transactionReceiptProcessor;
     private ErrorHandler errorHandler;
     private GetNonceProcessor getNonceProcessor;
+    private Executor executor;
+    private Executor signingExecutor;
+    private NonceGapTracker nonceGapTracker;
+    private TransactionMetrics transactionMetrics;
+    private final Map<String, ReservedNonce> reservedNonces = new ConcurrentHashMap<>();
 
     private TransactionManager(Builder builder) {
         this.caver = builder.caver;
@@ -56,6 +71,10 @@ public class TransactionManager {
         this.transactionReceiptProcessor = builder.transactionReceiptProcessor;
         this.errorHandler = builder.errorHandler;
         this.getNonceProcessor = builder.getNonceProcessor;
+        this.executor = builder.executor;
+        this.signingExecutor = builder.signingExecutor;
+        this.nonceGapTracker = builder.nonceGapTracker;
+        this.transactionMetrics = builder.transactionMetrics;
     }
 
     /**
@@ -67,10 +86,14 @@ public class TransactionManager {
     public KlayTransactionReceipt.TransactionReceipt executeTransaction(
             TransactionTransformer transactionTransformer) {
         KlayTransactionReceipt.TransactionReceipt receipt = null;
+        boolean isNonceManaged = transactionTransformer.getNonce() == null;
         KlayRawTransaction rawTx = sign(transactionTransformer);
         try {
             String transactionHash = send(rawTx);
-            receipt = transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
+            if (!isNonceManaged) {
+                record(transactionTransformer.getFrom(), transactionTransformer.getNonce(), rawTx);
+            }
+            receipt = waitForTransactionReceipt(transactionHash, typeOf(rawTx));
         } catch (TransactionException | PlatformErrorException | IOException e) {
             exception(e);
         }
@@ -89,7 +112,8 @@ public class TransactionManager {
         KlayRawTransaction rawTx = sign(txType);
         try {
             String transactionHash = send(rawTx);
-            receipt = transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
+            record(txType.getFrom(), txType.getNonce(), rawTx);
+            receipt = waitForTransactionReceipt(transactionHash, typeOf(rawTx));
         } catch (TransactionException | PlatformErrorException | IOException e) {
             exception(e);
         }
@@ -109,6 +133,77 @@ public class TransactionManager {
         return executeTransaction(txType);
     }
 
+    /**
+     * executes a transaction without blocking the calling thread. The transaction is signed on the
+     * executor of this TransactionManager, sent asynchronously and the returned future is completed
+     * by the TransactionReceiptProcessor when the receipt is available.
+     *
+     * @param transactionTransformer transaction
+     * @return future of the receipt for transaction
+     */
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> executeTransactionAsync(
+            TransactionTransformer transactionTransformer) {
+        boolean isNonceManaged = transactionTransformer.getNonce() == null;
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result = CompletableFuture
+                .supplyAsync(() -> {
+                    try {
+                        return signTransaction(transactionTransformer);
+                    } catch (UnsupportedTxTypeException | CredentialNotFoundException | IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor)
+                .thenCompose(rawTx -> (isNonceManaged
+                        ? sendAsync(rawTx, transactionTransformer.getFrom(), transactionTransformer.getNonce())
+                        : sendTransactionAsync(rawTx))
+                        .thenApply(transactionHash -> {
+                            if (!isNonceManaged) {
+                                record(transactionTransformer.getFrom(), transactionTransformer.getNonce(), rawTx);
+                            }
+                            return transactionHash;
+                        })
+                        .thenCompose(transactionHash -> waitForTransactionReceiptAsync(transactionHash, typeOf(rawTx))));
+        return reportException(result);
+    }
+
+    /**
+     * executes a transaction without blocking the calling thread. The transaction is signed on the
+     * executor of this TransactionManager, sent asynchronously and the returned future is completed
+     * by the TransactionReceiptProcessor when the receipt is available.
+     *
+     * @param txType transaction
+     * @return future of the receipt for transaction
+     */
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> executeTransactionAsync(
+            AbstractTxType txType) {
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> result = CompletableFuture
+                .supplyAsync(() -> {
+                    try {
+                        return signTransaction(txType);
+                    } catch (CredentialNotFoundException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor)
+                .thenCompose(rawTx -> sendTransactionAsync(rawTx)
+                        .thenApply(transactionHash -> {
+                            record(txType.getFrom(), txType.getNonce(), rawTx);
+                            return transactionHash;
+                        })
+                        .thenCompose(transactionHash -> waitForTransactionReceiptAsync(transactionHash, txType.getType())));
+        return reportException(result);
+    }
+
+    /**
+     * executes a transaction without blocking the calling thread.
+     *
+     * @param rawTransaction transaction
+     * @return future of the receipt for transaction
+     */
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> executeTransactionAsync(
+            String rawTransaction) {
+        AbstractTxType txType = TransactionDecoder.decode(rawTransaction);
+        return executeTransactionAsync(txType);
+    }
+
     /**
      * After signing a transaction, the signature produced is returned in combination with the signature of the transaction.
      *
@@ -122,7 +217,7 @@ public class TransactionManager {
             KlayCredentials credentials = walletManager.findByAddress(txType.getFrom());
 
             result = txType.getSenderSignatureDataSet();
-            result.addAll(txType.getNewSenderSignatureDataSet(credentials, this.chainId));
+            result.addAll(txType.getNewSenderSignatureDataSet(credentials, this.chainId, signingExecutor));
         } catch (CredentialNotFoundException | EmptyNonceException e) {
             exception(e);
         }
@@ -138,8 +233,7 @@ public class TransactionManager {
     public KlayRawTransaction sign(AbstractTxType txType) {
         KlayRawTransaction result = null;
         try {
-            KlayCredentials credentials = walletManager.findByAddress(txType.getFrom());
-            result = txType.sign(credentials, this.chainId);
+            result = signTransaction(txType);
         } catch (CredentialNotFoundException | EmptyNonceException e) {
             exception(e);
         }
@@ -154,38 +248,243 @@ public class TransactionManager {
      */
     public KlayRawTransaction sign(String klayRawTransaction) {
         AbstractTxType txType = TransactionDecoder.decode(klayRawTransaction);
-        return sign(txType);
+        KlayRawTransaction result = sign(txType);
+        // A nonce reserved for the transaction stays reserved for its signed version.
+        ReservedNonce reservedNonce = result != null ? reservedNonces.remove(klayRawTransaction) : null;
+        if (reservedNonce != null) {
+            reservedNonces.put(result.getValueAsString(), reservedNonce);
+        }
+        return result;
     }
 
     /**
-     * The result of signing a transaction is added to the raw transaction and returned
+     * The result of signing a transaction is added to the raw transaction and returned.
+     * If the transaction has no nonce, it is reserved from the GetNonceProcessor and reported back to it
+     * when the returned raw transaction is passed to {@link #send(KlayRawTransaction)} or
+     * {@link #sendAsync(KlayRawTransaction)}. A raw transaction which is never sent keeps its nonce reserved.
      *
      * @param transactionTransformer TransactionTransformer Object to Sign
      * @return signed raw transaction
      */
     public KlayRawTransaction sign(TransactionTransformer transactionTransformer) {
         KlayRawTransaction result = null;
+        try {
+            boolean isNonceManaged = transactionTransformer.getNonce() == null;
+            result = signTransaction(transactionTransformer);
+            if (isNonceManaged) {
+                reservedNonces.put(result.getValueAsString(),
+                        new ReservedNonce(transactionTransformer.getFrom(), transactionTransformer.getNonce()));
+            }
+        } catch (UnsupportedTxTypeException | CredentialNotFoundException | IOException | EmptyNonceException e) {
+            exception(e);
+        }
+        return result;
+    }
+
+    private KlayRawTransaction signTransaction(AbstractTxType txType) throws CredentialNotFoundException {
+        long startTime = startStage(TransactionMetrics.Stage.SIGN);
+        try {
+            KlayCredentials credentials = walletManager.findByAddress(txType.getFrom());
+            KlayRawTransaction rawTx = txType.sign(credentials, this.chainId, signingExecutor);
+            completeStage(TransactionMetrics.Stage.SIGN, txType.getType(), startTime);
+            return rawTx;
+        } catch (CredentialNotFoundException | RuntimeException e) {
+            failStage(TransactionMetrics.Stage.SIGN, txType.getType(), startTime, e);
+            throw e;
+        }
+    }
+
+    private KlayRawTransaction signTransaction(TransactionTransformer transactionTransformer)
+            throws UnsupportedTxTypeException, CredentialNotFoundException, IOException {
+        long startTime = startStage(TransactionMetrics.Stage.SIGN);
+        TxType.Type type = null;
+        BigInteger reservedNonce = null;
         try {
             KlayCredentials credentials = walletManager.findByAddress(transactionTransformer.getFrom());
 
             if (transactionTransformer.getNonce() == null) {
-                transactionTransformer.nonce(getNonceProcessor.getNonce(credentials));
+                reservedNonce = getNonceProcessor.getNonce(credentials);
+                transactionTransformer.nonce(reservedNonce);
             }
 
-            result = transactionTransformer.build().sign(credentials, this.chainId);
-        } catch (UnsupportedTxTypeException | CredentialNotFoundException | IOException | EmptyNonceException e) {
-            exception(e);
+            TxType txType = transactionTransformer.build();
+            type = txType.getType();
+            KlayRawTransaction rawTx = txType.sign(credentials, this.chainId, signingExecutor);
+            completeStage(TransactionMetrics.Stage.SIGN, type, startTime);
+            return rawTx;
+        } catch (UnsupportedTxTypeException | CredentialNotFoundException | IOException | RuntimeException e) {
+            // The transaction is never sent, so a nonce reserved for it here would otherwise stay taken.
+            if (reservedNonce != null) {
+                transactionTransformer.nonce(null);
+                getNonceProcessor.release(transactionTransformer.getFrom(), reservedNonce, e);
+            }
+            failStage(TransactionMetrics.Stage.SIGN, type, startTime, e);
+            throw e;
         }
-        return result;
     }
 
+    /**
+     * Sends a signed transaction. If its nonce was reserved by {@link #sign(TransactionTransformer)},
+     * the GetNonceProcessor is told whether the nonce was used.
+     *
+     * @param klayRawTransaction signed raw transaction
+     * @return transaction hash
+     */
     public String send(KlayRawTransaction klayRawTransaction) throws IOException, PlatformErrorException {
-        Bytes32 transactionHash = caver.klay().sendSignedTransaction(klayRawTransaction.getValueAsString()).send();
-        if (transactionHash.hasError()) {
-            throw new PlatformErrorException(transactionHash.getError());
+        ReservedNonce reservedNonce = reservedNonces.remove(klayRawTransaction.getValueAsString());
+        if (reservedNonce != null) {
+            return send(klayRawTransaction, reservedNonce.from, reservedNonce.nonce);
+        }
+        return sendTransaction(klayRawTransaction);
+    }
+
+    private String sendTransaction(KlayRawTransaction klayRawTransaction) throws IOException, PlatformErrorException {
+        TxType.Type type = typeOf(klayRawTransaction);
+        long startTime = startStage(TransactionMetrics.Stage.SEND);
+        try {
+            Bytes32 transactionHash = caver.klay().sendSignedTransaction(klayRawTransaction.getValueAsString()).send();
+            if (transactionHash.hasError()) {
+                throw new PlatformErrorException(transactionHash.getError());
+            }
+
+            completeStage(TransactionMetrics.Stage.SEND, type, startTime);
+            return transactionHash.getResult();
+        } catch (IOException | PlatformErrorException | RuntimeException e) {
+            failStage(TransactionMetrics.Stage.SEND, type, startTime, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a transaction whose nonce was assigned by the GetNonceProcessor and reports the outcome
+     * back to it, so the nonce is either kept or handed out again.
+     */
+    private String send(KlayRawTransaction klayRawTransaction, String from, BigInteger nonce)
+            throws IOException, PlatformErrorException {
+        try {
+            String transactionHash = sendTransaction(klayRawTransaction);
+            getNonceProcessor.commit(from, nonce);
+            record(from, nonce, klayRawTransaction);
+            return transactionHash;
+        } catch (IOException | PlatformErrorException | RuntimeException e) {
+            getNonceProcessor.release(from, nonce, e);
+            throw e;
         }
+    }
 
-        return transactionHash.getResult();
+    /**
+     * Sends a signed transaction asynchronously. If its nonce was reserved by
+     * {@link #sign(TransactionTransformer)}, the GetNonceProcessor is told whether the nonce was used.
+     *
+     * @param klayRawTransaction signed raw transaction
+     * @return future of the transaction hash
+     */
+    public CompletableFuture<String> sendAsync(KlayRawTransaction klayRawTransaction) {
+        ReservedNonce reservedNonce = reservedNonces.remove(klayRawTransaction.getValueAsString());
+        if (reservedNonce != null) {
+            return sendAsync(klayRawTransaction, reservedNonce.from, reservedNonce.nonce);
+        }
+        return sendTransactionAsync(klayRawTransaction);
+    }
+
+    private CompletableFuture<String> sendTransactionAsync(KlayRawTransaction klayRawTransaction) {
+        long startTime = startStage(TransactionMetrics.Stage.SEND);
+        CompletableFuture<String> result = caver.klay()
+                .sendSignedTransaction(klayRawTransaction.getValueAsString()).sendAsync()
+                .thenApply(transactionHash -> {
+                    if (transactionHash.hasError()) {
+                        throw new CompletionException(new PlatformErrorException(transactionHash.getError()));
+                    }
+                    return transactionHash.getResult();
+                });
+        return measure(result, TransactionMetrics.Stage.SEND, typeOf(klayRawTransaction), startTime);
+    }
+
+    private CompletableFuture<String> sendAsync(KlayRawTransaction klayRawTransaction, String from, BigInteger nonce) {
+        return sendTransactionAsync(klayRawTransaction).whenComplete((transactionHash, throwable) -> {
+            if (throwable == null) {
+                getNonceProcessor.commit(from, nonce);
+                record(from, nonce, klayRawTransaction);
+            } else {
+                getNonceProcessor.release(from, nonce, unwrap(throwable));
+            }
+        });
+    }
+
+    private KlayTransactionReceipt.TransactionReceipt waitForTransactionReceipt(
+            String transactionHash, TxType.Type type) throws IOException, TransactionException {
+        long startTime = startStage(TransactionMetrics.Stage.RECEIPT);
+        try {
+            KlayTransactionReceipt.TransactionReceipt receipt =
+                    transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
+            completeStage(TransactionMetrics.Stage.RECEIPT, type, startTime);
+            return receipt;
+        } catch (IOException | TransactionException | RuntimeException e) {
+            failStage(TransactionMetrics.Stage.RECEIPT, type, startTime, e);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash, TxType.Type type) {
+        long startTime = startStage(TransactionMetrics.Stage.RECEIPT);
+        return measure(transactionReceiptProcessor.waitForTransactionReceiptAsync(transactionHash),
+                TransactionMetrics.Stage.RECEIPT, type, startTime);
+    }
+
+    private long startStage(TransactionMetrics.Stage stage) {
+        transactionMetrics.onStageStarted(stage);
+        return System.nanoTime();
+    }
+
+    private void completeStage(TransactionMetrics.Stage stage, TxType.Type type, long startTime) {
+        transactionMetrics.onStageCompleted(stage, type, System.nanoTime() - startTime);
+    }
+
+    private void failStage(TransactionMetrics.Stage stage, TxType.Type type, long startTime, Exception cause) {
+        transactionMetrics.onStageFailed(stage, type, System.nanoTime() - startTime, cause);
+    }
+
+    private <T> CompletableFuture<T> measure(
+            CompletableFuture<T> future, TransactionMetrics.Stage stage, TxType.Type type, long startTime) {
+        return future.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                completeStage(stage, type, startTime);
+            } else {
+                failStage(stage, type, startTime, unwrap(throwable));
+            }
+        });
+    }
+
+    /**
+     * Returns the type of a signed transaction, which is its first byte. Legacy transactions
+     * start with an RLP list prefix instead, for which findByValue falls back to LEGACY.
+     */
+    private static TxType.Type typeOf(KlayRawTransaction klayRawTransaction) {
+        return TxType.Type.findByValue(klayRawTransaction.getValue()[0]);
+    }
+
+    /**
+     * Records an accepted transaction in the NonceGapTracker, if one is set.
+     */
+    private void record(String from, BigInteger nonce, KlayRawTransaction klayRawTransaction) {
+        if (nonceGapTracker != null && nonce != null) {
+            nonceGapTracker.record(from, nonce, klayRawTransaction);
+        }
+    }
+
+    private <T> CompletableFuture<T> reportException(CompletableFuture<T> future) {
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                exception(unwrap(throwable));
+            }
+        });
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
     }
 
     public String getDefaultAddress() {
@@ -203,6 +502,16 @@ public class TransactionManager {
             errorHandler.exception(e);
     }
 
+    private static final class ReservedNonce {
+        private final String from;
+        private final BigInteger nonce;
+
+        private ReservedNonce(String from, BigInteger nonce) {
+            this.from = from;
+            this.nonce = nonce;
+        }
+    }
+
     public static class Builder {
         private Caver caver;
         private WalletManager walletManager;
@@ -210,6 +519,10 @@ public class TransactionManager {
         private GetNonceProcessor getNonceProcessor;
         private TransactionReceiptProcessor transactionReceiptProcessor;
         private ErrorHandler errorHandler;
+        private Executor executor;
+        private Executor signingExecutor;
+        private NonceGapTracker nonceGapTracker;
+        private TransactionMetrics transactionMetrics;
 
         public Builder(Caver caver, WalletManager walletManager) {
             this.caver = caver;
@@ -243,6 +556,54 @@ public class TransactionManager {
             return this;
         }
 
+        /**
+         * Sets the executor used to sign transactions executed by executeTransactionAsync.
+         * The common fork-join pool is used if not set.
+         *
+         * @param executor executor for signing
+         * @return Builder
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to sign with the keys of multiple-key and role-based accounts in parallel.
+         * The keys are used one after another on the calling thread if not set.
+         *
+         * @param signingExecutor executor signing with each key
+         * @return Builder
+         */
+        public Builder setSigningExecutor(Executor signingExecutor) {
+            this.signingExecutor = signingExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the tracker recording the nonces of the sent transactions, which fills the gaps
+         * left by transactions that never reached the node.
+         *
+         * @param nonceGapTracker tracker of the sent nonces
+         * @return Builder
+         */
+        public Builder setNonceGapTracker(NonceGapTracker nonceGapTracker) {
+            this.nonceGapTracker = nonceGapTracker;
+            return this;
+        }
+
+        /**
+         * Sets the metrics receiving the duration and outcome of the signing, sending and receipt
+         * waiting of every transaction. Nothing is recorded if not set.
+         *
+         * @param transactionMetrics metrics of the executed transactions
+         * @return Builder
+         */
+        public Builder setTransactionMetrics(TransactionMetrics transactionMetrics) {
+            this.transactionMetrics = transactionMetrics;
+            return this;
+        }
+
         public TransactionManager build() {
             if (this.chainId == -1)
                 this.chainId = ChainId.BAOBAB_TESTNET;
@@ -250,6 +611,10 @@ public class TransactionManager {
                 this.getNonceProcessor = new GetNonceProcessor(this.caver);
             if (this.transactionReceiptProcessor == null)
                 this.transactionReceiptProcessor = new PollingTransactionReceiptProcessor(this.caver, 1000, 15);
+            if (this.executor == null)
+                this.executor = ForkJoinPool.commonPool();
+            if (this.transactionMetrics == null)
+                this.transactionMetrics = new NoOpTransactionMetrics();
 
             return new TransactionManager(this);
         }
@@ -23,13 +23,16 @@ package com.klaytn.caver.tx.manager;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.methods.response.KlayTransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public abstract class TransactionReceiptProcessor {
 
-    private final Caver caver;
+    protected final Caver caver;
 
     public TransactionReceiptProcessor(Caver caver) {
         this.caver = caver;
@@ -38,6 +41,19 @@ public abstract class TransactionReceiptProcessor {
     public abstract KlayTransactionReceipt.TransactionReceipt waitForTransactionReceipt(String transactionHash)
             throws IOException, TransactionException;
 
+    /**
+     * Returns a future completed with the receipt of the given transaction. The default implementation
+     * waits with {@link #waitForTransactionReceipt(String)} on a separate thread; processors which can wait
+     * without occupying a thread override it.
+     *
+     * @param transactionHash Hash of a transaction
+     * @return future of the transaction receipt
+     */
+    public CompletableFuture<KlayTransactionReceipt.TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        return Async.run(() -> waitForTransactionReceipt(transactionHash));
+    }
+
     Optional<KlayTransactionReceipt.TransactionReceipt> sendTransactionReceiptRequest(String transactionHash)
             throws IOException, TransactionException {
         KlayTransactionReceipt transactionReceipt = caver.klay().getTransactionReceipt(transactionHash).send();
@@ -48,4 +64,16 @@ public abstract class TransactionReceiptProcessor {
 
         return transactionReceipt.getTransactionReceipt();
     }
+
+    CompletableFuture<Optional<KlayTransactionReceipt.TransactionReceipt>> sendTransactionReceiptRequestAsync(
+            String transactionHash) {
+        return caver.klay().getTransactionReceipt(transactionHash).sendAsync()
+                .thenApply(transactionReceipt -> {
+                    if (transactionReceipt.hasError()) {
+                        throw new CompletionException(new TransactionException("Error processing request: "
+                                + transactionReceipt.getError().getMessage()));
+                    }
+                    return transactionReceipt.getTransactionReceipt();
+                });
+    }
 }
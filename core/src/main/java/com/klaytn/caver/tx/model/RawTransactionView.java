@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.tx.model;
+
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.tx.type.TxType;
+import com.klaytn.caver.utils.TransactionDecoder;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lazy view of a signed raw transaction.
+ * Creating a view only reads the type byte. The fields are located in the original byte array
+ * when one of them is first read, and each getter decodes only the field it returns, so reading
+ * the type and the sender of a transaction does not build the whole transaction object.
+ * Use {@link #decode()} to get the full transaction.
+ */
+public class RawTransactionView {
+
+    private static final int INDEX_NONCE = 0;
+    private static final int INDEX_GAS_PRICE = 1;
+    private static final int INDEX_GAS_LIMIT = 2;
+    private static final int INDEX_TO = 3;
+    private static final int INDEX_VALUE = 4;
+
+    private final byte[] rawTransaction;
+    private final TxType.Type type;
+
+    private RlpReader fields;
+    private int senderSignaturesIndex = -1;
+
+    private RawTransactionView(byte[] rawTransaction) {
+        if (rawTransaction.length == 0) {
+            throw new IllegalArgumentException("Empty raw transaction");
+        }
+        this.rawTransaction = rawTransaction;
+        this.type = TxType.Type.findByValue(rawTransaction[0]);
+    }
+
+    /**
+     * @param rawTransaction signed raw transaction. The array is not copied and must not be modified.
+     * @return RawTransactionView
+     */
+    public static RawTransactionView of(byte[] rawTransaction) {
+        return new RawTransactionView(rawTransaction);
+    }
+
+    /**
+     * @param rawTransaction signed raw transaction in hex
+     * @return RawTransactionView
+     */
+    public static RawTransactionView of(String rawTransaction) {
+        return new RawTransactionView(Numeric.hexStringToByteArray(rawTransaction));
+    }
+
+    public TxType.Type getType() {
+        return type;
+    }
+
+    public boolean isFeeDelegated() {
+        return type.name().startsWith("FEE_DELEGATED_");
+    }
+
+    public BigInteger getNonce() {
+        return getFields().get(INDEX_NONCE).asPositiveBigInteger();
+    }
+
+    public BigInteger getGasPrice() {
+        return getFields().get(INDEX_GAS_PRICE).asPositiveBigInteger();
+    }
+
+    public BigInteger getGasLimit() {
+        return getFields().get(INDEX_GAS_LIMIT).asPositiveBigInteger();
+    }
+
+    /**
+     * Returns the recipient, or null if the transaction type has no recipient field.
+     *
+     * @return to address
+     */
+    public String getTo() {
+        return hasToAndValue() ? getFields().get(INDEX_TO).asString() : null;
+    }
+
+    /**
+     * Returns the transferred value, or zero if the transaction type has no value field.
+     *
+     * @return value in peb
+     */
+    public BigInteger getValue() {
+        return hasToAndValue() ? getFields().get(INDEX_VALUE).asPositiveBigInteger() : BigInteger.ZERO;
+    }
+
+    /**
+     * Returns the sender. A legacy transaction has no sender field, and null is returned for it;
+     * its sender can only be recovered from the signature.
+     *
+     * @return from address
+     */
+    public String getFrom() {
+        if (type == TxType.Type.LEGACY) {
+            return null;
+        }
+        return getFields().get(hasToAndValue() ? INDEX_VALUE + 1 : INDEX_TO).asString();
+    }
+
+    public List<KlaySignatureData> getSenderSignatures() {
+        if (type == TxType.Type.LEGACY) {
+            List<RlpReader> values = getFields().getValues();
+            int size = values.size();
+            if (size < 9) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(new KlaySignatureData(
+                    values.get(size - 3).getBytes(), values.get(size - 2).getBytes(), values.get(size - 1).getBytes()));
+        }
+
+        int index = getSenderSignaturesIndex();
+        return index < 0 ? Collections.emptyList() : toSignatures(getFields().get(index));
+    }
+
+    /**
+     * Returns the fee payer, or null if the transaction is not fee delegated or has no fee payer field.
+     *
+     * @return fee payer address
+     */
+    public String getFeePayer() {
+        RlpReader feePayer = getFeePayerField(1);
+        return feePayer != null ? feePayer.asString() : null;
+    }
+
+    public List<KlaySignatureData> getFeePayerSignatures() {
+        RlpReader feePayerSignatures = getFeePayerField(2);
+        return feePayerSignatures != null ? toSignatures(feePayerSignatures) : Collections.emptyList();
+    }
+
+    /**
+     * Decodes the whole transaction.
+     *
+     * @return AbstractTxType
+     */
+    public AbstractTxType decode() {
+        return TransactionDecoder.decode(rawTransaction);
+    }
+
+    public byte[] getRawTransaction() {
+        return rawTransaction;
+    }
+
+    private RlpReader getFields() {
+        if (fields == null) {
+            int offset = type == TxType.Type.LEGACY ? 0 : 1;
+            RlpReader reader = RlpReader.of(rawTransaction, offset, rawTransaction.length);
+            if (!reader.isList()) {
+                throw new IllegalArgumentException("Invalid raw transaction: fields are not a list");
+            }
+            fields = reader;
+        }
+        return fields;
+    }
+
+    private boolean hasToAndValue() {
+        switch (type) {
+            case ACCOUNT_UPDATE:
+            case FEE_DELEGATED_ACCOUNT_UPDATE:
+            case FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO:
+            case CANCEL:
+            case FEE_DELEGATED_CANCEL:
+            case FEE_DELEGATED_CANCEL_WITH_RATIO:
+            case CHAIN_DATA_ANCHORING:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * The sender signatures are the first list among the fields after the gas limit,
+     * and the fee payer and its signatures follow them.
+     */
+    private int getSenderSignaturesIndex() {
+        if (senderSignaturesIndex < 0) {
+            List<RlpReader> values = getFields().getValues();
+            for (int i = INDEX_GAS_LIMIT + 1; i < values.size(); i++) {
+                if (values.get(i).isList()) {
+                    senderSignaturesIndex = i;
+                    break;
+                }
+            }
+        }
+        return senderSignaturesIndex;
+    }
+
+    private RlpReader getFeePayerField(int offset) {
+        if (!isFeeDelegated()) {
+            return null;
+        }
+        int index = getSenderSignaturesIndex();
+        if (index < 0 || index + offset >= getFields().size()) {
+            return null;
+        }
+        return getFields().get(index + offset);
+    }
+
+    private static List<KlaySignatureData> toSignatures(RlpReader signatureList) {
+        List<KlaySignatureData> signatures = new ArrayList<>();
+        for (RlpReader signature : signatureList.getValues()) {
+            signatures.add(new KlaySignatureData(
+                    signature.get(0).getBytes(), signature.get(1).getBytes(), signature.get(2).getBytes()));
+        }
+        return signatures;
+    }
+}
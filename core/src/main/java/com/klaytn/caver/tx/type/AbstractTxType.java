@@ -19,18 +19,18 @@ package com.klaytn.caver.tx.type;
 import com.klaytn.caver.crypto.KlayCredentials;
 import com.klaytn.caver.crypto.KlaySignatureData;
 import com.klaytn.caver.tx.exception.EmptyNonceException;
+import com.klaytn.caver.rlp.RlpWriter;
 import com.klaytn.caver.tx.model.KlayRawTransaction;
-import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.KlaySignatureDataUtils;
 import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.Sign;
-import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * This class provides skeletal implementations for various transaction types.
@@ -174,21 +174,28 @@ public abstract class AbstractTxType implements TxType {
      * @return Set processed signature data
      */
     public Set<KlaySignatureData> getNewSenderSignatureDataSet(KlayCredentials credentials, int chainId) {
-        Set<KlaySignatureData> senderSignatureDataList = new HashSet<>();
-        KlaySignatureData signatureData = KlaySignatureData.createKlaySignatureDataFromChainId(chainId);
-        byte[] encodedTransaction = getEncodedTransactionNoSig();
+        return getNewSenderSignatureDataSet(credentials, chainId, null);
+    }
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(encodedTransaction));
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-        byte[] encodedTransaction2 = RlpEncoder.encode(new RlpList(rlpTypeList));
+    /**
+     * rlp encoding for signature(SigRLP), signing with the keys of the sender on the given executor.
+     * The result is the same as {@link #getNewSenderSignatureDataSet(KlayCredentials, int)}.
+     *
+     * @param credentials credential info of a signer
+     * @param chainId     chain ID
+     * @param executor    executor signing with each key, or null to sign on the calling thread
+     * @return Set processed signature data
+     */
+    public Set<KlaySignatureData> getNewSenderSignatureDataSet(KlayCredentials credentials, int chainId, Executor executor) {
+        byte[] encodedTransaction2 = getEncodedTransactionForSignature(chainId);
 
-        for (ECKeyPair ecKeyPair : getEcKeyPairsForSenderSign(credentials)) {
-            Sign.SignatureData signedSignatureData = Sign.signMessage(encodedTransaction2, ecKeyPair);
-            senderSignatureDataList.add(KlaySignatureDataUtils.createEip155KlaySignatureData(signedSignatureData, chainId));
-        }
+        List<KlaySignatureData> signatures = KlaySignatureDataUtils.signWithKeys(
+                getEcKeyPairsForSenderSign(credentials),
+                ecKeyPair -> KlaySignatureDataUtils.createEip155KlaySignatureData(
+                        Sign.signMessage(encodedTransaction2, ecKeyPair), chainId),
+                executor);
 
-        return senderSignatureDataList;
+        return new HashSet<>(signatures);
     }
 
     /**
@@ -232,10 +239,35 @@ public abstract class AbstractTxType implements TxType {
      */
     @Override
     public byte[] getEncodedTransactionNoSig() {
+        return RlpWriter.encode(getRlpTransactionNoSig());
+    }
+
+    /**
+     * create RlpList of the transaction type and the values of {@link #rlpValues() rlpValues()}
+     *
+     * @return RlpList rlp value encoded by {@link #getEncodedTransactionNoSig()}
+     */
+    public RlpList getRlpTransactionNoSig() {
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(getType().get()));
         rlpTypeList.addAll(rlpValues());
-        return RlpEncoder.encode(new RlpList(rlpTypeList));
+        return new RlpList(rlpTypeList);
+    }
+
+    /**
+     * create rlp encoded value to be signed by the sender(SigRLP).
+     * SigRLP = encode([encode([type, ...]), chainId, 0, 0]) is written into a single array.
+     *
+     * @param chainId chain ID
+     * @return byte[] rlp encoded value
+     */
+    protected byte[] getEncodedTransactionForSignature(int chainId) {
+        KlaySignatureData signatureData = KlaySignatureData.createKlaySignatureDataFromChainId(chainId);
+
+        List<RlpType> rlpTypeList = new ArrayList<>();
+        rlpTypeList.add(RlpWriter.nested(getRlpTransactionNoSig()));
+        rlpTypeList.addAll(signatureData.toRlpList().getValues());
+        return RlpWriter.encode(new RlpList(rlpTypeList));
     }
 
     /**
@@ -262,13 +294,7 @@ public abstract class AbstractTxType implements TxType {
      */
     @Override
     public KlaySignatureData getSignatureData(KlayCredentials credentials, int chainId) {
-        KlaySignatureData signatureData = KlaySignatureData.createKlaySignatureDataFromChainId(chainId);
-        byte[] encodedTransaction = getEncodedTransactionNoSig();
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(encodedTransaction));
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-        byte[] encodedTransaction2 = RlpEncoder.encode(new RlpList(rlpTypeList));
+        byte[] encodedTransaction2 = getEncodedTransactionForSignature(chainId);
 
         Sign.SignatureData signedSignatureData = Sign.signMessage(encodedTransaction2, credentials.getEcKeyPair());
         return KlaySignatureDataUtils.createEip155KlaySignatureData(signedSignatureData, chainId);
@@ -284,12 +310,34 @@ public abstract class AbstractTxType implements TxType {
      */
     @Override
     public KlayRawTransaction sign(KlayCredentials credentials, int chainId) {
+        return sign(credentials, chainId, null);
+    }
+
+    /**
+     * rlp encoding for transaction hash(TxHash), signing with the keys of the sender on the given executor.
+     *
+     * @param credentials credential info of a signer
+     * @param chainId     chain ID
+     * @param executor    executor signing with each key, or null to sign on the calling thread
+     * @return KlayRawTransaction this contains transaction hash and processed signature data
+     * @throws EmptyNonceException throw exception when nonce is null
+     */
+    @Override
+    public KlayRawTransaction sign(KlayCredentials credentials, int chainId, Executor executor) {
         if (nonce == null) {
             throw new EmptyNonceException();
         }
-        Set<KlaySignatureData> newSignatureDataSet = getNewSenderSignatureDataSet(credentials, chainId);
+        Set<KlaySignatureData> newSignatureDataSet = getNewSenderSignatureDataSet(credentials, chainId, executor);
         addSenderSignatureData(newSignatureDataSet);
+        return encodeSignedTransaction();
+    }
 
+    /**
+     * rlp encoding of the transaction with the signatures added so far
+     *
+     * @return KlayRawTransaction this contains transaction hash and processed signature data
+     */
+    protected KlayRawTransaction encodeSignedTransaction() {
         List<RlpType> rlpTypeList = new ArrayList<>(rlpValues());
         List<RlpType> senderSignatureList = new ArrayList<>();
 
@@ -299,9 +347,7 @@ public abstract class AbstractTxType implements TxType {
 
         rlpTypeList.add(new RlpList(senderSignatureList));
 
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = {getType().get()};
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
+        byte[] rawTx = RlpWriter.encode(getType().get(), new RlpList(rlpTypeList));
 
         return new KlayRawTransaction(rawTx, getSenderSignatureData());
     }
@@ -22,6 +22,7 @@ import com.klaytn.caver.tx.model.KlayRawTransaction;
 import org.web3j.rlp.RlpType;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * This interface
@@ -46,6 +47,19 @@ public interface TxType {
      */
     KlayRawTransaction sign(KlayCredentials credentials, int chainId);
 
+    /**
+     * rlp encoding for transaction hash(TxHash), signing with multiple keys on the given executor.
+     * Transaction types signed with a single key sign on the calling thread.
+     *
+     * @param credentials credential info of a signer
+     * @param chainId     chain ID
+     * @param executor    executor signing with each key, or null to sign on the calling thread
+     * @return KlayRawTransaction this contains transaction hash and processed signature data
+     */
+    default KlayRawTransaction sign(KlayCredentials credentials, int chainId, Executor executor) {
+        return sign(credentials, chainId);
+    }
+
     /**
      * create RlpType List. List elements can be different depending on transaction type.
      *
@@ -16,12 +16,9 @@
 
 package com.klaytn.caver.tx.type;
 
-import com.klaytn.caver.crypto.KlayCredentials;
 import com.klaytn.caver.crypto.KlaySignatureData;
-import com.klaytn.caver.tx.exception.EmptyNonceException;
+import com.klaytn.caver.rlp.RlpWriter;
 import com.klaytn.caver.tx.model.KlayRawTransaction;
-import com.klaytn.caver.utils.BytesUtils;
-import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
@@ -134,21 +131,12 @@ public abstract class TxTypeFeeDelegate extends AbstractTxType {
     }
 
     /**
-     * rlp encoding for transaction hash(TxHash)
+     * rlp encoding of the transaction with the sender and fee payer signatures added so far
      *
-     * @param credentials credential info of a signer
-     * @param chainId     chain ID
      * @return KlayRawTransaction this contains transaction hash and processed signature data
-     * @throws EmptyNonceException throw exception when nonce is null
      */
     @Override
-    public KlayRawTransaction sign(KlayCredentials credentials, int chainId) {
-        if (getNonce() == null) {
-            throw new EmptyNonceException();
-        }
-        Set<KlaySignatureData> newSignatureDataSet = getNewSenderSignatureDataSet(credentials, chainId);
-        addSenderSignatureData(newSignatureDataSet);
-        
+    protected KlayRawTransaction encodeSignedTransaction() {
         List<RlpType> rlpTypeList = new ArrayList<>(rlpValues());
         List<RlpType> senderSignatureList = new ArrayList<>();
 
@@ -168,9 +156,7 @@ public abstract class TxTypeFeeDelegate extends AbstractTxType {
             rlpTypeList.add(new RlpList(feePayerSignatureList));
         }
 
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = {getType().get()};
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
+        byte[] rawTx = RlpWriter.encode(getType().get(), new RlpList(rlpTypeList));
         return new KlayRawTransaction(rawTx, getSenderSignatureData());
     }
 }
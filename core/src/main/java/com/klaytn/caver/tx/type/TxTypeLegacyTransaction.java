@@ -19,6 +19,7 @@ package com.klaytn.caver.tx.type;
 import com.klaytn.caver.crypto.KlayCredentials;
 import com.klaytn.caver.crypto.KlaySignatureData;
 import com.klaytn.caver.utils.KlaySignatureDataUtils;
+import com.klaytn.caver.rlp.RlpWriter;
 import com.klaytn.caver.tx.model.KlayRawTransaction;
 import com.klaytn.caver.utils.KlayTransactionUtils;
 import org.web3j.crypto.Sign;
@@ -27,6 +28,7 @@ import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * TxTypeLegacyTransaction represents a type of transactions existed previously in Klaytn.
@@ -123,7 +125,7 @@ public class TxTypeLegacyTransaction extends AbstractTxType {
         result.add(RlpString.create(getValue()));
         result.add(RlpString.create(Numeric.hexStringToByteArray(getData())));
         result.addAll(signatureData.toRlpList().getValues());
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(result));
+        byte[] encodedTransaction = RlpWriter.encode(new RlpList(result));
         Sign.SignatureData signedSignatureData = Sign.signMessage(encodedTransaction, credentials.getEcKeyPair());
         KlaySignatureData eip155SignatureData = KlaySignatureDataUtils.createEip155KlaySignatureData(signedSignatureData, chainId);
         return eip155SignatureData;
@@ -152,7 +154,20 @@ public class TxTypeLegacyTransaction extends AbstractTxType {
         result.add(RlpString.create(data));
         result.addAll(signatureData.toRlpList().getValues());
 
-        return new KlayRawTransaction(RlpEncoder.encode(new RlpList(result)), signatureData);
+        return new KlayRawTransaction(RlpWriter.encode(new RlpList(result)), signatureData);
+    }
+
+    /**
+     * A legacy transaction is signed with a single key, so there is nothing to sign on the executor.
+     *
+     * @param credentials credential info of a signer
+     * @param chainId     chain ID
+     * @param executor    not used
+     * @return KlayRawTransaction this contains transaction hash and processed signature data
+     */
+    @Override
+    public KlayRawTransaction sign(KlayCredentials credentials, int chainId, Executor executor) {
+        return sign(credentials, chainId);
     }
 
 }
@@ -24,6 +24,14 @@ import com.klaytn.caver.crypto.KlaySignatureData;
 import org.web3j.crypto.Sign;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 
 public class KlaySignatureDataUtils {
@@ -33,4 +41,63 @@ public class KlaySignatureDataUtils {
         return new KlaySignatureData(BigInteger.valueOf(v).toByteArray(), signatureData.getR(), signatureData.getS());
     }
 
+    /**
+     * Signs with every key and returns the signatures in the order of the keys.
+     * When an executor is given, the keys are shared between the calling thread and tasks submitted to the executor.
+     * The calling thread signs with every key no task has started, and only waits for the keys being signed by
+     * running tasks, so it cannot deadlock on an executor whose threads are busy or which runs the caller itself.
+     * When the executor is null, every key is signed on the calling thread.
+     *
+     * @param keys     keys to sign with
+     * @param signer   function signing with a single key
+     * @param executor executor running the signing, or null
+     * @param <K>      type of the key
+     * @return signatures in the order of the keys
+     */
+    public static <K> List<KlaySignatureData> signWithKeys(
+            List<K> keys, Function<K, KlaySignatureData> signer, Executor executor) {
+        List<KlaySignatureData> signatures = new ArrayList<>(keys.size());
+        if (executor == null || keys.size() < 2) {
+            for (K key : keys) {
+                signatures.add(signer.apply(key));
+            }
+            return signatures;
+        }
+
+        List<CompletableFuture<KlaySignatureData>> futures = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < keys.size(); i = next.getAndIncrement()) {
+                try {
+                    futures.get(i).complete(signer.apply(keys.get(i)));
+                } catch (RuntimeException e) {
+                    futures.get(i).completeExceptionally(e);
+                }
+            }
+        };
+        for (int i = 1; i < keys.size(); i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+
+        try {
+            for (CompletableFuture<KlaySignatureData> future : futures) {
+                signatures.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return signatures;
+    }
+
 }
@@ -19,39 +19,56 @@ package com.klaytn.caver.utils;
 import com.klaytn.caver.tx.type.*;
 import org.web3j.utils.Numeric;
 
-import java.util.HashMap;
 import java.util.function.Function;
 
 public class TransactionDecoder {
-    private static HashMap<TxType.Type, Function<byte[], AbstractTxType>> typeMap
-            = new HashMap<TxType.Type, Function<byte[], AbstractTxType>>() {
-        {
-            put(TxType.Type.FEE_DELEGATED_ACCOUNT_UPDATE, TxTypeFeeDelegatedAccountUpdate::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO, TxTypeFeeDelegatedAccountUpdateWithRatio::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_CANCEL, TxTypeFeeDelegatedCancel::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_CANCEL_WITH_RATIO, TxTypeFeeDelegatedCancelWithRatio::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_SMART_CONTRACT_DEPLOY, TxTypeFeeDelegatedSmartContractDeploy::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_SMART_CONTRACT_DEPLOY_WITH_RATIO, TxTypeFeeDelegatedSmartContractDeployWithRatio::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_SMART_CONTRACT_EXECUTION, TxTypeFeeDelegatedSmartContractExecution::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_SMART_CONTRACT_EXECUTION_WITH_RATIO, TxTypeFeeDelegatedSmartContractExecutionWithRatio::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_VALUE_TRANSFER, TxTypeFeeDelegatedValueTransfer::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_MEMO, TxTypeFeeDelegatedValueTransferMemo::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_MEMO_WITH_RATIO, TxTypeFeeDelegatedValueTransferMemoWithRatio::decodeFromRawTransaction);
-            put(TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO, TxTypeFeeDelegatedValueTransferWithRatio::decodeFromRawTransaction);
-
-            put(TxType.Type.LEGACY, TxTypeLegacyTransaction::decodeFromRawTransaction);
-            put(TxType.Type.ACCOUNT_UPDATE, TxTypeAccountUpdate::decodeFromRawTransaction);
-            put(TxType.Type.VALUE_TRANSFER, TxTypeValueTransfer::decodeFromRawTransaction);
-            put(TxType.Type.VALUE_TRANSFER_MEMO, TxTypeValueTransferMemo::decodeFromRawTransaction);
-            put(TxType.Type.SMART_CONTRACT_DEPLOY, TxTypeSmartContractDeploy::decodeFromRawTransaction);
-            put(TxType.Type.SMART_CONTRACT_EXECUTION, TxTypeSmartContractExecution::decodeFromRawTransaction);
-            put(TxType.Type.CANCEL, TxTypeCancel::decodeFromRawTransaction);
-            put(TxType.Type.CHAIN_DATA_ANCHORING, TxTypeChainDataAnchoringTransaction::decodeFromRawTransaction);
+    private static final Function<byte[], AbstractTxType>[] DECODERS = createDecoders();
+
+    @SuppressWarnings("unchecked")
+    private static Function<byte[], AbstractTxType>[] createDecoders() {
+        Function<byte[], AbstractTxType>[] decoders = new Function[256];
+
+        decoders[TxType.Type.FEE_DELEGATED_ACCOUNT_UPDATE.get() & 0xff] = TxTypeFeeDelegatedAccountUpdate::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_ACCOUNT_UPDATE_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedAccountUpdateWithRatio::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_CANCEL.get() & 0xff] = TxTypeFeeDelegatedCancel::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_CANCEL_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedCancelWithRatio::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_SMART_CONTRACT_DEPLOY.get() & 0xff] = TxTypeFeeDelegatedSmartContractDeploy::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_SMART_CONTRACT_DEPLOY_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedSmartContractDeployWithRatio::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_SMART_CONTRACT_EXECUTION.get() & 0xff] = TxTypeFeeDelegatedSmartContractExecution::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_SMART_CONTRACT_EXECUTION_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedSmartContractExecutionWithRatio::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_VALUE_TRANSFER.get() & 0xff] = TxTypeFeeDelegatedValueTransfer::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_MEMO.get() & 0xff] = TxTypeFeeDelegatedValueTransferMemo::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_MEMO_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedValueTransferMemoWithRatio::decodeFromRawTransaction;
+        decoders[TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO.get() & 0xff] = TxTypeFeeDelegatedValueTransferWithRatio::decodeFromRawTransaction;
+
+        decoders[TxType.Type.ACCOUNT_UPDATE.get() & 0xff] = TxTypeAccountUpdate::decodeFromRawTransaction;
+        decoders[TxType.Type.VALUE_TRANSFER.get() & 0xff] = TxTypeValueTransfer::decodeFromRawTransaction;
+        decoders[TxType.Type.VALUE_TRANSFER_MEMO.get() & 0xff] = TxTypeValueTransferMemo::decodeFromRawTransaction;
+        decoders[TxType.Type.SMART_CONTRACT_DEPLOY.get() & 0xff] = TxTypeSmartContractDeploy::decodeFromRawTransaction;
+        decoders[TxType.Type.SMART_CONTRACT_EXECUTION.get() & 0xff] = TxTypeSmartContractExecution::decodeFromRawTransaction;
+        decoders[TxType.Type.CANCEL.get() & 0xff] = TxTypeCancel::decodeFromRawTransaction;
+        decoders[TxType.Type.CHAIN_DATA_ANCHORING.get() & 0xff] = TxTypeChainDataAnchoringTransaction::decodeFromRawTransaction;
+
+        // A byte without a transaction type is the start of the RLP list of a legacy transaction.
+        for (int i = 0; i < decoders.length; i++) {
+            if (decoders[i] == null) {
+                decoders[i] = TxTypeLegacyTransaction::decodeFromRawTransaction;
+            }
         }
-    };
+        return decoders;
+    }
 
     public static AbstractTxType decode(String rawTransaction) {
-        TxType.Type type = KlayTransactionUtils.getType(rawTransaction);
-        return typeMap.get(type).apply(Numeric.hexStringToByteArray(rawTransaction));
+        return decode(Numeric.hexStringToByteArray(rawTransaction));
+    }
+
+    /**
+     * Decodes a signed raw transaction, looking up the decoder by its first byte.
+     *
+     * @param rawTransaction signed raw transaction
+     * @return AbstractTxType
+     */
+    public static AbstractTxType decode(byte[] rawTransaction) {
+        return DECODERS[rawTransaction[0] & 0xff].apply(rawTransaction);
     }
 }
@@ -5,6 +5,7 @@ import com.klaytn.caver.account.Account;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.account.WeightedMultiSigOptions;
 import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.utils.KlaySignatureDataUtils;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.crypto.*;
 import org.web3j.utils.Numeric;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 
@@ -487,6 +489,24 @@ public class Keyring {
                 }).collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * Signs with transactionHash with multiple keys in parallel and returns signature.
+     * The signatures are returned in the order of the keys, the same as signWithKeys(sigHash, chainId, roleIndex).
+     * @param sigHash The hash of transaction.
+     * @param chainId The chainId specific to the network
+     * @param roleIndex A number indicating the role of the key.
+     * @param executor The executor signing with each key. If null, keys are used one after another on the calling thread.
+     * @return List
+     */
+    public List<KlaySignatureData> signWithKeys(String sigHash, int chainId, int roleIndex, Executor executor) {
+        PrivateKey[] groupKeyArr = getKeyByRole(roleIndex);
+
+        return KlaySignatureDataUtils.signWithKeys(
+                Arrays.asList(groupKeyArr),
+                privateKey -> privateKey.sign(sigHash, chainId),
+                executor);
+    }
+
     /**
      * Signs with hashed data and returns MessageSigned Object.
      * The role index and key index set 0.
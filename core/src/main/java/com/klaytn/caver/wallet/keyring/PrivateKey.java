@@ -24,6 +24,17 @@ public class PrivateKey {
      */
     private String privateKey;
 
+    /**
+     * Key pair derived from the private key. It is computed on first use and reused afterwards,
+     * because deriving the public key is an elliptic curve point multiplication.
+     */
+    private volatile ECKeyPair keyPair;
+
+    /**
+     * Address derived from the public key. It is computed on first use and reused afterwards.
+     */
+    private volatile String derivedAddress;
+
     /**
      * Creates a PrivateKey instance
      * @param privateKey The private key string.
@@ -73,8 +84,7 @@ public class PrivateKey {
      * @return KlaySignatureData
      */
     public KlaySignatureData sign(String sigHash, int chainId) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), getKeyPair(), false);
         KlaySignatureData klaySignatureData = KlaySignatureDataUtils.createEip155KlaySignatureData(signatureData, chainId);
 
         return klaySignatureData;
@@ -86,8 +96,7 @@ public class PrivateKey {
      * @return KlaySignatureData
      */
     public KlaySignatureData signMessage(String messageHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), keyPair, false);
+        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), getKeyPair(), false);
         KlaySignatureData klaySignatureData = new KlaySignatureData(new byte[]{signatureData.getV()}, signatureData.getR(), signatureData.getS());
 
         return klaySignatureData;
@@ -99,7 +108,7 @@ public class PrivateKey {
      * @return String
      */
     public String getPublicKey(boolean compressed) {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
+        BigInteger publicKey = getKeyPair().getPublicKey();
 
         if(compressed) {
             return AccountKeyPublicUtils.compressPublicKey(Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING));
@@ -113,8 +122,26 @@ public class PrivateKey {
      * @return String
      */
     public String getDerivedAddress() {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
-        return Numeric.prependHexPrefix(Keys.getAddress(publicKey));
+        String address = derivedAddress;
+        if(address == null) {
+            address = Numeric.prependHexPrefix(Keys.getAddress(getKeyPair().getPublicKey()));
+            derivedAddress = address;
+        }
+        return address;
+    }
+
+    /**
+     * Returns the key pair of this private key.
+     * The key pair is derived once and cached, so repeated signing does not derive the public key again.
+     * @return ECKeyPair
+     */
+    public ECKeyPair getKeyPair() {
+        ECKeyPair pair = keyPair;
+        if(pair == null) {
+            pair = ECKeyPair.create(Numeric.toBigInt(privateKey));
+            keyPair = pair;
+        }
+        return pair;
     }
 
     /**
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.websocket;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.disposables.Disposable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.WebSocketClient;
+import org.web3j.protocol.websocket.WebSocketService;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Web3jService connected to a Klaytn node over WebSocket, supporting klay_subscribe push subscriptions.
+ * When the connection is lost, it reconnects with an increasing delay and subscribes again to every
+ * subscription that has not been cancelled, so subscribers keep receiving notifications on the same Flowable.
+ * Notifications pushed while the connection was down are not delivered.
+ */
+public class KlayWebSocketService implements Web3jService {
+
+    public static final long DEFAULT_RECONNECT_DELAY = 1000;
+    public static final long MAX_RECONNECT_DELAY = 30 * 1000;
+
+    private final URI uri;
+    private final long reconnectDelay;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Set<ManagedSubscription<?>> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile Connection connection;
+    private volatile boolean closed;
+
+    public KlayWebSocketService(String url) {
+        this(url, DEFAULT_RECONNECT_DELAY, Async.defaultExecutorService());
+    }
+
+    /**
+     * @param url                      WebSocket url of a Klaytn node, e.g. ws://localhost:8552
+     * @param reconnectDelay           delay in milliseconds before the first reconnection attempt. It is doubled
+     *                                 after every failed attempt, up to {@link #MAX_RECONNECT_DELAY}
+     * @param scheduledExecutorService executor running the reconnection attempts
+     */
+    public KlayWebSocketService(String url, long reconnectDelay, ScheduledExecutorService scheduledExecutorService) {
+        try {
+            this.uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid WebSocket url: " + url, e);
+        }
+        this.reconnectDelay = reconnectDelay;
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    /**
+     * Opens the connection to the node and subscribes every subscription requested before.
+     * If the node could not be reached, connecting is attempted again in the background as after
+     * a lost connection.
+     *
+     * @throws ConnectException if the node could not be reached
+     */
+    public void connect() throws ConnectException {
+        Connection newConnection;
+        try {
+            newConnection = openConnection();
+        } catch (ConnectException e) {
+            scheduleReconnect(reconnectDelay);
+            throw e;
+        }
+        onConnected(newConnection);
+    }
+
+    /**
+     * Returns true if the service is connected to the node. It is false while reconnecting.
+     *
+     * @return whether the connection is open
+     */
+    public boolean isConnected() {
+        Connection current = connection;
+        return current != null && current.isOpen();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return getOpenConnection().service.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        try {
+            return getOpenConnection().service.sendAsync(request, responseType);
+        } catch (IOException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return Flowable.create(emitter -> {
+            ManagedSubscription<T> subscription =
+                    new ManagedSubscription<>(request, unsubscribeMethod, responseType, emitter.serialize());
+            subscriptions.add(subscription);
+            emitter.setCancellable(() -> {
+                subscriptions.remove(subscription);
+                subscription.dispose();
+            });
+
+            Connection current = connection;
+            if (current != null && current.isOpen()) {
+                subscription.subscribe(current);
+            }
+        }, BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Closes the connection. Subscriptions are completed and no reconnection is attempted afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Connection current = connection;
+        if (current != null) {
+            // Waits for the connection to be closed, so that the subscriptions are dropped by the node
+            // instead of sending klay_unsubscribe on a closing connection.
+            try {
+                current.closeBlocking();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            current.service.close();
+        }
+        for (ManagedSubscription<?> subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+    }
+
+    private Connection getOpenConnection() throws IOException {
+        Connection current = connection;
+        if (current == null || !current.isOpen()) {
+            throw new IOException("WebSocket connection to " + uri + " is not open");
+        }
+        return current;
+    }
+
+    private Connection openConnection() throws ConnectException {
+        Connection newConnection = new Connection(uri);
+        newConnection.service.connect();
+        return newConnection;
+    }
+
+    private void onConnectionLost(Connection lostConnection) {
+        if (closed || connection != lostConnection) {
+            return;
+        }
+        scheduleReconnect(reconnectDelay);
+    }
+
+    private void scheduleReconnect(long delay) {
+        scheduledExecutorService.schedule(() -> reconnect(delay), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect(long delay) {
+        if (closed) {
+            return;
+        }
+
+        Connection newConnection;
+        try {
+            newConnection = openConnection();
+        } catch (ConnectException e) {
+            scheduleReconnect(Math.min(delay * 2, MAX_RECONNECT_DELAY));
+            return;
+        }
+
+        onConnected(newConnection);
+    }
+
+    private void onConnected(Connection newConnection) {
+        connection = newConnection;
+        if (closed) {
+            newConnection.service.close();
+            return;
+        }
+        for (ManagedSubscription<?> subscription : subscriptions) {
+            subscription.subscribe(newConnection);
+        }
+    }
+
+    /**
+     * A single WebSocket connection. The web3j client cannot be reopened once closed,
+     * so a new connection is created for every reconnection.
+     */
+    private class Connection extends WebSocketClient {
+        private final WebSocketService service;
+        private volatile boolean lost;
+
+        Connection(URI uri) {
+            super(uri);
+            this.service = new WebSocketService(this, false);
+        }
+
+        @Override
+        public void onClose(int code, String reason, boolean remote) {
+            lost = true;
+            super.onClose(code, reason, remote);
+            onConnectionLost(this);
+        }
+    }
+
+    /**
+     * A subscription requested by a subscriber, which is subscribed again on every new connection.
+     */
+    private class ManagedSubscription<T extends Notification<?>> {
+        private final Request request;
+        private final String unsubscribeMethod;
+        private final Class<T> responseType;
+        private final FlowableEmitter<T> emitter;
+        private Disposable disposable;
+
+        ManagedSubscription(Request request, String unsubscribeMethod, Class<T> responseType,
+                            FlowableEmitter<T> emitter) {
+            this.request = request;
+            this.unsubscribeMethod = unsubscribeMethod;
+            this.responseType = responseType;
+            this.emitter = emitter;
+        }
+
+        synchronized void subscribe(Connection target) {
+            dispose();
+            if (emitter.isCancelled()) {
+                return;
+            }
+
+            // Errors and completion caused by a lost connection are hidden from the subscriber,
+            // who is subscribed again once the connection is restored.
+            disposable = target.service.subscribe(request, unsubscribeMethod, responseType).subscribe(
+                    emitter::onNext,
+                    error -> {
+                        if (!target.lost && !closed) {
+                            emitter.onError(error);
+                        }
+                    },
+                    () -> {
+                        if (!target.lost && !closed) {
+                            emitter.onComplete();
+                        }
+                    });
+        }
+
+        synchronized void dispose() {
+            if (disposable != null) {
+                disposable.dispose();
+                disposable = null;
+            }
+        }
+
+        void complete() {
+            dispose();
+            emitter.onComplete();
+        }
+    }
+}
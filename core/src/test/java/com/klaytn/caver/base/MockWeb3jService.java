@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-memory Web3jService answering JSON-RPC requests with registered handlers, so that components
+ * built on top of {@link com.klaytn.caver.Klay} can be tested without a running node.
+ * A handler receives the serialized "params" of the request and returns the "result" value of the response,
+ * or a {@link Response.Error} to answer with an error.
+ */
+public class MockWeb3jService implements Web3jService {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final Map<String, Function<JsonNode, Object>> handlers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    public MockWeb3jService on(String method, Function<JsonNode, Object> handler) {
+        handlers.put(method, handler);
+        return this;
+    }
+
+    public int getRequestCount(String method) {
+        AtomicInteger count = requestCounts.get(method);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return objectMapper.readValue(respond(request), responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(send(request, responseType));
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        throw new UnsupportedOperationException("MockWeb3jService does not support subscriptions");
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Builds the JSON-RPC response payload for a single request.
+     *
+     * @param request request to answer
+     * @return JSON-RPC response
+     * @throws IOException if no handler is registered for the method
+     */
+    public String respond(Request<?, ?> request) throws IOException {
+        requestCounts.computeIfAbsent(request.getMethod(), method -> new AtomicInteger()).incrementAndGet();
+
+        Function<JsonNode, Object> handler = handlers.get(request.getMethod());
+        if (handler == null) {
+            throw new IOException("No handler for " + request.getMethod());
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("jsonrpc", "2.0");
+        response.put("id", request.getId());
+
+        Object result = handler.apply(objectMapper.valueToTree(request).get("params"));
+        if (result instanceof Response.Error) {
+            response.put("error", result);
+        } else {
+            response.put("result", result);
+        }
+        return objectMapper.writeValueAsString(response);
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.web3j.crypto.CipherException;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
@@ -17,6 +19,9 @@ import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 
@@ -903,6 +908,40 @@ public class KeyringTest {
             assertEquals(3, actualList.size());
             checkSignature(expectedList, actualList);
         }
+
+        @Test
+        public void multipleKey_WithExecutor() {
+            Keyring keyring = generateMultipleKeyring(10);
+            ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+            try {
+                List<KlaySignatureData> expectedList = keyring.signWithKeys(HASH, CHAIN_ID, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
+                List<KlaySignatureData> actualList = keyring.signWithKeys(HASH, CHAIN_ID, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex(), executorService);
+
+                assertEquals(10, actualList.size());
+                checkSignature(expectedList, actualList);
+            } finally {
+                executorService.shutdown();
+            }
+        }
+
+        @Test
+        public void multipleKey_WithExecutorRunningTheCaller() throws Exception {
+            Keyring keyring = generateMultipleKeyring(10);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+            try {
+                List<KlaySignatureData> expectedList = keyring.signWithKeys(HASH, CHAIN_ID, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
+                List<KlaySignatureData> actualList = executorService.submit(
+                        () -> keyring.signWithKeys(HASH, CHAIN_ID, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex(), executorService))
+                        .get(10, TimeUnit.SECONDS);
+
+                assertEquals(10, actualList.size());
+                checkSignature(expectedList, actualList);
+            } finally {
+                executorService.shutdown();
+            }
+        }
     }
 
     public static class signMessageTest {
@@ -2069,6 +2108,18 @@ public class KeyringTest {
             assertEquals(3, publicKeys.get(1).length);
             assertEquals(1, publicKeys.get(2).length);
         }
+
+        @Test
+        public void getPublicKey_cachedKeyPair() {
+            PrivateKey privateKey = PrivateKey.generate();
+            BigInteger expectedPublicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey.getPrivateKey()));
+
+            assertSame(privateKey.getKeyPair(), privateKey.getKeyPair());
+            assertEquals(expectedPublicKey, privateKey.getKeyPair().getPublicKey());
+            assertEquals(Numeric.toHexStringNoPrefixZeroPadded(expectedPublicKey, 128), privateKey.getPublicKey(false));
+            assertEquals(Numeric.prependHexPrefix(Keys.getAddress(expectedPublicKey)), privateKey.getDerivedAddress());
+            assertSame(privateKey.getDerivedAddress(), privateKey.getDerivedAddress());
+        }
     }
 
     public static class isDecoupledTest {
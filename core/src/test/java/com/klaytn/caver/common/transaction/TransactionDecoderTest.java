@@ -0,0 +1,336 @@
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.account.Account;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.fee.FeePayer;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.type.*;
+import com.klaytn.caver.tx.account.AccountKeyPublic;
+import com.klaytn.caver.tx.type.*;
+import com.klaytn.caver.wallet.keyring.Keyring;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TransactionDecoderTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static final String SENDER_KEY = "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8";
+    static final String FEE_PAYER_KEY = "0xb9d5558443585bca6f225b935950e3f6e69f9da8a5809a83f51c3365dff53936";
+
+    static final KlayCredentials senderCredentials = KlayCredentials.create(SENDER_KEY);
+    static final KlayCredentials feePayerCredentials = KlayCredentials.create(FEE_PAYER_KEY);
+    static final String from = senderCredentials.getAddress();
+    static final String feePayer = feePayerCredentials.getAddress();
+
+    static final int chainId = 2019;
+    static final BigInteger nonce = BigInteger.valueOf(1234);
+    static final BigInteger gasPrice = BigInteger.valueOf(25000000000L);
+    static final BigInteger gas = BigInteger.valueOf(900000);
+    static final String to = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+    static final BigInteger value = BigInteger.TEN;
+    static final String input = "0x31323334";
+    static final BigInteger feeRatio = BigInteger.valueOf(30);
+
+    private static <B extends AbstractTransaction.Builder> B common(B builder) {
+        builder.setFrom(from)
+                .setNonce(nonce)
+                .setGasPrice(gasPrice)
+                .setGas(gas)
+                .setChainId(BigInteger.valueOf(chainId));
+        return builder;
+    }
+
+    private static String sign(AbstractTransaction tx) throws IOException {
+        tx.signWithKey(Keyring.createFromPrivateKey(SENDER_KEY));
+        return tx.getRLPEncoding();
+    }
+
+    private static String signWithFeePayer(AbstractFeeDelegatedTransaction tx) throws IOException {
+        tx.signWithKey(Keyring.createFromPrivateKey(SENDER_KEY));
+        tx.signAsFeePayer(Keyring.createFromPrivateKey(FEE_PAYER_KEY));
+        return tx.getRLPEncoding();
+    }
+
+    private static String signOld(AbstractTxType tx) {
+        return tx.sign(senderCredentials, chainId).getValueAsString();
+    }
+
+    private static String signOldWithFeePayer(TxTypeFeeDelegate tx) {
+        String senderRawTx = tx.sign(senderCredentials, chainId).getValueAsString();
+        TxTypeFeeDelegate decoded = (TxTypeFeeDelegate) com.klaytn.caver.utils.TransactionDecoder.decode(senderRawTx);
+        return new FeePayer(feePayerCredentials, chainId).sign(decoded).getValueAsString();
+    }
+
+    private static void assertRoundTrip(AbstractTransaction tx, String rawTx, Class<?> expectedClass) {
+        AbstractTransaction decoded = TransactionDecoder.decode(rawTx);
+        assertEquals(expectedClass, decoded.getClass());
+        assertTrue(tx.compareTxField(decoded, true));
+    }
+
+    @Test
+    public void valueTransfer() throws IOException {
+        ValueTransfer tx = common(new ValueTransfer.Builder()).setTo(to).setValue(value).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeValueTransfer.createTransaction(nonce, gasPrice, gas, to, value, from)), rawTx);
+        assertEquals(tx.getSenderTxHash(), tx.getTransactionHash());
+        assertRoundTrip(tx, rawTx, ValueTransfer.class);
+    }
+
+    @Test
+    public void feeDelegatedValueTransfer() throws IOException {
+        FeeDelegatedValueTransfer tx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedValueTransfer.createTransaction(nonce, gasPrice, gas, to, value, from)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedValueTransfer.class);
+    }
+
+    @Test
+    public void feeDelegatedValueTransferWithRatio() throws IOException {
+        FeeDelegatedValueTransferWithRatio tx = common(new FeeDelegatedValueTransferWithRatio.Builder()).setTo(to).setValue(value).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedValueTransferWithRatio.createTransaction(nonce, gasPrice, gas, to, value, from, feeRatio)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedValueTransferWithRatio.class);
+    }
+
+    @Test
+    public void valueTransferMemo() throws IOException {
+        ValueTransferMemo tx = common(new ValueTransferMemo.Builder()).setTo(to).setValue(value).setInput(input).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeValueTransferMemo.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input))), rawTx);
+        assertRoundTrip(tx, rawTx, ValueTransferMemo.class);
+    }
+
+    @Test
+    public void feeDelegatedValueTransferMemo() throws IOException {
+        FeeDelegatedValueTransferMemo tx = common(new FeeDelegatedValueTransferMemo.Builder()).setTo(to).setValue(value).setInput(input).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedValueTransferMemo.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input))), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedValueTransferMemo.class);
+    }
+
+    @Test
+    public void feeDelegatedValueTransferMemoWithRatio() throws IOException {
+        FeeDelegatedValueTransferMemoWithRatio tx = common(new FeeDelegatedValueTransferMemoWithRatio.Builder()).setTo(to).setValue(value).setInput(input).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedValueTransferMemoWithRatio.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input), feeRatio)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedValueTransferMemoWithRatio.class);
+    }
+
+    @Test
+    public void accountUpdate() throws IOException {
+        BigInteger publicKey = feePayerCredentials.getEcKeyPair().getPublicKey();
+        Account account = Account.createWithAccountKeyPublic(from, Numeric.toHexStringWithPrefixZeroPadded(publicKey, 128));
+
+        AccountUpdate tx = common(new AccountUpdate.Builder()).setAccount(account).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeAccountUpdate.createTransaction(nonce, gasPrice, gas, from, AccountKeyPublic.create(publicKey))), rawTx);
+        assertRoundTrip(tx, rawTx, AccountUpdate.class);
+    }
+
+    @Test
+    public void feeDelegatedAccountUpdate() throws IOException {
+        BigInteger publicKey = feePayerCredentials.getEcKeyPair().getPublicKey();
+        Account account = Account.createWithAccountKeyPublic(from, Numeric.toHexStringWithPrefixZeroPadded(publicKey, 128));
+
+        FeeDelegatedAccountUpdate tx = common(new FeeDelegatedAccountUpdate.Builder()).setAccount(account).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedAccountUpdate.createTransaction(nonce, gasPrice, gas, from, AccountKeyPublic.create(publicKey))), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedAccountUpdate.class);
+    }
+
+    @Test
+    public void feeDelegatedAccountUpdateWithRatio() throws IOException {
+        BigInteger publicKey = feePayerCredentials.getEcKeyPair().getPublicKey();
+        Account account = Account.createWithAccountKeyPublic(from, Numeric.toHexStringWithPrefixZeroPadded(publicKey, 128));
+
+        FeeDelegatedAccountUpdateWithRatio tx = common(new FeeDelegatedAccountUpdateWithRatio.Builder()).setAccount(account).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedAccountUpdateWithRatio.createTransaction(nonce, gasPrice, gas, from, AccountKeyPublic.create(publicKey), feeRatio)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedAccountUpdateWithRatio.class);
+    }
+
+    @Test
+    public void smartContractDeploy() throws IOException {
+        SmartContractDeploy tx = common(new SmartContractDeploy.Builder()).setValue(BigInteger.ZERO).setInput(input).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeSmartContractDeploy.createTransaction(nonce, gasPrice, gas, BigInteger.ZERO, from, Numeric.hexStringToByteArray(input), BigInteger.ZERO)), rawTx);
+        assertRoundTrip(tx, rawTx, SmartContractDeploy.class);
+    }
+
+    @Test
+    public void feeDelegatedSmartContractDeploy() throws IOException {
+        FeeDelegatedSmartContractDeploy tx = common(new FeeDelegatedSmartContractDeploy.Builder()).setValue(BigInteger.ZERO).setInput(input).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedSmartContractDeploy.createTransaction(nonce, gasPrice, gas, BigInteger.ZERO, from, Numeric.hexStringToByteArray(input), BigInteger.ZERO)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedSmartContractDeploy.class);
+    }
+
+    @Test
+    public void feeDelegatedSmartContractDeployWithRatio() throws IOException {
+        FeeDelegatedSmartContractDeployWithRatio tx = common(new FeeDelegatedSmartContractDeployWithRatio.Builder()).setValue(BigInteger.ZERO).setInput(input).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedSmartContractDeployWithRatio.createTransaction(nonce, gasPrice, gas, BigInteger.ZERO, from, Numeric.hexStringToByteArray(input), feeRatio, BigInteger.ZERO)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedSmartContractDeployWithRatio.class);
+    }
+
+    @Test
+    public void smartContractExecution() throws IOException {
+        SmartContractExecution tx = common(new SmartContractExecution.Builder()).setTo(to).setValue(value).setInput(input).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeSmartContractExecution.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input))), rawTx);
+        assertRoundTrip(tx, rawTx, SmartContractExecution.class);
+    }
+
+    @Test
+    public void feeDelegatedSmartContractExecution() throws IOException {
+        FeeDelegatedSmartContractExecution tx = common(new FeeDelegatedSmartContractExecution.Builder()).setTo(to).setValue(value).setInput(input).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedSmartContractExecution.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input))), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedSmartContractExecution.class);
+    }
+
+    @Test
+    public void feeDelegatedSmartContractExecutionWithRatio() throws IOException {
+        FeeDelegatedSmartContractExecutionWithRatio tx = common(new FeeDelegatedSmartContractExecutionWithRatio.Builder()).setTo(to).setValue(value).setInput(input).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedSmartContractExecutionWithRatio.createTransaction(nonce, gasPrice, gas, to, value, from, Numeric.hexStringToByteArray(input), feeRatio)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedSmartContractExecutionWithRatio.class);
+    }
+
+    @Test
+    public void cancel() throws IOException {
+        Cancel tx = common(new Cancel.Builder()).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeCancel.createTransaction(nonce, gasPrice, gas, from)), rawTx);
+        assertRoundTrip(tx, rawTx, Cancel.class);
+    }
+
+    @Test
+    public void feeDelegatedCancel() throws IOException {
+        FeeDelegatedCancel tx = common(new FeeDelegatedCancel.Builder()).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedCancel.createTransaction(nonce, gasPrice, gas, from)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedCancel.class);
+    }
+
+    @Test
+    public void feeDelegatedCancelWithRatio() throws IOException {
+        FeeDelegatedCancelWithRatio tx = common(new FeeDelegatedCancelWithRatio.Builder()).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(signOldWithFeePayer(TxTypeFeeDelegatedCancelWithRatio.createTransaction(nonce, gasPrice, gas, from, feeRatio)), rawTx);
+        assertRoundTrip(tx, rawTx, FeeDelegatedCancelWithRatio.class);
+    }
+
+    @Test
+    public void chainDataAnchoring() throws IOException {
+        ChainDataAnchoring tx = common(new ChainDataAnchoring.Builder()).setInput(input).build();
+        String rawTx = sign(tx);
+
+        assertEquals(signOld(TxTypeChainDataAnchoringTransaction.createTransaction(nonce, gasPrice, gas, from, Numeric.hexStringToByteArray(input))), rawTx);
+        assertRoundTrip(tx, rawTx, ChainDataAnchoring.class);
+    }
+
+    @Test
+    public void feeDelegatedChainDataAnchoring() throws IOException {
+        FeeDelegatedChainDataAnchoring tx = common(new FeeDelegatedChainDataAnchoring.Builder()).setInput(input).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType(), Numeric.hexStringToByteArray(rawTx)[0]);
+        assertRoundTrip(tx, rawTx, FeeDelegatedChainDataAnchoring.class);
+    }
+
+    @Test
+    public void feeDelegatedChainDataAnchoringWithRatio() throws IOException {
+        FeeDelegatedChainDataAnchoringWithRatio tx = common(new FeeDelegatedChainDataAnchoringWithRatio.Builder()).setInput(input).setFeeRatio(feeRatio).build();
+        String rawTx = signWithFeePayer(tx);
+
+        assertEquals(TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType(), Numeric.hexStringToByteArray(rawTx)[0]);
+        assertRoundTrip(tx, rawTx, FeeDelegatedChainDataAnchoringWithRatio.class);
+    }
+
+    @Test
+    public void senderTxHashExcludesFeePayer() throws IOException {
+        FeeDelegatedValueTransfer senderTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        sign(senderTx);
+
+        FeeDelegatedValueTransfer tx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        signWithFeePayer(tx);
+
+        assertNotEquals(tx.getTransactionHash(), tx.getSenderTxHash());
+        assertNotEquals(senderTx.getTransactionHash(), senderTx.getSenderTxHash());
+        assertEquals(senderTx.getSenderTxHash(), tx.getSenderTxHash());
+    }
+
+    @Test
+    public void combineFeePayerSignatures() throws IOException {
+        FeeDelegatedValueTransfer senderTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        senderTx.signWithKey(Keyring.createFromPrivateKey(SENDER_KEY));
+
+        FeeDelegatedValueTransfer feePayerTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        String feePayerRawTx = signWithFeePayer(feePayerTx);
+
+        assertEquals(feePayerRawTx, senderTx.combineSignatures(Collections.singletonList(feePayerRawTx)));
+        assertEquals(feePayer.toLowerCase(), senderTx.getFeePayer().toLowerCase());
+    }
+
+    @Test
+    public void combineSenderAndFeePayerRawTransactions() throws IOException {
+        FeeDelegatedValueTransfer senderTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        String senderRawTx = sign(senderTx);
+
+        FeeDelegatedValueTransfer feePayerTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        feePayerTx.signAsFeePayer(Keyring.createFromPrivateKey(FEE_PAYER_KEY));
+        String feePayerRawTx = feePayerTx.getRLPEncoding();
+
+        String expected = signWithFeePayer(common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build());
+
+        FeeDelegatedValueTransfer emptyTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        assertEquals(expected, emptyTx.combineSignatures(Arrays.asList(senderRawTx, feePayerRawTx)));
+
+        FeeDelegatedValueTransfer reversedTx = common(new FeeDelegatedValueTransfer.Builder()).setTo(to).setValue(value).build();
+        assertEquals(expected, reversedTx.combineSignatures(Arrays.asList(feePayerRawTx, senderRawTx)));
+    }
+
+    @Test
+    public void invalidFeeRatio() {
+        expectedException.expect(IllegalArgumentException.class);
+        common(new FeeDelegatedValueTransferWithRatio.Builder()).setTo(to).setValue(value).setFeeRatio(BigInteger.valueOf(100)).build();
+    }
+
+    @Test
+    public void mismatchedType() {
+        expectedException.expect(RuntimeException.class);
+        ValueTransfer.decode(Numeric.hexStringToByteArray("0x09c0"));
+    }
+}
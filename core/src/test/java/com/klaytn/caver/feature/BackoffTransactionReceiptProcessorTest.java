@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.tx.manager.BackoffTransactionReceiptProcessor;
+import com.klaytn.caver.tx.manager.TimerWheel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BackoffTransactionReceiptProcessorTest {
+
+    private static final int TRANSACTION_COUNT = 1000;
+    private static final int ATTEMPTS_BEFORE_RECEIPT = 3;
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> attemptTimes = new ConcurrentHashMap<>();
+    private MockWeb3jService service;
+    private TimerWheel timerWheel;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService().on("klay_getTransactionReceipt", params -> {
+            String transactionHash = params.get(0).asText();
+            attemptTimes.computeIfAbsent(transactionHash, hash -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(System.nanoTime());
+            int attempt = attempts.computeIfAbsent(transactionHash, hash -> new AtomicInteger()).incrementAndGet();
+            return attempt >= ATTEMPTS_BEFORE_RECEIPT ? receipt(transactionHash) : null;
+        });
+        timerWheel = new TimerWheel(1, 64);
+    }
+
+    @After
+    public void tearDown() {
+        timerWheel.stop();
+    }
+
+    @Test
+    public void testManyTransactionsOnOneWheel() throws Exception {
+        BackoffTransactionReceiptProcessor processor = builder(service)
+                .setInitialDelay(5)
+                .setMaxDelay(20)
+                .build();
+
+        List<CompletableFuture<KlayTransactionReceipt.TransactionReceipt>> futures = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync(hash(i)));
+        }
+
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            assertEquals(hash(i), futures.get(i).get(5, TimeUnit.SECONDS).getTransactionHash());
+            assertEquals(ATTEMPTS_BEFORE_RECEIPT, attempts.get(hash(i)).get());
+        }
+        assertEquals(0, timerWheel.getPendingCount());
+    }
+
+    @Test
+    public void testDelayGrowsUpToMaxDelay() throws Exception {
+        BackoffTransactionReceiptProcessor processor = builder(service)
+                .setInitialDelay(10)
+                .setMultiplier(4)
+                .setMaxDelay(50)
+                .setJitter(0)
+                .build();
+
+        processor.waitForTransactionReceipt(hash(0));
+
+        List<Long> times = attemptTimes.get(hash(0));
+        long firstDelay = TimeUnit.NANOSECONDS.toMillis(times.get(1) - times.get(0));
+        long secondDelay = TimeUnit.NANOSECONDS.toMillis(times.get(2) - times.get(1));
+        assertTrue("first delay was " + firstDelay, firstDelay >= 40);
+        assertTrue("second delay was " + secondDelay, secondDelay >= 50 && secondDelay < 160);
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        service.on("klay_getTransactionReceipt", params -> null);
+        BackoffTransactionReceiptProcessor processor = builder(service)
+                .setInitialDelay(5)
+                .setTimeout(50)
+                .build();
+
+        try {
+            processor.waitForTransactionReceipt(hash(0));
+            fail();
+        } catch (TransactionException e) {
+            assertEquals(hash(0), e.getTransactionHash().get());
+        }
+    }
+
+    @Test
+    public void testRpcErrorFails() throws IOException {
+        service.on("klay_getTransactionReceipt", params -> new Response.Error(-32000, "unavailable"));
+        BackoffTransactionReceiptProcessor processor = builder(service).setInitialDelay(5).build();
+
+        try {
+            processor.waitForTransactionReceipt(hash(0));
+            fail();
+        } catch (TransactionException e) {
+            assertTrue(e.getMessage().contains("unavailable"));
+        }
+        assertEquals(1, service.getRequestCount("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void testNetworkErrorIsRetried() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        MockWeb3jService flakyService = new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                if (failed.compareAndSet(false, true)) {
+                    CompletableFuture<T> result = new CompletableFuture<>();
+                    result.completeExceptionally(new IOException("connection reset"));
+                    return result;
+                }
+                return super.sendAsync(request, responseType);
+            }
+        }.on("klay_getTransactionReceipt", params -> receipt(params.get(0).asText()));
+
+        BackoffTransactionReceiptProcessor processor = builder(flakyService).setInitialDelay(5).build();
+
+        assertEquals(hash(0), processor.waitForTransactionReceipt(hash(0)).getTransactionHash());
+        assertTrue(failed.get());
+    }
+
+    @Test
+    public void testSynchronousSendFailureFails() throws Exception {
+        MockWeb3jService rejectingService = new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                throw new RejectedExecutionException("executor shut down");
+            }
+        };
+        BackoffTransactionReceiptProcessor processor = builder(rejectingService).setInitialDelay(5).build();
+
+        try {
+            processor.waitForTransactionReceiptAsync(hash(0)).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testCancelStopsAttempts() throws Exception {
+        service.on("klay_getTransactionReceipt", params -> null);
+        BackoffTransactionReceiptProcessor processor = builder(service)
+                .setInitialDelay(20)
+                .setJitter(0)
+                .build();
+
+        processor.waitForTransactionReceiptAsync(hash(0)).cancel(false);
+        Thread.sleep(100);
+
+        assertEquals(0, service.getRequestCount("klay_getTransactionReceipt"));
+        assertEquals(0, timerWheel.getPendingCount());
+    }
+
+    private BackoffTransactionReceiptProcessor.Builder builder(MockWeb3jService service) {
+        return new BackoffTransactionReceiptProcessor.Builder(Caver.build(service))
+                .setMultiplier(2)
+                .setTimerWheel(timerWheel);
+    }
+
+    private static String hash(int index) {
+        return "0x" + String.format("%064x", index);
+    }
+
+    private static Map<String, Object> receipt(String transactionHash) {
+        Map<String, Object> receipt = new HashMap<>();
+        receipt.put("transactionHash", transactionHash);
+        receipt.put("status", "0x1");
+        return receipt;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.http.BatchHttpService;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.Quantity;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRequestTest {
+
+    private static final String ADDRESS = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final String BLOCK_HASH = "0x4584bea6b8b2abe7f024d1e63dd0571cfd28cd5157b4f6cb2ac4160a7b0057e0";
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final AtomicInteger httpRequestCount = new AtomicInteger();
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            httpRequestCount.incrementAndGet();
+            JsonNode requests = objectMapper.readTree(exchange.getRequestBody());
+
+            // Answer in reverse order to check that responses are matched by id.
+            ArrayNode responses = objectMapper.createArrayNode();
+            for (int i = requests.size() - 1; i >= 0; i--) {
+                responses.add(respond(requests.get(i)));
+            }
+
+            byte[] body = objectMapper.writeValueAsString(responses).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testBatchIsSentInOneRoundTrip() throws IOException {
+        Caver caver = Caver.build(new BatchHttpService("http://localhost:" + server.getAddress().getPort()));
+
+        BatchResponse response = caver.batch()
+                .add(caver.klay().getBalance(ADDRESS, DefaultBlockParameterName.LATEST))
+                .add(caver.klay().getTransactionCount(ADDRESS, DefaultBlockParameterName.PENDING))
+                .add(caver.klay().getBlockByHash(BLOCK_HASH, false))
+                .send();
+
+        assertEquals(1, httpRequestCount.get());
+        assertEquals(3, response.size());
+        assertEquals(BigInteger.valueOf(1000), response.get(0, Quantity.class).getValue());
+        assertEquals(BigInteger.valueOf(7), response.get(1, Quantity.class).getValue());
+        assertEquals(BLOCK_HASH, response.get(2, KlayBlock.class).getBlock().getHash());
+    }
+
+    @Test
+    public void testBatchWithoutBatchService() throws Exception {
+        MockWeb3jService service = new MockWeb3jService()
+                .on("klay_getBalance", params -> "0x3e8")
+                .on("klay_blockNumber", params -> "0x10");
+        Caver caver = Caver.build(service);
+
+        BatchResponse response = caver.batch()
+                .add(caver.klay().getBalance(ADDRESS, DefaultBlockParameterName.LATEST))
+                .add(caver.klay().getBlockNumber())
+                .sendAsync()
+                .get();
+
+        assertEquals(BigInteger.valueOf(1000), response.get(0, Quantity.class).getValue());
+        assertEquals(BigInteger.valueOf(16), response.get(1, Quantity.class).getValue());
+        assertTrue(response.getRequests().get(1).getMethod().equals("klay_blockNumber"));
+    }
+
+    private ObjectNode respond(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+
+        switch (request.get("method").asText()) {
+            case "klay_getBalance":
+                response.put("result", "0x3e8");
+                break;
+            case "klay_getTransactionCount":
+                response.put("result", "0x7");
+                break;
+            case "klay_getBlockByHash":
+                ObjectNode block = response.putObject("result");
+                block.put("hash", request.get("params").get(0).asText());
+                block.put("number", "0x1");
+                block.putArray("transactions");
+                break;
+            default:
+                response.putObject("error").put("code", -32601).put("message", "method not found");
+        }
+        return response;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.backfill.BackfillCheckpoint;
+import com.klaytn.caver.backfill.BlockBackfill;
+import com.klaytn.caver.backfill.BlockWithReceipts;
+import com.klaytn.caver.backfill.FileBackfillCheckpoint;
+import com.klaytn.caver.base.MockWeb3jService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class BlockBackfillTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ExecutorService executor;
+    private MockWeb3jService service;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        // Answers asynchronously with random delays, so that batches complete out of order.
+        service = new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                        return send(request, responseType);
+                    } catch (IOException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }, executor);
+            }
+        };
+        service.on("klay_getBlockByNumber", params -> block(Numeric.toBigInt(params.get(0).asText()).longValue()))
+                .on("klay_getBlockReceipts", params -> Collections.singletonList(
+                        Collections.singletonMap("transactionHash", params.get(0).asText())));
+        caver = Caver.build(service);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBlocksAreHandledInOrder() throws IOException {
+        List<BlockWithReceipts> handled = new ArrayList<>();
+        new BlockBackfill.Builder(caver)
+                .setBatchSize(3)
+                .setConcurrency(4)
+                .build()
+                .run(BigInteger.valueOf(5), BigInteger.valueOf(40), handled::add);
+
+        assertEquals(range(5, 40), numbers(handled));
+        assertEquals(36, service.getRequestCount("klay_getBlockByNumber"));
+    }
+
+    @Test
+    public void testReceiptsAreRequestedOnlyForBlocksWithTransactions() throws IOException {
+        List<BlockWithReceipts> handled = new ArrayList<>();
+        new BlockBackfill.Builder(caver)
+                .setBatchSize(4)
+                .build()
+                .run(BigInteger.ONE, BigInteger.TEN, handled::add);
+
+        // Blocks with an even number contain a transaction.
+        assertEquals(5, service.getRequestCount("klay_getBlockReceipts"));
+        for (BlockWithReceipts block : handled) {
+            if (block.getNumber().testBit(0)) {
+                assertEquals(0, block.getReceipts().size());
+            } else {
+                assertEquals(block.getBlock().getHash(), block.getReceipts().get(0).getTransactionHash());
+            }
+        }
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve("backfill.checkpoint");
+        BackfillCheckpoint checkpoint = new FileBackfillCheckpoint(path);
+        assertNull(checkpoint.load());
+
+        BlockBackfill backfill = new BlockBackfill.Builder(caver)
+                .setBatchSize(5)
+                .setConcurrency(2)
+                .setCheckpoint(checkpoint)
+                .build();
+
+        List<BlockWithReceipts> handled = new ArrayList<>();
+        try {
+            backfill.run(BigInteger.ZERO, BigInteger.valueOf(29), block -> {
+                if (block.getNumber().intValue() == 12) {
+                    throw new IOException("handler failed");
+                }
+                handled.add(block);
+            });
+            fail();
+        } catch (IOException e) {
+            assertEquals("handler failed", e.getMessage());
+        }
+        assertEquals(BigInteger.valueOf(9), checkpoint.load());
+
+        handled.clear();
+        backfill.run(BigInteger.ZERO, BigInteger.valueOf(29), handled::add);
+
+        assertEquals(range(10, 29), numbers(handled));
+        assertEquals(BigInteger.valueOf(29), new FileBackfillCheckpoint(path).load());
+    }
+
+    @Test
+    public void testMissingBlock() {
+        service.on("klay_getBlockByNumber", params -> null);
+        try {
+            new BlockBackfill.Builder(caver).build().run(BigInteger.ONE, BigInteger.ONE, block -> { });
+            fail();
+        } catch (IOException e) {
+            assertEquals("Block 1 is not found", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequestError() {
+        service.on("klay_getBlockReceipts", params -> new Response.Error(-32000, "unavailable"));
+        try {
+            new BlockBackfill.Builder(caver).build().run(BigInteger.ONE, BigInteger.TEN, block -> { });
+            fail();
+        } catch (IOException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Long> numbers(List<BlockWithReceipts> blocks) {
+        return blocks.stream().map(block -> block.getNumber().longValue()).collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> block(long number) {
+        Map<String, Object> block = new HashMap<>();
+        block.put("number", Numeric.toHexStringWithPrefix(BigInteger.valueOf(number)));
+        block.put("hash", "0x" + String.format("%064x", number));
+        if (number % 2 == 0) {
+            Map<String, Object> transaction = new HashMap<>();
+            transaction.put("hash", "0x" + String.format("%064x", number + 1000));
+            transaction.put("type", "TxTypeValueTransfer");
+            block.put("transactions", Collections.singletonList(transaction));
+        } else {
+            block.put("transactions", Collections.emptyList());
+        }
+        return block;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.tx.manager.BlockTransactionReceiptProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BlockTransactionReceiptProcessorTest {
+
+    private static final int TRANSACTION_COUNT = 100;
+
+    private AtomicLong latestBlock;
+    private Map<Long, List<Map<String, Object>>> receiptsByBlock;
+    private MockWeb3jService service;
+    private ScheduledExecutorService scheduledExecutorService;
+
+    @Before
+    public void setUp() {
+        latestBlock = new AtomicLong(100);
+        receiptsByBlock = new ConcurrentHashMap<>();
+        service = new MockWeb3jService()
+                .on("klay_blockNumber", params -> Numeric.toHexStringWithPrefix(BigInteger.valueOf(latestBlock.get())))
+                .on("klay_getBlockByNumber", params -> {
+                    long number = Numeric.decodeQuantity(params.get(0).asText()).longValue();
+                    Map<String, Object> block = new HashMap<>();
+                    block.put("number", Numeric.toHexStringWithPrefix(BigInteger.valueOf(number)));
+                    block.put("hash", blockHash(number));
+                    block.put("transactions", Collections.emptyList());
+                    return block;
+                })
+                .on("klay_getBlockReceipts", params -> {
+                    long number = Numeric.toBigInt(params.get(0).asText()).longValue();
+                    return receiptsByBlock.getOrDefault(number, Collections.emptyList());
+                })
+                .on("klay_getTransactionReceipt", params -> null);
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void testReceiptsAreFetchedPerBlock() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 15, 200, scheduledExecutorService);
+        awaitPolling();
+
+        List<Map<String, Object>> receipts = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            receipts.add(Collections.singletonMap("transactionHash", transactionHash(i)));
+        }
+        int half = TRANSACTION_COUNT / 2;
+        receiptsByBlock.put(100L, receipts.subList(0, half));
+        List<CompletableFuture<KlayTransactionReceipt.TransactionReceipt>> futures = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            futures.add(processor.watch(transactionHash(i)));
+        }
+        for (int i = 0; i < half; i++) {
+            assertEquals(transactionHash(i), futures.get(i).get(5, TimeUnit.SECONDS).getTransactionHash());
+        }
+
+        receiptsByBlock.put(101L, receipts.subList(half, TRANSACTION_COUNT));
+        latestBlock.set(101);
+        for (int i = half; i < TRANSACTION_COUNT; i++) {
+            assertEquals(transactionHash(i), futures.get(i).get(5, TimeUnit.SECONDS).getTransactionHash());
+        }
+        processor.shutdown();
+
+        assertEquals(0, processor.getPendingTransactionCount());
+        assertEquals(0, service.getRequestCount("klay_getTransactionReceipt"));
+        assertEquals(2, service.getRequestCount("klay_getBlockReceipts"));
+    }
+
+    @Test
+    public void testMissingReceiptFailsAfterBlocksToWait() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 3, 10, scheduledExecutorService);
+
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> future = processor.watch(transactionHash(0));
+        service.on("klay_blockNumber", params -> Numeric.toHexStringWithPrefix(BigInteger.valueOf(latestBlock.incrementAndGet())));
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("No transaction receipt"));
+        }
+        processor.shutdown();
+
+        assertEquals(1, service.getRequestCount("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void testReceiptMinedBeforeNextPolling() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 15, 200, scheduledExecutorService);
+        awaitPolling();
+
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> future = processor.watch(transactionHash(0));
+        receiptsByBlock.put(101L, Collections.singletonList(
+                Collections.singletonMap("transactionHash", transactionHash(0))));
+        latestBlock.set(103);
+
+        assertEquals(transactionHash(0), future.get(5, TimeUnit.SECONDS).getTransactionHash());
+        processor.shutdown();
+
+        assertEquals(0, service.getRequestCount("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void testWatchSendsNoRequest() {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 15, 1000, scheduledExecutorService);
+
+        processor.watch(transactionHash(0));
+        processor.shutdown();
+
+        assertEquals(0, service.getRequestCount("klay_blockNumber"));
+    }
+
+    @Test
+    public void testBlocksScannedAgainAreCountedOnce() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        service.on("klay_getBlockReceipts", params -> {
+            long number = Numeric.toBigInt(params.get(0).asText()).longValue();
+            if (number == 102 && failed.compareAndSet(false, true)) {
+                return new Response.Error(-32000, "unavailable");
+            }
+            return Collections.emptyList();
+        });
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 4, 10, scheduledExecutorService);
+        awaitPolling();
+
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> future = processor.watch(transactionHash(0));
+        latestBlock.set(102);
+        Thread.sleep(200);
+
+        // Blocks 100 to 102 are three blocks, however many times they were fetched.
+        assertTrue(failed.get());
+        assertFalse(future.isDone());
+
+        latestBlock.set(103);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("No transaction receipt"));
+        }
+        processor.shutdown();
+
+        assertEquals(1, service.getRequestCount("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void testReceiptOfBlockProcessedBeforeRegistration() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(
+                Caver.build(service), null, 15, 10, scheduledExecutorService);
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> first = processor.watch(transactionHash(0));
+        receiptsByBlock.put(100L, Collections.singletonList(
+                Collections.singletonMap("transactionHash", transactionHash(0))));
+        first.get(5, TimeUnit.SECONDS);
+
+        // Keeps the processor following blocks, then registers a transaction of the block already processed.
+        processor.watch(transactionHash(1));
+        receiptsByBlock.put(100L, Arrays.asList(
+                Collections.singletonMap("transactionHash", transactionHash(0)),
+                Collections.singletonMap("transactionHash", transactionHash(2))));
+        CompletableFuture<KlayTransactionReceipt.TransactionReceipt> late = processor.watch(transactionHash(2));
+
+        assertEquals(transactionHash(2), late.get(5, TimeUnit.SECONDS).getTransactionHash());
+        processor.shutdown();
+    }
+
+    /**
+     * Waits until the processor has read the latest block, which is then the registration block.
+     * The second polling has started only once the first one is over.
+     */
+    private void awaitPolling() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getRequestCount("klay_blockNumber") < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static String blockHash(long number) {
+        return Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(number), 64);
+    }
+
+    private static String transactionHash(int index) {
+        return Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(index).add(BigInteger.TEN.pow(10)), 64);
+    }
+}
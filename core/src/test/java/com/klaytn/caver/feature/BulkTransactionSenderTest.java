@@ -0,0 +1,323 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.manager.BulkTransactionSender;
+import com.klaytn.caver.tx.manager.ConcurrentGetNonceProcessor;
+import com.klaytn.caver.tx.manager.PollingTransactionReceiptProcessor;
+import com.klaytn.caver.tx.model.ValueTransferTransaction;
+import com.klaytn.caver.wallet.WalletManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.klaytn.caver.base.LocalValues.LOCAL_CHAIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BulkTransactionSenderTest {
+
+    private static final KlayCredentials SENDER = KlayCredentials.create("0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b");
+    private static final KlayCredentials OTHER_SENDER = KlayCredentials.create("0x3b2b5ad3ea8fcd5bea6d33ad5b5b28b50b9b1c3d2f3e9d8f6c9a0e3b5a7d6c4e");
+    private static final String RECEIVER = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private MockWeb3jService service;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> "0x0")
+                .on("klay_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()))
+                .on("klay_getTransactionReceipt",
+                        params -> Collections.singletonMap("transactionHash", params.get(0).asText()));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSendAllWithReceipts() throws Exception {
+        int count = 300;
+        WalletManager walletManager = new WalletManager();
+        walletManager.add(SENDER);
+        walletManager.add(OTHER_SENDER);
+        Caver caver = Caver.build(service);
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(caver, walletManager)
+                .setChainId(LOCAL_CHAIN_ID)
+                .setTransactionReceiptProcessor(new PollingTransactionReceiptProcessor(caver, 10, 15))
+                .setSigningExecutor(executor)
+                .setMaxInFlight(32)
+                .build();
+
+        List<ValueTransferTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            KlayCredentials from = i % 2 == 0 ? SENDER : OTHER_SENDER;
+            transactions.add(ValueTransferTransaction.create(from.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT));
+        }
+
+        List<BulkTransactionSender.Result> results = new CopyOnWriteArrayList<>();
+        sender.sendAll(transactions, results::add);
+
+        Set<String> transactionHashes = ConcurrentHashMap.newKeySet();
+        Set<Long> indexes = ConcurrentHashMap.newKeySet();
+        for (BulkTransactionSender.Result result : results) {
+            assertTrue(result.isSuccess());
+            assertEquals(result.getTransactionHash(), result.getReceipt().getTransactionHash());
+            transactionHashes.add(result.getTransactionHash());
+            indexes.add(result.getIndex());
+        }
+        assertEquals(count, transactionHashes.size());
+        assertEquals(count, indexes.size());
+        assertEquals(0, sender.getInFlightCount());
+        assertEquals(2, service.getRequestCount("klay_getTransactionCount"));
+
+        // Nonces are reserved in submission order for each sender.
+        for (int i = 0; i < count; i++) {
+            assertEquals(BigInteger.valueOf(i / 2), transactions.get(i).getNonce());
+        }
+    }
+
+    @Test
+    public void testInFlightWindow() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        service.on("klay_sendRawTransaction", params -> {
+            await(release);
+            return Hash.sha3(params.get(0).asText());
+        });
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(Caver.build(service), SENDER)
+                .setChainId(LOCAL_CHAIN_ID)
+                .setSigningExecutor(Executors.newCachedThreadPool())
+                .setMaxInFlight(5)
+                .build();
+
+        AtomicInteger submitted = new AtomicInteger();
+        List<CompletableFuture<BulkTransactionSender.Result>> results = new CopyOnWriteArrayList<>();
+        Future<?> submitting = executor.submit(() -> {
+            for (int i = 0; i < 20; i++) {
+                results.add(sender.submit(
+                        ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)));
+                submitted.incrementAndGet();
+            }
+            return null;
+        });
+
+        Thread.sleep(200);
+        assertEquals(5, submitted.get());
+        assertEquals(5, sender.getInFlightCount());
+
+        release.countDown();
+        submitting.get(5, TimeUnit.SECONDS);
+        sender.awaitIdle();
+        assertEquals(20, submitted.get());
+        for (CompletableFuture<BulkTransactionSender.Result> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+    }
+
+    @Test
+    public void testBatchedSend() throws Exception {
+        int count = 100;
+        CountingBatchService batchService = new CountingBatchService(service);
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(Caver.build(batchService), SENDER)
+                .setChainId(LOCAL_CHAIN_ID)
+                .setSigningExecutor(executor)
+                .setBatchSize(20)
+                .setMaxInFlight(40)
+                .build();
+
+        List<ValueTransferTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT));
+        }
+        AtomicInteger succeeded = new AtomicInteger();
+        sender.sendAll(transactions, result -> {
+            if (result.isSuccess()) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertEquals(count, succeeded.get());
+        assertEquals(count, service.getRequestCount("klay_sendRawTransaction"));
+        int sent = 0;
+        for (int size : batchService.batchSizes) {
+            assertTrue(size <= 20);
+            sent += size;
+        }
+        assertEquals(count, sent);
+    }
+
+    @Test
+    public void testMissingBatchResponseFailsItsTransaction() throws Exception {
+        CountingBatchService batchService = new CountingBatchService(service);
+        batchService.dropLastResponse = true;
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(Caver.build(batchService), SENDER)
+                .setChainId(LOCAL_CHAIN_ID)
+                .setSigningExecutor(executor)
+                .setBatchSize(5)
+                .build();
+
+        List<CompletableFuture<BulkTransactionSender.Result>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(sender.submit(
+                    ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)));
+        }
+
+        int failed = 0;
+        for (CompletableFuture<BulkTransactionSender.Result> result : results) {
+            BulkTransactionSender.Result completed = result.get(5, TimeUnit.SECONDS);
+            if (!completed.isSuccess()) {
+                assertTrue(completed.getException() instanceof IndexOutOfBoundsException);
+                failed++;
+            }
+        }
+        sender.awaitIdle();
+        assertEquals(batchService.batchSizes.size(), failed);
+        assertEquals(0, sender.getInFlightCount());
+    }
+
+    @Test
+    public void testFailureReleasesNonce() throws Exception {
+        service.on("klay_sendRawTransaction", params -> {
+            String rawTransaction = params.get(0).asText();
+            return rawTransaction.hashCode() % 2 == 0
+                    ? new Response.Error(-32000, "insufficient funds of the sender")
+                    : Hash.sha3(rawTransaction);
+        });
+        ConcurrentGetNonceProcessor nonceProcessor = new ConcurrentGetNonceProcessor(Caver.build(service));
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(Caver.build(service), SENDER)
+                .setChainId(LOCAL_CHAIN_ID)
+                .setGetNonceProcessor(nonceProcessor)
+                .setSigningExecutor(executor)
+                .build();
+
+        List<BulkTransactionSender.Result> results = new CopyOnWriteArrayList<>();
+        List<ValueTransferTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transactions.add(ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT));
+        }
+        sender.sendAll(transactions, results::add);
+
+        assertEquals(10, results.size());
+        for (BulkTransactionSender.Result result : results) {
+            if (!result.isSuccess()) {
+                assertTrue(result.getException() instanceof PlatformErrorException);
+                assertEquals(null, result.getTransactionHash());
+            }
+        }
+        assertTrue(nonceProcessor.getReservedNonces(SENDER.getAddress()).isEmpty());
+    }
+
+    @Test
+    public void testUnknownSender() throws Exception {
+        BulkTransactionSender sender = new BulkTransactionSender.Builder(Caver.build(service), SENDER)
+                .setChainId(LOCAL_CHAIN_ID)
+                .build();
+
+        BulkTransactionSender.Result result = sender.submit(
+                ValueTransferTransaction.create(RECEIVER, SENDER.getAddress(), BigInteger.ONE, GAS_LIMIT)).get();
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getIndex());
+        assertEquals(0, sender.getInFlightCount());
+        assertEquals(0, service.getRequestCount("klay_sendRawTransaction"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Batch service answering every request of a batch with the wrapped service, recording the batch sizes.
+     * It can leave out the response of the last request, as a node answering a partial batch.
+     */
+    private static class CountingBatchService extends MockWeb3jService implements BatchWeb3jService {
+        private final MockWeb3jService service;
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile boolean dropLastResponse;
+
+        CountingBatchService(MockWeb3jService service) {
+            this.service = service;
+        }
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            return service.send(request, responseType);
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+            batchSizes.add(batchRequest.getRequests().size());
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                responses.add(service.send(request, BatchRequest.getResponseType(request)));
+            }
+            if (dropLastResponse) {
+                responses.remove(responses.size() - 1);
+            }
+            return new BatchResponse(batchRequest.getRequests(), responses);
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return sendBatch(batchRequest);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.cache.CachingWeb3jService;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.Quantity;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CachingWeb3jServiceTest {
+
+    private static final String BLOCK_HASH = "0x4584bea6b8b2abe7f024d1e63dd0571cfd28cd5157b4f6cb2ac4160a7b0057e0";
+    private static final String TRANSACTION_HASH = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+    private static final String ADDRESS = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    private MockWeb3jService service;
+    private CachingWeb3jService cachingService;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_getBlockByHash", params -> block())
+                .on("klay_getBlockByNumber", params -> block())
+                .on("klay_getCode", params -> "0x6080")
+                .on("klay_getBalance", params -> "0x1");
+        cachingService = new CachingWeb3jService(service, 100);
+        caver = Caver.build(cachingService);
+    }
+
+    @Test
+    public void testBlockByHashIsCached() throws Exception {
+        KlayBlock first = caver.klay().getBlockByHash(BLOCK_HASH, true).send();
+        KlayBlock second = caver.klay().getBlockByHash(BLOCK_HASH, true).send();
+        KlayBlock third = caver.klay().getBlockByHash(BLOCK_HASH, true).sendAsync().get();
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, service.getRequestCount("klay_getBlockByHash"));
+        assertEquals(2, cachingService.getHitCount());
+        assertEquals(1, cachingService.getMissCount());
+        assertEquals(2.0 / 3, cachingService.getHitRate(), 0.0001);
+
+        // Blocks with only transaction hashes are cached separately.
+        caver.klay().getBlockByHash(BLOCK_HASH, false).send();
+        assertEquals(2, service.getRequestCount("klay_getBlockByHash"));
+    }
+
+    @Test
+    public void testOnlyFixedBlockNumbersAreCached() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            caver.klay().getBlockByNumber(DefaultBlockParameterName.LATEST, false).send();
+            caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(100), false).send();
+            caver.klay().getCode(ADDRESS, DefaultBlockParameterName.LATEST).send();
+            caver.klay().getCode(ADDRESS, new DefaultBlockParameterNumber(100)).send();
+            caver.klay().getBalance(ADDRESS, DefaultBlockParameterName.PENDING).send();
+        }
+
+        assertEquals(3, service.getRequestCount("klay_getBlockByNumber"));
+        assertEquals(3, service.getRequestCount("klay_getCode"));
+        assertEquals(2, service.getRequestCount("klay_getBalance"));
+        assertEquals(2, cachingService.size());
+    }
+
+    @Test
+    public void testPendingResultsAreNotCached() throws Exception {
+        AtomicBoolean mined = new AtomicBoolean(false);
+        service.on("klay_getTransactionReceipt", params -> mined.get() ? receipt() : null)
+                .on("klay_getTransactionByHash", params -> transaction(mined.get() ? BLOCK_HASH : null));
+
+        assertNull(caver.klay().getTransactionReceipt(TRANSACTION_HASH).send().getResult());
+        assertNull(caver.klay().getTransactionByHash(TRANSACTION_HASH).send().getResult().getBlockHash());
+
+        mined.set(true);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(BLOCK_HASH, caver.klay().getTransactionReceipt(TRANSACTION_HASH).send().getResult().getBlockHash());
+            assertEquals(BLOCK_HASH, caver.klay().getTransactionByHash(TRANSACTION_HASH).send().getResult().getBlockHash());
+        }
+
+        assertEquals(2, service.getRequestCount("klay_getTransactionReceipt"));
+        assertEquals(2, service.getRequestCount("klay_getTransactionByHash"));
+    }
+
+    @Test
+    public void testErrorsAreNotCached() throws Exception {
+        service.on("klay_getBlockByHash", params -> new Response.Error(-32000, "unavailable"));
+
+        caver.klay().getBlockByHash(BLOCK_HASH, true).send();
+        caver.klay().getBlockByHash(BLOCK_HASH, true).send();
+
+        assertEquals(2, service.getRequestCount("klay_getBlockByHash"));
+        assertEquals(0, cachingService.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        cachingService = new CachingWeb3jService(service, 2);
+        caver = Caver.build(cachingService);
+
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(1), false).send();
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(2), false).send();
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(1), false).send();
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(3), false).send();
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(1), false).send();
+        caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(2), false).send();
+
+        assertEquals(4, service.getRequestCount("klay_getBlockByNumber"));
+        assertEquals(2, cachingService.size());
+    }
+
+    @Test
+    public void testBatchSendsOnlyMissingRequests() throws Exception {
+        caver.klay().getBlockByHash(BLOCK_HASH, true).send();
+
+        BatchResponse response = caver.batch()
+                .add(caver.klay().getBlockByHash(BLOCK_HASH, true))
+                .add(caver.klay().getBalance(ADDRESS, DefaultBlockParameterName.LATEST))
+                .add(caver.klay().getBlockByHash(BLOCK_HASH, true))
+                .send();
+
+        assertEquals(3, response.size());
+        assertEquals(BLOCK_HASH, response.get(0, KlayBlock.class).getResult().getHash());
+        assertEquals("0x1", response.get(1, Quantity.class).getResult());
+        assertEquals(BLOCK_HASH, response.get(2, KlayBlock.class).getResult().getHash());
+        assertEquals(1, service.getRequestCount("klay_getBlockByHash"));
+        assertEquals(1, service.getRequestCount("klay_getBalance"));
+    }
+
+    private static Map<String, Object> block() {
+        Map<String, Object> block = new HashMap<>();
+        block.put("number", "0x64");
+        block.put("hash", BLOCK_HASH);
+        block.put("transactions", Collections.emptyList());
+        return block;
+    }
+
+    private static Map<String, Object> transaction(String blockHash) {
+        Map<String, Object> transaction = new HashMap<>();
+        transaction.put("hash", TRANSACTION_HASH);
+        transaction.put("blockHash", blockHash);
+        transaction.put("type", "TxTypeValueTransfer");
+        return transaction;
+    }
+
+    private static Map<String, Object> receipt() {
+        Map<String, Object> receipt = new HashMap<>();
+        receipt.put("transactionHash", TRANSACTION_HASH);
+        receipt.put("blockHash", BLOCK_HASH);
+        return receipt;
+    }
+}
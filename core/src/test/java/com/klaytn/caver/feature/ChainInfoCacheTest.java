@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.ChainInfoCache;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ChainInfoCacheTest {
+
+    private static final String FROM = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final String TO = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    private MockWeb3jService service;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> "0x5")
+                .on("klay_chainID", params -> "0x7e3")
+                .on("klay_gasPrice", params -> "0x5d21dba00");
+        caver = Caver.build(service);
+    }
+
+    private ValueTransfer newValueTransfer() {
+        return new ValueTransfer.Builder()
+                .setKlaytnCall(caver.klay())
+                .setFrom(FROM)
+                .setTo(TO)
+                .setValue("0x1")
+                .setGas("0xf4240")
+                .build();
+    }
+
+    @Test
+    public void testFillTransactionRequestsChainIdAndGasPriceOnce() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            ValueTransfer valueTransfer = newValueTransfer();
+            valueTransfer.fillTransaction();
+
+            assertEquals("0x5", valueTransfer.getNonce());
+            assertEquals("0x7e3", valueTransfer.getChainId());
+            assertEquals("0x5d21dba00", valueTransfer.getGasPrice());
+        }
+
+        assertEquals(3, service.getRequestCount("klay_getTransactionCount"));
+        assertEquals(1, service.getRequestCount("klay_chainID"));
+        assertEquals(1, service.getRequestCount("klay_gasPrice"));
+    }
+
+    @Test
+    public void testFillTransactionKeepsDefinedValues() throws IOException {
+        ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                .setKlaytnCall(caver.klay())
+                .setFrom(FROM)
+                .setTo(TO)
+                .setValue("0x1")
+                .setGas("0xf4240")
+                .setNonce("0x9")
+                .setChainId("0x1")
+                .setGasPrice("0x19")
+                .build();
+        valueTransfer.fillTransaction();
+
+        assertEquals("0x9", valueTransfer.getNonce());
+        assertEquals("0x1", valueTransfer.getChainId());
+        assertEquals("0x19", valueTransfer.getGasPrice());
+        assertEquals(0, service.getRequestCount("klay_getTransactionCount"));
+        assertEquals(0, service.getRequestCount("klay_chainID"));
+        assertEquals(0, service.getRequestCount("klay_gasPrice"));
+    }
+
+    @Test
+    public void testGasPriceExpires() throws InterruptedException {
+        ChainInfoCache cache = new ChainInfoCache(caver.klay(), 1, 1);
+
+        assertEquals("0x5d21dba00", cache.getGasPrice().join());
+        Thread.sleep(10);
+        assertEquals("0x5d21dba00", cache.getGasPrice().join());
+        assertEquals("0x7e3", cache.getChainId().join());
+        assertEquals("0x7e3", cache.getChainId().join());
+
+        assertEquals(2, service.getRequestCount("klay_gasPrice"));
+        assertEquals(1, service.getRequestCount("klay_chainID"));
+    }
+
+    @Test
+    public void testFailedRequestIsNotCached() throws IOException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        service.on("klay_chainID", params ->
+                failing.get() ? new Response.Error(-32000, "unavailable") : "0x7e3");
+
+        try {
+            newValueTransfer().fillTransaction();
+            fail();
+        } catch (IOException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+
+        failing.set(false);
+        ValueTransfer valueTransfer = newValueTransfer();
+        valueTransfer.fillTransaction();
+
+        assertEquals("0x7e3", valueTransfer.getChainId());
+        assertEquals(2, service.getRequestCount("klay_chainID"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        ChainInfoCache cache = caver.klay().getChainInfoCache();
+        cache.getChainId().join();
+        cache.invalidate();
+        cache.getChainId().join();
+
+        assertEquals(2, service.getRequestCount("klay_chainID"));
+    }
+
+    @Test(expected = CompletionException.class)
+    public void testGasPriceError() {
+        service.on("klay_gasPrice", params -> new Response.Error(-32000, "unavailable"));
+        new ChainInfoCache(caver.klay(), 1000).getGasPrice().join();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.cache.CoalescingWeb3jService;
+import com.klaytn.caver.methods.response.Quantity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CoalescingWeb3jServiceTest {
+
+    private static final int CALLERS = 10;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService executor;
+    private MockWeb3jService service;
+    private CoalescingWeb3jService coalescingService;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        service = new MockWeb3jService()
+                .on("klay_blockNumber", params -> {
+                    await(release);
+                    return "0x10";
+                })
+                .on("klay_sendRawTransaction", params -> {
+                    await(release);
+                    return "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+                });
+        coalescingService = new CoalescingWeb3jService(service);
+        caver = Caver.build(coalescingService);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneCall() throws Exception {
+        List<Future<Quantity>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> caver.klay().getBlockNumber().send()));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Quantity> result : results) {
+            assertEquals(BigInteger.valueOf(0x10), result.get().getValue());
+        }
+        assertEquals(1, service.getRequestCount("klay_blockNumber"));
+
+        // A request sent after the response arrived reaches the node again.
+        caver.klay().getBlockNumber().send();
+        assertEquals(2, service.getRequestCount("klay_blockNumber"));
+    }
+
+    @Test
+    public void testConcurrentAsyncRequestsShareOneCall() throws Exception {
+        Future<Quantity> first = executor.submit(() -> caver.klay().getBlockNumber().send());
+        awaitRequests("klay_blockNumber", 1);
+
+        List<Future<Quantity>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(caver.klay().getBlockNumber().sendAsync());
+        }
+        assertEquals(CALLERS, coalescingService.getCoalescedCount());
+        release.countDown();
+
+        assertEquals(BigInteger.valueOf(0x10), first.get().getValue());
+        for (Future<Quantity> result : results) {
+            assertEquals(BigInteger.valueOf(0x10), result.get().getValue());
+        }
+        assertEquals(1, service.getRequestCount("klay_blockNumber"));
+    }
+
+    @Test
+    public void testTransactionsAreNotCoalesced() throws Exception {
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> caver.klay().sendSignedTransaction("0x08f87a").send()));
+        }
+        awaitRequests("klay_sendRawTransaction", 3);
+        release.countDown();
+
+        for (Future<?> result : results) {
+            result.get();
+        }
+        assertEquals(0, coalescingService.getCoalescedCount());
+    }
+
+    @Test
+    public void testErrorIsSharedWithWaiters() throws Exception {
+        service.on("klay_blockNumber", params -> {
+            await(release);
+            throw new IllegalStateException("node failure");
+        });
+
+        List<Future<Quantity>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> caver.klay().getBlockNumber().send()));
+        }
+        awaitCoalesced(2);
+        release.countDown();
+
+        for (Future<Quantity> result : results) {
+            try {
+                result.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+        assertEquals(1, service.getRequestCount("klay_blockNumber"));
+    }
+
+    @Test
+    public void testRpcErrorIsShared() throws IOException {
+        service.on("klay_blockNumber", params -> new Response.Error(-32000, "unavailable"));
+
+        assertEquals("unavailable", caver.klay().getBlockNumber().send().getError().getMessage());
+    }
+
+    @Test
+    public void testSynchronousFailureOfAsyncCallIsNotKeptInFlight() throws Exception {
+        AtomicBoolean rejected = new AtomicBoolean();
+        MockWeb3jService rejectingService = new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                if (rejected.compareAndSet(false, true)) {
+                    throw new RejectedExecutionException("executor is shut down");
+                }
+                return super.sendAsync(request, responseType);
+            }
+        }.on("klay_blockNumber", params -> "0x10");
+        Caver rejectingCaver = Caver.build(new CoalescingWeb3jService(rejectingService));
+
+        try {
+            rejectingCaver.klay().getBlockNumber().sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals(BigInteger.valueOf(0x10),
+                rejectingCaver.klay().getBlockNumber().sendAsync().get(5, TimeUnit.SECONDS).getValue());
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (coalescingService.getCoalescedCount() < count) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitRequests(String method, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (service.getRequestCount(method) < count) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.methods.response.ResultStreamReader;
+import com.klaytn.caver.methods.response.compact.CompactBlock;
+import com.klaytn.caver.methods.response.compact.CompactLog;
+import com.klaytn.caver.methods.response.compact.CompactReceipt;
+import com.klaytn.caver.methods.response.compact.CompactTransaction;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.utils.Numeric;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactResponseTest {
+
+    private static final String TRANSACTION_HASH = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+    private static final String BLOCK_HASH = "0x4584bea6b8b2abe7f024d1e63dd0571cfd28cd5157b4f6cb2ac4160a7b0057e0";
+    private static final String FROM = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final String TO = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    private static final String RECEIPT = "{"
+            + "\"blockHash\":\"" + BLOCK_HASH + "\","
+            + "\"blockNumber\":\"0x2e4a5d\","
+            + "\"contractAddress\":null,"
+            + "\"feePayer\":\"" + TO + "\","
+            + "\"feeRatio\":\"0x1e\","
+            + "\"from\":\"" + FROM + "\","
+            + "\"gas\":\"0x9c40\","
+            + "\"gasPrice\":\"0x5d21dba00\","
+            + "\"gasUsed\":\"0x5208\","
+            + "\"input\":\"0x\","
+            + "\"logs\":[{"
+            + "\"address\":\"" + TO + "\","
+            + "\"blockHash\":\"" + BLOCK_HASH + "\","
+            + "\"blockNumber\":\"0x2e4a5d\","
+            + "\"data\":\"0x0000000000000000000000000000000000000000000000000000000000000001\","
+            + "\"logIndex\":\"0x0\","
+            + "\"topics\":[\"0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef\"],"
+            + "\"transactionHash\":\"" + TRANSACTION_HASH + "\","
+            + "\"transactionIndex\":\"0x3\"}],"
+            + "\"logsBloom\":\"0x00\","
+            + "\"nonce\":\"0x11\","
+            + "\"senderTxHash\":\"" + TRANSACTION_HASH + "\","
+            + "\"signatures\":[],"
+            + "\"status\":\"0x1\","
+            + "\"to\":\"" + TO + "\","
+            + "\"transactionHash\":\"" + TRANSACTION_HASH + "\","
+            + "\"transactionIndex\":\"0x3\","
+            + "\"type\":\"TxTypeFeeDelegatedValueTransferWithRatio\","
+            + "\"typeInt\":10,"
+            + "\"value\":\"0xde0b6b3a7640000\"}";
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    @Test
+    public void testReceiptFromJson() throws IOException {
+        CompactReceipt receipt = objectMapper.readValue(RECEIPT, CompactReceipt.class);
+
+        assertArrayEquals(Numeric.hexStringToByteArray(TRANSACTION_HASH), receipt.getTransactionHash());
+        assertArrayEquals(Numeric.hexStringToByteArray(FROM), receipt.getFrom());
+        assertEquals(0x2e4a5d, receipt.getBlockNumber());
+        assertEquals(0x5d21dba00L, receipt.getGasPrice());
+        assertEquals(21000, receipt.getGasUsed());
+        assertEquals(30, receipt.getFeeRatio());
+        assertEquals(10, receipt.getTypeInt());
+        assertEquals(3, receipt.getTransactionIndex());
+        assertEquals(new BigInteger("1000000000000000000"), receipt.getValue());
+        assertNull(receipt.getContractAddress());
+        assertTrue(receipt.isStatusOK());
+        assertEquals(0, receipt.getTxError());
+
+        CompactLog log = receipt.getLogs().get(0);
+        assertEquals(0, log.getLogIndex());
+        assertEquals(0x2e4a5d, log.getBlockNumber());
+        assertEquals(1, log.getTopics().size());
+        assertEquals(32, log.getData().length);
+    }
+
+    @Test
+    public void testLogsShareReceiptHashes() throws IOException {
+        CompactReceipt receipt = objectMapper.readValue(RECEIPT, CompactReceipt.class);
+
+        assertSame(receipt.getTransactionHash(), receipt.getLogs().get(0).getTransactionHash());
+        assertSame(receipt.getBlockHash(), receipt.getLogs().get(0).getBlockHash());
+    }
+
+    @Test
+    public void testReceiptFromFullModel() throws IOException {
+        KlayTransactionReceipt.TransactionReceipt full =
+                objectMapper.readValue(RECEIPT, KlayTransactionReceipt.TransactionReceipt.class);
+
+        assertEquals(objectMapper.readValue(RECEIPT, CompactReceipt.class), CompactReceipt.from(full));
+    }
+
+    @Test
+    public void testFailedReceipt() throws IOException {
+        CompactReceipt receipt = objectMapper.readValue(
+                "{\"transactionHash\":\"" + TRANSACTION_HASH + "\",\"status\":\"0x0\",\"txError\":\"0x9\"}",
+                CompactReceipt.class);
+
+        assertFalse(receipt.isStatusOK());
+        assertEquals(9, receipt.getTxError());
+        assertTrue(receipt.getLogs().isEmpty());
+    }
+
+    @Test
+    public void testPendingTransaction() throws IOException {
+        CompactTransaction transaction = objectMapper.readValue(
+                "{\"blockHash\":null,\"blockNumber\":null,\"hash\":\"" + TRANSACTION_HASH + "\","
+                        + "\"nonce\":\"0x2\",\"gas\":\"0x9c40\",\"typeInt\":48,\"input\":\"0x1234\"}",
+                CompactTransaction.class);
+
+        assertNull(transaction.getBlockHash());
+        assertEquals(-1, transaction.getBlockNumber());
+        assertEquals(-1, transaction.getTransactionIndex());
+        assertEquals(2, transaction.getNonce());
+        assertEquals(48, transaction.getTypeInt());
+        assertArrayEquals(new byte[]{0x12, 0x34}, transaction.getInput());
+        assertNull(transaction.getValue());
+    }
+
+    @Test
+    public void testBlock() throws IOException {
+        String hashes = "{\"number\":\"0x64\",\"hash\":\"" + BLOCK_HASH + "\",\"timestamp\":\"0x5d8d2f1a\","
+                + "\"timestampFoS\":\"0x3\",\"transactions\":[\"" + TRANSACTION_HASH + "\"]}";
+        CompactBlock block = objectMapper.readValue(hashes, CompactBlock.class);
+
+        assertEquals(100, block.getNumber());
+        assertEquals(0x5d8d2f1aL, block.getTimestamp());
+        assertEquals(3, block.getTimestampFoS());
+        assertArrayEquals(Numeric.hexStringToByteArray(TRANSACTION_HASH), block.getTransactionHashes().get(0));
+        assertTrue(block.getTransactions().isEmpty());
+
+        String full = "{\"number\":\"0x64\",\"hash\":\"" + BLOCK_HASH + "\",\"transactions\":["
+                + "{\"hash\":\"" + TRANSACTION_HASH + "\",\"type\":\"TxTypeLegacyTransaction\",\"typeInt\":0}]}";
+        CompactBlock fullBlock = objectMapper.readValue(full, CompactBlock.class);
+
+        assertEquals(1, fullBlock.getTransactions().size());
+        assertSame(fullBlock.getTransactions().get(0).getHash(), fullBlock.getTransactionHashes().get(0));
+
+        KlayBlock.Block<?> fullModel = objectMapper.readValue(full, KlayBlock.Block.class);
+        assertEquals(fullBlock, CompactBlock.from(fullModel));
+    }
+
+    @Test
+    public void testStreamCompactReceipts() throws IOException {
+        String response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[" + RECEIPT + "," + RECEIPT + "]}";
+        List<CompactReceipt> receipts = new ArrayList<>();
+        new ResultStreamReader(objectMapper).read(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)),
+                null, CompactReceipt.class, receipts::add);
+
+        assertEquals(2, receipts.size());
+        assertEquals(receipts.get(0), receipts.get(1));
+    }
+}
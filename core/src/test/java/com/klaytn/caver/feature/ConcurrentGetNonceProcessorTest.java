@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.exception.UnsupportedTxTypeException;
+import com.klaytn.caver.tx.manager.ConcurrentGetNonceProcessor;
+import com.klaytn.caver.tx.manager.TransactionManager;
+import com.klaytn.caver.tx.model.KlayRawTransaction;
+import com.klaytn.caver.tx.model.TransactionTransformer;
+import com.klaytn.caver.tx.model.ValueTransferTransaction;
+import com.klaytn.caver.tx.type.TxType;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.LocalValues.LOCAL_CHAIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrentGetNonceProcessorTest {
+
+    private static final KlayCredentials BRANDON = KlayCredentials.create("0x80119c31e3d54ce5f7b2a4e1ae8e3e4a9c20b2f1e3a4dd3b7b5b93fc4e5a7d11");
+    private static final KlayCredentials LUMAN = KlayCredentials.create("0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b");
+
+    private MockWeb3jService service;
+    private AtomicLong pendingNonce;
+    private ConcurrentGetNonceProcessor nonceProcessor;
+
+    @Before
+    public void setUp() {
+        pendingNonce = new AtomicLong(5);
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> "0x" + Long.toHexString(pendingNonce.get()));
+        nonceProcessor = new ConcurrentGetNonceProcessor(Caver.build(service));
+    }
+
+    @Test
+    public void testSeedsOncePerAddress() throws IOException {
+        assertEquals(BigInteger.valueOf(5), nonceProcessor.getNonce(BRANDON));
+        assertEquals(BigInteger.valueOf(6), nonceProcessor.getNonce(BRANDON));
+        assertEquals(BigInteger.valueOf(5), nonceProcessor.getNonce(LUMAN));
+        assertEquals(BigInteger.valueOf(7), nonceProcessor.getNonce(BRANDON));
+
+        assertEquals(2, service.getRequestCount("klay_getTransactionCount"));
+    }
+
+    @Test
+    public void testConcurrentSendersGetDistinctNonces() throws Exception {
+        int count = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<BigInteger>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(executorService.submit(() -> nonceProcessor.getNonce(BRANDON)));
+        }
+
+        Set<BigInteger> nonces = ConcurrentHashMap.newKeySet();
+        for (Future<BigInteger> future : futures) {
+            nonces.add(future.get());
+        }
+        executorService.shutdown();
+
+        assertEquals(count, nonces.size());
+        assertEquals(BigInteger.valueOf(5 + count), nonceProcessor.getNonce(BRANDON));
+    }
+
+    @Test
+    public void testCommitAndRelease() throws IOException {
+        BigInteger first = nonceProcessor.getNonce(BRANDON);
+        BigInteger second = nonceProcessor.getNonce(BRANDON);
+        BigInteger third = nonceProcessor.getNonce(BRANDON);
+        assertEquals(3, nonceProcessor.getReservedNonces(BRANDON.getAddress()).size());
+
+        nonceProcessor.commit(BRANDON.getAddress(), first);
+        nonceProcessor.release(BRANDON.getAddress(), second, new IOException("connection reset"));
+        assertEquals(1, nonceProcessor.getReservedNonces(BRANDON.getAddress()).size());
+
+        // A nonce released in the middle of the sequence is reused before the counter advances.
+        assertEquals(second, nonceProcessor.getNonce(BRANDON));
+        assertEquals(third.add(BigInteger.ONE), nonceProcessor.getNonce(BRANDON));
+
+        // Releasing the latest nonce rolls the counter back.
+        BigInteger latest = nonceProcessor.getNonce(BRANDON);
+        nonceProcessor.release(BRANDON.getAddress(), latest, new IOException("connection reset"));
+        assertEquals(latest, nonceProcessor.getNonce(BRANDON));
+    }
+
+    @Test
+    public void testResyncOnNonceTooLow() throws IOException {
+        BigInteger nonce = nonceProcessor.getNonce(BRANDON);
+        pendingNonce.set(20);
+
+        nonceProcessor.release(BRANDON.getAddress(), nonce,
+                new PlatformErrorException(new Response.Error(-32000, "nonce too low")));
+
+        assertEquals(BigInteger.valueOf(20), nonceProcessor.getNonce(BRANDON));
+        assertEquals(2, service.getRequestCount("klay_getTransactionCount"));
+    }
+
+    @Test
+    public void testNonceIsReleasedWhenBuildFails() throws Exception {
+        TransactionManager transactionManager = new TransactionManager.Builder(Caver.build(service), LUMAN)
+                .setGetNonceProcessor(nonceProcessor)
+                .build();
+
+        UnsupportedTransaction transaction = new UnsupportedTransaction(LUMAN.getAddress());
+        assertNull(transactionManager.sign(transaction));
+        assertNull(transaction.getNonce());
+        assertTrue(nonceProcessor.getReservedNonces(LUMAN.getAddress()).isEmpty());
+
+        try {
+            transactionManager.executeTransactionAsync(transaction).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UnsupportedTxTypeException);
+        }
+
+        assertTrue(nonceProcessor.getReservedNonces(LUMAN.getAddress()).isEmpty());
+        assertEquals(BigInteger.valueOf(5), nonceProcessor.getNonce(LUMAN));
+    }
+
+    @Test
+    public void testNonceReservedBySignIsSettledBySend() throws Exception {
+        service.on("klay_sendRawTransaction", params -> new Response.Error(-32000, "insufficient funds of the sender"));
+        TransactionManager transactionManager = new TransactionManager.Builder(Caver.build(service), LUMAN)
+                .setGetNonceProcessor(nonceProcessor)
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+
+        KlayRawTransaction rawTx = transactionManager.sign(
+                ValueTransferTransaction.create(LUMAN.getAddress(), BRANDON.getAddress(), BigInteger.ONE, BigInteger.valueOf(100_000)));
+        assertEquals(1, nonceProcessor.getReservedNonces(LUMAN.getAddress()).size());
+        try {
+            transactionManager.send(rawTx);
+            fail();
+        } catch (PlatformErrorException e) {
+            assertTrue(nonceProcessor.getReservedNonces(LUMAN.getAddress()).isEmpty());
+        }
+
+        service.on("klay_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()));
+        rawTx = transactionManager.sign(
+                ValueTransferTransaction.create(LUMAN.getAddress(), BRANDON.getAddress(), BigInteger.ONE, BigInteger.valueOf(100_000)));
+        transactionManager.sendAsync(rawTx).get(5, TimeUnit.SECONDS);
+
+        assertTrue(nonceProcessor.getReservedNonces(LUMAN.getAddress()).isEmpty());
+        assertEquals(BigInteger.valueOf(6), nonceProcessor.getNonce(LUMAN));
+    }
+
+    private static class UnsupportedTransaction extends TransactionTransformer<UnsupportedTransaction> {
+        UnsupportedTransaction(String from) {
+            super(from, BigInteger.valueOf(100_000));
+        }
+
+        @Override
+        public TxType build() throws UnsupportedTxTypeException {
+            throw new UnsupportedTxTypeException();
+        }
+
+        @Override
+        public TxType buildFeeDelegated() throws UnsupportedTxTypeException {
+            throw new UnsupportedTxTypeException();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.http.HttpServiceBuilder;
+import com.klaytn.caver.http.ResponseSizeInterceptor;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.metrics.MetricsWeb3jService;
+import com.klaytn.caver.metrics.SimpleRpcMetrics;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class HttpServiceBuilderTest {
+
+    private static final byte[] BODY = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1b4\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private volatile String acceptEncoding;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = BODY;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if ("gzip".equals(acceptEncoding)) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream outputStream = new GZIPOutputStream(exchange.getResponseBody())) {
+                    outputStream.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Test
+    public void testHttpClientSettings() {
+        OkHttpClient client = new HttpServiceBuilder(url())
+                .setMaxIdleConnections(32)
+                .setMaxRequests(128)
+                .setMaxRequestsPerHost(64)
+                .setConnectTimeout(1, TimeUnit.SECONDS)
+                .setReadTimeout(2, TimeUnit.SECONDS)
+                .setWriteTimeout(3, TimeUnit.SECONDS)
+                .buildHttpClient();
+
+        assertEquals(128, client.dispatcher().getMaxRequests());
+        assertEquals(64, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(1000, client.connectTimeoutMillis());
+        assertEquals(2000, client.readTimeoutMillis());
+        assertEquals(3000, client.writeTimeoutMillis());
+        assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), client.protocols());
+    }
+
+    @Test
+    public void testHttp1Only() {
+        OkHttpClient client = new HttpServiceBuilder(url()).setHttp2(false).buildHttpClient();
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), client.protocols());
+    }
+
+    @Test
+    public void testGzipResponse() throws IOException {
+        Caver caver = Caver.build(new HttpServiceBuilder(url()).build());
+
+        assertEquals(BigInteger.valueOf(0x1b4), caver.klay().getBlockNumber().send().getValue());
+        assertEquals("gzip", acceptEncoding);
+    }
+
+    @Test
+    public void testGzipDisabled() throws IOException {
+        Caver caver = Caver.build(new HttpServiceBuilder(url()).setGzip(false).build());
+
+        assertEquals(BigInteger.valueOf(0x1b4), caver.klay().getBlockNumber().send().getValue());
+        assertEquals("identity", acceptEncoding);
+    }
+
+    @Test
+    public void testResponseSizeIsCountedOnTheWire() throws Exception {
+        SimpleRpcMetrics metrics = new SimpleRpcMetrics();
+        Caver caver = Caver.build(url(), metrics);
+
+        Quantity blockNumber = caver.klay().getBlockNumber().send();
+        caver.klay().getBlockNumber().sendAsync().get(5, TimeUnit.SECONDS);
+
+        // Raw responses are not kept, and the size is the one of the gzip compressed body.
+        assertNull(blockNumber.getRawResponse());
+        SimpleRpcMetrics.MethodSnapshot snapshot = metrics.getSnapshot().get("klay_blockNumber");
+        assertEquals(2, snapshot.getCount());
+        assertEquals(gzip(BODY).length, snapshot.getMeanResponseSize());
+    }
+
+    @Test
+    public void testResponseSizeWithoutGzip() throws IOException {
+        SimpleRpcMetrics metrics = new SimpleRpcMetrics();
+        ResponseSizeInterceptor responseSizes = new ResponseSizeInterceptor();
+        Caver caver = Caver.build(new MetricsWeb3jService(
+                new HttpServiceBuilder(url()).setGzip(false).addNetworkInterceptor(responseSizes).build(),
+                metrics, responseSizes));
+
+        caver.klay().getBlockNumber().send();
+
+        assertEquals(BODY.length, metrics.getSnapshot().get("klay_blockNumber").getMeanResponseSize());
+        assertEquals(-1, responseSizes.takeLastResponseSize());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
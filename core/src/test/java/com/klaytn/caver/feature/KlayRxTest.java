@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.JsonRpc2_0Rx;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.methods.request.KlayLogFilter;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.KlayTransaction;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class KlayRxTest {
+
+    private static final long POLLING_INTERVAL = 10;
+    private static final long TIMEOUT = 5;
+
+    private final AtomicLong latestBlock = new AtomicLong(10);
+    private MockWeb3jService service;
+    private Caver caver;
+    private ScheduledExecutorService executor;
+    private JsonRpc2_0Rx klayRx;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_blockNumber", params -> Numeric.toHexStringWithPrefix(BigInteger.valueOf(latestBlock.get())))
+                .on("klay_getBlockByNumber", params -> block(Numeric.toBigInt(params.get(0).asText()).longValue()))
+                .on("klay_newFilter", params -> "0x1")
+                .on("klay_getFilterLogs", params -> Collections.singletonList(log("0x1")))
+                .on("klay_getFilterChanges", params -> Arrays.asList(log("0x2"), log("0x3")))
+                .on("klay_uninstallFilter", params -> true);
+        caver = Caver.build(service);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        klayRx = new JsonRpc2_0Rx(caver.klay(), executor);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReplayPastBlocks() {
+        List<KlayBlock> blocks = caver.klay()
+                .replayPastBlocksFlowable(new DefaultBlockParameterNumber(3), DefaultBlockParameterName.LATEST, false)
+                .toList()
+                .blockingGet();
+
+        assertEquals(Arrays.asList("0x3", "0x4", "0x5", "0x6", "0x7", "0x8", "0x9", "0xa"), numbers(blocks));
+    }
+
+    @Test
+    public void testReplayPastBlocksHonoursBackpressure() {
+        TestSubscriber<KlayBlock> subscriber = klayRx
+                .replayPastBlocksFlowable(BigInteger.ONE, BigInteger.TEN, false)
+                .test(2);
+
+        subscriber.assertValueCount(2);
+        assertEquals(2, service.getRequestCount("klay_getBlockByNumber"));
+
+        subscriber.request(3);
+        subscriber.assertValueCount(5);
+        assertEquals(5, service.getRequestCount("klay_getBlockByNumber"));
+        subscriber.assertNotComplete();
+    }
+
+    @Test
+    public void testBlockFlowable() throws InterruptedException {
+        TestSubscriber<KlayBlock> subscriber = klayRx.blockFlowable(false, POLLING_INTERVAL).test();
+        subscriber.awaitCount(1);
+
+        latestBlock.set(13);
+        subscriber.awaitCount(4);
+        subscriber.dispose();
+
+        assertEquals(Arrays.asList("0xa", "0xb", "0xc", "0xd"), numbers(subscriber.values()));
+    }
+
+    @Test
+    public void testBlockFlowableDoesNotBufferForSlowSubscriber() throws InterruptedException {
+        TestSubscriber<KlayBlock> subscriber = klayRx.blockFlowable(false, POLLING_INTERVAL).test(1);
+        subscriber.awaitCount(1);
+
+        latestBlock.set(1000);
+        Thread.sleep(POLLING_INTERVAL * 10);
+        assertEquals(1, service.getRequestCount("klay_getBlockByNumber"));
+
+        subscriber.request(2);
+        subscriber.awaitCount(3);
+        subscriber.dispose();
+
+        assertEquals(Arrays.asList("0xa", "0xb", "0xc"), numbers(subscriber.values()));
+    }
+
+    @Test
+    public void testTransactionFlowable() {
+        TestSubscriber<KlayTransaction.Transaction> subscriber = klayRx.transactionFlowable(POLLING_INTERVAL).test();
+        subscriber.awaitCount(2);
+        subscriber.dispose();
+
+        assertEquals("0xa0", subscriber.values().get(0).getHash());
+        assertEquals("0xa1", subscriber.values().get(1).getHash());
+    }
+
+    @Test
+    public void testLogFlowable() throws InterruptedException {
+        TestSubscriber<KlayLogs.Log> subscriber = klayRx.logFlowable(new KlayLogFilter(), POLLING_INTERVAL).test();
+        subscriber.awaitCount(3);
+        subscriber.dispose();
+
+        assertEquals("0x1", subscriber.values().get(0).getLogIndexRaw());
+        assertEquals("0x2", subscriber.values().get(1).getLogIndexRaw());
+        assertEquals("0x3", subscriber.values().get(2).getLogIndexRaw());
+        assertEquals(1, service.getRequestCount("klay_newFilter"));
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (service.getRequestCount("klay_uninstallFilter") == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLLING_INTERVAL);
+        }
+        assertEquals(1, service.getRequestCount("klay_uninstallFilter"));
+    }
+
+    private static List<String> numbers(List<KlayBlock> blocks) {
+        return blocks.stream().map(block -> block.getResult().getNumber()).collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> block(long number) {
+        String hex = Numeric.toHexStringWithPrefix(BigInteger.valueOf(number));
+        Map<String, Object> block = new HashMap<>();
+        block.put("number", hex);
+        block.put("hash", "0x" + String.format("%064x", number));
+        block.put("transactions", Arrays.asList(transaction(hex + "0"), transaction(hex + "1")));
+        return block;
+    }
+
+    private static Map<String, Object> transaction(String hash) {
+        Map<String, Object> transaction = new HashMap<>();
+        transaction.put("hash", hash);
+        transaction.put("type", "TxTypeValueTransfer");
+        return transaction;
+    }
+
+    private static Map<String, Object> log(String logIndex) {
+        Map<String, Object> log = new HashMap<>();
+        log.put("logIndex", logIndex);
+        log.put("address", "0x7b65b75d204abed71587c9e519a89277766ee1d0");
+        log.put("topics", Collections.emptyList());
+        return log;
+    }
+}
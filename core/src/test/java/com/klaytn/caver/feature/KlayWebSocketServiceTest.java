@@ -0,0 +1,280 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.KlayNewHeadsNotification;
+import com.klaytn.caver.websocket.KlayWebSocketService;
+import io.reactivex.disposables.Disposable;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KlayWebSocketServiceTest {
+
+    private static final long TIMEOUT = 5;
+
+    private StubNode node;
+    private ScheduledExecutorService executor;
+    private KlayWebSocketService service;
+    private Caver caver;
+
+    @Before
+    public void setUp() throws Exception {
+        node = new StubNode();
+        node.start();
+        assertTrue(node.started.await(TIMEOUT, TimeUnit.SECONDS));
+
+        executor = Executors.newSingleThreadScheduledExecutor();
+        service = new KlayWebSocketService("ws://localhost:" + node.getPort(), 10, executor);
+        service.connect();
+        caver = Caver.build(service);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        service.close();
+        executor.shutdownNow();
+        node.stop();
+    }
+
+    @Test
+    public void testRequest() throws IOException {
+        assertEquals(BigInteger.valueOf(0x1b4), caver.klay().getBlockNumber().send().getValue());
+    }
+
+    @Test
+    public void testNewHeadsNotifications() throws Exception {
+        BlockingQueue<KlayNewHeadsNotification> notifications = new LinkedBlockingQueue<>();
+        Disposable disposable = caver.klay().newHeadsNotifications().subscribe(notifications::add);
+
+        node.awaitSubscriptions(1);
+        node.pushNewHead(1);
+        node.pushNewHead(2);
+
+        assertEquals("0x1", poll(notifications).getParams().getResult().getNumber());
+        assertEquals("0x2", poll(notifications).getParams().getResult().getNumber());
+
+        disposable.dispose();
+        assertTrue(node.unsubscribed.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testResubscribeAfterReconnect() throws Exception {
+        BlockingQueue<KlayNewHeadsNotification> notifications = new LinkedBlockingQueue<>();
+        AtomicInteger errors = new AtomicInteger();
+        caver.klay().newHeadsNotifications().subscribe(notifications::add, error -> errors.incrementAndGet());
+
+        node.awaitSubscriptions(1);
+        node.pushNewHead(1);
+        assertEquals("0x1", poll(notifications).getParams().getResult().getNumber());
+
+        for (WebSocket connection : node.getConnections()) {
+            connection.close();
+        }
+
+        node.awaitSubscriptions(2);
+        node.pushNewHead(2);
+        assertEquals("0x2", poll(notifications).getParams().getResult().getNumber());
+        assertTrue(service.isConnected());
+        assertEquals(0, errors.get());
+    }
+
+    @Test
+    public void testSubscribeBeforeConnect() throws Exception {
+        KlayWebSocketService notConnected = new KlayWebSocketService("ws://localhost:" + node.getPort(), 10, executor);
+        BlockingQueue<KlayNewHeadsNotification> notifications = new LinkedBlockingQueue<>();
+        Caver.build(notConnected).klay().newHeadsNotifications().subscribe(notifications::add);
+
+        notConnected.connect();
+        node.awaitSubscriptions(1);
+        node.pushNewHead(1);
+
+        assertEquals("0x1", poll(notifications).getParams().getResult().getNumber());
+        notConnected.close();
+    }
+
+    @Test
+    public void testConnectIsRetriedAfterFailure() throws Exception {
+        int port = node.getPort();
+        node.stop();
+        KlayWebSocketService notConnected = new KlayWebSocketService("ws://localhost:" + port, 10, executor);
+        BlockingQueue<KlayNewHeadsNotification> notifications = new LinkedBlockingQueue<>();
+        Caver.build(notConnected).klay().newHeadsNotifications().subscribe(notifications::add);
+
+        try {
+            notConnected.connect();
+            fail();
+        } catch (ConnectException e) {
+            assertFalse(notConnected.isConnected());
+        }
+
+        node = new StubNode(port);
+        node.start();
+        assertTrue(node.started.await(TIMEOUT, TimeUnit.SECONDS));
+        node.awaitSubscriptions(1);
+        node.pushNewHead(1);
+
+        assertEquals("0x1", poll(notifications).getParams().getResult().getNumber());
+        assertTrue(notConnected.isConnected());
+        notConnected.close();
+    }
+
+    @Test
+    public void testCloseCompletesSubscriptions() throws Exception {
+        CountDownLatch completed = new CountDownLatch(1);
+        caver.klay().newHeadsNotifications().subscribe(notification -> { }, error -> { }, completed::countDown);
+        node.awaitSubscriptions(1);
+
+        service.close();
+
+        assertTrue(completed.await(TIMEOUT, TimeUnit.SECONDS));
+        assertFalse(service.isConnected());
+    }
+
+    @Test(expected = IOException.class)
+    public void testRequestAfterClose() throws IOException {
+        service.close();
+        caver.klay().getBlockNumber().send();
+    }
+
+    private static KlayNewHeadsNotification poll(BlockingQueue<KlayNewHeadsNotification> notifications)
+            throws InterruptedException {
+        KlayNewHeadsNotification notification = notifications.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertNotNull(notification);
+        return notification;
+    }
+
+    /**
+     * Node answering klay_blockNumber and klay_subscribe, which pushes new heads on demand.
+     */
+    private static class StubNode extends WebSocketServer {
+        private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch unsubscribed = new CountDownLatch(1);
+        private final AtomicInteger subscriptionCount = new AtomicInteger();
+        private volatile WebSocket subscriber;
+        private volatile String subscriptionId;
+
+        StubNode() {
+            this(0);
+        }
+
+        StubNode(int port) {
+            super(new InetSocketAddress("localhost", port));
+            setReuseAddr(true);
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            try {
+                JsonNode request = objectMapper.readTree(message);
+                String method = request.get("method").asText();
+                Object result;
+                if (method.equals("klay_subscribe")) {
+                    subscriptionId = "0x" + Integer.toHexString(0xabc0 + subscriptionCount.get());
+                    subscriber = conn;
+                    result = subscriptionId;
+                } else if (method.equals("klay_unsubscribe")) {
+                    unsubscribed.countDown();
+                    result = true;
+                } else {
+                    result = "0x1b4";
+                }
+
+                conn.send(objectMapper.writeValueAsString(objectMapper.createObjectNode()
+                        .put("jsonrpc", "2.0")
+                        .put("id", request.get("id").asLong())
+                        .putPOJO("result", result)));
+
+                if (method.equals("klay_subscribe")) {
+                    synchronized (subscriptionCount) {
+                        subscriptionCount.incrementAndGet();
+                        subscriptionCount.notifyAll();
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        void awaitSubscriptions(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+            synchronized (subscriptionCount) {
+                while (subscriptionCount.get() < count) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    assertTrue("subscription was not requested", remaining > 0);
+                    subscriptionCount.wait(remaining);
+                }
+            }
+            // Lets the client register the subscription id before notifications are pushed.
+            Thread.sleep(50);
+        }
+
+        void pushNewHead(int number) throws IOException {
+            subscriber.send(objectMapper.writeValueAsString(objectMapper.createObjectNode()
+                    .put("jsonrpc", "2.0")
+                    .put("method", "klay_subscription")
+                    .set("params", objectMapper.createObjectNode()
+                            .put("subscription", subscriptionId)
+                            .set("result", objectMapper.createObjectNode()
+                                    .put("number", "0x" + Integer.toHexString(number))
+                                    .put("hash", "0x" + String.format("%064x", number))))));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.loadbalancer.LoadBalancedWeb3jService;
+import com.klaytn.caver.loadbalancer.LoadBalancingStrategy;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.methods.response.Quantity;
+import org.junit.Test;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LoadBalancedWeb3jServiceTest {
+
+    private static final String RAW_TRANSACTION = "0x08f87a";
+    private static final String TRANSACTION_HASH = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+
+    private static MockWeb3jService node(String blockNumber) {
+        return new MockWeb3jService()
+                .on("klay_blockNumber", params -> blockNumber)
+                .on("klay_gasPrice", params -> "0x5d21dba00")
+                .on("klay_getTransactionCount", params -> "0x1")
+                .on("klay_sendRawTransaction", params -> TRANSACTION_HASH);
+    }
+
+    /**
+     * A node failing every request with an I/O error.
+     */
+    private static MockWeb3jService unreachableNode() {
+        return new MockWeb3jService();
+    }
+
+    /**
+     * A node throwing instead of returning a future, as a transport does once its executor is shut down.
+     */
+    private static MockWeb3jService rejectingNode() {
+        return new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                throw new RejectedExecutionException("executor shut down");
+            }
+        };
+    }
+
+    /**
+     * A node whose requests are cancelled.
+     */
+    private static MockWeb3jService cancellingNode() {
+        return new MockWeb3jService() {
+            @Override
+            public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+                CompletableFuture<T> result = new CompletableFuture<>();
+                result.cancel(false);
+                return result;
+            }
+        };
+    }
+
+    private static LoadBalancedWeb3jService.Builder builder() {
+        return new LoadBalancedWeb3jService.Builder()
+                .setStrategy(LoadBalancingStrategy.roundRobin())
+                .setHealthCheckInterval(0, null);
+    }
+
+    @Test
+    public void testRoundRobin() throws IOException {
+        MockWeb3jService first = node("0x10");
+        MockWeb3jService second = node("0x10");
+        Caver caver = Caver.build(builder().addEndpoint("first", first).addEndpoint("second", second).build());
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(BigInteger.valueOf(0x10), caver.klay().getBlockNumber().send().getValue());
+        }
+
+        assertEquals(3, first.getRequestCount("klay_blockNumber"));
+        assertEquals(3, second.getRequestCount("klay_blockNumber"));
+    }
+
+    @Test
+    public void testLeastInFlight() throws IOException {
+        MockWeb3jService first = node("0x10");
+        MockWeb3jService second = node("0x10");
+        LoadBalancedWeb3jService service = builder()
+                .setStrategy(LoadBalancingStrategy.leastInFlight())
+                .addEndpoint("first", first)
+                .addEndpoint("second", second)
+                .build();
+
+        Caver.build(service).klay().getBlockNumber().send();
+
+        assertEquals(1, first.getRequestCount("klay_blockNumber"));
+        assertEquals(0, service.getEndpoints().get(0).getInFlight());
+        assertTrue(service.getEndpoints().get(0).getLatency() >= 0);
+    }
+
+    @Test
+    public void testWritesArePinned() throws IOException {
+        MockWeb3jService first = node("0x10");
+        MockWeb3jService second = node("0x10");
+        Caver caver = Caver.build(builder().addEndpoint("first", first).addEndpoint("second", second).build());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(TRANSACTION_HASH, caver.klay().sendSignedTransaction(RAW_TRANSACTION).send().getResult());
+            caver.klay().getTransactionCount("0x7b65b75d204abed71587c9e519a89277766ee1d0", DefaultBlockParameterName.PENDING)
+                    .sendAsync();
+        }
+
+        assertEquals(4, first.getRequestCount("klay_sendRawTransaction"));
+        assertEquals(0, second.getRequestCount("klay_sendRawTransaction"));
+        assertEquals(0, second.getRequestCount("klay_getTransactionCount"));
+    }
+
+    @Test
+    public void testReadFailsOver() throws Exception {
+        MockWeb3jService second = node("0x10");
+        Caver caver = Caver.build(builder()
+                .addEndpoint("first", unreachableNode())
+                .addEndpoint("second", second)
+                .build());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(BigInteger.valueOf(0x10), caver.klay().getBlockNumber().send().getValue());
+            assertEquals("0x5d21dba00", caver.klay().getGasPrice().sendAsync().get().getResult());
+        }
+        assertEquals(4, second.getRequestCount("klay_blockNumber"));
+        assertEquals(4, second.getRequestCount("klay_gasPrice"));
+    }
+
+    @Test
+    public void testPinnedWriteIsNotRetried() {
+        MockWeb3jService second = node("0x10");
+        Caver caver = Caver.build(builder()
+                .addEndpoint("first", unreachableNode())
+                .addEndpoint("second", second)
+                .build());
+
+        try {
+            caver.klay().sendSignedTransaction(RAW_TRANSACTION).send();
+            fail();
+        } catch (IOException e) {
+            assertEquals(0, second.getRequestCount("klay_sendRawTransaction"));
+        }
+    }
+
+    @Test
+    public void testUnhealthyEndpointIsEjected() throws IOException {
+        MockWeb3jService first = unreachableNode();
+        MockWeb3jService second = node("0x10");
+        LoadBalancedWeb3jService service = builder()
+                .setMinSamples(3)
+                .setMaxErrorRate(0.4)
+                .setEjectionTime(1, TimeUnit.MINUTES)
+                .addEndpoint("first", first)
+                .addEndpoint("second", second)
+                .build();
+        Caver caver = Caver.build(service);
+
+        for (int i = 0; i < 10; i++) {
+            caver.klay().getBlockNumber().send();
+        }
+
+        assertFalse(service.getEndpoints().get(0).isHealthy());
+        assertEquals(3, first.getRequestCount("klay_blockNumber"));
+
+        // The pinned endpoint moves to the next healthy endpoint.
+        assertEquals(TRANSACTION_HASH, caver.klay().sendSignedTransaction(RAW_TRANSACTION).send().getResult());
+        assertEquals(1, second.getRequestCount("klay_sendRawTransaction"));
+    }
+
+    @Test
+    public void testLaggingEndpointIsEjected() {
+        LoadBalancedWeb3jService service = builder()
+                .setMaxBlockLag(5)
+                .addEndpoint("first", node("0x64"))
+                .addEndpoint("second", node("0x5a"))
+                .addEndpoint("third", node("0x60"))
+                .build();
+
+        service.checkHealth();
+
+        assertTrue(service.getEndpoints().get(0).isHealthy());
+        assertFalse(service.getEndpoints().get(1).isHealthy());
+        assertTrue(service.getEndpoints().get(2).isHealthy());
+        assertEquals(BigInteger.valueOf(0x5a), service.getEndpoints().get(1).getBlockNumber());
+    }
+
+    @Test
+    public void testSynchronousFailureFailsOver() throws Exception {
+        LoadBalancedWeb3jService service = builder()
+                .addEndpoint("first", rejectingNode())
+                .addEndpoint("second", node("0x10"))
+                .build();
+
+        assertEquals("0x10", Caver.build(service).klay().getBlockNumber().sendAsync().get().getResult());
+        assertEquals(0, service.getEndpoints().get(0).getInFlight());
+        assertTrue(service.getEndpoints().get(0).getErrorRate() > 0);
+    }
+
+    @Test
+    public void testHealthCheckSurvivesFailingEndpoints() throws Exception {
+        MockWeb3jService third = node("0x10");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            LoadBalancedWeb3jService service = builder()
+                    .setHealthCheckInterval(10, executor)
+                    .addEndpoint("first", rejectingNode())
+                    .addEndpoint("second", cancellingNode())
+                    .addEndpoint("third", third)
+                    .build();
+            Thread.sleep(200);
+            service.close();
+
+            assertTrue(third.getRequestCount("klay_blockNumber") > 1);
+            assertEquals(0, service.getEndpoints().get(0).getInFlight());
+            assertEquals(0, service.getEndpoints().get(1).getInFlight());
+            assertEquals(BigInteger.valueOf(0x10), service.getEndpoints().get(2).getBlockNumber());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchIsSentToOneEndpoint() throws IOException {
+        MockWeb3jService first = node("0x10");
+        MockWeb3jService second = node("0x10");
+        Caver caver = Caver.build(builder().addEndpoint("first", first).addEndpoint("second", second).build());
+
+        BatchResponse response = caver.batch()
+                .add(caver.klay().getBlockNumber())
+                .add(caver.klay().getGasPrice())
+                .send();
+
+        assertEquals(BigInteger.valueOf(0x10), response.get(0, Quantity.class).getValue());
+        assertEquals("0x5d21dba00", response.get(1, Quantity.class).getResult());
+        assertEquals(2, first.getRequestCount("klay_blockNumber") + first.getRequestCount("klay_gasPrice"));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.BatchWeb3jService;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.methods.request.BatchRequest;
+import com.klaytn.caver.methods.response.BatchResponse;
+import com.klaytn.caver.metrics.MetricsWeb3jService;
+import com.klaytn.caver.metrics.SimpleRpcMetrics;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MetricsWeb3jServiceTest {
+
+    private RawResponseService service;
+    private SimpleRpcMetrics metrics;
+    private MetricsWeb3jService metricsService;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        service = new RawResponseService();
+        service.on("klay_blockNumber", params -> "0x10")
+                .on("klay_gasPrice", params -> "0x5d21dba00")
+                .on("klay_call", params -> new Response.Error(-32000, "execution reverted"));
+        metrics = new SimpleRpcMetrics();
+        metricsService = new MetricsWeb3jService(service, metrics);
+        caver = Caver.build(metricsService);
+    }
+
+    @Test
+    public void testRequestsAreRecordedPerMethod() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            caver.klay().getBlockNumber().send();
+        }
+        caver.klay().getGasPrice().sendAsync().get(5, TimeUnit.SECONDS);
+
+        Map<String, SimpleRpcMetrics.MethodSnapshot> snapshot = metrics.getSnapshot();
+        assertEquals(2, snapshot.size());
+
+        SimpleRpcMetrics.MethodSnapshot blockNumber = snapshot.get("klay_blockNumber");
+        assertEquals(3, blockNumber.getCount());
+        assertEquals(0, blockNumber.getErrorCount());
+        assertEquals(3, metrics.getLatency("klay_blockNumber").getCount());
+        assertTrue(blockNumber.getMaxLatency() >= blockNumber.getP50Latency());
+
+        // Request ids are global, so the sizes differ by a few digits from a new request.
+        Request<?, ?> request = caver.klay().getBlockNumber();
+        assertEquals(ObjectMapperFactory.getObjectMapper().writeValueAsBytes(request).length,
+                blockNumber.getMeanRequestSize(), 5);
+        assertEquals(service.respond(request).length(), blockNumber.getMeanResponseSize(), 5);
+
+        assertEquals(1, snapshot.get("klay_gasPrice").getCount());
+    }
+
+    @Test
+    public void testErrorsAreCountedByCode() throws Exception {
+        caver.klay().getBlockNumber().send();
+        caver.klay().call(null, null).send();
+        caver.klay().call(null, null).sendAsync().get(5, TimeUnit.SECONDS);
+        try {
+            caver.klay().getChainID().send();
+            fail();
+        } catch (IOException expected) {
+        }
+        try {
+            caver.klay().getChainID().sendAsync().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException expected) {
+        }
+
+        Map<String, SimpleRpcMetrics.MethodSnapshot> snapshot = metrics.getSnapshot();
+        assertEquals(2, snapshot.get("klay_call").getCount());
+        assertEquals(2L, (long) snapshot.get("klay_call").getErrorCounts().get("-32000"));
+        assertEquals(1.0, snapshot.get("klay_call").getErrorRate(), 0);
+        assertEquals(2L, (long) snapshot.get("klay_chainID").getErrorCounts().get("IOException"));
+        assertEquals(0, snapshot.get("klay_blockNumber").getErrorRate(), 0);
+    }
+
+    @Test
+    public void testBatchRequestsAreRecordedOneByOne() throws Exception {
+        BatchResponse batchResponse = new BatchRequest(metricsService)
+                .add(caver.klay().getBlockNumber())
+                .add(caver.klay().getGasPrice())
+                .add(caver.klay().call(null, null))
+                .send();
+        new BatchRequest(metricsService)
+                .add(caver.klay().getBlockNumber())
+                .sendAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, batchResponse.size());
+        assertEquals(2, service.batchCount);
+        Map<String, SimpleRpcMetrics.MethodSnapshot> snapshot = metrics.getSnapshot();
+        assertEquals(2, snapshot.get("klay_blockNumber").getCount());
+        assertEquals(1, snapshot.get("klay_gasPrice").getCount());
+        assertEquals(1, snapshot.get("klay_call").getErrorCount());
+        assertTrue(snapshot.get("klay_blockNumber").getRequestBytes() > 0);
+    }
+
+    @Test
+    public void testResponseSizeIsUnknownWithoutRawResponse() throws IOException {
+        MockWeb3jService plainService = new MockWeb3jService().on("klay_blockNumber", params -> "0x10");
+        Caver.build(new MetricsWeb3jService(plainService, metrics)).klay().getBlockNumber().send();
+
+        SimpleRpcMetrics.MethodSnapshot blockNumber = metrics.getSnapshot().get("klay_blockNumber");
+        assertEquals(1, blockNumber.getCount());
+        assertEquals(0, blockNumber.getResponseBytes());
+        assertFalse(blockNumber.getRequestBytes() == 0);
+    }
+
+    /**
+     * Service keeping the raw responses and answering batches in one call, like BatchHttpService.
+     */
+    private static class RawResponseService extends MockWeb3jService implements BatchWeb3jService {
+        private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        private volatile int batchCount;
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            String payload = respond(request);
+            T response = objectMapper.readValue(payload, responseType);
+            response.setRawResponse(payload);
+            return response;
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+            batchCount++;
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                responses.add(send(request, BatchRequest.getResponseType(request)));
+            }
+            return new BatchResponse(batchRequest.getRequests(), responses);
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return sendBatch(batchRequest);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.tx.manager.ConcurrentGetNonceProcessor;
+import com.klaytn.caver.tx.manager.NonceGapTracker;
+import com.klaytn.caver.tx.manager.NoOpTransactionReceiptProcessor;
+import com.klaytn.caver.tx.manager.TransactionManager;
+import com.klaytn.caver.tx.model.KlayRawTransaction;
+import com.klaytn.caver.tx.model.ValueTransferTransaction;
+import com.klaytn.caver.tx.type.AbstractTxType;
+import com.klaytn.caver.tx.type.TxTypeCancel;
+import com.klaytn.caver.utils.TransactionDecoder;
+import com.klaytn.caver.wallet.WalletManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.LocalValues.LOCAL_CHAIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NonceGapTrackerTest {
+
+    private static final KlayCredentials SENDER = KlayCredentials.create("0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b");
+    private static final String RECEIVER = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private final AtomicLong latest = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final List<String> sentTransactions = new CopyOnWriteArrayList<>();
+    private MockWeb3jService service;
+    private Caver caver;
+    private NonceGapTracker tracker;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> Numeric.toHexStringWithPrefix(BigInteger.valueOf(
+                        params.get(1).asText().equals("latest") ? latest.get() : pending.get())))
+                .on("klay_sendRawTransaction", params -> {
+                    sentTransactions.add(params.get(0).asText());
+                    return Hash.sha3(params.get(0).asText());
+                });
+        caver = Caver.build(service);
+        WalletManager walletManager = new WalletManager();
+        walletManager.add(SENDER);
+        tracker = new NonceGapTracker.Builder(caver, walletManager)
+                .setChainId(LOCAL_CHAIN_ID)
+                .build();
+    }
+
+    @Test
+    public void testFindGaps() throws Exception {
+        recordNonces(5, 6, 8);
+        latest.set(5);
+        pending.set(5);
+
+        List<NonceGapTracker.NonceGap> gaps = tracker.findGaps(SENDER.getAddress());
+
+        assertEquals(2, gaps.size());
+        assertEquals(5, gaps.get(0).getNonce());
+        assertNotNull(gaps.get(0).getRawTransaction());
+        assertEquals(7, gaps.get(1).getNonce());
+        assertNull(gaps.get(1).getRawTransaction());
+    }
+
+    @Test
+    public void testNoGapWhenPendingCoversRecordedNonces() throws Exception {
+        recordNonces(5, 6, 7);
+        latest.set(6);
+        pending.set(8);
+
+        assertTrue(tracker.findGaps(SENDER.getAddress()).isEmpty());
+        assertEquals(Arrays.asList(6L, 7L), Arrays.asList(tracker.getRecordedNonces(SENDER.getAddress()).toArray()));
+    }
+
+    @Test
+    public void testRepairResubmitsRecordedAndCancelsMissing() throws Exception {
+        recordNonces(5, 6, 8);
+        latest.set(5);
+        pending.set(5);
+
+        assertEquals(2, tracker.repair(SENDER.getAddress()).size());
+
+        assertEquals(2, sentTransactions.size());
+        assertEquals(rawTransaction(5).getValueAsString(), sentTransactions.get(0));
+        AbstractTxType cancel = TransactionDecoder.decode(sentTransactions.get(1));
+        assertTrue(cancel instanceof TxTypeCancel);
+        assertEquals(BigInteger.valueOf(7), cancel.getNonce());
+        assertTrue(tracker.getRecordedNonces(SENDER.getAddress()).contains(7L));
+    }
+
+    @Test
+    public void testRejectedResubmissionIsCancelled() throws Exception {
+        service.on("klay_sendRawTransaction", params -> {
+            String rawTransaction = params.get(0).asText();
+            if (TransactionDecoder.decode(rawTransaction) instanceof TxTypeCancel) {
+                sentTransactions.add(rawTransaction);
+                return Hash.sha3(rawTransaction);
+            }
+            return new Response.Error(-32000, "insufficient funds of the sender");
+        });
+        recordNonces(3);
+        latest.set(3);
+        pending.set(3);
+
+        tracker.repair(SENDER.getAddress());
+
+        assertEquals(1, sentTransactions.size());
+        assertEquals(BigInteger.valueOf(3), TransactionDecoder.decode(sentTransactions.get(0)).getNonce());
+    }
+
+    @Test
+    public void testCheckRepairsGapSeenTwice() throws Exception {
+        recordNonces(1);
+        latest.set(0);
+        pending.set(0);
+
+        tracker.check();
+        assertEquals(0, sentTransactions.size());
+
+        tracker.check();
+        assertEquals(1, sentTransactions.size());
+        assertEquals(BigInteger.ZERO, TransactionDecoder.decode(sentTransactions.get(0)).getNonce());
+
+        // The gap is filled and every transaction is included in a block.
+        latest.set(2);
+        pending.set(2);
+        tracker.check();
+        assertTrue(tracker.getRecordedNonces(SENDER.getAddress()).isEmpty());
+    }
+
+    @Test
+    public void testTransactionManagerRecordsSentNonces() throws Exception {
+        ConcurrentGetNonceProcessor nonceProcessor = new ConcurrentGetNonceProcessor(caver);
+        TransactionManager transactionManager = new TransactionManager.Builder(caver, SENDER)
+                .setGetNonceProcessor(nonceProcessor)
+                .setTransactionReceiptProcessor(new NoOpTransactionReceiptProcessor(caver))
+                .setNonceGapTracker(tracker)
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            transactionManager.executeTransaction(
+                    ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT));
+        }
+        transactionManager.executeTransactionAsync(
+                ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)).get();
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L),
+                Arrays.asList(tracker.getRecordedNonces(SENDER.getAddress()).toArray()));
+    }
+
+    @Test
+    public void testTransactionManagerRecordsCallerSuppliedNonces() throws Exception {
+        TransactionManager transactionManager = new TransactionManager.Builder(caver, SENDER)
+                .setTransactionReceiptProcessor(new NoOpTransactionReceiptProcessor(caver))
+                .setNonceGapTracker(tracker)
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+
+        transactionManager.executeTransaction(
+                ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)
+                        .nonce(BigInteger.valueOf(7)));
+        transactionManager.executeTransactionAsync(
+                ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)
+                        .nonce(BigInteger.valueOf(9))).get();
+
+        assertEquals(Arrays.asList(7L, 9L),
+                Arrays.asList(tracker.getRecordedNonces(SENDER.getAddress()).toArray()));
+    }
+
+    private void recordNonces(long... nonces) {
+        for (long nonce : nonces) {
+            tracker.record(SENDER.getAddress(), BigInteger.valueOf(nonce), rawTransaction(nonce));
+        }
+    }
+
+    private static KlayRawTransaction rawTransaction(long nonce) {
+        return ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)
+                .nonce(BigInteger.valueOf(nonce))
+                .build()
+                .sign(SENDER, LOCAL_CHAIN_ID);
+    }
+}
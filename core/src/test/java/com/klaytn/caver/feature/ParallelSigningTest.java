@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.fee.FeePayer;
+import com.klaytn.caver.tx.type.TxTypeFeeDelegatedValueTransfer;
+import com.klaytn.caver.tx.type.TxTypeValueTransfer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelSigningTest {
+
+    private static final String ADDRESS = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+
+    private static final KlayCredentials MULTI_SIG = KlayCredentials.create(
+            new String[]{
+                    "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8",
+                    "0xb9d5558443585bca6f225b935950e3f6e69f9da8a5809a83f51c3365dff53936",
+                    "0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b",
+                    "0x80119c31e3d54ce5f7b2a4e1ae8e3e4a9c20b2f1e3a4dd3b7b5b93fc4e5a7d11"
+            },
+            new String[]{},
+            new String[]{
+                    "0xb9d5558443585bca6f225b935950e3f6e69f9da8a5809a83f51c3365dff53936",
+                    "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8"
+            },
+            ADDRESS);
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testSenderSignatureInParallel() {
+        String expected = createValueTransfer().sign(MULTI_SIG, 1).getValueAsString();
+        String actual = createValueTransfer().sign(MULTI_SIG, 1, executorService).getValueAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(4, createValueTransfer().getNewSenderSignatureDataSet(MULTI_SIG, 1, executorService).size());
+    }
+
+    @Test
+    public void testFeePayerSignatureInParallel() {
+        String senderRawTx = createFeeDelegatedValueTransfer().sign(MULTI_SIG, 1, executorService).getValueAsString();
+
+        String expected = new FeePayer(MULTI_SIG, 1)
+                .sign(TxTypeFeeDelegatedValueTransfer.decodeFromRawTransaction(senderRawTx))
+                .getValueAsString();
+        String actual = new FeePayer(MULTI_SIG, 1, executorService)
+                .sign(TxTypeFeeDelegatedValueTransfer.decodeFromRawTransaction(senderRawTx))
+                .getValueAsString();
+
+        assertEquals(expected, actual);
+    }
+
+    private TxTypeValueTransfer createValueTransfer() {
+        return TxTypeValueTransfer.createTransaction(
+                BigInteger.valueOf(1234),
+                BigInteger.valueOf(0x19),
+                BigInteger.valueOf(0xf4240),
+                "7b65b75d204abed71587c9e519a89277766ee1d0",
+                BigInteger.valueOf(0xa),
+                ADDRESS);
+    }
+
+    private TxTypeFeeDelegatedValueTransfer createFeeDelegatedValueTransfer() {
+        return TxTypeFeeDelegatedValueTransfer.createTransaction(
+                BigInteger.valueOf(1234),
+                BigInteger.valueOf(0x19),
+                BigInteger.valueOf(0xf4240),
+                "7b65b75d204abed71587c9e519a89277766ee1d0",
+                BigInteger.valueOf(0xa),
+                ADDRESS);
+    }
+}
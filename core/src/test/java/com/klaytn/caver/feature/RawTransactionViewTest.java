@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.crypto.KlaySignatureData;
+import com.klaytn.caver.fee.FeePayer;
+import com.klaytn.caver.rlp.RlpReader;
+import com.klaytn.caver.tx.model.RawTransactionView;
+import com.klaytn.caver.tx.type.*;
+import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.TransactionDecoder;
+import org.junit.Test;
+import org.web3j.rlp.RlpDecoder;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class RawTransactionViewTest {
+
+    private static final KlayCredentials LUMAN = KlayCredentials.create(
+            "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8"
+    );
+
+    private static final KlayCredentials FEE_PAYER = KlayCredentials.create(
+            "0xb9d5558443585bca6f225b935950e3f6e69f9da8a5809a83f51c3365dff53936",
+            "0x5A0043070275d9f6054307Ee7348bD660849D90f"
+    );
+
+    private static final String TO = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    @Test
+    public void testValueTransfer() {
+        String rawTx = TxTypeValueTransfer.createTransaction(
+                BigInteger.valueOf(1234), BigInteger.valueOf(25), BigInteger.valueOf(1000000),
+                TO, BigInteger.TEN, LUMAN.getAddress())
+                .sign(LUMAN, 1).getValueAsString();
+
+        RawTransactionView view = RawTransactionView.of(rawTx);
+        assertEquals(TxType.Type.VALUE_TRANSFER, view.getType());
+        assertFalse(view.isFeeDelegated());
+        assertEquals(BigInteger.valueOf(1234), view.getNonce());
+        assertEquals(BigInteger.valueOf(25), view.getGasPrice());
+        assertEquals(BigInteger.valueOf(1000000), view.getGasLimit());
+        assertEquals(TO, view.getTo());
+        assertEquals(BigInteger.TEN, view.getValue());
+        assertEquals(LUMAN.getAddress(), view.getFrom());
+        assertNull(view.getFeePayer());
+        assertSameSignatures(view, view.decode());
+    }
+
+    @Test
+    public void testFeeDelegatedValueTransferWithRatio() {
+        String senderRawTx = TxTypeFeeDelegatedValueTransferWithRatio.createTransaction(
+                BigInteger.valueOf(1234), BigInteger.valueOf(25), BigInteger.valueOf(1000000),
+                TO, BigInteger.TEN, LUMAN.getAddress(), BigInteger.valueOf(30))
+                .sign(LUMAN, 1).getValueAsString();
+        String rawTx = new FeePayer(FEE_PAYER, 1)
+                .sign(TxTypeFeeDelegatedValueTransferWithRatio.decodeFromRawTransaction(senderRawTx))
+                .getValueAsString();
+
+        RawTransactionView view = RawTransactionView.of(rawTx);
+        assertEquals(TxType.Type.FEE_DELEGATED_VALUE_TRANSFER_WITH_RATIO, view.getType());
+        assertTrue(view.isFeeDelegated());
+        assertEquals(TO, view.getTo());
+        assertEquals(LUMAN.getAddress(), view.getFrom());
+        assertEquals(FEE_PAYER.getAddress().toLowerCase(), view.getFeePayer());
+        assertEquals(1, view.getFeePayerSignatures().size());
+
+        TxTypeFeeDelegate decoded = (TxTypeFeeDelegate) view.decode();
+        assertSameSignatures(view, decoded);
+        assertEquals(decoded.getFeePayerSignatureData(), new HashSet<>(view.getFeePayerSignatures()));
+    }
+
+    @Test
+    public void testCancel() {
+        String rawTx = TxTypeCancel.createTransaction(
+                BigInteger.valueOf(7), BigInteger.valueOf(25), BigInteger.valueOf(1000000), LUMAN.getAddress())
+                .sign(LUMAN, 1).getValueAsString();
+
+        RawTransactionView view = RawTransactionView.of(rawTx);
+        assertEquals(TxType.Type.CANCEL, view.getType());
+        assertEquals(BigInteger.valueOf(7), view.getNonce());
+        assertNull(view.getTo());
+        assertEquals(BigInteger.ZERO, view.getValue());
+        assertEquals(LUMAN.getAddress(), view.getFrom());
+        assertSameSignatures(view, view.decode());
+    }
+
+    @Test
+    public void testSmartContractDeploy() {
+        String rawTx = TxTypeSmartContractDeploy.createTransaction(
+                BigInteger.valueOf(7), BigInteger.valueOf(25), BigInteger.valueOf(1000000),
+                BigInteger.ZERO, LUMAN.getAddress(), new byte[200], CodeFormat.EVM)
+                .sign(LUMAN, 1).getValueAsString();
+
+        RawTransactionView view = RawTransactionView.of(rawTx);
+        assertEquals(TxType.Type.SMART_CONTRACT_DEPLOY, view.getType());
+        assertEquals(LUMAN.getAddress(), view.getFrom());
+        assertSameSignatures(view, view.decode());
+    }
+
+    @Test
+    public void testLegacy() {
+        String rawTx = TxTypeLegacyTransaction.createTransaction(
+                BigInteger.valueOf(1234), BigInteger.valueOf(25), BigInteger.valueOf(1000000),
+                TO, BigInteger.TEN, "0x31323334")
+                .sign(LUMAN, 1).getValueAsString();
+
+        RawTransactionView view = RawTransactionView.of(rawTx);
+        assertEquals(TxType.Type.LEGACY, view.getType());
+        assertEquals(BigInteger.valueOf(1234), view.getNonce());
+        assertEquals(TO, view.getTo());
+        assertNull(view.getFrom());
+        assertSameSignatures(view, TransactionDecoder.decode(rawTx));
+    }
+
+    @Test
+    public void testRlpReader() {
+        RlpList list = new RlpList(
+                RlpString.create(0), RlpString.create(new byte[]{0x7f}), RlpString.create(new byte[100]),
+                new RlpList(RlpString.create(BigInteger.valueOf(1024)), new RlpList()),
+                RlpString.create(new byte[70000]));
+        byte[] encoded = RlpEncoder.encode(list);
+
+        RlpReader reader = RlpReader.of(encoded);
+        assertTrue(reader.isList());
+        assertEquals(5, reader.size());
+        assertEquals(BigInteger.ZERO, reader.get(0).asPositiveBigInteger());
+        assertEquals("0x7f", reader.get(1).asString());
+        assertEquals(100, reader.get(2).getBytes().length);
+        assertEquals(BigInteger.valueOf(1024), reader.get(3).get(0).asPositiveBigInteger());
+        assertEquals(0, reader.get(3).get(1).size());
+        assertEquals(70000, reader.get(4).getBytes().length);
+        assertEquals(encoded.length, reader.getEnd());
+        assertArrayEquals(encoded, RlpEncoder.encode(reader.toRlpType()));
+        assertArrayEquals(RlpEncoder.encode(((RlpList) RlpDecoder.decode(encoded).getValues().get(0)).getValues().get(3)),
+                reader.get(3).getEncoded());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRlpReaderRejectsTruncatedInput() {
+        byte[] encoded = RlpEncoder.encode(new RlpList(RlpString.create(new byte[100])));
+        RlpReader.of(Arrays.copyOf(encoded, encoded.length - 1));
+    }
+
+    private static void assertSameSignatures(RawTransactionView view, AbstractTxType decoded) {
+        assertEquals(decoded.getSenderSignatureDataSet(), new HashSet<KlaySignatureData>(view.getSenderSignatures()));
+        assertEquals(decoded.getNonce(), view.getNonce());
+    }
+}
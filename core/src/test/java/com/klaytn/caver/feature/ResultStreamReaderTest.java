@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.http.BatchHttpService;
+import com.klaytn.caver.methods.response.KlayBlock;
+import com.klaytn.caver.methods.response.KlayTransaction;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.methods.response.ResultStreamHandler;
+import com.klaytn.caver.methods.response.ResultStreamReader;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class ResultStreamReaderTest {
+
+    private static final String BLOCK_RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+            + "\"number\":\"0x64\","
+            + "\"hash\":\"0x4584bea6b8b2abe7f024d1e63dd0571cfd28cd5157b4f6cb2ac4160a7b0057e0\","
+            + "\"transactions\":["
+            + "{\"hash\":\"0xa1\",\"type\":\"TxTypeValueTransfer\",\"input\":\"0x\"},"
+            + "{\"hash\":\"0xa2\",\"type\":\"TxTypeSmartContractExecution\"}"
+            + "],"
+            + "\"timestamp\":\"0x5d8d2f1a\"}}";
+
+    private static final String RECEIPTS_RESPONSE = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":["
+            + "{\"transactionHash\":\"0xa1\",\"status\":\"0x1\"},"
+            + "{\"transactionHash\":\"0xa2\",\"status\":\"0x0\"}"
+            + "]}";
+
+    private final ResultStreamReader reader = new ResultStreamReader(ObjectMapperFactory.getObjectMapper());
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamBlockTransactions() throws IOException {
+        List<KlayTransaction.Transaction> transactions = new ArrayList<>();
+        List<JsonNode> header = new ArrayList<>();
+        Response.Error error = reader.read(stream(BLOCK_RESPONSE), "transactions", KlayTransaction.Transaction.class,
+                new ResultStreamHandler<KlayTransaction.Transaction>() {
+                    @Override
+                    public void onElement(KlayTransaction.Transaction element) {
+                        transactions.add(element);
+                    }
+
+                    @Override
+                    public void onFields(JsonNode fields) {
+                        header.add(fields);
+                    }
+                });
+
+        assertNull(error);
+        assertEquals(2, transactions.size());
+        assertEquals("0xa1", transactions.get(0).getHash());
+        assertEquals("TxTypeSmartContractExecution", transactions.get(1).getType());
+        assertEquals("0x64", header.get(0).get("number").asText());
+        assertEquals("0x5d8d2f1a", header.get(0).get("timestamp").asText());
+        assertNull(header.get(0).get("transactions"));
+    }
+
+    @Test
+    public void testStreamReceipts() throws IOException {
+        List<KlayTransactionReceipt.TransactionReceipt> receipts = new ArrayList<>();
+        reader.read(stream(RECEIPTS_RESPONSE), null, KlayTransactionReceipt.TransactionReceipt.class, receipts::add);
+
+        assertEquals(2, receipts.size());
+        assertEquals("0xa2", receipts.get(1).getTransactionHash());
+        assertEquals("0x0", receipts.get(1).getStatus());
+    }
+
+    @Test
+    public void testError() throws IOException {
+        List<Object> elements = new ArrayList<>();
+        Response.Error error = reader.read(
+                stream("{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"unknown block\"}}"),
+                null, Object.class, elements::add);
+
+        assertEquals(-32000, error.getCode());
+        assertEquals("unknown block", error.getMessage());
+        assertEquals(0, elements.size());
+    }
+
+    @Test
+    public void testNullResult() throws IOException {
+        List<Object> elements = new ArrayList<>();
+        assertNull(reader.read(stream("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}"), "transactions",
+                Object.class, elements::add));
+        assertEquals(0, elements.size());
+    }
+
+    @Test
+    public void testHandlerStopsReading() {
+        try {
+            reader.read(stream(RECEIPTS_RESPONSE), null, KlayTransactionReceipt.TransactionReceipt.class, receipt -> {
+                throw new IOException("stop");
+            });
+            fail();
+        } catch (IOException e) {
+            assertEquals("stop", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTransactionsDeserializer() throws IOException {
+        KlayBlock block = ObjectMapperFactory.getObjectMapper().readValue(BLOCK_RESPONSE, KlayBlock.class);
+        assertEquals("0xa2", ((KlayTransaction.Transaction) block.getResult().getTransactions().get(1)).getHash());
+
+        KlayBlock hashes = ObjectMapperFactory.getObjectMapper().readValue(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"number\":\"0x1\",\"transactions\":[\"0xa1\",\"0xa2\"]}}",
+                KlayBlock.class);
+        assertEquals("0xa2", hashes.getResult().getTransactions().get(1));
+    }
+
+    @Test
+    public void testSendStreaming() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = BLOCK_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        try {
+            BatchHttpService service = new BatchHttpService("http://localhost:" + server.getAddress().getPort());
+            Caver caver = Caver.build(service);
+
+            List<KlayTransaction.Transaction> transactions = new ArrayList<>();
+            service.sendStreaming(caver.klay().getBlockByNumber(new DefaultBlockParameterNumber(100), true),
+                    "transactions", KlayTransaction.Transaction.class, transactions::add);
+
+            assertEquals(2, transactions.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
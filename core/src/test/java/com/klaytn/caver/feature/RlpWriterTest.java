@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.rlp.RlpWriter;
+import com.klaytn.caver.utils.BytesUtils;
+import org.junit.Test;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RlpWriterTest {
+
+    @Test
+    public void testStrings() {
+        assertSameEncoding(RlpString.create(""));
+        assertSameEncoding(RlpString.create(0));
+        assertSameEncoding(RlpString.create(new byte[]{0x00}));
+        assertSameEncoding(RlpString.create(new byte[]{0x7f}));
+        assertSameEncoding(RlpString.create(new byte[]{(byte) 0x80}));
+        assertSameEncoding(RlpString.create(BigInteger.valueOf(1024)));
+        assertSameEncoding(RlpString.create(new byte[55]));
+        assertSameEncoding(RlpString.create(new byte[56]));
+        assertSameEncoding(RlpString.create(new byte[256]));
+        assertSameEncoding(RlpString.create(new byte[70000]));
+    }
+
+    @Test
+    public void testLists() {
+        assertSameEncoding(new RlpList());
+        assertSameEncoding(new RlpList(RlpString.create(1), new RlpList(), new RlpList(new RlpList())));
+        assertSameEncoding(new RlpList(RlpString.create(new byte[54])));
+        assertSameEncoding(new RlpList(RlpString.create(new byte[55])));
+        assertSameEncoding(new RlpList(RlpString.create(new byte[1024]), RlpString.create("caver")));
+    }
+
+    @Test
+    public void testRandomValues() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            assertSameEncoding(randomValue(random, 0));
+        }
+    }
+
+    @Test
+    public void testPrefix() {
+        RlpList list = new RlpList(RlpString.create(BigInteger.TEN), RlpString.create(new byte[100]));
+        byte[] expected = BytesUtils.concat(new byte[]{0x08}, RlpEncoder.encode(list));
+
+        assertArrayEquals(expected, RlpWriter.encode((byte) 0x08, list));
+    }
+
+    @Test
+    public void testNested() {
+        Random random = new Random(2);
+        for (int i = 0; i < 100; i++) {
+            RlpType inner = randomValue(random, 0);
+            RlpList chainId = new RlpList(RlpString.create(1001), RlpString.create(0), RlpString.create(0));
+
+            byte[] expected = RlpEncoder.encode(new RlpList(
+                    RlpString.create(RlpEncoder.encode(inner)), chainId));
+            assertArrayEquals(expected, RlpWriter.encode(new RlpList(RlpWriter.nested(inner), chainId)));
+
+            byte[] typed = BytesUtils.concat(new byte[]{0x09}, RlpEncoder.encode(inner));
+            assertArrayEquals(RlpEncoder.encode(RlpString.create(typed)), RlpWriter.encode(RlpWriter.nested((byte) 0x09, inner)));
+        }
+    }
+
+    @Test
+    public void testEncodedLength() {
+        RlpList list = new RlpList(RlpString.create(new byte[300]), new RlpList(RlpString.create(5)));
+        assertEquals(RlpEncoder.encode(list).length, RlpWriter.getEncodedLength(list));
+    }
+
+    private static void assertSameEncoding(RlpType value) {
+        assertEquals(Numeric.toHexString(RlpEncoder.encode(value)), Numeric.toHexString(RlpWriter.encode(value)));
+    }
+
+    private static RlpType randomValue(Random random, int depth) {
+        if (depth > 3 || random.nextInt(3) > 0) {
+            int[] lengths = {0, 1, 1, 2, 20, 55, 56, 300};
+            byte[] bytes = new byte[lengths[random.nextInt(lengths.length)]];
+            random.nextBytes(bytes);
+            return RlpString.create(bytes);
+        }
+        List<RlpType> values = new ArrayList<>();
+        int size = random.nextInt(6);
+        for (int i = 0; i < size; i++) {
+            values.add(randomValue(random, depth + 1));
+        }
+        return new RlpList(values);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.methods.response.KlayTransactionReceipt;
+import com.klaytn.caver.tx.exception.PlatformErrorException;
+import com.klaytn.caver.tx.manager.ConcurrentGetNonceProcessor;
+import com.klaytn.caver.tx.manager.ErrorHandler;
+import com.klaytn.caver.tx.manager.PollingTransactionReceiptProcessor;
+import com.klaytn.caver.tx.manager.TransactionManager;
+import com.klaytn.caver.tx.model.ValueTransferTransaction;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.klaytn.caver.base.LocalValues.LOCAL_CHAIN_ID;
+import static org.junit.Assert.*;
+
+public class TransactionManagerAsyncTest {
+
+    private static final KlayCredentials SENDER = KlayCredentials.create("0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b");
+    private static final String RECEIVER = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private MockWeb3jService service;
+    private Map<String, AtomicInteger> receiptRequests;
+    private Caver caver;
+
+    @Before
+    public void setUp() {
+        receiptRequests = new ConcurrentHashMap<>();
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> "0x0")
+                .on("klay_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()))
+                .on("klay_getTransactionReceipt", params -> {
+                    String transactionHash = params.get(0).asText();
+                    int count = receiptRequests.computeIfAbsent(transactionHash, hash -> new AtomicInteger()).incrementAndGet();
+                    return count < 3 ? null : Collections.singletonMap("transactionHash", transactionHash);
+                });
+        caver = Caver.build(service);
+    }
+
+    @Test
+    public void testExecuteTransactionAsync() throws Exception {
+        int count = 50;
+        TransactionManager transactionManager = new TransactionManager.Builder(caver, SENDER)
+                .setGetNonceProcessor(new ConcurrentGetNonceProcessor(caver))
+                .setTransactionReceiptProcessor(new PollingTransactionReceiptProcessor(caver, 10, 15))
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+
+        List<CompletableFuture<KlayTransactionReceipt.TransactionReceipt>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(transactionManager.executeTransactionAsync(
+                    ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT)));
+        }
+
+        Set<String> transactionHashes = new HashSet<>();
+        for (CompletableFuture<KlayTransactionReceipt.TransactionReceipt> future : futures) {
+            transactionHashes.add(future.get(5, TimeUnit.SECONDS).getTransactionHash());
+        }
+
+        assertEquals(count, transactionHashes.size());
+        assertEquals(count, service.getRequestCount("klay_sendRawTransaction"));
+        assertEquals(1, service.getRequestCount("klay_getTransactionCount"));
+    }
+
+    @Test
+    public void testReceiptRequestsHonourAttempts() throws Exception {
+        service.on("klay_getTransactionReceipt", params -> {
+            receiptRequests.computeIfAbsent(params.get(0).asText(), hash -> new AtomicInteger()).incrementAndGet();
+            return null;
+        });
+        PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 1, 4);
+        String syncHash = Hash.sha3("0x01");
+        String asyncHash = Hash.sha3("0x02");
+
+        try {
+            processor.waitForTransactionReceipt(syncHash);
+            fail();
+        } catch (TransactionException e) {
+            assertEquals(4, receiptRequests.get(syncHash).get());
+        }
+        try {
+            processor.waitForTransactionReceiptAsync(asyncHash).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionException);
+            assertEquals(4, receiptRequests.get(asyncHash).get());
+        }
+    }
+
+    @Test
+    public void testExecuteTransactionAsyncFailure() throws Exception {
+        service.on("klay_sendRawTransaction", params -> new Response.Error(-32000, "insufficient funds of the sender"));
+
+        List<Exception> errors = new CopyOnWriteArrayList<>();
+        ConcurrentGetNonceProcessor nonceProcessor = new ConcurrentGetNonceProcessor(caver);
+        TransactionManager transactionManager = new TransactionManager.Builder(caver, SENDER)
+                .setGetNonceProcessor(nonceProcessor)
+                .setErrorHandler(new ErrorHandler() {
+                    @Override
+                    public void exception(Exception exception) {
+                        errors.add(exception);
+                    }
+                })
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+
+        try {
+            transactionManager.executeTransactionAsync(
+                    ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT))
+                    .get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof PlatformErrorException);
+        }
+
+        assertEquals(1, errors.size());
+        assertTrue(nonceProcessor.getReservedNonces(SENDER.getAddress()).isEmpty());
+        assertEquals(BigInteger.ZERO, nonceProcessor.getNonce(SENDER));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.feature;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.MockWeb3jService;
+import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.metrics.LatencyHistogram;
+import com.klaytn.caver.metrics.SimpleTransactionMetrics;
+import com.klaytn.caver.metrics.TransactionMetrics;
+import com.klaytn.caver.tx.manager.PollingTransactionReceiptProcessor;
+import com.klaytn.caver.tx.manager.TransactionManager;
+import com.klaytn.caver.tx.model.ValueTransferTransaction;
+import com.klaytn.caver.tx.type.TxType;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.Response;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.klaytn.caver.base.LocalValues.LOCAL_CHAIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransactionMetricsTest {
+
+    private static final KlayCredentials SENDER = KlayCredentials.create("0xf8cc7c3813ad23817466b1802ee805ee417001fcce9376ab8728c92dd8ea0a6b");
+    private static final String RECEIVER = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private MockWeb3jService service;
+    private SimpleTransactionMetrics metrics;
+    private TransactionManager transactionManager;
+
+    @Before
+    public void setUp() {
+        service = new MockWeb3jService()
+                .on("klay_getTransactionCount", params -> "0x0")
+                .on("klay_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()))
+                .on("klay_getTransactionReceipt", params ->
+                        Collections.singletonMap("transactionHash", params.get(0).asText()));
+        Caver caver = Caver.build(service);
+        metrics = new SimpleTransactionMetrics();
+        transactionManager = new TransactionManager.Builder(caver, SENDER)
+                .setTransactionReceiptProcessor(new PollingTransactionReceiptProcessor(caver, 10, 15))
+                .setTransactionMetrics(metrics)
+                .setChaindId(LOCAL_CHAIN_ID)
+                .build();
+    }
+
+    @Test
+    public void testStagesAreMeasured() {
+        assertNotNull(transactionManager.executeTransaction(valueTransfer()));
+
+        for (TransactionMetrics.Stage stage : TransactionMetrics.Stage.values()) {
+            assertEquals(1, metrics.getLatency(stage, TxType.Type.VALUE_TRANSFER).getCount());
+            assertEquals(0, metrics.getInFlightCount(stage));
+            assertTrue(metrics.getErrorCounts(stage).isEmpty());
+        }
+    }
+
+    @Test
+    public void testStagesAreMeasuredAsync() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            transactionManager.executeTransactionAsync(valueTransfer()).get(5, TimeUnit.SECONDS);
+        }
+
+        for (TransactionMetrics.Stage stage : TransactionMetrics.Stage.values()) {
+            assertEquals(10, metrics.getLatency(stage, TxType.Type.VALUE_TRANSFER).getCount());
+            assertEquals(0, metrics.getInFlightCount(stage));
+        }
+    }
+
+    @Test
+    public void testPlatformErrorIsCountedByCode() throws Exception {
+        service.on("klay_sendRawTransaction", params -> new Response.Error(-32000, "nonce too low"));
+
+        assertNull(transactionManager.executeTransaction(valueTransfer()));
+        try {
+            transactionManager.executeTransactionAsync(valueTransfer()).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException expected) {
+        }
+
+        assertEquals(2, metrics.getErrorCount(TransactionMetrics.Stage.SEND, "-32000"));
+        assertEquals(0, metrics.getLatency(TransactionMetrics.Stage.SEND, TxType.Type.VALUE_TRANSFER).getCount());
+        assertEquals(0, metrics.getInFlightCount(TransactionMetrics.Stage.SEND));
+        assertEquals(0, metrics.getLatency(TransactionMetrics.Stage.RECEIPT, TxType.Type.VALUE_TRANSFER).getCount());
+    }
+
+    @Test
+    public void testSigningFailureIsCounted() {
+        assertNull(transactionManager.sign(
+                ValueTransferTransaction.create(RECEIVER, RECEIVER, BigInteger.ONE, GAS_LIMIT)));
+
+        assertEquals(1, metrics.getErrorCount(TransactionMetrics.Stage.SIGN, "CredentialNotFoundException"));
+        assertEquals(0, metrics.getInFlightCount(TransactionMetrics.Stage.SIGN));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(1000, histogram.getMax(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(500, histogram.getPercentile(0.5, TimeUnit.MICROSECONDS), 500 * 0.125);
+        assertEquals(990, histogram.getPercentile(0.99, TimeUnit.MICROSECONDS), 990 * 0.125);
+        assertEquals(1000, histogram.getPercentile(1, TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(0, new LatencyHistogram().getPercentile(0.99, TimeUnit.MILLISECONDS), 0);
+    }
+
+    private static ValueTransferTransaction valueTransfer() {
+        return ValueTransferTransaction.create(SENDER.getAddress(), RECEIVER, BigInteger.ONE, GAS_LIMIT);
+    }
+}